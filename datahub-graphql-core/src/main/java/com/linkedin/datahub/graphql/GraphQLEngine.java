@@ -5,6 +5,7 @@ import static graphql.schema.idl.RuntimeWiring.*;
 import com.linkedin.datahub.graphql.exception.DataHubDataFetcherExceptionHandler;
 import com.linkedin.datahub.graphql.instrumentation.DataHubFieldComplexityCalculator;
 import com.linkedin.metadata.config.GraphQLConfiguration;
+import com.linkedin.metadata.system_telemetry.GraphQLDataLoaderInstrumentation;
 import com.linkedin.metadata.system_telemetry.GraphQLTimingInstrumentation;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import graphql.ExecutionInput;
@@ -90,6 +91,11 @@ public class GraphQLEngine {
       instrumentations.add(
           new GraphQLTimingInstrumentation(
               metricUtils.getRegistry(), graphQLConfiguration.getMetrics()));
+      if (graphQLConfiguration.getMetrics().isDataLoaderStatsEnabled()) {
+        instrumentations.add(
+            new GraphQLDataLoaderInstrumentation(
+                metricUtils.getRegistry(), graphQLConfiguration.getMetrics()));
+      }
     }
 
     ChainedInstrumentation chainedInstrumentation = new ChainedInstrumentation(instrumentations);
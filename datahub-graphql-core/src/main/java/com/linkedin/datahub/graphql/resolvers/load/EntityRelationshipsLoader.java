@@ -0,0 +1,115 @@
+package com.linkedin.datahub.graphql.resolvers.load;
+
+import com.linkedin.common.EntityRelationship;
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.graph.GraphClient;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.stats.SimpleStatisticsCollector;
+
+/**
+ * Creates the {@link DataLoader} of the relationships of entities, shared by all the {@link
+ * EntityRelationshipsResultResolver}s of a request.
+ *
+ * <p>The graph is queried once per distinct key, concurrently, and the existence of the related
+ * entities of the whole batch is checked with a single call.
+ */
+public class EntityRelationshipsLoader {
+  public static final String NAME = "EntityRelationships";
+
+  private EntityRelationshipsLoader() {}
+
+  /** The relationships of an urn to fetch. */
+  @Value
+  public static class Key {
+    String urn;
+    Set<String> types;
+    RelationshipDirection direction;
+    @Nullable Integer start;
+    @Nullable Integer count;
+    String actor;
+
+    /** Whether to check which of the related entities still exist. */
+    boolean checkExistence;
+  }
+
+  /** Relationships of an urn as returned by the graph. */
+  @Value
+  public static class Result {
+    EntityRelationships relationships;
+
+    /** The related entities of the batch which exist, null if not checked. */
+    @Nullable Set<Urn> existentUrns;
+  }
+
+  public static DataLoader<Key, Result> create(
+      @Nonnull final GraphClient graphClient,
+      @Nullable final EntityService<?> entityService,
+      @Nonnull final QueryContext context) {
+    final DataLoaderOptions loaderOptions =
+        DataLoaderOptions.newOptions().setStatisticsCollector(SimpleStatisticsCollector::new);
+    return DataLoader.newDataLoader(
+        keys -> batchLoad(graphClient, entityService, context, keys), loaderOptions);
+  }
+
+  private static CompletableFuture<List<Result>> batchLoad(
+      @Nonnull final GraphClient graphClient,
+      @Nullable final EntityService<?> entityService,
+      @Nonnull final QueryContext context,
+      @Nonnull final List<Key> keys) {
+    final List<CompletableFuture<EntityRelationships>> fetches =
+        keys.stream()
+            .map(
+                key ->
+                    GraphQLConcurrencyUtils.supplyAsync(
+                        () ->
+                            graphClient.getRelatedEntities(
+                                key.getUrn(),
+                                key.getTypes(),
+                                key.getDirection(),
+                                key.getStart(),
+                                key.getCount(),
+                                key.getActor()),
+                        EntityRelationshipsLoader.class.getSimpleName(),
+                        "batchLoad"))
+            .collect(Collectors.toList());
+
+    return CompletableFuture.allOf(fetches.toArray(new CompletableFuture[0]))
+        .thenApply(
+            done -> {
+              final Set<Urn> toCheck = new HashSet<>();
+              for (int i = 0; i < keys.size(); i++) {
+                if (entityService != null && keys.get(i).isCheckExistence()) {
+                  fetches.get(i).join().getRelationships().stream()
+                      .map(EntityRelationship::getEntity)
+                      .forEach(toCheck::add);
+                }
+              }
+              final Set<Urn> existentUrns =
+                  toCheck.isEmpty()
+                      ? Set.of()
+                      : entityService.exists(context.getOperationContext(), toCheck, false);
+
+              final List<Result> results = new ArrayList<>(keys.size());
+              for (int i = 0; i < keys.size(); i++) {
+                final boolean checked = entityService != null && keys.get(i).isCheckExistence();
+                results.add(new Result(fetches.get(i).join(), checked ? existentUrns : null));
+              }
+              return results;
+            });
+  }
+}
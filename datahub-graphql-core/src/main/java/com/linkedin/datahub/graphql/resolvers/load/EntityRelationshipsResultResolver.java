@@ -24,9 +24,14 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
 
 /**
  * GraphQL Resolver responsible for fetching relationships between entities in the DataHub graph.
+ *
+ * <p>The relationships are fetched through the {@link EntityRelationshipsLoader} of the request
+ * when it is registered, so that the fetches of sibling fields are batched.
  */
 public class EntityRelationshipsResultResolver
     implements DataFetcher<CompletableFuture<EntityRelationshipsResult>> {
@@ -61,47 +66,69 @@ public class EntityRelationshipsResultResolver
         RelationshipDirection.valueOf(relationshipDirection.toString());
     final boolean includeSoftDelete = input.getIncludeSoftDelete();
 
+    final EntityRelationshipsLoader.Key key =
+        new EntityRelationshipsLoader.Key(
+            urn,
+            relationshipTypes,
+            resolvedDirection,
+            start,
+            count,
+            context.getActorUrn(),
+            _entityService != null && !includeSoftDelete);
+
+    final DataLoaderRegistry dataLoaderRegistry = environment.getDataLoaderRegistry();
+    if (dataLoaderRegistry != null
+        && dataLoaderRegistry.getKeys().contains(EntityRelationshipsLoader.NAME)) {
+      final DataLoader<EntityRelationshipsLoader.Key, EntityRelationshipsLoader.Result> loader =
+          dataLoaderRegistry.getDataLoader(EntityRelationshipsLoader.NAME);
+      return loader
+          .load(key)
+          .thenApply(
+              related ->
+                  mapEntityRelationships(
+                      context,
+                      related.getRelationships(),
+                      related.getExistentUrns(),
+                      resolvedDirection));
+    }
+
     return GraphQLConcurrencyUtils.supplyAsync(
-        () ->
-            mapEntityRelationships(
-                context,
-                fetchEntityRelationships(
-                    urn, relationshipTypes, resolvedDirection, start, count, context.getActorUrn()),
-                resolvedDirection,
-                includeSoftDelete),
+        () -> {
+          final EntityRelationships relationships =
+              _graphClient.getRelatedEntities(
+                  urn, relationshipTypes, resolvedDirection, start, count, context.getActorUrn());
+          return mapEntityRelationships(
+              context,
+              relationships,
+              fetchExistentUrns(context, relationships, key.isCheckExistence()),
+              resolvedDirection);
+        },
         this.getClass().getSimpleName(),
         "get");
   }
 
-  private EntityRelationships fetchEntityRelationships(
-      final String urn,
-      final Set<String> types,
-      final RelationshipDirection direction,
-      final Integer start,
-      final Integer count,
-      final String actor) {
-
-    return _graphClient.getRelatedEntities(urn, types, direction, start, count, actor);
+  @Nullable
+  private Set<Urn> fetchExistentUrns(
+      @Nullable final QueryContext context,
+      final EntityRelationships entityRelationships,
+      final boolean checkExistence) {
+    if (context == null || !checkExistence) {
+      return null;
+    }
+    Set<Urn> allRelatedUrns =
+        entityRelationships.getRelationships().stream()
+            .map(EntityRelationship::getEntity)
+            .collect(Collectors.toSet());
+    return _entityService.exists(context.getOperationContext(), allRelatedUrns, false);
   }
 
   private EntityRelationshipsResult mapEntityRelationships(
       @Nullable final QueryContext context,
       final EntityRelationships entityRelationships,
-      final RelationshipDirection relationshipDirection,
-      final boolean includeSoftDelete) {
+      @Nullable final Set<Urn> existentUrns,
+      final RelationshipDirection relationshipDirection) {
     final EntityRelationshipsResult result = new EntityRelationshipsResult();
 
-    final Set<Urn> existentUrns;
-    if (context != null && _entityService != null && !includeSoftDelete) {
-      Set<Urn> allRelatedUrns =
-          entityRelationships.getRelationships().stream()
-              .map(EntityRelationship::getEntity)
-              .collect(Collectors.toSet());
-      existentUrns = _entityService.exists(context.getOperationContext(), allRelatedUrns, false);
-    } else {
-      existentUrns = null;
-    }
-
     List<EntityRelationship> viewable =
         entityRelationships.getRelationships().stream()
             .filter(
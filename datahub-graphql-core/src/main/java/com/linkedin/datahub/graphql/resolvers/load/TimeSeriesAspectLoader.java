@@ -0,0 +1,90 @@
+package com.linkedin.datahub.graphql.resolvers.load;
+
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.aspect.EnvelopedAspect;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.r2.RemoteInvocationException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.stats.SimpleStatisticsCollector;
+
+/**
+ * Creates the {@link DataLoader} of the timeseries aspect values of entities, shared by all the
+ * {@link TimeSeriesAspectResolver}s of a request.
+ *
+ * <p>Identical fetches of a request, e.g. the latest profile of a dataset appearing several times
+ * in the response, are made once, and the distinct ones are made concurrently.
+ */
+public class TimeSeriesAspectLoader {
+  public static final String NAME = "TimeSeriesAspect";
+
+  private TimeSeriesAspectLoader() {}
+
+  /** The timeseries aspect values of an urn to fetch. */
+  @Value
+  public static class Key {
+    String urn;
+    String entityName;
+    String aspectName;
+    @Nullable Long startTimeMillis;
+    @Nullable Long endTimeMillis;
+    @Nullable Integer limit;
+    @Nullable Filter filter;
+    @Nullable SortCriterion sort;
+  }
+
+  public static DataLoader<Key, List<EnvelopedAspect>> create(
+      @Nonnull final EntityClient entityClient, @Nonnull final QueryContext context) {
+    final DataLoaderOptions loaderOptions =
+        DataLoaderOptions.newOptions().setStatisticsCollector(SimpleStatisticsCollector::new);
+    return DataLoader.newDataLoader(keys -> batchLoad(entityClient, context, keys), loaderOptions);
+  }
+
+  private static CompletableFuture<List<List<EnvelopedAspect>>> batchLoad(
+      @Nonnull final EntityClient entityClient,
+      @Nonnull final QueryContext context,
+      @Nonnull final List<Key> keys) {
+    final List<CompletableFuture<List<EnvelopedAspect>>> fetches =
+        keys.stream()
+            .map(
+                key ->
+                    GraphQLConcurrencyUtils.supplyAsync(
+                        () -> fetch(entityClient, context, key),
+                        TimeSeriesAspectLoader.class.getSimpleName(),
+                        "batchLoad"))
+            .collect(Collectors.toList());
+
+    return CompletableFuture.allOf(fetches.toArray(new CompletableFuture[0]))
+        .thenApply(
+            done -> fetches.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  }
+
+  private static List<EnvelopedAspect> fetch(
+      @Nonnull final EntityClient entityClient,
+      @Nonnull final QueryContext context,
+      @Nonnull final Key key) {
+    try {
+      return entityClient.getTimeseriesAspectValues(
+          context.getOperationContext(),
+          key.getUrn(),
+          key.getEntityName(),
+          key.getAspectName(),
+          key.getStartTimeMillis(),
+          key.getEndTimeMillis(),
+          key.getLimit(),
+          key.getFilter(),
+          key.getSort());
+    } catch (RemoteInvocationException e) {
+      throw new RuntimeException("Failed to retrieve aspects from GMS", e);
+    }
+  }
+}
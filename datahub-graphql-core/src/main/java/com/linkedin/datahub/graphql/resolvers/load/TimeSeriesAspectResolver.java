@@ -29,6 +29,8 @@ import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
 
 /**
  * Generic GraphQL resolver responsible for resolving a list of TimeSeries Aspect Types. The purpose
@@ -41,6 +43,9 @@ import lombok.extern.slf4j.Slf4j;
  * <p>On creation of a TimeSeriesAspectResolver, it is expected that a mapper capable of mapping a
  * generic {@link EnvelopedAspect} to a GraphQL {@link TimeSeriesAspect} is provided. This wil be
  * invoked for each {@link EnvelopedAspect} received from the GMS getTimeSeriesAspectValues API.
+ *
+ * <p>The aspects are fetched through the {@link TimeSeriesAspectLoader} of the request when it is
+ * registered, so that identical fetches of a request are made once.
  */
 @Slf4j
 public class TimeSeriesAspectResolver
@@ -101,28 +106,49 @@ public class TimeSeriesAspectResolver
 
   @Override
   public CompletableFuture<List<TimeSeriesAspect>> get(DataFetchingEnvironment environment) {
+    final QueryContext context = environment.getContext();
+    // Fetch the urn, assuming the parent has an urn field.
+    // todo: what if the parent urn isn't projected?
+    final String urn = ((Entity) environment.getSource()).getUrn();
+
+    final Long maybeStartTimeMillis = environment.getArgumentOrDefault("startTimeMillis", null);
+    final Long maybeEndTimeMillis = environment.getArgumentOrDefault("endTimeMillis", null);
+    // Max number of aspects to return.
+    final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
+    final FilterInput maybeFilters =
+        environment.getArgument("filter") != null
+            ? bindArgument(environment.getArgument("filter"), FilterInput.class)
+            : null;
+    final SortCriterion maybeSort = _sort;
+
+    final TimeSeriesAspectLoader.Key key =
+        new TimeSeriesAspectLoader.Key(
+            urn,
+            _entityName,
+            _aspectName,
+            maybeStartTimeMillis,
+            maybeEndTimeMillis,
+            maybeLimit,
+            buildFilters(maybeFilters),
+            maybeSort);
+
+    final DataLoaderRegistry dataLoaderRegistry = environment.getDataLoaderRegistry();
+    if (dataLoaderRegistry != null
+        && dataLoaderRegistry.getKeys().contains(TimeSeriesAspectLoader.NAME)) {
+      if (!isAuthorized(context, urn)) {
+        return CompletableFuture.completedFuture(Collections.emptyList());
+      }
+      final DataLoader<TimeSeriesAspectLoader.Key, List<EnvelopedAspect>> loader =
+          dataLoaderRegistry.getDataLoader(TimeSeriesAspectLoader.NAME);
+      return loader.load(key).thenApply(aspects -> mapAspects(context, aspects));
+    }
+
     return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
-          final QueryContext context = environment.getContext();
-          // Fetch the urn, assuming the parent has an urn field.
-          // todo: what if the parent urn isn't projected?
-          final String urn = ((Entity) environment.getSource()).getUrn();
-
           if (!isAuthorized(context, urn)) {
             return Collections.emptyList();
           }
 
-          final Long maybeStartTimeMillis =
-              environment.getArgumentOrDefault("startTimeMillis", null);
-          final Long maybeEndTimeMillis = environment.getArgumentOrDefault("endTimeMillis", null);
-          // Max number of aspects to return.
-          final Integer maybeLimit = environment.getArgumentOrDefault("limit", null);
-          final FilterInput maybeFilters =
-              environment.getArgument("filter") != null
-                  ? bindArgument(environment.getArgument("filter"), FilterInput.class)
-                  : null;
-          final SortCriterion maybeSort = _sort;
-
           try {
             // Step 1: Get aspects.
             List<EnvelopedAspect> aspects =
@@ -131,16 +157,14 @@ public class TimeSeriesAspectResolver
                     urn,
                     _entityName,
                     _aspectName,
-                    maybeStartTimeMillis,
-                    maybeEndTimeMillis,
-                    maybeLimit,
-                    buildFilters(maybeFilters),
-                    maybeSort);
+                    key.getStartTimeMillis(),
+                    key.getEndTimeMillis(),
+                    key.getLimit(),
+                    key.getFilter(),
+                    key.getSort());
 
             // Step 2: Bind profiles into GraphQL strong types.
-            return aspects.stream()
-                .map(a -> _aspectMapper.apply(context, a))
-                .collect(Collectors.toList());
+            return mapAspects(context, aspects);
           } catch (RemoteInvocationException e) {
             throw new RuntimeException("Failed to retrieve aspects from GMS", e);
           }
@@ -149,6 +173,11 @@ public class TimeSeriesAspectResolver
         "get");
   }
 
+  private List<TimeSeriesAspect> mapAspects(
+      final QueryContext context, final List<EnvelopedAspect> aspects) {
+    return aspects.stream().map(a -> _aspectMapper.apply(context, a)).collect(Collectors.toList());
+  }
+
   private Filter buildFilters(@Nullable FilterInput maybeFilters) {
     if (maybeFilters == null) {
       return null;
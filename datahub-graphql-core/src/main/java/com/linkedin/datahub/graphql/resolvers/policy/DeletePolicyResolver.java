@@ -32,7 +32,7 @@ public class DeletePolicyResolver implements DataFetcher<CompletableFuture<Strin
               if (context.getAuthorizer() instanceof AuthorizerChain) {
                 ((AuthorizerChain) context.getAuthorizer())
                     .getDefaultAuthorizer()
-                    .invalidateCache();
+                    .removePolicy(urn);
               }
               return policyUrn;
             } catch (Exception e) {
@@ -5,6 +5,7 @@ import static com.linkedin.datahub.graphql.resolvers.mutate.MutationUtils.*;
 
 import com.datahub.authorization.AuthorizerChain;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
@@ -74,7 +75,7 @@ public class UpsertPolicyResolver implements DataFetcher<CompletableFuture<Strin
               if (context.getAuthorizer() instanceof AuthorizerChain) {
                 ((AuthorizerChain) context.getAuthorizer())
                     .getDefaultAuthorizer()
-                    .invalidateCache();
+                    .upsertPolicy(UrnUtils.getUrn(urn), info);
               }
               return urn;
             } catch (Exception e) {
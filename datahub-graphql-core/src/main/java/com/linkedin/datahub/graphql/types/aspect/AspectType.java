@@ -4,6 +4,7 @@ import static com.linkedin.datahub.graphql.authorization.AuthorizationUtils.canV
 
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.VersionedAspectKey;
 import com.linkedin.datahub.graphql.generated.Aspect;
@@ -13,10 +14,15 @@ import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.restli.client.RestLiResponseException;
 import graphql.execution.DataFetcherResult;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import org.apache.commons.lang3.tuple.Pair;
 
 @Deprecated
 public class AspectType implements LoadableType<Aspect, VersionedAspectKey> {
@@ -41,6 +47,8 @@ public class AspectType implements LoadableType<Aspect, VersionedAspectKey> {
    * returned is expected to be of same length of the list of keys, where nulls are provided in
    * place of an aspect object if an entity cannot be found.
    *
+   * <p>The keys are fetched with a single batch get per entity type and aspect name.
+   *
    * @param keys to retrieve
    * @param context the {@link QueryContext} corresponding to the request.
    */
@@ -48,49 +56,71 @@ public class AspectType implements LoadableType<Aspect, VersionedAspectKey> {
       @Nonnull List<VersionedAspectKey> keys, @Nonnull QueryContext context) throws Exception {
 
     try {
+      final Map<Pair<String, String>, Set<Urn>> urnsByTypeAndAspect = new LinkedHashMap<>();
+      for (VersionedAspectKey key : keys) {
+        final Urn entityUrn = Urn.createFromString(key.getUrn());
+        if (canView(context.getOperationContext(), entityUrn)) {
+          urnsByTypeAndAspect
+              .computeIfAbsent(
+                  Pair.of(entityUrn.getEntityType(), key.getAspectName()),
+                  k -> new HashSet<>())
+              .add(entityUrn);
+        }
+      }
+
+      final Map<Pair<String, String>, Map<Urn, EntityResponse>> responses = new HashMap<>();
+      for (Map.Entry<Pair<String, String>, Set<Urn>> entry : urnsByTypeAndAspect.entrySet()) {
+        responses.put(entry.getKey(), batchGet(context, entry.getKey(), entry.getValue()));
+      }
 
       return keys.stream()
           .map(
               key -> {
-                try {
-                  Urn entityUrn = Urn.createFromString(key.getUrn());
-
-                  Map<Urn, EntityResponse> response =
-                      canView(context.getOperationContext(), entityUrn)
-                          ? _entityClient.batchGetV2(
-                              context.getOperationContext(),
-                              entityUrn.getEntityType(),
-                              ImmutableSet.of(entityUrn),
-                              ImmutableSet.of(key.getAspectName()))
-                          : Map.of();
+                final Urn entityUrn = UrnUtils.getUrn(key.getUrn());
+                final EntityResponse entityResponse =
+                    responses
+                        .getOrDefault(
+                            Pair.of(entityUrn.getEntityType(), key.getAspectName()), Map.of())
+                        .get(entityUrn);
 
-                  EntityResponse entityResponse = response.get(entityUrn);
-
-                  if (entityResponse == null
-                      || entityResponse.getAspects().get(key.getAspectName()) == null) {
-                    // The aspect was not found. Return null.
-                    return DataFetcherResult.<Aspect>newResult().data(null).build();
-                  }
-                  final EnvelopedAspect aspect =
-                      entityResponse.getAspects().get(key.getAspectName());
-                  return DataFetcherResult.<Aspect>newResult()
-                      .data(AspectMapper.map(context, aspect, entityUrn))
-                      .build();
-                } catch (Exception e) {
-                  if (e instanceof RestLiResponseException) {
-                    // if no aspect is found, restli will return a 404 rather than null
-                    // https://linkedin.github.io/rest.li/user_guide/restli_server#returning-nulls
-                    if (((RestLiResponseException) e).getStatus() == 404) {
-                      return DataFetcherResult.<Aspect>newResult().data(null).build();
-                    }
-                  }
-                  throw new RuntimeException(
-                      String.format("Failed to load Aspect for entity %s", key.getUrn()), e);
+                if (entityResponse == null
+                    || entityResponse.getAspects().get(key.getAspectName()) == null) {
+                  // The aspect was not found. Return null.
+                  return DataFetcherResult.<Aspect>newResult().data(null).build();
                 }
+                final EnvelopedAspect aspect = entityResponse.getAspects().get(key.getAspectName());
+                return DataFetcherResult.<Aspect>newResult()
+                    .data(AspectMapper.map(context, aspect, entityUrn))
+                    .build();
               })
           .collect(Collectors.toList());
     } catch (Exception e) {
       throw new RuntimeException("Failed to batch load Aspects", e);
     }
   }
+
+  private Map<Urn, EntityResponse> batchGet(
+      @Nonnull QueryContext context,
+      @Nonnull Pair<String, String> typeAndAspect,
+      @Nonnull Set<Urn> urns) {
+    try {
+      return _entityClient.batchGetV2(
+          context.getOperationContext(),
+          typeAndAspect.getKey(),
+          urns,
+          ImmutableSet.of(typeAndAspect.getValue()));
+    } catch (Exception e) {
+      if (e instanceof RestLiResponseException) {
+        // if no aspect is found, restli will return a 404 rather than null
+        // https://linkedin.github.io/rest.li/user_guide/restli_server#returning-nulls
+        if (((RestLiResponseException) e).getStatus() == 404) {
+          return Map.of();
+        }
+      }
+      throw new RuntimeException(
+          String.format(
+              "Failed to load Aspect %s for entities %s", typeAndAspect.getValue(), urns),
+          e);
+    }
+  }
 }
@@ -3,6 +3,8 @@ package com.linkedin.datahub.graphql.resolvers.load;
 import static com.linkedin.datahub.graphql.TestUtils.getMockAllowContext;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
@@ -16,10 +18,14 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphClient;
 import graphql.schema.DataFetchingEnvironment;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -117,6 +123,33 @@ public class EntityRelationshipsResultResolverTest {
     assertEquals(resolver.get(mockEnv).get().toString(), expected.toString());
   }
 
+  @Test
+  public void testExcludeSoftDeletedWithDataLoader() throws Exception {
+    input.setIncludeSoftDelete(false);
+    DataLoader<EntityRelationshipsLoader.Key, EntityRelationshipsLoader.Result> loader =
+        EntityRelationshipsLoader.create(_graphClient, _entityService, getMockAllowContext());
+    DataLoaderRegistry registry = new DataLoaderRegistry();
+    registry.register(EntityRelationshipsLoader.NAME, loader);
+    when(mockEnv.getDataLoaderRegistry()).thenReturn(registry);
+
+    CompletableFuture<EntityRelationshipsResult> first = resolver.get(mockEnv);
+    CompletableFuture<EntityRelationshipsResult> second = resolver.get(mockEnv);
+    registry.dispatchAll();
+
+    EntityRelationshipsResult expected = new EntityRelationshipsResult();
+    expected.setRelationships(List.of(resultRelationship(existentEntity)));
+    expected.setStart(0);
+    expected.setCount(1);
+    expected.setTotal(1);
+    assertEquals(first.get().toString(), expected.toString());
+    assertEquals(second.get().toString(), expected.toString());
+
+    verify(_graphClient, times(1)).getRelatedEntities(any(), any(), any(), any(), any(), any());
+    verify(_entityService, times(1)).exists(any(), any(Collection.class), eq(false));
+    assertEquals(loader.getStatistics().getBatchInvokeCount(), 1);
+    assertEquals(loader.getStatistics().getCacheHitCount(), 1);
+  }
+
   private com.linkedin.datahub.graphql.generated.EntityRelationship resultRelationship(
       Entity entity) {
     return new com.linkedin.datahub.graphql.generated.EntityRelationship(
@@ -0,0 +1,81 @@
+package com.linkedin.datahub.graphql.types.aspect;
+
+import static com.linkedin.datahub.graphql.TestUtils.getMockAllowContext;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.VersionedAspectKey;
+import com.linkedin.datahub.graphql.generated.Aspect;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.restli.client.RestLiResponseException;
+import graphql.execution.DataFetcherResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+public class AspectTypeTest {
+  private static final Urn DATASET_1_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test1,PROD)");
+  private static final Urn DATASET_2_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test2,PROD)");
+  private static final Urn CHART_URN = UrnUtils.getUrn("urn:li:chart:(looker,test)");
+
+  @Test
+  public void testBatchLoadGetsEachEntityTypeOnce() throws Exception {
+    EntityClient client = mock(EntityClient.class);
+    when(client.batchGetV2(any(), any(), any(), any())).thenReturn(Map.of());
+    QueryContext context = getMockAllowContext();
+
+    List<DataFetcherResult<Aspect>> results =
+        new AspectType(client)
+            .batchLoad(
+                List.of(
+                    key(DATASET_1_URN), key(DATASET_2_URN), key(CHART_URN), key(DATASET_1_URN)),
+                context);
+
+    assertEquals(results.size(), 4);
+    results.forEach(result -> assertNull(result.getData()));
+    verify(client, times(1))
+        .batchGetV2(
+            any(),
+            eq(Constants.DATASET_ENTITY_NAME),
+            eq(Set.of(DATASET_1_URN, DATASET_2_URN)),
+            eq(Set.of(Constants.SCHEMA_METADATA_ASPECT_NAME)));
+    verify(client, times(1))
+        .batchGetV2(
+            any(),
+            eq(Constants.CHART_ENTITY_NAME),
+            eq(Set.of(CHART_URN)),
+            eq(Set.of(Constants.SCHEMA_METADATA_ASPECT_NAME)));
+  }
+
+  @Test
+  public void testBatchLoadNotFound() throws Exception {
+    EntityClient client = mock(EntityClient.class);
+    RestLiResponseException notFound = mock(RestLiResponseException.class);
+    when(notFound.getStatus()).thenReturn(404);
+    when(client.batchGetV2(any(), any(), any(), any())).thenThrow(notFound);
+
+    List<DataFetcherResult<Aspect>> results =
+        new AspectType(client)
+            .batchLoad(List.of(key(DATASET_1_URN), key(DATASET_2_URN)), getMockAllowContext());
+
+    assertEquals(results.size(), 2);
+    results.forEach(result -> assertNull(result.getData()));
+  }
+
+  private static VersionedAspectKey key(Urn urn) {
+    return new VersionedAspectKey(urn.toString(), Constants.SCHEMA_METADATA_ASPECT_NAME, 0L);
+  }
+}
@@ -1,6 +1,7 @@
 package com.linkedin.datahub.upgrade.config;
 
 import com.linkedin.datahub.upgrade.system.NonBlockingSystemUpgrade;
+import com.linkedin.datahub.upgrade.system.aspects.BackfillLatestVersion;
 import com.linkedin.datahub.upgrade.system.browsepaths.BackfillBrowsePathsV2;
 import com.linkedin.datahub.upgrade.system.browsepaths.BackfillIcebergBrowsePathsV2;
 import com.linkedin.datahub.upgrade.system.dataprocessinstances.BackfillDataProcessInstances;
@@ -109,6 +110,19 @@ public class NonBlockingConfigs {
         opContext, entityService, aspectDao, enabled, batchSize, delayMs, limit);
   }
 
+  @Bean
+  public NonBlockingSystemUpgrade backfillLatestVersion(
+      final OperationContext opContext,
+      final EntityService<?> entityService,
+      final AspectDao aspectDao,
+      @Value("${systemUpdate.latestVersion.enabled}") final boolean enabled,
+      @Value("${systemUpdate.latestVersion.batchSize}") final Integer batchSize,
+      @Value("${systemUpdate.latestVersion.delayMs}") final Integer delayMs,
+      @Value("${systemUpdate.latestVersion.limit}") final Integer limit) {
+    return new BackfillLatestVersion(
+        opContext, entityService, aspectDao, enabled, batchSize, delayMs, limit);
+  }
+
   @Bean
   public BackfillPolicyFields backfillPolicyFields(
       final OperationContext opContext,
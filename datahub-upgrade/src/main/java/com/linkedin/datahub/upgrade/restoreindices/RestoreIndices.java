@@ -34,6 +34,9 @@ public class RestoreIndices implements Upgrade {
   public static final String GE_PIT_EPOCH_MS_ARG_NAME = "gePitEpochMs";
   public static final String LE_PIT_EPOCH_MS_ARG_NAME = "lePitEpochMs";
   public static final String ASPECT_NAMES_ARG_NAME = "aspectNames";
+  public static final String STREAMING_ARG_NAME = "streaming";
+  public static final String NUM_SHARDS_ARG_NAME = "numShards";
+  public static final String SHARD_INDEX_ARG_NAME = "shardIndex";
 
   private final List<UpgradeStep> _steps;
 
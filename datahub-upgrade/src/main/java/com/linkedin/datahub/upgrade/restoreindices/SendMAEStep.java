@@ -1,8 +1,11 @@
 package com.linkedin.datahub.upgrade.restoreindices;
 
+import static com.linkedin.datahub.upgrade.system.AbstractMCLStep.LAST_URN_KEY;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
@@ -11,7 +14,9 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.upgrade.DataHubUpgradeResult;
 import com.linkedin.upgrade.DataHubUpgradeState;
+import io.datahubproject.metadata.context.OperationContext;
 import io.ebean.Database;
 import io.ebean.ExpressionList;
 import java.util.ArrayList;
@@ -37,6 +42,10 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_STARTING_OFFSET = 0;
   private static final int DEFAULT_THREADS = 1;
   private static final boolean DEFAULT_URN_BASED_PAGINATION = false;
+  private static final boolean DEFAULT_STREAMING = false;
+
+  private static final String LAST_ASPECT_KEY = "lastAspect";
+  private static final long CHECKPOINT_INTERVAL_MS = 30000;
 
   private final Database _server;
   private final EntityService<?> _entityService;
@@ -128,6 +137,13 @@ public class SendMAEStep implements UpgradeStep {
     } else {
       context.report().addLine("No urnLike arg present");
     }
+    result.numShards(getInt(context.parsedArgs(), 1, RestoreIndices.NUM_SHARDS_ARG_NAME));
+    result.shardIndex(getInt(context.parsedArgs(), 0, RestoreIndices.SHARD_INDEX_ARG_NAME));
+    if (result.numShards > 1) {
+      context
+          .report()
+          .addLine(String.format("shard is %d of %d", result.shardIndex, result.numShards));
+    }
     if (containsKey(context.parsedArgs(), RestoreIndices.LE_PIT_EPOCH_MS_ARG_NAME)) {
       result.lePitEpochMs =
           Long.parseLong(context.parsedArgs().get(RestoreIndices.LE_PIT_EPOCH_MS_ARG_NAME).get());
@@ -179,8 +195,6 @@ public class SendMAEStep implements UpgradeStep {
     return (context) -> {
       RestoreIndicesResult finalJobResult = new RestoreIndicesResult();
       RestoreIndicesArgs args = getArgs(context);
-      ThreadPoolExecutor executor =
-          (ThreadPoolExecutor) Executors.newFixedThreadPool(args.numThreads);
 
       context.report().addLine("Sending MAE from local DB");
       long startTime = System.currentTimeMillis();
@@ -191,6 +205,13 @@ public class SendMAEStep implements UpgradeStep {
               String.format(
                   "Found %s latest aspects in aspects table in %.2f minutes.",
                   rowCount, (float) (System.currentTimeMillis() - startTime) / 1000 / 60));
+
+      if (getStreaming(context.parsedArgs())) {
+        return streamingRestore(context, args, rowCount / args.numShards);
+      }
+
+      ThreadPoolExecutor executor =
+          (ThreadPoolExecutor) Executors.newFixedThreadPool(args.numThreads);
       int start = args.start;
 
       List<Future<RestoreIndicesResult>> futures = new ArrayList<>();
@@ -216,7 +237,7 @@ public class SendMAEStep implements UpgradeStep {
             RestoreIndicesResult result = future.get();
             reportStats(context, finalJobResult, result, rowCount, startTime);
             previousResult = result;
-            rowsProcessed = result.rowsMigrated + result.ignored;
+            rowsProcessed = result.rowsMigrated + result.ignored + result.skipped;
             context.report().addLine(String.format("Rows processed this loop %d", rowsProcessed));
             start += args.batchSize;
           } catch (InterruptedException | ExecutionException e) {
@@ -264,6 +285,99 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
+  /**
+   * Streams the whole aspect table once using keyset pagination, batches are fanned out to
+   * numThreads workers. Progress is checkpointed per shard so that a restarted job resumes after
+   * the last completed batch.
+   */
+  private UpgradeStepResult streamingRestore(
+      UpgradeContext context, RestoreIndicesArgs args, int rowCount) {
+    final OperationContext opContext = context.opContext();
+    final Urn checkpointUrn = getCheckpointUrn(args);
+
+    Optional<DataHubUpgradeResult> prevResult =
+        context.upgrade().getUpgradeResult(opContext, checkpointUrn, _entityService);
+    prevResult
+        .filter(
+            result ->
+                DataHubUpgradeState.IN_PROGRESS.equals(result.getState())
+                    && result.getResult() != null
+                    && result.getResult().containsKey(LAST_URN_KEY))
+        .ifPresent(
+            result -> {
+              args.lastUrn = result.getResult().get(LAST_URN_KEY);
+              args.lastAspect = result.getResult().getOrDefault(LAST_ASPECT_KEY, "");
+              context
+                  .report()
+                  .addLine(
+                      String.format(
+                          "Resuming from checkpoint %s - %s", args.lastUrn, args.lastAspect));
+            });
+
+    args.urnBasedPagination = true;
+    args.start = 0;
+    args.limit = 0;
+
+    final RestoreIndicesResult finalJobResult = new RestoreIndicesResult();
+    final long startTime = System.currentTimeMillis();
+    final long[] lastCheckpointMs = {startTime};
+    // last batch completed, not yet written to the checkpoint
+    final RestoreIndicesResult[] pending = {null};
+    try {
+      _entityService.restoreIndices(
+          opContext,
+          args,
+          context.report()::addLine,
+          result -> {
+            reportStats(context, finalJobResult, result, rowCount, startTime);
+            pending[0] = result;
+            if (System.currentTimeMillis() - lastCheckpointMs[0] >= CHECKPOINT_INTERVAL_MS) {
+              writeCheckpoint(context, checkpointUrn, result);
+              pending[0] = null;
+              lastCheckpointMs[0] = System.currentTimeMillis();
+            }
+          });
+    } catch (Exception e) {
+      // the batches before the failed one completed, resume right after them on the next run
+      if (pending[0] != null) {
+        writeCheckpoint(context, checkpointUrn, pending[0]);
+      }
+      log.error("Error during streaming restore indices.", e);
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Restore indices failed after %s rows, rerun to resume from the checkpoint: %s",
+                  finalJobResult.rowsMigrated + finalJobResult.ignored, e.getMessage()));
+      return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+    }
+
+    context
+        .upgrade()
+        .setUpgradeResult(
+            opContext, checkpointUrn, _entityService, DataHubUpgradeState.SUCCEEDED, null);
+    return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.SUCCEEDED);
+  }
+
+  private void writeCheckpoint(
+      UpgradeContext context, Urn checkpointUrn, RestoreIndicesResult result) {
+    context
+        .upgrade()
+        .setUpgradeResult(
+            context.opContext(),
+            checkpointUrn,
+            _entityService,
+            DataHubUpgradeState.IN_PROGRESS,
+            Map.of(LAST_URN_KEY, result.lastUrn, LAST_ASPECT_KEY, result.lastAspect));
+  }
+
+  @VisibleForTesting
+  static Urn getCheckpointUrn(RestoreIndicesArgs args) {
+    return UrnUtils.getUrn(
+        String.format(
+            "urn:li:dataHubUpgrade:restore-indices-%d-of-%d", args.shardIndex, args.numShards));
+  }
+
   private static void reportStats(
       UpgradeContext context,
       RestoreIndicesResult finalResult,
@@ -338,6 +452,14 @@ public class SendMAEStep implements UpgradeStep {
     return getInt(parsedArgs, DEFAULT_THREADS, RestoreIndices.NUM_THREADS_ARG_NAME);
   }
 
+  private boolean getStreaming(final Map<String, Optional<String>> parsedArgs) {
+    boolean streaming = DEFAULT_STREAMING;
+    if (containsKey(parsedArgs, RestoreIndices.STREAMING_ARG_NAME)) {
+      streaming = Boolean.parseBoolean(parsedArgs.get(RestoreIndices.STREAMING_ARG_NAME).get());
+    }
+    return streaming;
+  }
+
   private boolean getUrnBasedPagination(final Map<String, Optional<String>> parsedArgs) {
     boolean urnBasedPagination = DEFAULT_URN_BASED_PAGINATION;
     if (containsKey(parsedArgs, RestoreIndices.URN_BASED_PAGINATION_ARG_NAME)) {
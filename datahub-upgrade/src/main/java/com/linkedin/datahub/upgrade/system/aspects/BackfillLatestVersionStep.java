@@ -0,0 +1,228 @@
+package com.linkedin.datahub.upgrade.system.aspects;
+
+import static com.linkedin.metadata.entity.TransactionContext.DEFAULT_MAX_TRANSACTION_RETRY;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.aspect.SystemAspect;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.TransactionResult;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.SystemMetadataUtils;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes {@code max(version) + 1} into the system metadata version of the version 0 rows which do
+ * not have one yet. Rows written since the version is tracked there are left untouched.
+ */
+@Slf4j
+public class BackfillLatestVersionStep implements UpgradeStep {
+  public static final String LAST_URN_KEY = "lastUrn";
+
+  private static final String UPGRADE_ID = BackfillLatestVersion.class.getSimpleName();
+  private static final Urn UPGRADE_ID_URN = BootstrapStep.getUpgradeUrn(UPGRADE_ID);
+
+  private final OperationContext opContext;
+  private final EntityService<?> entityService;
+  private final AspectDao aspectDao;
+
+  private final int batchSize;
+  private final int batchDelayMs;
+  private final int limit;
+
+  public BackfillLatestVersionStep(
+      @Nonnull OperationContext opContext,
+      EntityService<?> entityService,
+      AspectDao aspectDao,
+      Integer batchSize,
+      Integer batchDelayMs,
+      Integer limit) {
+    this.opContext = opContext;
+    this.entityService = entityService;
+    this.aspectDao = aspectDao;
+    this.batchSize = batchSize;
+    this.batchDelayMs = batchDelayMs;
+    this.limit = limit;
+  }
+
+  @Override
+  public String id() {
+    return UPGRADE_ID;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      Optional<DataHubUpgradeResult> prevResult =
+          context.upgrade().getUpgradeResult(opContext, UPGRADE_ID_URN, entityService);
+      String resumeUrn =
+          prevResult
+              .filter(
+                  result ->
+                      DataHubUpgradeState.IN_PROGRESS.equals(result.getState())
+                          && result.getResult() != null
+                          && result.getResult().containsKey(LAST_URN_KEY))
+              .map(result -> result.getResult().get(LAST_URN_KEY))
+              .orElse(null);
+      if (resumeUrn != null) {
+        log.info("{}: Resuming from URN: {}", UPGRADE_ID_URN, resumeUrn);
+      }
+
+      RestoreIndicesArgs args =
+          new RestoreIndicesArgs()
+              .batchSize(batchSize)
+              .lastUrn(resumeUrn)
+              .urnBasedPagination(resumeUrn != null)
+              .limit(limit);
+
+      AtomicLong backfilled = new AtomicLong();
+      try (PartitionedStream<EbeanAspectV2> stream = aspectDao.streamAspectBatches(args)) {
+        stream
+            .partition(args.batchSize)
+            .forEach(
+                batch -> {
+                  List<EbeanAspectV2> rows = batch.collect(Collectors.toList());
+                  Map<String, Set<String>> unversioned =
+                      rows.stream()
+                          .filter(row -> !hasVersion(row))
+                          .collect(
+                              Collectors.groupingBy(
+                                  EbeanAspectV2::getUrn,
+                                  Collectors.mapping(
+                                      EbeanAspectV2::getAspect, Collectors.toSet())));
+                  if (!unversioned.isEmpty()) {
+                    backfilled.addAndGet(backfill(unversioned));
+                  }
+
+                  if (!rows.isEmpty()) {
+                    String lastUrn = rows.get(rows.size() - 1).getUrn();
+                    log.info("{}: Saving state. Last urn:{}", UPGRADE_ID_URN, lastUrn);
+                    context
+                        .upgrade()
+                        .setUpgradeResult(
+                            opContext,
+                            UPGRADE_ID_URN,
+                            entityService,
+                            DataHubUpgradeState.IN_PROGRESS,
+                            Map.of(LAST_URN_KEY, lastUrn));
+                  }
+
+                  if (batchDelayMs > 0) {
+                    log.info("Sleeping for {} ms", batchDelayMs);
+                    try {
+                      Thread.sleep(batchDelayMs);
+                    } catch (InterruptedException e) {
+                      throw new RuntimeException(e);
+                    }
+                  }
+                });
+      }
+
+      BootstrapStep.setUpgradeResult(opContext, UPGRADE_ID_URN, entityService);
+      context.report().addLine("Backfilled the latest version of " + backfilled.get() + " aspects");
+      context.report().addLine("State updated: " + UPGRADE_ID_URN);
+
+      return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.SUCCEEDED);
+    };
+  }
+
+  private static boolean hasVersion(@Nonnull EbeanAspectV2 row) {
+    return row.getSystemMetadata() != null
+        && SystemMetadataUtils.parseSystemMetadata(row.getSystemMetadata()).hasVersion();
+  }
+
+  /**
+   * Locks the version 0 rows and sets their version from the highest stored version. Rows which
+   * were versioned by a concurrent write since they were streamed are skipped.
+   */
+  private int backfill(@Nonnull Map<String, Set<String>> urnAspects) {
+    return aspectDao
+        .runInTransactionWithRetry(
+            (txContext) -> {
+              Map<String, Map<String, SystemAspect>> latestAspects =
+                  aspectDao.getLatestAspects(opContext, urnAspects, true);
+
+              Map<String, Set<String>> unversioned = new HashMap<>();
+              latestAspects.forEach(
+                  (urn, aspects) ->
+                      aspects.forEach(
+                          (aspectName, aspect) -> {
+                            if (aspect.getSystemMetadataVersion().isEmpty()) {
+                              unversioned
+                                  .computeIfAbsent(urn, key -> new HashSet<>())
+                                  .add(aspectName);
+                            }
+                          }));
+              if (unversioned.isEmpty()) {
+                return TransactionResult.commit(0);
+              }
+
+              Map<String, Map<String, Long>> nextVersions = aspectDao.getNextVersions(unversioned);
+              int updated = 0;
+              for (Map.Entry<String, Set<String>> entry : unversioned.entrySet()) {
+                for (String aspectName : entry.getValue()) {
+                  SystemAspect aspect = latestAspects.get(entry.getKey()).get(aspectName);
+                  long nextVersion = nextVersions.get(entry.getKey()).get(aspectName);
+                  aspect.getSystemMetadata().setVersion(String.valueOf(nextVersion));
+                  aspectDao.updateAspect(txContext, aspect);
+                  updated++;
+                }
+              }
+              return TransactionResult.commit(updated);
+            },
+            DEFAULT_MAX_TRANSACTION_RETRY)
+        .orElse(0);
+  }
+
+  /**
+   * Returns whether the upgrade should proceed if the step fails after exceeding the maximum
+   * retries.
+   */
+  @Override
+  public boolean isOptional() {
+    return true;
+  }
+
+  /** Returns whether the upgrade should be skipped. */
+  @Override
+  public boolean skip(UpgradeContext context) {
+    Optional<DataHubUpgradeResult> prevResult =
+        context.upgrade().getUpgradeResult(opContext, UPGRADE_ID_URN, entityService);
+
+    boolean previousRunFinal =
+        prevResult
+            .filter(
+                result ->
+                    DataHubUpgradeState.SUCCEEDED.equals(result.getState())
+                        || DataHubUpgradeState.ABORTED.equals(result.getState()))
+            .isPresent();
+
+    if (previousRunFinal) {
+      log.info(
+          "{} was already run. State: {} Skipping.",
+          id(),
+          prevResult.map(DataHubUpgradeResult::getState));
+    }
+    return previousRunFinal;
+  }
+}
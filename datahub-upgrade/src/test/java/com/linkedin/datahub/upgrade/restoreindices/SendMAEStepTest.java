@@ -3,6 +3,8 @@ package com.linkedin.datahub.upgrade.restoreindices;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datahub.upgrade.Upgrade;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeReport;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
@@ -12,6 +14,7 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.upgrade.DataHubUpgradeResult;
 import com.linkedin.upgrade.DataHubUpgradeState;
 import io.datahubproject.metadata.context.OperationContext;
 import io.ebean.Database;
@@ -19,9 +22,11 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -415,4 +420,116 @@ public class SendMAEStepTest {
     RestoreIndicesArgs capturedArgs = argsCaptor.getValue();
     assertTrue(capturedArgs.createDefaultAspects);
   }
+
+  @Test
+  public void testExecutableWithStreaming() {
+    parsedArgs.put(RestoreIndices.STREAMING_ARG_NAME, Optional.of("true"));
+    parsedArgs.put(RestoreIndices.NUM_THREADS_ARG_NAME, Optional.of("4"));
+    parsedArgs.put(RestoreIndices.NUM_SHARDS_ARG_NAME, Optional.of("2"));
+    parsedArgs.put(RestoreIndices.SHARD_INDEX_ARG_NAME, Optional.of("1"));
+    insertTestRows(4, null);
+
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    when(mockContext.upgrade()).thenReturn(mockUpgrade);
+    when(mockUpgrade.getUpgradeResult(eq(mockOpContext), any(), eq(mockEntityService)))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.IN_PROGRESS)
+                    .setResult(
+                        new StringMap(
+                            Map.of("lastUrn", "urn:li:test:1", "lastAspect", "testAspect")))));
+
+    RestoreIndicesResult batchResult = new RestoreIndicesResult();
+    batchResult.rowsMigrated = 1;
+    batchResult.skipped = 1;
+    batchResult.lastUrn = "urn:li:test:3";
+    batchResult.lastAspect = "testAspect";
+    when(mockEntityService.restoreIndices(
+            eq(mockOpContext), any(RestoreIndicesArgs.class), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<RestoreIndicesResult> checkpoint = invocation.getArgument(3);
+              checkpoint.accept(batchResult);
+              return List.of(batchResult);
+            });
+
+    UpgradeStepResult result = sendMAEStep.executable().apply(mockContext);
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+
+    ArgumentCaptor<RestoreIndicesArgs> argsCaptor =
+        ArgumentCaptor.forClass(RestoreIndicesArgs.class);
+    verify(mockEntityService, times(1))
+        .restoreIndices(eq(mockOpContext), argsCaptor.capture(), any(), any());
+    RestoreIndicesArgs capturedArgs = argsCaptor.getValue();
+    assertTrue(capturedArgs.urnBasedPagination);
+    assertEquals(capturedArgs.limit, 0);
+    assertEquals(capturedArgs.numThreads, 4);
+    assertEquals(capturedArgs.numShards, 2);
+    assertEquals(capturedArgs.shardIndex, 1);
+    // resumed from the stored checkpoint
+    assertEquals(capturedArgs.lastUrn, "urn:li:test:1");
+    assertEquals(capturedArgs.lastAspect, "testAspect");
+
+    verify(mockUpgrade)
+        .setUpgradeResult(
+            eq(mockOpContext),
+            eq(SendMAEStep.getCheckpointUrn(capturedArgs)),
+            eq(mockEntityService),
+            eq(DataHubUpgradeState.SUCCEEDED),
+            isNull());
+    verify(mockEntityService, never())
+        .restoreIndices(eq(mockOpContext), any(RestoreIndicesArgs.class), any());
+
+    // every urn is handled by exactly one shard
+    for (int i = 0; i < 10; i++) {
+      String urn = "urn:li:test:" + i;
+      RestoreIndicesArgs shard0 = new RestoreIndicesArgs().numShards(2).shardIndex(0);
+      RestoreIndicesArgs shard1 = new RestoreIndicesArgs().numShards(2).shardIndex(1);
+      assertTrue(shard0.inShard(urn) ^ shard1.inShard(urn));
+    }
+  }
+
+  @Test
+  public void testExecutableWithStreamingFailure() {
+    parsedArgs.put(RestoreIndices.STREAMING_ARG_NAME, Optional.of("true"));
+    insertTestRows(4, null);
+
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    when(mockContext.upgrade()).thenReturn(mockUpgrade);
+    when(mockUpgrade.getUpgradeResult(eq(mockOpContext), any(), eq(mockEntityService)))
+        .thenReturn(Optional.empty());
+
+    RestoreIndicesResult batchResult = new RestoreIndicesResult();
+    batchResult.rowsMigrated = 1;
+    batchResult.lastUrn = "urn:li:test:1";
+    batchResult.lastAspect = "testAspect";
+    when(mockEntityService.restoreIndices(
+            eq(mockOpContext), any(RestoreIndicesArgs.class), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<RestoreIndicesResult> checkpoint = invocation.getArgument(3);
+              checkpoint.accept(batchResult);
+              throw new RuntimeException("batch failed");
+            });
+
+    UpgradeStepResult result = sendMAEStep.executable().apply(mockContext);
+    assertEquals(result.result(), DataHubUpgradeState.FAILED);
+
+    // the batch completed before the failure is checkpointed, the step is not marked done
+    verify(mockUpgrade)
+        .setUpgradeResult(
+            eq(mockOpContext),
+            any(),
+            eq(mockEntityService),
+            eq(DataHubUpgradeState.IN_PROGRESS),
+            eq(Map.of("lastUrn", "urn:li:test:1", "lastAspect", "testAspect")));
+    verify(mockUpgrade, never())
+        .setUpgradeResult(
+            eq(mockOpContext),
+            any(),
+            eq(mockEntityService),
+            eq(DataHubUpgradeState.SUCCEEDED),
+            any());
+  }
 }
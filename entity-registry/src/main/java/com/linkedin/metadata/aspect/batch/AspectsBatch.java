@@ -63,6 +63,17 @@ public interface AspectsBatch {
       Map<String, Map<String, Long>> nextVersions,
       BiFunction<ChangeMCP, SystemAspect, SystemAspect> databaseUpsert);
 
+  /**
+   * Splits the batch into at most the given number of batches which do not share any urn, keeping
+   * the order of the items of each urn. The default keeps the batch whole.
+   *
+   * @param maxPartitions maximum number of batches to return
+   * @return the urn disjoint batches
+   */
+  default List<? extends AspectsBatch> partitionByUrn(int maxPartitions) {
+    return List.of(this);
+  }
+
   /**
    * Apply read mutations to batch
    *
@@ -11,6 +11,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonPatch;
 import java.io.StringReader;
+import java.util.Optional;
 
 public abstract class CompoundKeyTemplate<T extends RecordTemplate>
     implements ArrayMergingTemplate<T> {
@@ -18,6 +19,10 @@ public abstract class CompoundKeyTemplate<T extends RecordTemplate>
   @Override
   public T applyPatch(RecordTemplate recordTemplate, JsonPatch jsonPatch)
       throws JsonProcessingException {
+    Optional<T> nativelyPatched = DataMapPatcher.applyPatch(this, recordTemplate, jsonPatch);
+    if (nativelyPatched.isPresent()) {
+      return nativelyPatched.get();
+    }
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
     JsonObject patched =
         jsonPatch.apply(
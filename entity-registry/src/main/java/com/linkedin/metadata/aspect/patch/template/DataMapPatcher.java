@@ -0,0 +1,488 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import com.datahub.util.RecordUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the add and remove operations of a {@link JsonPatch} directly on the {@link DataMap} of
+ * an aspect, skipping the Jackson and jakarta.json round trips of {@link Template#applyPatch}.
+ *
+ * <p>The key based array semantics of {@link ArrayMergingTemplate#arrayFieldToMap}, {@link
+ * ArrayMergingTemplate#transformedMapToArray} and {@link FineGrainedLineageTemplateHelper} are
+ * reproduced on a tree of plain maps and lists, including the way the JSON round trip normalizes
+ * numbers, so that both engines produce equal aspects. Whenever the patch or the aspect contains
+ * something which is not modelled here, e.g. an operation other than add or remove or a path which
+ * does not resolve, {@link #applyPatch} returns empty and the caller falls back to the JSON engine,
+ * which yields the same result or error as before.
+ */
+@Slf4j
+public class DataMapPatcher {
+
+  /** Environment variable to turn the native engine off, all patches then go through JSON. */
+  public static final String PATCH_NATIVE_ENGINE_ENABLED = "PATCH_NATIVE_ENGINE_ENABLED";
+
+  private static volatile boolean enabled =
+      Boolean.parseBoolean(System.getenv().getOrDefault(PATCH_NATIVE_ENGINE_ENABLED, "true"));
+
+  private static final String ADD = "add";
+  private static final String REMOVE = "remove";
+
+  private DataMapPatcher() {}
+
+  /** Describes the transformations of a template, see {@link Template#getDataMapPatchSpec()}. */
+  @Value
+  @Builder
+  public static class Spec {
+    /**
+     * Array fields turned into maps for patching, by field name, with the fields of the elements
+     * forming the key. An empty key list denotes an array of strings keyed by value.
+     */
+    @Singular Map<String, List<String>> keyedArrays;
+
+    /** Field holding fine grained lineages, keyed as in {@link FineGrainedLineageTemplateHelper} */
+    @Nullable String fineGrainedLineagesField;
+  }
+
+  /** Raised for anything the native engine does not handle identically to the JSON engine. */
+  static class UnsupportedPatchException extends RuntimeException {
+    UnsupportedPatchException(String message) {
+      super(message, null, false, false);
+    }
+  }
+
+  @VisibleForTesting
+  static void setEnabled(boolean value) {
+    enabled = value;
+  }
+
+  /**
+   * Patches the record natively when the template supports it.
+   *
+   * @return the patched record, or empty if the JSON engine has to be used
+   */
+  @Nonnull
+  public static <T extends RecordTemplate> Optional<T> applyPatch(
+      @Nonnull Template<T> template,
+      @Nonnull RecordTemplate recordTemplate,
+      @Nonnull JsonPatch jsonPatch) {
+    final Spec spec = template.getDataMapPatchSpec();
+    if (!enabled || spec == null) {
+      return Optional.empty();
+    }
+    final T subtype = template.getSubtype(recordTemplate);
+    try {
+      final List<Operation> operations = parseOperations(jsonPatch);
+      final Map<String, Object> root = asMap(fromData(subtype.data()));
+
+      transformFields(root, spec);
+      populateTopLevelKeys(root, operations);
+      for (Operation operation : operations) {
+        operation.apply(root);
+      }
+      rebaseFields(root, spec);
+
+      return Optional.of(
+          RecordUtils.toRecordTemplate(template.getTemplateType(), (DataMap) toData(root)));
+    } catch (UnsupportedPatchException e) {
+      log.debug(
+          "Falling back to JSON patch for aspect {}: {}",
+          recordTemplate.schema().getName(),
+          e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private static void transformFields(Map<String, Object> root, Spec spec) {
+    for (Map.Entry<String, List<String>> keyedArray : spec.getKeyedArrays().entrySet()) {
+      root.put(
+          keyedArray.getKey(), arrayToMap(root.get(keyedArray.getKey()), keyedArray.getValue()));
+    }
+    if (spec.getFineGrainedLineagesField() != null) {
+      root.put(
+          spec.getFineGrainedLineagesField(),
+          FineGrainedLineageTemplateHelper.combineFineGrainedLineages(
+              root.get(spec.getFineGrainedLineagesField())));
+    }
+  }
+
+  private static void rebaseFields(Map<String, Object> root, Spec spec) {
+    for (Map.Entry<String, List<String>> keyedArray : spec.getKeyedArrays().entrySet()) {
+      Object field = root.get(keyedArray.getKey());
+      if (field instanceof List) {
+        // Replaced wholesale by the patch
+        continue;
+      }
+      List<Object> array = new ArrayList<>();
+      if (keyedArray.getValue().isEmpty()) {
+        array.addAll(asMap(field).values());
+      } else {
+        mergeToArray(asMap(field), keyedArray.getValue().size(), array);
+      }
+      root.put(keyedArray.getKey(), array);
+    }
+    if (spec.getFineGrainedLineagesField() != null) {
+      root.put(
+          spec.getFineGrainedLineagesField(),
+          FineGrainedLineageTemplateHelper.reconstructFineGrainedLineages(
+              root.get(spec.getFineGrainedLineagesField())));
+    }
+  }
+
+  /** Same as {@link ArrayMergingTemplate#arrayFieldToMap}. */
+  private static Map<String, Object> arrayToMap(@Nullable Object array, List<String> keyFields) {
+    final Map<String, Object> mapped = new LinkedHashMap<>();
+    if (!(array instanceof List)) {
+      return mapped;
+    }
+    for (Object element : (List<?>) array) {
+      if (keyFields.isEmpty()) {
+        mapped.put(element instanceof String ? (String) element : "", element);
+        continue;
+      }
+      Map<String, Object> elementMap = asMap(element);
+      Map<String, Object> keyValue = mapped;
+      for (String keyField : keyFields) {
+        keyValue = child(keyValue, keyOf(elementMap, keyField));
+      }
+      keyValue.putAll(elementMap);
+    }
+    return mapped;
+  }
+
+  private static String keyOf(Map<String, Object> element, String keyField) {
+    if (!keyField.contains(ArrayMergingTemplate.UNIT_SEPARATOR_DELIMITER)) {
+      Object key = element.get(keyField);
+      return key != null ? textOf(key) : "";
+    }
+    // Nested key, any missing part of the path yields an empty key
+    String[] keyParts = keyField.split(ArrayMergingTemplate.UNIT_SEPARATOR_DELIMITER);
+    if (keyParts.length == 0) {
+      throw new UnsupportedPatchException("Invalid key field " + keyField);
+    }
+    Object keyObject = element;
+    for (String keyPart : keyParts) {
+      if (!(keyObject instanceof Map)) {
+        return "";
+      }
+      keyObject = ((Map<?, ?>) keyObject).get(keyPart);
+    }
+    return keyObject != null ? textOf(keyObject) : "";
+  }
+
+  /** Same as {@link ArrayMergingTemplate#mergeToArray}. */
+  private static void mergeToArray(Object node, int depth, List<Object> array) {
+    if (depth == 0) {
+      array.add(node);
+    } else if (node instanceof Map) {
+      for (Object value : ((Map<?, ?>) node).values()) {
+        mergeToArray(value, depth - 1, array);
+      }
+    } else if (node instanceof List) {
+      for (Object value : (List<?>) node) {
+        mergeToArray(value, depth - 1, array);
+      }
+    }
+  }
+
+  /** Same as {@link TemplateUtil#populateTopLevelKeys}, on the already transformed tree. */
+  private static void populateTopLevelKeys(Map<String, Object> root, List<Operation> operations) {
+    for (Operation operation : operations) {
+      String[] keys = operation.path.split("/");
+      int endIdx = REMOVE.equals(operation.op) ? keys.length : keys.length - 1;
+      Object parent = root;
+      for (int i = 1; i < endIdx; i++) {
+        Map<String, Object> map = asMap(parent);
+        String key = keys[i].replace("~1", "/").replace("~0", "~");
+        map.putIfAbsent(key, new LinkedHashMap<String, Object>());
+        parent = map.get(key);
+      }
+    }
+  }
+
+  private static List<Operation> parseOperations(JsonPatch jsonPatch) {
+    List<Operation> operations = new ArrayList<>();
+    for (JsonValue value : jsonPatch.toJsonArray()) {
+      if (!(value instanceof JsonObject)) {
+        throw new UnsupportedPatchException("Patch operation is not an object");
+      }
+      JsonObject operation = (JsonObject) value;
+      String op = stringOf(operation.get("op"));
+      String path = stringOf(operation.get("path"));
+      if (!ADD.equals(op) && !REMOVE.equals(op)) {
+        throw new UnsupportedPatchException("Unsupported operation " + op);
+      }
+      if (ADD.equals(op) && !operation.containsKey("value")) {
+        throw new UnsupportedPatchException("Missing value for " + path);
+      }
+      operations.add(new Operation(op, path, operation.get("value")));
+    }
+    return operations;
+  }
+
+  private static String stringOf(@Nullable JsonValue value) {
+    if (value instanceof JsonString) {
+      return ((JsonString) value).getString();
+    }
+    throw new UnsupportedPatchException("Expected a string, got " + value);
+  }
+
+  private static final class Operation {
+    private final String op;
+    private final String path;
+    @Nullable private final JsonValue value;
+
+    private Operation(String op, String path, @Nullable JsonValue value) {
+      this.op = op;
+      this.path = path;
+      this.value = value;
+    }
+
+    /** Applies the operation as jakarta.json would on the equivalent JSON document. */
+    private void apply(Map<String, Object> root) {
+      if (!path.startsWith("/")) {
+        throw new UnsupportedPatchException("Invalid path " + path);
+      }
+      String[] tokens = path.substring(1).split("/", -1);
+      Object parent = root;
+      for (int i = 0; i < tokens.length - 1; i++) {
+        parent = get(parent, decode(tokens[i]));
+      }
+      String leaf = decode(tokens[tokens.length - 1]);
+
+      if (parent instanceof Map) {
+        Map<String, Object> map = asMap(parent);
+        if (ADD.equals(op)) {
+          map.put(leaf, fromJson(value));
+        } else if (map.remove(leaf) == null) {
+          throw new UnsupportedPatchException("Nothing to remove at " + path);
+        }
+      } else if (parent instanceof List) {
+        @SuppressWarnings("unchecked")
+        List<Object> list = (List<Object>) parent;
+        if (ADD.equals(op)) {
+          list.add("-".equals(leaf) ? list.size() : index(leaf, list.size() + 1), fromJson(value));
+        } else {
+          list.remove(index(leaf, list.size()));
+        }
+      } else {
+        throw new UnsupportedPatchException("Cannot " + op + " at " + path);
+      }
+    }
+
+    private static Object get(Object parent, String token) {
+      Object child = null;
+      if (parent instanceof Map) {
+        child = ((Map<?, ?>) parent).get(token);
+      } else if (parent instanceof List) {
+        List<?> list = (List<?>) parent;
+        child = list.get(index(token, list.size()));
+      }
+      if (child == null) {
+        throw new UnsupportedPatchException("Missing " + token);
+      }
+      return child;
+    }
+
+    private static int index(String token, int bound) {
+      boolean valid =
+          !token.isEmpty()
+              && token.length() < 10
+              && token.chars().allMatch(Character::isDigit)
+              && (token.length() == 1 || token.charAt(0) != '0');
+      int index = valid ? Integer.parseInt(token) : -1;
+      if (index < 0 || index >= bound) {
+        throw new UnsupportedPatchException("Invalid array index " + token);
+      }
+      return index;
+    }
+
+    private static String decode(String token) {
+      for (int i = token.indexOf('~'); i >= 0; i = token.indexOf('~', i + 1)) {
+        if (i + 1 >= token.length() || (token.charAt(i + 1) != '0' && token.charAt(i + 1) != '1')) {
+          throw new UnsupportedPatchException("Invalid escape in " + token);
+        }
+      }
+      return token.replace("~1", "/").replace("~0", "~");
+    }
+  }
+
+  /** Child object of the map, created if missing. */
+  static Map<String, Object> child(Map<String, Object> parent, String key) {
+    Object child = parent.get(key);
+    if (child == null) {
+      child = new LinkedHashMap<String, Object>();
+      parent.put(key, child);
+    }
+    return asMap(child);
+  }
+
+  @SuppressWarnings("unchecked")
+  static Map<String, Object> asMap(@Nullable Object value) {
+    if (value instanceof Map) {
+      return (Map<String, Object>) value;
+    }
+    throw new UnsupportedPatchException("Expected an object, got " + value);
+  }
+
+  /** Text of a value as given by Jackson's {@code JsonNode#asText()}. */
+  static String textOf(Object value) {
+    if (value instanceof String) {
+      return (String) value;
+    }
+    if (value instanceof Map || value instanceof List) {
+      return "";
+    }
+    if (value == Data.NULL) {
+      return "null";
+    }
+    if (value instanceof Integer
+        || value instanceof Long
+        || value instanceof Float
+        || value instanceof Double
+        || value instanceof Boolean) {
+      return value.toString();
+    }
+    throw new UnsupportedPatchException("Unexpected value " + value);
+  }
+
+  /** Value of a number as given by Jackson's {@code JsonNode#floatValue()}. */
+  static float floatOf(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).floatValue();
+    }
+    throw new UnsupportedPatchException("Expected a number, got " + value);
+  }
+
+  /**
+   * Copies the data into plain maps and lists, with numbers normalized as they come out of a JSON
+   * round trip: floats become doubles and longs which fit become integers.
+   */
+  private static Object fromData(Object value) {
+    if (value instanceof DataMap) {
+      DataMap dataMap = (DataMap) value;
+      Map<String, Object> map = new LinkedHashMap<>(dataMap.size() * 2);
+      for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+        map.put(entry.getKey(), fromData(entry.getValue()));
+      }
+      return map;
+    }
+    if (value instanceof DataList) {
+      DataList dataList = (DataList) value;
+      List<Object> list = new ArrayList<>(dataList.size());
+      for (Object item : dataList) {
+        list.add(fromData(item));
+      }
+      return list;
+    }
+    if (value instanceof ByteString) {
+      return ((ByteString) value).asAvroString();
+    }
+    return normalizeNumber(value);
+  }
+
+  private static Object toData(Object value) {
+    if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      DataMap dataMap = new DataMap(map.size() * 2);
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        dataMap.put((String) entry.getKey(), toData(entry.getValue()));
+      }
+      return dataMap;
+    }
+    if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      DataList dataList = new DataList(list.size());
+      for (Object item : list) {
+        dataList.add(toData(item));
+      }
+      return dataList;
+    }
+    return normalizeNumber(value);
+  }
+
+  private static Object normalizeNumber(Object value) {
+    if (value instanceof Long) {
+      long longValue = (Long) value;
+      return longValue == (int) longValue ? (Object) (int) longValue : value;
+    }
+    if (value instanceof Float) {
+      // Jackson writes the shortest representation of the float, which is then read as a double
+      return checkFinite(Double.parseDouble(value.toString()));
+    }
+    if (value instanceof Double) {
+      return checkFinite((Double) value);
+    }
+    return value;
+  }
+
+  private static Double checkFinite(Double value) {
+    if (value.isNaN() || value.isInfinite()) {
+      throw new UnsupportedPatchException("Non finite number " + value);
+    }
+    return value;
+  }
+
+  /** Converts a patch value the way Jackson would read its JSON text. */
+  private static Object fromJson(@Nullable JsonValue value) {
+    if (value == null) {
+      throw new UnsupportedPatchException("Missing value");
+    }
+    switch (value.getValueType()) {
+      case OBJECT:
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+          map.put(entry.getKey(), fromJson(entry.getValue()));
+        }
+        return map;
+      case ARRAY:
+        List<Object> list = new ArrayList<>();
+        for (JsonValue item : value.asJsonArray()) {
+          list.add(fromJson(item));
+        }
+        return list;
+      case STRING:
+        return ((JsonString) value).getString();
+      case NUMBER:
+        return fromNumber(((JsonNumber) value).toString());
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      default:
+        return Data.NULL;
+    }
+  }
+
+  private static Object fromNumber(String text) {
+    if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+      // Integral literal: int if it fits, then long, Jackson would use BigInteger beyond
+      try {
+        return normalizeNumber(Long.parseLong(text));
+      } catch (NumberFormatException e) {
+        throw new UnsupportedPatchException("Integer out of range " + text);
+      }
+    }
+    return checkFinite(Double.parseDouble(text));
+  }
+}
@@ -2,6 +2,10 @@ package com.linkedin.metadata.aspect.patch.template;
 
 import static com.fasterxml.jackson.databind.node.JsonNodeFactory.*;
 import static com.linkedin.metadata.Constants.*;
+import static com.linkedin.metadata.aspect.patch.template.DataMapPatcher.asMap;
+import static com.linkedin.metadata.aspect.patch.template.DataMapPatcher.child;
+import static com.linkedin.metadata.aspect.patch.template.DataMapPatcher.floatOf;
+import static com.linkedin.metadata.aspect.patch.template.DataMapPatcher.textOf;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -9,6 +13,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Streams;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher.UnsupportedPatchException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -279,4 +288,157 @@ public class FineGrainedLineageTemplateHelper {
     }
     upstreams.add(instance.textNode(upstream));
   }
+
+  /**
+   * {@link #combineAndTransformFineGrainedLineages} on the plain maps and lists of the {@link
+   * DataMapPatcher}.
+   */
+  static Map<String, Object> combineFineGrainedLineages(@Nullable Object fineGrainedLineages) {
+    Map<String, Object> mapNode = new LinkedHashMap<>();
+    if (!(fineGrainedLineages instanceof List) || ((List<?>) fineGrainedLineages).isEmpty()) {
+      return mapNode;
+    }
+    for (Object element : (List<?>) fineGrainedLineages) {
+      Map<String, Object> node = asMap(element);
+      String transformationOperation =
+          node.containsKey(FINE_GRAINED_TRANSFORMATION_OPERATION)
+              ? textOf(node.get(FINE_GRAINED_TRANSFORMATION_OPERATION))
+              : NONE_TRANSFORMATION_TYPE;
+      Map<String, Object> transformationOperationNode = child(mapNode, transformationOperation);
+
+      Object downstreams = node.get(FINE_GRAINED_DOWNSTREAMS);
+      if (!(downstreams instanceof List) || ((List<?>) downstreams).size() != 1) {
+        throw new UnsupportedPatchException("Fine grained lineage without a single downstream");
+      }
+
+      float confidenceScore =
+          node.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)
+              ? floatOf(node.get(FINE_GRAINED_CONFIDENCE_SCORE))
+              : DEFAULT_CONFIDENCE_SCORE;
+      String upstreamType =
+          node.containsKey(FINE_GRAINED_UPSTREAM_TYPE)
+              ? textOf(node.get(FINE_GRAINED_UPSTREAM_TYPE))
+              : null;
+      String downstreamType =
+          node.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)
+              ? textOf(node.get(FINE_GRAINED_DOWNSTREAM_TYPE))
+              : FINE_GRAINED_LINEAGE_FIELD_TYPE;
+      List<?> upstreams = null;
+      if (node.containsKey(FINE_GRAINED_UPSTREAMS)) {
+        if (!(node.get(FINE_GRAINED_UPSTREAMS) instanceof List)) {
+          throw new UnsupportedPatchException("Fine grained lineage upstreams is not an array");
+        }
+        upstreams = (List<?>) node.get(FINE_GRAINED_UPSTREAMS);
+      }
+      String queryId =
+          node.containsKey(FINE_GRAINED_QUERY_ID)
+              ? textOf(node.get(FINE_GRAINED_QUERY_ID))
+              : DEFAULT_QUERY_ID;
+
+      if (upstreamType == null) {
+        Urn upstreamUrn = upstreams != null ? parseUrn(upstreams) : null;
+        upstreamType =
+            upstreamUrn != null && DATASET_ENTITY_NAME.equals(upstreamUrn.getEntityType())
+                ? FINE_GRAINED_LINEAGE_DATASET_TYPE
+                : FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+      }
+
+      Map<String, Object> downstreamRootNode =
+          child(transformationOperationNode, textOf(((List<?>) downstreams).get(0)));
+      Map<String, Object> queryNode = child(downstreamRootNode, queryId);
+      if (upstreams != null) {
+        final String finalUpstreamType = upstreamType;
+        // Collected into a HashMap first to keep the ordering of addUrnsToParent
+        queryNode.putAll(
+            upstreams.stream()
+                .map(DataMapPatcher::textOf)
+                .distinct()
+                .collect(
+                    Collectors.toMap(
+                        urn -> urn,
+                        urn ->
+                            lineageValue(confidenceScore, finalUpstreamType, downstreamType))));
+      }
+    }
+    return mapNode;
+  }
+
+  private static Urn parseUrn(List<?> upstreams) {
+    if (upstreams.isEmpty()) {
+      throw new UnsupportedPatchException("Fine grained lineage without upstreams");
+    }
+    try {
+      return UrnUtils.getUrn(textOf(upstreams.get(0)));
+    } catch (RuntimeException e) {
+      throw new UnsupportedPatchException("Invalid upstream urn " + upstreams.get(0));
+    }
+  }
+
+  private static Map<String, Object> lineageValue(
+      float confidenceScore, String upstreamType, String downstreamType) {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put(FINE_GRAINED_CONFIDENCE_SCORE, confidenceScore);
+    value.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+    value.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+    return value;
+  }
+
+  /**
+   * {@link #reconstructFineGrainedLineages(JsonNode)} on the plain maps and lists of the {@link
+   * DataMapPatcher}.
+   */
+  static Object reconstructFineGrainedLineages(@Nullable Object transformedFineGrainedLineages) {
+    if (transformedFineGrainedLineages instanceof List) {
+      return transformedFineGrainedLineages;
+    }
+    List<Object> fineGrainedLineages = new ArrayList<>();
+    for (Map.Entry<String, Object> transformationOperation :
+        asMap(transformedFineGrainedLineages).entrySet()) {
+      for (Map.Entry<String, Object> downstream :
+          asMap(transformationOperation.getValue()).entrySet()) {
+        for (Map.Entry<String, Object> query : asMap(downstream.getValue()).entrySet()) {
+          Map<String, Object> queryNode = asMap(query.getValue());
+          if (queryNode.isEmpty()) {
+            continue;
+          }
+          float minimumConfidenceScore = DEFAULT_CONFIDENCE_SCORE;
+          String upstreamType = FINE_GRAINED_LINEAGE_FIELD_SET_TYPE;
+          String downstreamType = FINE_GRAINED_LINEAGE_FIELD_TYPE;
+          List<Object> upstreams = new ArrayList<>();
+          for (Map.Entry<String, Object> upstream : queryNode.entrySet()) {
+            Map<String, Object> upstreamNode = asMap(upstream.getValue());
+            if (upstreamNode.containsKey(FINE_GRAINED_CONFIDENCE_SCORE)) {
+              float scoreValue = floatOf(upstreamNode.get(FINE_GRAINED_CONFIDENCE_SCORE));
+              if (scoreValue <= minimumConfidenceScore) {
+                minimumConfidenceScore = scoreValue;
+              }
+            }
+            if (upstreamNode.containsKey(FINE_GRAINED_UPSTREAM_TYPE)) {
+              upstreamType = textOf(upstreamNode.get(FINE_GRAINED_UPSTREAM_TYPE));
+            }
+            if (upstreamNode.containsKey(FINE_GRAINED_DOWNSTREAM_TYPE)) {
+              downstreamType = textOf(upstreamNode.get(FINE_GRAINED_DOWNSTREAM_TYPE));
+            }
+            upstreams.add(upstream.getKey());
+          }
+
+          Map<String, Object> fineGrainedLineage = new LinkedHashMap<>();
+          List<Object> downstreams = new ArrayList<>();
+          downstreams.add(downstream.getKey());
+          fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAMS, downstreams);
+          fineGrainedLineage.put(FINE_GRAINED_UPSTREAMS, upstreams);
+          if (StringUtils.isNotBlank(query.getKey()) && !DEFAULT_QUERY_ID.equals(query.getKey())) {
+            fineGrainedLineage.put(FINE_GRAINED_QUERY_ID, query.getKey());
+          }
+          fineGrainedLineage.put(FINE_GRAINED_UPSTREAM_TYPE, upstreamType);
+          fineGrainedLineage.put(FINE_GRAINED_DOWNSTREAM_TYPE, downstreamType);
+          fineGrainedLineage.put(FINE_GRAINED_CONFIDENCE_SCORE, minimumConfidenceScore);
+          fineGrainedLineage.put(
+              FINE_GRAINED_TRANSFORMATION_OPERATION, transformationOperation.getKey());
+          fineGrainedLineages.add(fineGrainedLineage);
+        }
+      }
+    }
+    return fineGrainedLineages;
+  }
 }
@@ -11,7 +11,9 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonPatch;
 import java.io.StringReader;
+import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public interface Template<T extends RecordTemplate> {
 
@@ -51,6 +53,10 @@ public interface Template<T extends RecordTemplate> {
   default T applyPatch(RecordTemplate recordTemplate, JsonPatch jsonPatch)
       throws JsonProcessingException {
     TemplateUtil.validatePatch(jsonPatch);
+    Optional<T> nativelyPatched = DataMapPatcher.applyPatch(this, recordTemplate, jsonPatch);
+    if (nativelyPatched.isPresent()) {
+      return nativelyPatched.get();
+    }
 
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
     try {
@@ -70,6 +76,18 @@ public interface Template<T extends RecordTemplate> {
     }
   }
 
+  /**
+   * Describes {@link #transformFields} and {@link #rebaseFields} for the {@link DataMapPatcher},
+   * which then applies patches without converting the aspect to JSON. Must produce the same aspect
+   * as the JSON transformations.
+   *
+   * @return the spec, null if this template is only supported by the JSON engine
+   */
+  @Nullable
+  default DataMapPatcher.Spec getDataMapPatchSpec() {
+    return null;
+  }
+
   /**
    * Returns a json representation of the template, modified for template based operations to be
    * compatible with patch semantics.
@@ -11,6 +11,7 @@ import com.linkedin.common.EdgeArray;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -20,6 +21,12 @@ public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
   private static final String INPUTS_FIELD_NAME = "inputs";
   private static final String DESTINATION_URN_FIELD_NAME = "destinationUrn";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(INPUT_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(INPUTS_FIELD_NAME, Collections.emptyList())
+          .build();
+
   @Override
   public ChartInfo getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof ChartInfo) {
@@ -54,6 +61,11 @@ public class ChartInfoTemplate implements ArrayMergingTemplate<ChartInfo> {
     return chartInfo;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
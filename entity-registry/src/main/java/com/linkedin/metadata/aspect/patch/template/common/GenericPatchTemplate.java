@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.GenericJsonPatch;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,13 @@ public class GenericPatchTemplate<T extends RecordTemplate> extends CompoundKeyT
     return templateDefault;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DataMapPatcher.Spec.builder()
+        .keyedArrays(genericJsonPatch.getArrayPrimaryKeys())
+        .build();
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(final JsonNode baseNode) {
@@ -5,6 +5,7 @@ import com.linkedin.common.GlobalTags;
 import com.linkedin.common.TagAssociationArray;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -13,6 +14,11 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
   private static final String TAGS_FIELD_NAME = "tags";
   private static final String TAG_FIELD_NAME = "tag";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(TAGS_FIELD_NAME, Collections.singletonList(TAG_FIELD_NAME))
+          .build();
+
   @Override
   public GlobalTags getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof GlobalTags) {
@@ -35,6 +41,11 @@ public class GlobalTagsTemplate implements ArrayMergingTemplate<GlobalTags> {
     return globalTags;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -9,6 +9,7 @@ import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Arrays;
 import javax.annotation.Nonnull;
 
@@ -18,6 +19,11 @@ public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
   private static final String OWNER_FIELD_NAME = "owner";
   private static final String TYPE_FIELD_NAME = "type";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(OWNERS_FIELD_NAME, Arrays.asList(OWNER_FIELD_NAME, TYPE_FIELD_NAME))
+          .build();
+
   @Override
   public Ownership getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof Ownership) {
@@ -44,6 +50,11 @@ public class OwnershipTemplate extends CompoundKeyTemplate<Ownership> {
     return ownership;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
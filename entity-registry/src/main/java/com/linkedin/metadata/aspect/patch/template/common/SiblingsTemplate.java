@@ -5,6 +5,7 @@ import com.linkedin.common.Siblings;
 import com.linkedin.common.UrnArray;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -22,6 +23,11 @@ public class SiblingsTemplate implements ArrayMergingTemplate<Siblings> {
 
   private static final String SIBLINGS_FIELD_NAME = "siblings";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(SIBLINGS_FIELD_NAME, Collections.emptyList())
+          .build();
+
   @Override
   public Siblings getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof Siblings) {
@@ -44,6 +50,11 @@ public class SiblingsTemplate implements ArrayMergingTemplate<Siblings> {
     return siblings;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -3,6 +3,7 @@ package com.linkedin.metadata.aspect.patch.template.common;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.structured.StructuredProperties;
 import com.linkedin.structured.StructuredPropertyValueAssignmentArray;
 import java.util.Collections;
@@ -13,6 +14,11 @@ public class StructuredPropertiesTemplate implements ArrayMergingTemplate<Struct
   private static final String PROPERTIES_FIELD_NAME = "properties";
   private static final String URN_FIELD_NAME = "propertyUrn";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(PROPERTIES_FIELD_NAME, Collections.singletonList(URN_FIELD_NAME))
+          .build();
+
   //  private static final String AUDIT_STAMP_FIELD = "auditStamp";
   //  private static final String TIME_FIELD = "time";
   //  private static final String ACTOR_FIELD = "actor";
@@ -40,6 +46,11 @@ public class StructuredPropertiesTemplate implements ArrayMergingTemplate<Struct
     return structuredProperties;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -3,6 +3,7 @@ package com.linkedin.metadata.aspect.patch.template.common;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.common.VersionProperties;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.Template;
 import javax.annotation.Nonnull;
 
@@ -10,6 +11,9 @@ public class VersionPropertiesTemplate implements Template<VersionProperties> {
 
   public static final String IS_LATEST_FIELD = "isLatest";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder().build();
+
   @Override
   public VersionProperties getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof VersionProperties) {
@@ -30,6 +34,11 @@ public class VersionPropertiesTemplate implements Template<VersionProperties> {
         "Unable to generate default version properties, no sensible default for " + "version set.");
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
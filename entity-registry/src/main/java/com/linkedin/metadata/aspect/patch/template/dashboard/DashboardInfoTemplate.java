@@ -12,6 +12,7 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.dashboard.DashboardInfo;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -24,6 +25,16 @@ public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo
   private static final String DESTINATION_URN_FIELD_NAME = "destinationUrn";
   private static final String DASHBOARDS_FIELD_NAME = "dashboards";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(CHART_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(
+              DATASET_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(DASHBOARDS_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(DATASETS_FIELD_NAME, Collections.emptyList())
+          .keyedArray(CHARTS_FIELD_NAME, Collections.emptyList())
+          .build();
+
   @Override
   public DashboardInfo getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DashboardInfo) {
@@ -60,6 +71,11 @@ public class DashboardInfoTemplate implements ArrayMergingTemplate<DashboardInfo
     return dashboardInfo;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -4,11 +4,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datajob.DataFlowInfo;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.Template;
 import javax.annotation.Nonnull;
 
 public class DataFlowInfoTemplate implements Template<DataFlowInfo> {
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder().build();
+
   @Override
   public DataFlowInfo getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DataFlowInfo) {
@@ -31,6 +35,11 @@ public class DataFlowInfoTemplate implements Template<DataFlowInfo> {
     return dataFlowInfo;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
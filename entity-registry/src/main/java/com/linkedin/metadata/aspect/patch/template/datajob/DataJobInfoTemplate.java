@@ -4,11 +4,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.datajob.DataJobInfo;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.Template;
 import javax.annotation.Nonnull;
 
 public class DataJobInfoTemplate implements Template<DataJobInfo> {
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder().build();
+
   @Override
   public DataJobInfo getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DataJobInfo) {
@@ -31,6 +35,11 @@ public class DataJobInfoTemplate implements Template<DataJobInfo> {
     return dataJobInfo;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -13,6 +13,7 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.datajob.DataJobInputOutput;
 import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.FineGrainedLineageTemplateHelper;
 import java.util.Collections;
 import javax.annotation.Nonnull;
@@ -30,6 +31,21 @@ public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobI
 
   private static final String FINE_GRAINED_LINEAGES_FIELD_NAME = "fineGrainedLineages";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(
+              INPUT_DATA_JOB_EDGES_FIELD_NAME,
+              Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(
+              INPUT_DATASET_EDGES_FIELD_NAME, Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(
+              OUTPUT_DATASET_EDGES_FIELD_NAME,
+              Collections.singletonList(DESTINATION_URN_FIELD_NAME))
+          .keyedArray(INPUT_DATASET_FIELDS_FIELD_NAME, Collections.emptyList())
+          .keyedArray(OUTPUT_DATASET_FIELDS_FIELD_NAME, Collections.emptyList())
+          .fineGrainedLineagesField(FINE_GRAINED_LINEAGES_FIELD_NAME)
+          .build();
+
   @Override
   public DataJobInputOutput getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DataJobInputOutput) {
@@ -62,6 +78,11 @@ public class DataJobInputOutputTemplate implements ArrayMergingTemplate<DataJobI
     return dataJobInputOutput;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -5,6 +5,7 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.dataproduct.DataProductAssociationArray;
 import com.linkedin.dataproduct.DataProductProperties;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -13,6 +14,11 @@ public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataP
   public static final String ASSETS_FIELD_NAME = "assets";
   public static final String KEY_FIELD_NAME = "destinationUrn";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(ASSETS_FIELD_NAME, Collections.singletonList(KEY_FIELD_NAME))
+          .build();
+
   @Override
   public DataProductProperties getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DataProductProperties) {
@@ -34,6 +40,11 @@ public class DataProductPropertiesTemplate implements ArrayMergingTemplate<DataP
     return dataProductProperties;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -6,6 +6,7 @@ import com.linkedin.data.template.StringArray;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.metadata.aspect.patch.template.ArrayMergingTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import java.util.Collections;
 import javax.annotation.Nonnull;
 
@@ -13,6 +14,9 @@ public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetPr
 
   private static final String TAGS_FIELD_NAME = "tags";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder().keyedArray(TAGS_FIELD_NAME, Collections.emptyList()).build();
+
   @Override
   public DatasetProperties getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof DatasetProperties) {
@@ -36,6 +40,11 @@ public class DatasetPropertiesTemplate implements ArrayMergingTemplate<DatasetPr
     return datasetProperties;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -9,6 +9,7 @@ import com.linkedin.dataset.FineGrainedLineageArray;
 import com.linkedin.dataset.UpstreamArray;
 import com.linkedin.dataset.UpstreamLineage;
 import com.linkedin.metadata.aspect.patch.template.CompoundKeyTemplate;
+import com.linkedin.metadata.aspect.patch.template.DataMapPatcher;
 import com.linkedin.metadata.aspect.patch.template.FineGrainedLineageTemplateHelper;
 import java.util.Collections;
 import javax.annotation.Nonnull;
@@ -20,6 +21,12 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
   private static final String DATASET_FIELD_NAME = "dataset";
   private static final String FINE_GRAINED_LINEAGES_FIELD_NAME = "fineGrainedLineages";
 
+  private static final DataMapPatcher.Spec DATA_MAP_PATCH_SPEC =
+      DataMapPatcher.Spec.builder()
+          .keyedArray(UPSTREAMS_FIELD_NAME, Collections.singletonList(DATASET_FIELD_NAME))
+          .fineGrainedLineagesField(FINE_GRAINED_LINEAGES_FIELD_NAME)
+          .build();
+
   @Override
   public UpstreamLineage getSubtype(RecordTemplate recordTemplate) throws ClassCastException {
     if (recordTemplate instanceof UpstreamLineage) {
@@ -43,6 +50,11 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
     return upstreamLineage;
   }
 
+  @Override
+  public DataMapPatcher.Spec getDataMapPatchSpec() {
+    return DATA_MAP_PATCH_SPEC;
+  }
+
   @Nonnull
   @Override
   public JsonNode transformFields(JsonNode baseNode) {
@@ -4,6 +4,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
+import com.linkedin.metadata.models.extractor.FieldExtractionPlan;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,9 @@ public class AspectSpec {
   private final Map<String, SearchableRefFieldSpec> _searchableRefFieldSpecs;
   private final Map<String, UrnValidationFieldSpec> _urnValidationFieldSpecs;
 
+  // Derived from the field specs above
+  @EqualsAndHashCode.Exclude private final FieldExtractionPlan _fieldExtractionPlan;
+
   // Classpath & Pegasus-specific: Temporary.
   private final RecordDataSchema _schema;
   private final Class<RecordTemplate> _aspectClass;
@@ -85,6 +89,7 @@ public class AspectSpec {
                     spec -> spec.getPath().toString(), spec -> spec, (val1, val2) -> val1));
     _schema = schema;
     _aspectClass = aspectClass;
+    _fieldExtractionPlan = FieldExtractionPlan.compile(this);
   }
 
   public String getName() {
@@ -151,6 +156,11 @@ public class AspectSpec {
     return new ArrayList<>(_timeseriesFieldCollectionSpecs.values());
   }
 
+  /** Single traversal extraction of the values of the field specs of the aspect. */
+  public FieldExtractionPlan getFieldExtractionPlan() {
+    return _fieldExtractionPlan;
+  }
+
   public RecordDataSchema getPegasusSchema() {
     return _schema;
   }
@@ -0,0 +1,371 @@
+package com.linkedin.metadata.models.extractor;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.template.AbstractArrayTemplate;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.UnionTemplate;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.FieldSpec;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Extraction of the values of a set of {@link FieldSpec}s, compiled once per {@link AspectSpec}.
+ *
+ * <p>The paths of all the specs are merged into a tree: a path prefix shared by several specs is
+ * read once and the elements of an array are visited once for all the specs below it, instead of
+ * once per spec. Field getters are resolved once per node and record class. The extracted values
+ * are the ones {@link FieldExtractor#extractFields(RecordTemplate, List, int, boolean)} returns,
+ * i.e. {@link RecordUtils#getFieldValue(Object, PathSpec)} followed by the flattening of nested
+ * arrays.
+ */
+public final class FieldExtractionPlan {
+
+  private static final String ARRAY_WILDCARD = "*";
+  // Marks a spec without any value, null is never a value
+  private static final Object ABSENT = new Object();
+
+  private final List<FieldSpec> fieldSpecs;
+  private final long[] numArrayWildcards;
+  private final int[] specKinds;
+  private final List<Class<?>> kinds;
+  private final Node root;
+
+  private FieldExtractionPlan(@Nonnull List<FieldSpec> fieldSpecs) {
+    this.fieldSpecs = fieldSpecs;
+    this.numArrayWildcards = new long[fieldSpecs.size()];
+    this.specKinds = new int[fieldSpecs.size()];
+    this.kinds = new ArrayList<>();
+    this.root = new Node(null, "");
+    for (int i = 0; i < fieldSpecs.size(); i++) {
+      final FieldSpec fieldSpec = fieldSpecs.get(i);
+      if (!kinds.contains(fieldSpec.getClass())) {
+        kinds.add(fieldSpec.getClass());
+      }
+      specKinds[i] = 1 << kinds.indexOf(fieldSpec.getClass());
+      numArrayWildcards[i] = FieldExtractor.getNumArrayWildcards(fieldSpec.getPath());
+      root.add(fieldSpec.getPath().getPathComponents(), 0, i, specKinds[i]);
+    }
+    root.seal();
+  }
+
+  /**
+   * Compiles the plan of the searchable, searchable ref, search score, relationship and timeseries
+   * field specs of the aspect.
+   */
+  @Nonnull
+  public static FieldExtractionPlan compile(@Nonnull AspectSpec aspectSpec) {
+    final List<FieldSpec> fieldSpecs = new ArrayList<>();
+    fieldSpecs.addAll(aspectSpec.getSearchableFieldSpecs());
+    fieldSpecs.addAll(aspectSpec.getSearchableRefFieldSpecs());
+    fieldSpecs.addAll(aspectSpec.getSearchScoreFieldSpecs());
+    fieldSpecs.addAll(aspectSpec.getRelationshipFieldSpecs());
+    fieldSpecs.addAll(aspectSpec.getTimeseriesFieldSpecs());
+    fieldSpecs.addAll(aspectSpec.getTimeseriesFieldCollectionSpecs());
+    return compile(fieldSpecs);
+  }
+
+  @Nonnull
+  public static FieldExtractionPlan compile(@Nonnull Collection<? extends FieldSpec> fieldSpecs) {
+    return new FieldExtractionPlan(new ArrayList<>(fieldSpecs));
+  }
+
+  /**
+   * Extracts the value of every spec of the given types in a single traversal of the record.
+   *
+   * @param record the record to extract from, all specs are empty when null
+   * @param specTypes the {@link FieldSpec} classes to extract, the other specs are not visited
+   * @param maxValueLength values of map fields this long or longer are left out
+   * @param requiredFieldExtract whether a null record is an error
+   * @return the extracted values keyed by spec, an empty list for specs without a value
+   */
+  @Nonnull
+  public Map<FieldSpec, List<Object>> extract(
+      @Nullable RecordTemplate record,
+      @Nonnull Set<Class<? extends FieldSpec>> specTypes,
+      int maxValueLength,
+      boolean requiredFieldExtract) {
+    int mask = 0;
+    for (int k = 0; k < kinds.size(); k++) {
+      for (Class<? extends FieldSpec> specType : specTypes) {
+        if (specType.isAssignableFrom(kinds.get(k))) {
+          mask |= 1 << k;
+        }
+      }
+    }
+    if (mask == 0) {
+      return new HashMap<>();
+    }
+    if (requiredFieldExtract && record == null) {
+      throw new IllegalArgumentException(
+          "Field extraction is required and the RecordTemplate is null");
+    }
+
+    final Object[] values = new Object[fieldSpecs.size()];
+    Arrays.fill(values, ABSENT);
+    if (record != null) {
+      if (root.specs.length > 0) {
+        // Specs with an empty path are the record itself
+        setValue(root.specs, record, values);
+      }
+      applyChildren(root, record, values, mask);
+    }
+
+    final Map<FieldSpec, List<Object>> extractedFields = new HashMap<>();
+    for (int i = 0; i < fieldSpecs.size(); i++) {
+      if ((specKinds[i] & mask) != 0) {
+        extractedFields.put(
+            fieldSpecs.get(i), toValues(values[i], numArrayWildcards[i], maxValueLength));
+      }
+    }
+    return extractedFields;
+  }
+
+  /** Converts the value of a path into the list of field values, see {@link FieldExtractor}. */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  static List<Object> toValues(@Nullable Object value, long numArrayWildcards, int maxValueLength) {
+    if (value == null || value == ABSENT) {
+      return Collections.emptyList();
+    }
+    // Not an array field
+    if (numArrayWildcards == 0) {
+      // For maps, convert it into a list of the form key=value (Filter out long values)
+      if (value instanceof Map) {
+        final List<Object> entries = new ArrayList<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          final String entryValue = entry.getValue().toString();
+          if (entryValue.length() < maxValueLength) {
+            entries.add(entry.getKey().toString() + "=" + entryValue);
+          }
+        }
+        return entries;
+      }
+      return Collections.singletonList(value);
+    }
+    List<Object> valueList = (List<Object>) value;
+    // If the field is a nested list of values, flatten it
+    for (long i = 0; i < numArrayWildcards - 1; i++) {
+      final List<Object> flattened = new ArrayList<>();
+      for (Object nested : valueList) {
+        flattened.addAll((List<Object>) nested);
+      }
+      valueList = flattened;
+    }
+    return valueList;
+  }
+
+  /** Applies the children of the node to the value the node resolved to. */
+  private static void applyChildren(
+      @Nonnull Node node, @Nonnull Object reference, @Nonnull Object[] values, int mask) {
+    if (reference instanceof AbstractArrayTemplate) {
+      // Wildcards are skipped, every other child is applied to each element of the array
+      for (Node child : node.wildcards) {
+        if ((child.kinds & mask) != 0) {
+          apply(child, reference, values, mask);
+        }
+      }
+      applyArray(node.fields, (AbstractArrayTemplate<?>) reference, values, mask);
+    } else {
+      for (Node child : node.children) {
+        if ((child.kinds & mask) != 0) {
+          apply(child, reference, values, mask);
+        }
+      }
+    }
+  }
+
+  private static void apply(
+      @Nonnull Node node, @Nonnull Object reference, @Nonnull Object[] values, int mask) {
+    if (node.wildcard) {
+      setValue(node.specs, reference, values);
+      applyChildren(node, reference, values, mask);
+      return;
+    }
+    final Object value;
+    if (node.numeric) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Array indexing is not supported for %s (%s from %s)",
+              node.part, node.path(), reference));
+    } else if (reference instanceof RecordTemplate) {
+      value = node.getFieldValue((RecordTemplate) reference);
+    } else if (reference instanceof UnionTemplate) {
+      value = getUnionMember((UnionTemplate) reference, node.part);
+    } else if (reference instanceof AbstractArrayTemplate) {
+      applyArray(List.of(node), (AbstractArrayTemplate<?>) reference, values, mask);
+      return;
+    } else {
+      throw new UnsupportedOperationException(
+          String.format("Failed at extracting %s (%s from %s)", node.part, node.path(), reference));
+    }
+    if (value != null) {
+      setValue(node.specs, value, values);
+      applyChildren(node, value, values, mask);
+    }
+  }
+
+  /**
+   * Applies the nodes to every element of the array in a single pass. Each spec below the nodes
+   * gets the list of its values in the elements, elements without a value are left out.
+   */
+  @SuppressWarnings("unchecked")
+  private static void applyArray(
+      @Nonnull List<Node> nodes,
+      @Nonnull AbstractArrayTemplate<?> array,
+      @Nonnull Object[] values,
+      int mask) {
+    boolean any = false;
+    for (Node node : nodes) {
+      if ((node.kinds & mask) != 0) {
+        any = true;
+        for (int spec : node.subtreeSpecs) {
+          values[spec] = array.isEmpty() ? Collections.emptyList() : new ArrayList<>(array.size());
+        }
+      }
+    }
+    if (!any || array.isEmpty()) {
+      return;
+    }
+    final Object[] elementValues = new Object[values.length];
+    for (Object element : array) {
+      for (Node node : nodes) {
+        if ((node.kinds & mask) != 0) {
+          for (int spec : node.subtreeSpecs) {
+            elementValues[spec] = ABSENT;
+          }
+          apply(node, element, elementValues, mask);
+        }
+      }
+      for (Node node : nodes) {
+        if ((node.kinds & mask) != 0) {
+          for (int spec : node.subtreeSpecs) {
+            if (elementValues[spec] != ABSENT) {
+              ((List<Object>) values[spec]).add(elementValues[spec]);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static void setValue(@Nonnull int[] specs, @Nonnull Object value, Object[] values) {
+    for (int spec : specs) {
+      values[spec] = value;
+    }
+  }
+
+  @Nullable
+  private static Object getUnionMember(@Nonnull UnionTemplate union, @Nonnull String memberName) {
+    if (union.data() instanceof DataMap) {
+      return ((DataMap) union.data()).get(memberName);
+    }
+    throw new RuntimeException(
+        String.format(
+            "Failed to extract member from union [%s], member [%s]",
+            union.getClass().getCanonicalName(), memberName));
+  }
+
+  /** A path component shared by all the specs whose path starts with the components above it. */
+  private static final class Node {
+    @Nullable private final Node parent;
+    private final String part;
+    private final boolean wildcard;
+    private final boolean numeric;
+    private final Map<String, Node> childrenByPart = new LinkedHashMap<>();
+    private final List<Integer> specList = new ArrayList<>();
+
+    private List<Node> children;
+    private List<Node> wildcards;
+    private List<Node> fields;
+    // Specs whose path ends here and all the specs below this node
+    private int[] specs;
+    private int[] subtreeSpecs;
+    private int kinds;
+
+    // Getter of the field for the last record class seen here, replaced as a whole
+    private volatile Getter getter;
+
+    private Node(@Nullable Node parent, @Nonnull String part) {
+      this.parent = parent;
+      this.part = part;
+      this.wildcard = ARRAY_WILDCARD.equals(part);
+      this.numeric = StringUtils.isNumeric(part);
+    }
+
+    private void add(List<String> path, int index, int spec, int kind) {
+      kinds |= kind;
+      if (index == path.size()) {
+        specList.add(spec);
+        return;
+      }
+      childrenByPart
+          .computeIfAbsent(path.get(index), childPart -> new Node(this, childPart))
+          .add(path, index + 1, spec, kind);
+    }
+
+    private void seal() {
+      children = List.copyOf(childrenByPart.values());
+      wildcards = children.stream().filter(child -> child.wildcard).collect(Collectors.toList());
+      fields = children.stream().filter(child -> !child.wildcard).collect(Collectors.toList());
+      specs = specList.stream().mapToInt(Integer::intValue).toArray();
+      final List<Integer> subtree = new ArrayList<>(specList);
+      for (Node child : children) {
+        child.seal();
+        Arrays.stream(child.subtreeSpecs).forEach(subtree::add);
+      }
+      subtreeSpecs = subtree.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Nullable
+    private Object getFieldValue(@Nonnull RecordTemplate record) {
+      Getter current = getter;
+      if (current == null || current.recordClass != record.getClass()) {
+        current = new Getter(record.getClass(), RecordUtils.getFieldGetter(record, part));
+        getter = current;
+      }
+      try {
+        return current.method.invoke(record);
+      } catch (NullPointerException | IllegalAccessException | InvocationTargetException e) {
+        throw new RuntimeException(
+            String.format(
+                "Failed to execute method for class [%s], field [%s]",
+                record.getClass().getCanonicalName(), part),
+            e);
+      }
+    }
+
+    private PathSpec path() {
+      final List<String> components = new ArrayList<>();
+      for (Node node = this; node.parent != null; node = node.parent) {
+        components.add(0, node.part);
+      }
+      return new PathSpec(components);
+    }
+  }
+
+  private static final class Getter {
+    private final Class<?> recordClass;
+    @Nullable private final Method method;
+
+    private Getter(@Nonnull Class<?> recordClass, @Nullable Method method) {
+      this.recordClass = recordClass;
+      this.method = method;
+    }
+  }
+}
@@ -6,14 +6,13 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.FieldSpec;
-import com.linkedin.util.Pair;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /** Extracts fields from a RecordTemplate based on the appropriate {@link FieldSpec}. */
@@ -58,43 +57,63 @@ public class FieldExtractor {
       Optional<Object> value =
           Optional.ofNullable(record)
               .flatMap(maybeRecord -> RecordUtils.getFieldValue(maybeRecord, fieldSpec.getPath()));
-      if (!value.isPresent()) {
-        extractedFields.put(fieldSpec, Collections.emptyList());
-      } else {
-        long numArrayWildcards = getNumArrayWildcards(fieldSpec.getPath());
-        // Not an array field
-        if (numArrayWildcards == 0) {
-          // For maps, convert it into a list of the form key=value (Filter out long values)
-          if (value.get() instanceof Map) {
-            extractedFields.put(
-                fieldSpec,
-                ((Map<?, ?>) value.get())
-                    .entrySet().stream()
-                        .map(
-                            entry ->
-                                new Pair<>(entry.getKey().toString(), entry.getValue().toString()))
-                        .filter(entry -> entry.getValue().length() < maxValueLength)
-                        .map(entry -> entry.getKey() + "=" + entry.getValue())
-                        .collect(Collectors.toList()));
-          } else {
-            extractedFields.put(fieldSpec, Collections.singletonList(value.get()));
-          }
-        } else {
-          List<Object> valueList = (List<Object>) value.get();
-          // If the field is a nested list of values, flatten it
-          for (long i = 0; i < numArrayWildcards - 1; i++) {
-            valueList =
-                valueList.stream()
-                    .flatMap(v -> ((List<Object>) v).stream())
-                    .collect(Collectors.toList());
-          }
-          extractedFields.put(fieldSpec, valueList);
-        }
-      }
+      extractedFields.put(
+          fieldSpec,
+          FieldExtractionPlan.toValues(
+              value.orElse(null), getNumArrayWildcards(fieldSpec.getPath()), maxValueLength));
     }
     return extractedFields;
   }
 
+  /**
+   * Extracts the fields of the specs of the given types in a single traversal of the record, using
+   * the {@link FieldExtractionPlan} compiled with the aspect spec. The values are the same as the
+   * ones extracted spec by spec.
+   */
+  public static Map<FieldSpec, List<Object>> extractFields(
+      @Nullable RecordTemplate record,
+      @Nonnull AspectSpec aspectSpec,
+      @Nonnull Set<Class<? extends FieldSpec>> specTypes,
+      int maxValueLength,
+      boolean requiredFieldExtract) {
+    FieldExtractionPlan plan = aspectSpec.getFieldExtractionPlan();
+    if (plan == null) {
+      // Aspect specs which were not built by the registry, e.g. mocks
+      plan = FieldExtractionPlan.compile(aspectSpec);
+    }
+    return plan.extract(record, specTypes, maxValueLength, requiredFieldExtract);
+  }
+
+  public static Map<FieldSpec, List<Object>> extractFields(
+      @Nullable RecordTemplate record,
+      @Nonnull AspectSpec aspectSpec,
+      @Nonnull Set<Class<? extends FieldSpec>> specTypes) {
+    return extractFields(record, aspectSpec, specTypes, MAX_VALUE_LENGTH, false);
+  }
+
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(
+      @Nullable RecordTemplate record,
+      @Nonnull AspectSpec aspectSpec,
+      @Nonnull Class<T> specType,
+      boolean requiredFieldExtract) {
+    return getFields(
+        extractFields(record, aspectSpec, Set.of(specType), MAX_VALUE_LENGTH, requiredFieldExtract),
+        specType);
+  }
+
+  /** Returns the extracted fields of the specs of the given type. */
+  public static <T extends FieldSpec> Map<T, List<Object>> getFields(
+      @Nonnull Map<FieldSpec, List<Object>> extractedFields, @Nonnull Class<T> specType) {
+    final Map<T, List<Object>> fields = new HashMap<>();
+    extractedFields.forEach(
+        (fieldSpec, values) -> {
+          if (specType.isInstance(fieldSpec)) {
+            fields.put(specType.cast(fieldSpec), values);
+          }
+        });
+    return fields;
+  }
+
   public static <T extends FieldSpec> Map<T, List<Object>> extractFieldsFromSnapshot(
       RecordTemplate snapshot,
       EntitySpec entitySpec,
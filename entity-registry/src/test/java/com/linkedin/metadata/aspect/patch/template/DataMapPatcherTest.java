@@ -0,0 +1,412 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.Edge;
+import com.linkedin.common.EdgeArray;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.Owner;
+import com.linkedin.common.OwnerArray;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.OwnershipType;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datajob.DataFlowInfo;
+import com.linkedin.datajob.DataJobInputOutput;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.FineGrainedLineage;
+import com.linkedin.dataset.FineGrainedLineageArray;
+import com.linkedin.dataset.FineGrainedLineageDownstreamType;
+import com.linkedin.dataset.FineGrainedLineageUpstreamType;
+import com.linkedin.dataset.Upstream;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.GenericJsonPatch;
+import com.linkedin.metadata.aspect.patch.template.common.GenericPatchTemplate;
+import com.linkedin.metadata.aspect.patch.template.common.GlobalTagsTemplate;
+import com.linkedin.metadata.aspect.patch.template.common.OwnershipTemplate;
+import com.linkedin.metadata.aspect.patch.template.datajob.DataJobInputOutputTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataflow.DataFlowInfoTemplate;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonPatch;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import org.testng.annotations.Test;
+
+public class DataMapPatcherTest {
+  private static final AuditStamp AUDIT_STAMP =
+      new AuditStamp()
+          .setTime(1700000000000L)
+          .setActor(UrnUtils.getUrn("urn:li:corpuser:datahub"));
+
+  private static String datasetUrn(int i) {
+    return "urn:li:dataset:(urn:li:dataPlatform:hive,table_" + i + ",PROD)";
+  }
+
+  private static String fieldUrn(int table, String field) {
+    return "urn:li:schemaField:(" + datasetUrn(table) + "," + field + ")";
+  }
+
+  private static String encode(String key) {
+    return key.replace("~", "~0").replace("/", "~1");
+  }
+
+  /** Patches natively and through JSON and checks that both produce the same aspect. */
+  private static <T extends RecordTemplate> T assertEquivalent(
+      Template<T> template, RecordTemplate recordTemplate, JsonPatch jsonPatch) throws Exception {
+    Optional<T> nativelyPatched = DataMapPatcher.applyPatch(template, recordTemplate, jsonPatch);
+    assertTrue(nativelyPatched.isPresent(), "Expected the native engine to apply " + jsonPatch);
+    assertEquals(nativelyPatched.get().data(), applyJsonPatch(template, recordTemplate, jsonPatch));
+    return nativelyPatched.get();
+  }
+
+  private static <T extends RecordTemplate> DataMap applyJsonPatch(
+      Template<T> template, RecordTemplate recordTemplate, JsonPatch jsonPatch) throws Exception {
+    DataMapPatcher.setEnabled(false);
+    try {
+      return template.applyPatch(recordTemplate, jsonPatch).data();
+    } finally {
+      DataMapPatcher.setEnabled(true);
+    }
+  }
+
+  private static GlobalTags globalTags(int size) {
+    TagAssociationArray tags = new TagAssociationArray();
+    for (int i = 0; i < size; i++) {
+      tags.add(new TagAssociation().setTag(new TagUrn("tag" + i)).setContext("context" + i));
+    }
+    return new GlobalTags().setTags(tags);
+  }
+
+  private static Ownership ownership(int size) {
+    OwnerArray owners = new OwnerArray();
+    for (int i = 0; i < size; i++) {
+      owners.add(
+          new Owner()
+              .setOwner(UrnUtils.getUrn("urn:li:corpuser:user" + i))
+              .setType(i % 2 == 0 ? OwnershipType.TECHNICAL_OWNER : OwnershipType.BUSINESS_OWNER));
+    }
+    owners.add(
+        new Owner()
+            .setOwner(UrnUtils.getUrn("urn:li:corpuser:user0"))
+            .setType(OwnershipType.DATA_STEWARD));
+    return new Ownership().setOwners(owners).setLastModified(AUDIT_STAMP);
+  }
+
+  private static FineGrainedLineageArray fineGrainedLineages(int size) {
+    FineGrainedLineageArray fineGrainedLineages = new FineGrainedLineageArray();
+    for (int i = 0; i < size; i++) {
+      FineGrainedLineage fineGrainedLineage =
+          new FineGrainedLineage()
+              .setDownstreams(new UrnArray(List.of(UrnUtils.getUrn(fieldUrn(0, "c" + i)))))
+              .setUpstreams(
+                  new UrnArray(
+                      List.of(
+                          UrnUtils.getUrn(fieldUrn(i + 1, "a")),
+                          UrnUtils.getUrn(fieldUrn(i + 1, "b")))))
+              .setUpstreamType(FineGrainedLineageUpstreamType.FIELD_SET)
+              .setDownstreamType(FineGrainedLineageDownstreamType.FIELD)
+              .setConfidenceScore(0.1f * (i % 10))
+              .setTransformOperation(i % 3 == 0 ? "IDENTITY" : "SUM");
+      if (i % 2 == 0) {
+        fineGrainedLineage.setQuery(UrnUtils.getUrn("urn:li:query:q" + i));
+      }
+      fineGrainedLineages.add(fineGrainedLineage);
+    }
+    return fineGrainedLineages;
+  }
+
+  private static UpstreamLineage upstreamLineage(int size) throws Exception {
+    UpstreamArray upstreams = new UpstreamArray();
+    for (int i = 0; i < size; i++) {
+      upstreams.add(
+          new Upstream()
+              .setDataset(DatasetUrn.createFromUrn(UrnUtils.getUrn(datasetUrn(i + 1))))
+              .setType(DatasetLineageType.TRANSFORMED)
+              .setAuditStamp(AUDIT_STAMP));
+    }
+    return new UpstreamLineage()
+        .setUpstreams(upstreams)
+        .setFineGrainedLineages(fineGrainedLineages(size));
+  }
+
+  private static DataJobInputOutput dataJobInputOutput(int size) {
+    EdgeArray edges = new EdgeArray();
+    UrnArray fields = new UrnArray();
+    for (int i = 0; i < size; i++) {
+      edges.add(
+          new Edge().setDestinationUrn(UrnUtils.getUrn(datasetUrn(i))).setCreated(AUDIT_STAMP));
+      fields.add(UrnUtils.getUrn(fieldUrn(i, "f")));
+    }
+    return new DataJobInputOutput()
+        .setInputDatasetEdges(edges)
+        .setInputDatasetFields(fields)
+        .setFineGrainedLineages(fineGrainedLineages(size));
+  }
+
+  @Test
+  public void testGlobalTags() throws Exception {
+    GlobalTags patched =
+        assertEquivalent(
+            new GlobalTagsTemplate(),
+            globalTags(3),
+            Json.createPatchBuilder()
+                .add(
+                    "/tags/urn:li:tag:new",
+                    Json.createObjectBuilder().add("tag", "urn:li:tag:new").build())
+                .add(
+                    "/tags/urn:li:tag:tag1",
+                    Json.createObjectBuilder()
+                        .add("tag", "urn:li:tag:tag1")
+                        .add("context", "updated")
+                        .build())
+                .remove("/tags/urn:li:tag:tag0")
+                .remove("/tags/urn:li:tag:missing")
+                .build());
+
+    assertEquals(patched.getTags().size(), 3);
+    assertEquals(patched.getTags().get(0).getContext(), "updated");
+    assertEquals(patched.getTags().get(2).getTag().toString(), "urn:li:tag:new");
+  }
+
+  @Test
+  public void testOwnership() throws Exception {
+    Ownership patched =
+        assertEquivalent(
+            new OwnershipTemplate(),
+            ownership(4),
+            Json.createPatchBuilder()
+                .add(
+                    "/owners/urn:li:corpuser:user9/TECHNICAL_OWNER",
+                    Json.createObjectBuilder()
+                        .add("owner", "urn:li:corpuser:user9")
+                        .add("type", "TECHNICAL_OWNER")
+                        .build())
+                .remove("/owners/urn:li:corpuser:user1/BUSINESS_OWNER")
+                .remove("/owners/urn:li:corpuser:user0")
+                .build());
+
+    assertEquals(patched.getOwners().size(), 3);
+    assertEquals(patched.getLastModified().getTime(), AUDIT_STAMP.getTime());
+  }
+
+  @Test
+  public void testUpstreamLineage() throws Exception {
+    String downstream = encode(fieldUrn(0, "c1"));
+    UpstreamLineage patched =
+        assertEquivalent(
+            new UpstreamLineageTemplate(),
+            upstreamLineage(4),
+            Json.createPatchBuilder()
+                .add(
+                    "/upstreams/" + encode(datasetUrn(9)),
+                    Json.createObjectBuilder()
+                        .add("dataset", datasetUrn(9))
+                        .add("type", "TRANSFORMED")
+                        .add("auditStamp", Json.createObjectBuilder().add("time", 0))
+                        .build())
+                .remove("/upstreams/" + encode(datasetUrn(1)))
+                .add(
+                    "/fineGrainedLineages/SUM/" + downstream + "/NONE/" + encode(fieldUrn(7, "x")),
+                    Json.createObjectBuilder().add("confidenceScore", 0.25).build())
+                .add(
+                    "/fineGrainedLineages/CREATE/" + downstream + "//" + encode(fieldUrn(8, "y")),
+                    Json.createObjectBuilder()
+                        .add("confidenceScore", Json.createValue(0.3f))
+                        .build())
+                .remove(
+                    "/fineGrainedLineages/IDENTITY/"
+                        + encode(fieldUrn(0, "c0"))
+                        + "/urn:li:query:q0/"
+                        + encode(fieldUrn(1, "a")))
+                .build());
+
+    assertEquals(patched.getUpstreams().size(), 4);
+    assertEquals(patched.getFineGrainedLineages().size(), 5);
+  }
+
+  @Test
+  public void testDataJobInputOutput() throws Exception {
+    assertEquivalent(
+        new DataJobInputOutputTemplate(),
+        dataJobInputOutput(4),
+        Json.createPatchBuilder()
+            .add(
+                "/inputDatasetEdges/" + encode(datasetUrn(7)),
+                Json.createObjectBuilder().add("destinationUrn", datasetUrn(7)).build())
+            .add("/inputDatasetFields/" + encode(fieldUrn(7, "f")), fieldUrn(7, "f"))
+            .remove("/inputDatasetFields/" + encode(fieldUrn(0, "f")))
+            .add(
+                "/outputDatasetEdges/" + encode(datasetUrn(8)),
+                Json.createObjectBuilder().add("destinationUrn", datasetUrn(8)).build())
+            .build());
+  }
+
+  @Test
+  public void testDataFlowInfo() throws Exception {
+    DataFlowInfo dataFlowInfo =
+        new DataFlowInfo()
+            .setName("flow")
+            .setCustomProperties(new StringMap(Map.of("old", "value", "kept", "value")));
+    DataFlowInfo patched =
+        assertEquivalent(
+            new DataFlowInfoTemplate(),
+            dataFlowInfo,
+            Json.createPatchBuilder()
+                .add("/description", "described")
+                .add("/customProperties/new~1key", "value")
+                .remove("/customProperties/old")
+                .build());
+
+    assertEquals(patched.getDescription(), "described");
+    assertEquals(patched.getCustomProperties(), Map.of("kept", "value", "new/key", "value"));
+  }
+
+  @Test
+  public void testGenericPatchWithNestedKeys() throws Exception {
+    GenericJsonPatch.PatchOp patchOp = new GenericJsonPatch.PatchOp();
+    patchOp.setOp("add");
+    patchOp.setPath("/tags/urn:li:platformResource:source/urn:li:tag:tag1");
+    patchOp.setValue(
+        Map.of(
+            "tag",
+            "urn:li:tag:tag1",
+            "attribution",
+            Map.of(
+                "source", "urn:li:platformResource:source",
+                "actor", "urn:li:corpuser:datahub",
+                "time", 0)));
+    GenericJsonPatch genericJsonPatch =
+        GenericJsonPatch.builder()
+            .patch(List.of(patchOp))
+            .arrayPrimaryKeys(Map.of("tags", List.of("attribution␟source", "tag")))
+            .build();
+    GenericPatchTemplate<GlobalTags> template =
+        GenericPatchTemplate.<GlobalTags>builder()
+            .genericJsonPatch(genericJsonPatch)
+            .templateType(GlobalTags.class)
+            .templateDefault(new GlobalTags())
+            .build();
+
+    GlobalTags patched = assertEquivalent(template, globalTags(2), genericJsonPatch.getJsonPatch());
+    assertEquals(patched.getTags().size(), 3);
+  }
+
+  @Test
+  public void testFallsBackToJsonEngine() throws Exception {
+    DataFlowInfoTemplate template = new DataFlowInfoTemplate();
+    DataFlowInfo dataFlowInfo = new DataFlowInfo().setName("flow").setDescription("text");
+
+    // Operations other than add and remove are left to the JSON engine
+    JsonPatch move = Json.createPatchBuilder().move("/name", "/description").build();
+    assertFalse(DataMapPatcher.applyPatch(template, dataFlowInfo, move).isPresent());
+
+    // As are paths through scalars, which keep failing the way they did
+    JsonPatch throughScalar = Json.createPatchBuilder().add("/description/nested", "x").build();
+    assertFalse(DataMapPatcher.applyPatch(template, dataFlowInfo, throughScalar).isPresent());
+    assertThrows(JsonException.class, () -> template.applyPatch(dataFlowInfo, throughScalar));
+
+    // Templates without a spec always use the JSON engine
+    Template<DataFlowInfo> jsonOnly =
+        new DataFlowInfoTemplate() {
+          @Override
+          public DataMapPatcher.Spec getDataMapPatchSpec() {
+            return null;
+          }
+        };
+    JsonPatch describe = Json.createPatchBuilder().add("/description", "other").build();
+    assertFalse(DataMapPatcher.applyPatch(jsonOnly, dataFlowInfo, describe).isPresent());
+    assertEquals(jsonOnly.applyPatch(dataFlowInfo, describe).getDescription(), "other");
+  }
+
+  /**
+   * Checks the native engine against the JSON engine on aspects with 200 array elements, patched
+   * with a handful of operations as typically sent by ingestion.
+   */
+  @Test
+  public void testLargeAspectsMatchJsonEngine() throws Exception {
+    final int size = 200;
+    final int iterations = 20;
+    String downstream = encode(fieldUrn(0, "c1"));
+
+    assertEquivalentPatches(
+        new GlobalTagsTemplate(),
+        globalTags(size),
+        i ->
+            Json.createPatchBuilder()
+                .add(
+                    "/tags/urn:li:tag:new" + i,
+                    Json.createObjectBuilder().add("tag", "urn:li:tag:new" + i).build())
+                .remove("/tags/urn:li:tag:tag" + (i % size))
+                .build(),
+        iterations);
+    assertEquivalentPatches(
+        new OwnershipTemplate(),
+        ownership(size),
+        i ->
+            Json.createPatchBuilder()
+                .add(
+                    "/owners/urn:li:corpuser:new" + i + "/TECHNICAL_OWNER",
+                    Json.createObjectBuilder()
+                        .add("owner", "urn:li:corpuser:new" + i)
+                        .add("type", "TECHNICAL_OWNER")
+                        .build())
+                .build(),
+        iterations);
+    assertEquivalentPatches(
+        new UpstreamLineageTemplate(),
+        upstreamLineage(size),
+        i ->
+            Json.createPatchBuilder()
+                .add(
+                    "/upstreams/" + encode(datasetUrn(size + i)),
+                    Json.createObjectBuilder()
+                        .add("dataset", datasetUrn(size + i))
+                        .add("type", "TRANSFORMED")
+                        .build())
+                .add(
+                    "/fineGrainedLineages/SUM/" + downstream + "/NONE/" + encode(fieldUrn(i, "x")),
+                    Json.createObjectBuilder().add("confidenceScore", 0.5).build())
+                .build(),
+        iterations);
+    assertEquivalentPatches(
+        new DataJobInputOutputTemplate(),
+        dataJobInputOutput(size),
+        i ->
+            Json.createPatchBuilder()
+                .add(
+                    "/inputDatasetEdges/" + encode(datasetUrn(size + i)),
+                    Json.createObjectBuilder().add("destinationUrn", datasetUrn(size + i)).build())
+                .add(
+                    "/inputDatasetFields/" + encode(fieldUrn(size + i, "f")),
+                    fieldUrn(size + i, "f"))
+                .build(),
+        iterations);
+  }
+
+  private static <T extends RecordTemplate> void assertEquivalentPatches(
+      Template<T> template,
+      RecordTemplate recordTemplate,
+      IntFunction<JsonPatch> patches,
+      int iterations)
+      throws Exception {
+    for (int i = 0; i < iterations; i++) {
+      assertEquivalent(template, recordTemplate, patches.apply(i));
+    }
+  }
+}
@@ -468,6 +468,22 @@ public class RecordUtils {
     return Collections.unmodifiableMap(methodMap);
   }
 
+  /**
+   * Returns the get/is method of the field of the record used by {@link #getFieldValue(Object,
+   * PathSpec)}, resolving and caching the methods of all the schema fields of the record class on
+   * first use.
+   *
+   * @param record {@link RecordTemplate} whose field getter is needed
+   * @param fieldName field name of the record
+   * @return the getter of the field, null if the record schema has no such field
+   */
+  @Nullable
+  public static Method getFieldGetter(@Nonnull RecordTemplate record, @Nonnull String fieldName) {
+    return METHOD_CACHE
+        .computeIfAbsent(record.getClass(), recordClass -> getMethodsFromRecordTemplate(record))
+        .get(fieldName);
+  }
+
   /**
    * Given a {@link RecordTemplate} and field name, this will find and execute
    * getFieldName/isFieldName and return the result If neither getFieldName/isFieldName has been
@@ -480,9 +496,9 @@ public class RecordUtils {
    */
   @Nullable
   private static Object invokeMethod(@Nonnull RecordTemplate record, @Nonnull String fieldName) {
-    METHOD_CACHE.putIfAbsent(record.getClass(), getMethodsFromRecordTemplate(record));
+    final Method getter = getFieldGetter(record, fieldName);
     try {
-      return METHOD_CACHE.get(record.getClass()).get(fieldName).invoke(record);
+      return getter.invoke(record);
     } catch (NullPointerException | IllegalAccessException | InvocationTargetException e) {
       throw new RuntimeException(
           String.format(
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -54,6 +56,57 @@ public class AspectsBatchImpl implements AspectsBatch {
     return items;
   }
 
+  /**
+   * Groups the items by urn and spreads the groups over the partitions, each new group going to
+   * the partition with the fewest items. Items were validated when this batch was built and are
+   * not validated again.
+   */
+  @Override
+  public List<AspectsBatchImpl> partitionByUrn(int maxPartitions) {
+    final Map<Urn, Long> urnSizes = new LinkedHashMap<>();
+    for (BatchItem item : nonRepeatedItems) {
+      urnSizes.merge(item.getUrn(), 1L, Long::sum);
+    }
+    final int partitions = Math.min(maxPartitions, urnSizes.size());
+    if (partitions <= 1) {
+      return List.of(this);
+    }
+
+    final long[] partitionSizes = new long[partitions];
+    final Map<Urn, Integer> urnPartitions = new HashMap<>();
+    urnSizes.forEach(
+        (urn, size) -> {
+          int smallest = 0;
+          for (int i = 1; i < partitions; i++) {
+            if (partitionSizes[i] < partitionSizes[smallest]) {
+              smallest = i;
+            }
+          }
+          partitionSizes[smallest] += size;
+          urnPartitions.put(urn, smallest);
+        });
+
+    final List<List<BatchItem>> partitionItems = new ArrayList<>();
+    final List<List<BatchItem>> partitionNonRepeatedItems = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      partitionItems.add(new ArrayList<>());
+      partitionNonRepeatedItems.add(new ArrayList<>());
+    }
+    for (BatchItem item : items) {
+      // The first item of every urn is never a repeat, all urns have a partition
+      partitionItems.get(urnPartitions.get(item.getUrn())).add(item);
+    }
+    for (BatchItem item : nonRepeatedItems) {
+      partitionNonRepeatedItems.get(urnPartitions.get(item.getUrn())).add(item);
+    }
+    return IntStream.range(0, partitions)
+        .mapToObj(
+            i ->
+                new AspectsBatchImpl(
+                    partitionItems.get(i), partitionNonRepeatedItems.get(i), retrieverContext))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Convert patches to upserts, apply hooks at the aspect and batch level.
    *
@@ -4,6 +4,7 @@ import static com.linkedin.metadata.Constants.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableList;
 import com.linkedin.common.AuditStamp;
@@ -43,8 +44,11 @@ import io.datahubproject.metadata.context.RetrieverContext;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import lombok.Getter;
@@ -362,6 +366,50 @@ public class AspectsBatchImplTest {
         "Expected 1 valid mcp to be passed through.");
   }
 
+  @Test
+  public void partitionByUrnTest() {
+    List<ChangeItemImpl> testItems =
+        Stream.of("a", "b", "a", "c", "d")
+            .map(
+                name ->
+                    ChangeItemImpl.builder()
+                        .urn(
+                            UrnUtils.getUrn(
+                                "urn:li:dataset:(urn:li:dataPlatform:hive," + name + ",PROD)"))
+                        .changeType(ChangeType.UPSERT)
+                        .aspectName(STATUS_ASPECT_NAME)
+                        .entitySpec(testRegistry.getEntitySpec(DATASET_ENTITY_NAME))
+                        .aspectSpec(
+                            testRegistry
+                                .getEntitySpec(DATASET_ENTITY_NAME)
+                                .getAspectSpec(STATUS_ASPECT_NAME))
+                        .auditStamp(AuditStampUtils.createDefaultAuditStamp())
+                        .recordTemplate(new Status().setRemoved(true))
+                        .build(mockAspectRetriever))
+            .collect(Collectors.toList());
+
+    AspectsBatchImpl testBatch =
+        AspectsBatchImpl.builder().items(testItems).retrieverContext(retrieverContext).build(null);
+
+    assertEquals(testBatch.partitionByUrn(1), List.of(testBatch));
+
+    List<AspectsBatchImpl> partitions = testBatch.partitionByUrn(3);
+    assertEquals(partitions.size(), 3);
+    assertEquals(
+        partitions.stream().mapToInt(partition -> partition.getInitialItems().size()).sum(),
+        testItems.size(),
+        "Expected every item in exactly one partition");
+    Set<String> seen = new HashSet<>();
+    for (AspectsBatchImpl partition : partitions) {
+      for (String urn : partition.getUrnAspectsMap().keySet()) {
+        assertTrue(seen.add(urn), "Expected disjoint urns, repeated " + urn);
+      }
+    }
+    assertEquals(seen.size(), 4);
+
+    assertEquals(testBatch.partitionByUrn(10).size(), 4, "Expected at most one partition per urn");
+  }
+
   /** Converts unsupported to status aspect */
   @Getter
   @Setter
@@ -5,9 +5,12 @@ import static com.linkedin.metadata.search.utils.SearchUtils.*;
 
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.datahub.util.RecordUtils;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.aspect.GetTimeseriesAspectValuesResponse;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.VersionedUrn;
@@ -24,6 +27,8 @@ import com.linkedin.metadata.aspect.EnvelopedAspect;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.aspect.batch.BatchItem;
+import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.metadata.browse.BrowseResult;
 import com.linkedin.metadata.browse.BrowseResultV2;
 import com.linkedin.metadata.entity.DeleteEntityService;
@@ -45,11 +50,13 @@ import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchService;
+import com.linkedin.metadata.search.cache.FacetSnapshotCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.service.RollbackService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.utils.AuditStampUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.metadata.utils.metrics.MicrometerMetricsRegistry;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.SystemMetadata;
@@ -66,17 +73,26 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -101,6 +117,25 @@ public class JavaEntityClient implements EntityClient {
   private final EntityClientConfig entityClientConfig;
   private final MetricUtils metricUtils;
 
+  // Snapshots of the browse v2 groups and of the facet only searches, e.g. the quick filters
+  @Setter @Nonnull private FacetSnapshotCache facetSnapshotCache = FacetSnapshotCache.DISABLED;
+
+  // Pending loads of the batch gets, shared by the concurrent calls for the same urn and aspects.
+  // Writes through this client evict the loads of the written urns, which may predate the write.
+  private final Map<BatchGetKey, CompletableFuture<EntityResponse>> inFlightBatchGets =
+      new ConcurrentHashMap<>();
+  private final Supplier<ThreadPoolExecutor> batchGetV2Pool =
+      Suppliers.memoize(this::buildBatchGetV2Pool);
+
+  @Value
+  private static class BatchGetKey {
+    String contextId;
+    String entityName;
+    Set<String> aspectNames;
+    boolean alwaysIncludeKeyAspect;
+    Urn urn;
+  }
+
   @Override
   @Nullable
   public EntityResponse getV2(
@@ -136,28 +171,215 @@ public class JavaEntityClient implements EntityClient {
       @Nullable Set<String> aspectNames,
       @Nullable Boolean alwaysIncludeKeyAspect)
       throws RemoteInvocationException, URISyntaxException {
+    try {
+      // The caller loads a sub-batch itself rather than idling until the pool is done
+      return pipelinedBatchGetV2(
+              opContext, entityName, urns, aspectNames, alwaysIncludeKeyAspect, true)
+          .join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof URISyntaxException) {
+        throw (URISyntaxException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<Map<Urn, EntityResponse>> batchGetV2Async(
+      @Nonnull OperationContext opContext,
+      @Nonnull String entityName,
+      @Nonnull Set<Urn> urns,
+      @Nullable Set<String> aspectNames,
+      @Nullable Boolean alwaysIncludeKeyAspect) {
+    return pipelinedBatchGetV2(
+        opContext, entityName, urns, aspectNames, alwaysIncludeKeyAspect, false);
+  }
+
+  /**
+   * Splits the urns into sub-batches loaded in parallel on the batch get pool. Urns which are
+   * already being loaded by a concurrent call for the same aspects are not loaded again, the call
+   * waits for the pending load instead.
+   *
+   * @param callerRuns whether the calling thread loads the last sub-batch
+   */
+  private CompletableFuture<Map<Urn, EntityResponse>> pipelinedBatchGetV2(
+      @Nonnull OperationContext opContext,
+      @Nonnull String entityName,
+      @Nonnull Set<Urn> urns,
+      @Nullable Set<String> aspectNames,
+      @Nullable Boolean alwaysIncludeKeyAspect,
+      boolean callerRuns) {
+    final long startTime = System.currentTimeMillis();
     final Set<String> projectedAspects =
         aspectNames == null ? opContext.getEntityAspectNames(entityName) : aspectNames;
+    final boolean includeKeyAspect = alwaysIncludeKeyAspect == null || alwaysIncludeKeyAspect;
+    final String contextId = opContext.getEntityContextId();
+
+    final Map<Urn, CompletableFuture<EntityResponse>> responses = new HashMap<>();
+    final Map<Urn, CompletableFuture<EntityResponse>> toLoad = new LinkedHashMap<>();
+    for (Urn urn : urns) {
+      final BatchGetKey key =
+          new BatchGetKey(contextId, entityName, projectedAspects, includeKeyAspect, urn);
+      final CompletableFuture<EntityResponse> load = new CompletableFuture<>();
+      final CompletableFuture<EntityResponse> pending = inFlightBatchGets.putIfAbsent(key, load);
+      if (pending != null) {
+        responses.put(urn, pending);
+      } else {
+        load.whenComplete((response, e) -> inFlightBatchGets.remove(key, load));
+        responses.put(urn, load);
+        toLoad.put(urn, load);
+      }
+    }
+    if (metricUtils != null && responses.size() > toLoad.size()) {
+      metricUtils.increment(
+          this.getClass(), "batchGetV2_coalesced", responses.size() - toLoad.size());
+    }
 
-    Map<Urn, EntityResponse> responseMap = new HashMap<>();
+    final List<List<Urn>> batches =
+        Lists.partition(new ArrayList<>(toLoad.keySet()), entityClientConfig.getBatchGetV2Size());
+    for (int i = 0; i < batches.size(); i++) {
+      final List<Urn> batch = batches.get(i);
+      final Runnable load =
+          () -> loadBatch(opContext, entityName, batch, projectedAspects, includeKeyAspect, toLoad);
+      if (callerRuns && i == batches.size() - 1) {
+        load.run();
+      } else {
+        final ThreadPoolExecutor pool = batchGetV2Pool.get();
+        if (metricUtils != null) {
+          metricUtils.histogram(this.getClass(), "batchGetV2_queueDepth", pool.getQueue().size());
+        }
+        pool.execute(load);
+      }
+    }
 
-    Iterators.partition(urns.iterator(), Math.max(1, entityClientConfig.getBatchGetV2Size()))
-        .forEachRemaining(
-            batch -> {
-              try {
-                responseMap.putAll(
-                    entityService.getEntitiesV2(
-                        opContext,
-                        entityName,
-                        new HashSet<>(batch),
-                        projectedAspects,
-                        alwaysIncludeKeyAspect == null || alwaysIncludeKeyAspect));
-              } catch (URISyntaxException e) {
-                throw new RuntimeException(e);
+    return CompletableFuture.allOf(responses.values().toArray(new CompletableFuture[0]))
+        .thenApply(
+            v -> {
+              final Map<Urn, EntityResponse> responseMap = new HashMap<>();
+              responses.forEach(
+                  (urn, response) -> {
+                    if (response.join() != null) {
+                      responseMap.put(urn, response.join());
+                    }
+                  });
+              return responseMap;
+            })
+        .whenComplete(
+            (responseMap, e) -> {
+              if (metricUtils != null) {
+                metricUtils.histogram(
+                    this.getClass(),
+                    "batchGetV2_latencyMs",
+                    System.currentTimeMillis() - startTime);
               }
             });
+  }
 
-    return responseMap;
+  private void loadBatch(
+      @Nonnull OperationContext opContext,
+      @Nonnull String entityName,
+      @Nonnull List<Urn> batch,
+      @Nonnull Set<String> aspectNames,
+      boolean alwaysIncludeKeyAspect,
+      @Nonnull Map<Urn, CompletableFuture<EntityResponse>> responses) {
+    final long startTime = System.currentTimeMillis();
+    try {
+      final Map<Urn, EntityResponse> loaded =
+          entityService.getEntitiesV2(
+              opContext, entityName, new HashSet<>(batch), aspectNames, alwaysIncludeKeyAspect);
+      batch.forEach(urn -> responses.get(urn).complete(loaded.get(urn)));
+    } catch (Exception e) {
+      batch.forEach(urn -> responses.get(urn).completeExceptionally(e));
+    } finally {
+      if (metricUtils != null) {
+        metricUtils.histogram(
+            this.getClass(),
+            "batchGetV2_subBatchLatencyMs",
+            System.currentTimeMillis() - startTime);
+      }
+    }
+  }
+
+  /**
+   * Stops sharing the pending loads of the written urns. Their callers still get them, but later
+   * calls, e.g. reading back the write, start a new load instead of joining one which may have read
+   * the urns before the write.
+   */
+  private void evictInFlightBatchGets(@Nonnull Set<Urn> writtenUrns) {
+    if (!inFlightBatchGets.isEmpty() && !writtenUrns.isEmpty()) {
+      inFlightBatchGets.keySet().removeIf(key -> writtenUrns.contains(key.getUrn()));
+    }
+  }
+
+  /** Stops sharing all the pending loads, when the written urns are not known. */
+  private void evictInFlightBatchGets() {
+    inFlightBatchGets.clear();
+  }
+
+  private ThreadPoolExecutor buildBatchGetV2Pool() {
+    final ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            entityClientConfig.getBatchGetV2Concurrency(), // core threads
+            entityClientConfig.getBatchGetV2Concurrency(), // max threads
+            entityClientConfig.getBatchGetV2KeepAlive(),
+            TimeUnit.SECONDS, // thread keep-alive time
+            new ArrayBlockingQueue<>(
+                entityClientConfig.getBatchGetV2QueueSize()), // fixed size queue
+            new ThreadFactoryBuilder()
+                .setNameFormat("entity-client-java-get-%d")
+                .setDaemon(true)
+                .build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    if (metricUtils != null) {
+      MicrometerMetricsRegistry.registerExecutorMetrics(
+          "entity-client-java-get", pool, metricUtils.getRegistry());
+    }
+    return pool;
+  }
+
+  /** Only the requests without a search query are snapshotted, they are shared by most readers. */
+  private boolean isFacetSnapshot(@Nonnull OperationContext opContext, @Nonnull String input) {
+    return facetSnapshotCache.isEnabled()
+        && (input.isEmpty() || "*".equals(input))
+        && !Boolean.TRUE.equals(opContext.getSearchContext().getSearchFlags().isSkipCache());
+  }
+
+  /**
+   * Snapshots are shared by the readers with the same view filter, query, search flags and
+   * policies. Unlike {@link OperationContext#getSearchContextId()}, the actor of owner based
+   * policies is left out: those only restrict the listed entities, which the snapshotted groups and
+   * aggregates do not contain.
+   */
+  private static String facetFingerprint(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nullable Filter filter,
+      @Nonnull String input,
+      @Nonnull String scope,
+      int start,
+      @Nullable Integer count) {
+    final int policies =
+        opContext.getSessionActorContext().getPolicyInfoSet().stream()
+            .filter(policy -> PoliciesConfig.ACTIVE_POLICY_STATE.equals(policy.getState()))
+            .mapToInt(policy -> policy.toString().hashCode())
+            .distinct()
+            .sum();
+    return String.join(
+        "|",
+        String.valueOf(opContext.getOperationContextConfig().getCacheKeyComponent().orElse(0)),
+        String.valueOf(opContext.isSystemAuth()),
+        String.valueOf(policies),
+        String.valueOf(opContext.getSearchContext().getCacheKeyComponent().orElse(0)),
+        String.join(",", entityNames),
+        input,
+        scope,
+        String.valueOf(filter),
+        String.valueOf(start),
+        String.valueOf(count));
   }
 
   @Override
@@ -288,8 +510,14 @@ public class JavaEntityClient implements EntityClient {
       @Nonnull String input,
       int start,
       @Nullable Integer count) {
-    // TODO: cache browseV2 results
-    return entitySearchService.browseV2(opContext, entityName, path, filter, input, start, count);
+    if (!isFacetSnapshot(opContext, input)) {
+      return entitySearchService.browseV2(opContext, entityName, path, filter, input, start, count);
+    }
+    return facetSnapshotCache.get(
+        "browseV2",
+        facetFingerprint(opContext, List.of(entityName), filter, input, path, start, count),
+        () ->
+            entitySearchService.browseV2(opContext, entityName, path, filter, input, start, count));
   }
 
   /**
@@ -312,8 +540,16 @@ public class JavaEntityClient implements EntityClient {
       @Nonnull String input,
       int start,
       @Nullable Integer count) {
-    // TODO: cache browseV2 results
-    return entitySearchService.browseV2(opContext, entityNames, path, filter, input, start, count);
+    if (!isFacetSnapshot(opContext, input)) {
+      return entitySearchService.browseV2(
+          opContext, entityNames, path, filter, input, start, count);
+    }
+    return facetSnapshotCache.get(
+        "browseV2",
+        facetFingerprint(opContext, entityNames, filter, input, path, start, count),
+        () ->
+            entitySearchService.browseV2(
+                opContext, entityNames, path, filter, input, start, count));
   }
 
   @Override
@@ -326,7 +562,12 @@ public class JavaEntityClient implements EntityClient {
     auditStamp.setActor(
         Urn.createFromString(opContext.getSessionAuthentication().getActor().toUrnStr()));
     auditStamp.setTime(Clock.systemUTC().millis());
-    entityService.ingestEntity(opContext, entity, auditStamp);
+    try {
+      entityService.ingestEntity(opContext, entity, auditStamp);
+    } finally {
+      evictInFlightBatchGets(
+          Set.of(com.datahub.util.ModelUtils.getUrnFromSnapshotUnion(entity.getValue())));
+    }
   }
 
   @Override
@@ -347,7 +588,12 @@ public class JavaEntityClient implements EntityClient {
         Urn.createFromString(opContext.getSessionAuthentication().getActor().toUrnStr()));
     auditStamp.setTime(Clock.systemUTC().millis());
 
-    entityService.ingestEntity(opContext, entity, auditStamp, systemMetadata);
+    try {
+      entityService.ingestEntity(opContext, entity, auditStamp, systemMetadata);
+    } finally {
+      evictInFlightBatchGets(
+          Set.of(com.datahub.util.ModelUtils.getUrnFromSnapshotUnion(entity.getValue())));
+    }
     tryIndexRunId(
         opContext,
         com.datahub.util.ModelUtils.getUrnFromSnapshotUnion(entity.getValue()),
@@ -362,8 +608,15 @@ public class JavaEntityClient implements EntityClient {
     auditStamp.setActor(
         Urn.createFromString(opContext.getSessionAuthentication().getActor().toUrnStr()));
     auditStamp.setTime(Clock.systemUTC().millis());
-    entityService.ingestEntities(
-        opContext, new ArrayList<>(entities), auditStamp, ImmutableList.of());
+    try {
+      entityService.ingestEntities(
+          opContext, new ArrayList<>(entities), auditStamp, ImmutableList.of());
+    } finally {
+      evictInFlightBatchGets(
+          entities.stream()
+              .map(entity -> com.datahub.util.ModelUtils.getUrnFromSnapshotUnion(entity.getValue()))
+              .collect(Collectors.toSet()));
+    }
   }
 
   /**
@@ -485,21 +738,46 @@ public class JavaEntityClient implements EntityClient {
       List<SortCriterion> sortCriteria,
       @Nonnull List<String> facets)
       throws RemoteInvocationException {
-
+    final OperationContext finalOpContext =
+        opContext.withSearchFlags(flags -> flags.setFulltext(true));
+    final Supplier<SearchResult> search =
+        () ->
+            searchService.searchAcrossEntities(
+                finalOpContext, entities, input, filter, sortCriteria, start, count, facets);
+
+    // Facet only searches, e.g. the quick filters, are served from the snapshots
+    final boolean facetsOnly =
+        count != null
+            && count == 0
+            && isFacetSnapshot(finalOpContext, input)
+            && !Boolean.TRUE.equals(
+                finalOpContext.getSearchContext().getSearchFlags().isSkipAggregates());
     return ValidationUtils.validateSearchResult(
         opContext,
-        searchService.searchAcrossEntities(
-            opContext.withSearchFlags(flags -> flags.setFulltext(true)),
-            entities,
-            input,
-            filter,
-            sortCriteria,
-            start,
-            count,
-            facets),
+        facetsOnly
+            ? facetSnapshotCache.get(
+                "facets",
+                facetFingerprint(
+                    finalOpContext,
+                    entities,
+                    filter,
+                    input,
+                    String.join(",", facets),
+                    start,
+                    count),
+                () -> withoutTimings(search.get()))
+            : search.get(),
         entityService);
   }
 
+  /** Snapshots are served long after the search which computed them, its timings are dropped. */
+  private static SearchResult withoutTimings(@Nonnull SearchResult result) {
+    if (result.hasMetadata()) {
+      result.getMetadata().removeTimings();
+    }
+    return result;
+  }
+
   @Nonnull
   @Override
   public ScrollResult scrollAcrossEntities(
@@ -638,15 +916,24 @@ public class JavaEntityClient implements EntityClient {
   @Override
   public void deleteEntity(@Nonnull OperationContext opContext, @Nonnull final Urn urn)
       throws RemoteInvocationException {
-    entityService.deleteUrn(opContext, urn);
+    try {
+      entityService.deleteUrn(opContext, urn);
+    } finally {
+      evictInFlightBatchGets(Set.of(urn));
+    }
   }
 
   @Override
   public void deleteEntityReferences(@Nonnull OperationContext opContext, @Nonnull Urn urn)
       throws RemoteInvocationException {
-    withRetry(
-        () -> deleteEntityService.deleteReferencesTo(opContext, urn, false),
-        "deleteEntityReferences");
+    try {
+      withRetry(
+          () -> deleteEntityService.deleteReferencesTo(opContext, urn, false),
+          "deleteEntityReferences");
+    } finally {
+      // The referencing entities are not known here
+      evictInFlightBatchGets();
+    }
   }
 
   @Override
@@ -777,8 +1064,21 @@ public class JavaEntityClient implements EntityClient {
                           opContext.getValidationContext().isAlternateValidation())
                       .build(opContext);
 
-              List<IngestResult> results =
-                  entityService.ingestProposal(opContext, aspectsBatch, async);
+              final List<IngestResult> results;
+              try {
+                results = entityService.ingestProposal(opContext, aspectsBatch, async);
+              } finally {
+                evictInFlightBatchGets(
+                    aspectsBatch.getItems().stream()
+                        .map(BatchItem::getUrn)
+                        .collect(Collectors.toSet()));
+              }
+              // including the urns written by side effects
+              evictInFlightBatchGets(
+                  results.stream()
+                      .map(IngestResult::getUrn)
+                      .filter(Objects::nonNull)
+                      .collect(Collectors.toSet()));
               entitySearchService.appendRunId(opContext, results);
 
               Map<Pair<Urn, String>, List<IngestResult>> resultMap =
@@ -878,7 +1178,11 @@ public class JavaEntityClient implements EntityClient {
   public void rollbackIngestion(
       @Nonnull OperationContext opContext, @Nonnull String runId, @Nonnull Authorizer authorizer)
       throws Exception {
-    rollbackService.rollbackIngestion(opContext, runId, false, true, authorizer);
+    try {
+      rollbackService.rollbackIngestion(opContext, runId, false, true, authorizer);
+    } finally {
+      evictInFlightBatchGets();
+    }
   }
 
   private void tryIndexRunId(
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.dao.throttle;
 
+import static com.linkedin.metadata.dao.throttle.ThrottleType.ES_BULK_BACKPRESSURE;
 import static com.linkedin.metadata.dao.throttle.ThrottleType.MANUAL;
 import static com.linkedin.metadata.dao.throttle.ThrottleType.MCL_TIMESERIES_LAG;
 import static com.linkedin.metadata.dao.throttle.ThrottleType.MCL_VERSIONED_LAG;
@@ -65,7 +66,10 @@ public class APIThrottle {
         .map(
             e ->
                 e.getActiveThrottleMaxWaitMs(
-                    Set.of(MANUAL, isTimeseries ? MCL_TIMESERIES_LAG : MCL_VERSIONED_LAG)))
+                    Set.of(
+                        MANUAL,
+                        ES_BULK_BACKPRESSURE,
+                        isTimeseries ? MCL_TIMESERIES_LAG : MCL_VERSIONED_LAG)))
         .filter(Objects::nonNull)
         .collect(Collectors.toSet());
   }
@@ -3,5 +3,6 @@ package com.linkedin.metadata.dao.throttle;
 public enum ThrottleType {
   MCL_TIMESERIES_LAG,
   MCL_VERSIONED_LAG,
+  ES_BULK_BACKPRESSURE,
   MANUAL
 }
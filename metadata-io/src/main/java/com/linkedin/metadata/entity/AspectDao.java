@@ -59,6 +59,17 @@ public interface AspectDao {
   List<EntityAspect> getAspectsInRange(
       @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis);
 
+  /**
+   * Same rows as {@link #getAspectsInRange(Urn, Set, long, long)}, implementations may only
+   * populate their key and creation time. The rest can then be fetched with {@link #batchGet(Set,
+   * boolean)} for the rows which need it.
+   */
+  @Nonnull
+  default List<EntityAspect> getAspectKeysInRange(
+      @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis) {
+    return getAspectsInRange(urn, aspectNames, startTimeMillis, endTimeMillis);
+  }
+
   /**
    * @param urn urn to fetch
    * @param aspectName aspect to fetch
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.Status;
 import com.linkedin.common.UrnArray;
@@ -101,23 +102,32 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import jakarta.persistence.EntityNotFoundException;
 import java.net.URISyntaxException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -125,6 +135,7 @@ import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -180,6 +191,17 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
   @Getter
   private final Map<Set<ThrottleType>, ThrottleEvent> throttleEvents = new ConcurrentHashMap<>();
 
+  // Urn disjoint sub-batches of a consumer batch are committed in parallel on this executor
+  private volatile int ingestParallelism = 1;
+  @Nullable private volatile ExecutorService ingestExecutor;
+  private volatile UrnWriteLocks urnWriteLocks = UrnWriteLocks.DISABLED;
+
+  // Next versions come from the version 0 rows alone, see EntityUtils#calculateNextVersions
+  @Setter private volatile boolean latestRowVersioning = false;
+
+  // Latest rows read outside of write transactions, invalidated once local writes commit
+  @Setter private volatile LatestAspectCache latestAspectCache = LatestAspectCache.DISABLED;
+
   public EntityServiceImpl(
       @Nonnull final AspectDao aspectDao,
       @Nonnull final EventProducer producer,
@@ -307,6 +329,33 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     this.updateIndicesService = updateIndicesService;
   }
 
+  /**
+   * Configures the concurrency of the writes to the local DB.
+   *
+   * @param parallelism number of urn disjoint sub-batches of a batch without a request context
+   *     committed in parallel transactions, 1 keeps every batch in a single transaction
+   * @param urnLocks whether parallel sub-batches writing the same urn wait on an in-process lock of
+   *     that urn rather than conflicting in the database, only applies with a parallelism above 1
+   */
+  public synchronized void setIngestConcurrency(int parallelism, boolean urnLocks) {
+    if (ingestExecutor != null) {
+      ingestExecutor.shutdown();
+      ingestExecutor = null;
+    }
+    ingestParallelism = Math.max(1, parallelism);
+    if (ingestParallelism > 1) {
+      ingestExecutor =
+          Executors.newFixedThreadPool(
+              ingestParallelism,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("ingest-sub-batch-%d")
+                  .setDaemon(true)
+                  .build());
+    }
+    urnWriteLocks =
+        ingestParallelism > 1 && urnLocks ? new UrnWriteLocks(true) : UrnWriteLocks.DISABLED;
+  }
+
   public ThrottleControl handleThrottleEvent(ThrottleEvent throttleEvent) {
     final Set<ThrottleType> activeEvents = throttleEvent.getActiveThrottles();
     // store throttle event
@@ -895,7 +944,15 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     // Handle throttling
     APIThrottle.evaluate(opContext, new HashSet<>(throttleEvents.values()), false);
 
-    IngestAspectsResult ingestResults = ingestAspectsToLocalDB(opContext, aspectsBatch, overwrite);
+    IngestAspectsResult ingestResults;
+    RuntimeException ingestFailure = null;
+    try {
+      ingestResults = ingestAspectsToLocalDB(opContext, aspectsBatch, overwrite);
+    } catch (PartialIngestException e) {
+      // The committed sub-batches still need their MCLs before the failure is reported
+      ingestResults = e.getCommitted();
+      ingestFailure = e.getFailure();
+    }
 
     // Produce MCLs & run side effects
     List<UpdateAspectResult> mclResults =
@@ -906,6 +963,9 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     // Produce FailedMCPs for tracing
     produceFailedMCPs(opContext, ingestResults);
 
+    if (ingestFailure != null) {
+      throw ingestFailure;
+    }
     return mclResults;
   }
 
@@ -958,6 +1018,118 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
       @Nonnull OperationContext opContext,
       @Nonnull final AspectsBatch inputBatch,
       boolean overwrite) {
+    // Requests succeed or fail as a whole, only the batches of the consumers are split
+    final ExecutorService executor = ingestExecutor;
+    final List<? extends AspectsBatch> subBatches =
+        executor != null && opContext.getRequestContext() == null
+            ? inputBatch.partitionByUrn(ingestParallelism)
+            : List.of(inputBatch);
+    opContext
+        .getMetricUtils()
+        .ifPresent(
+            metricUtils ->
+                metricUtils.histogram(
+                    EntityServiceImpl.class, "ingest_sub_batches", subBatches.size()));
+
+    final IngestAspectsResult result;
+    if (subBatches.size() == 1) {
+      result = ingestLockedToLocalDB(opContext, subBatches.get(0), overwrite);
+    } else {
+      final List<CompletableFuture<IngestAspectsResult>> futures =
+          subBatches.stream()
+              .map(
+                  subBatch ->
+                      CompletableFuture.supplyAsync(
+                          () -> ingestLockedToLocalDB(opContext, subBatch, overwrite), executor))
+              .collect(Collectors.toList());
+
+      // Every sub-batch commits or fails on its own, wait for all of them
+      IngestAspectsResult committed = IngestAspectsResult.EMPTY;
+      RuntimeException failure = null;
+      for (CompletableFuture<IngestAspectsResult> future : futures) {
+        try {
+          committed = IngestAspectsResult.combine(committed, future.join());
+        } catch (CompletionException e) {
+          opContext
+              .getMetricUtils()
+              .ifPresent(
+                  metricUtils ->
+                      metricUtils.increment(EntityServiceImpl.class, "ingest_sub_batch_failed", 1));
+          RuntimeException cause =
+              e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+          if (failure == null) {
+            failure = cause;
+          } else if (failure != cause) {
+            failure.addSuppressed(cause);
+          }
+        }
+      }
+      if (failure != null) {
+        throw new PartialIngestException(committed, failure);
+      }
+      result = committed;
+    }
+
+    opContext
+        .getMetricUtils()
+        .ifPresent(
+            metricUtils ->
+                metricUtils.increment(
+                    EntityServiceImpl.class,
+                    "ingest_aspects_committed",
+                    result.getUpdateAspectResults().size()));
+    return result;
+  }
+
+  /** Writes the batch in a transaction while holding the in-process write locks of its urns. */
+  @Nonnull
+  private IngestAspectsResult ingestLockedToLocalDB(
+      @Nonnull OperationContext opContext, @Nonnull final AspectsBatch batch, boolean overwrite) {
+    final long lockStart = System.nanoTime();
+    try (UrnWriteLocks.Held locks = urnWriteLocks.lock(batch.getUrnAspectsMap().keySet())) {
+      opContext
+          .getMetricUtils()
+          .ifPresent(
+              metricUtils ->
+                  metricUtils.histogram(
+                      EntityServiceImpl.class,
+                      "ingest_lock_wait_ms",
+                      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lockStart)));
+      IngestAspectsResult result = null;
+      try {
+        result =
+            latestAspectCache.inWriteTransaction(
+                () -> ingestBatchToLocalDB(opContext, batch, overwrite));
+        return result;
+      } finally {
+        invalidateLatestAspects(batch, result);
+      }
+    }
+  }
+
+  /**
+   * Evicts the aspects of the batch, and the default aspects written along with them, from the
+   * cache of latest aspects.
+   */
+  private void invalidateLatestAspects(
+      @Nonnull final AspectsBatch batch, @Nullable IngestAspectsResult result) {
+    batch.getUrnAspectsMap().forEach(latestAspectCache::invalidate);
+    if (result != null) {
+      result
+          .getUpdateAspectResults()
+          .forEach(
+              updateResult ->
+                  latestAspectCache.invalidate(
+                      updateResult.getUrn().toString(),
+                      List.of(updateResult.getRequest().getAspectName())));
+    }
+  }
+
+  @Nonnull
+  private IngestAspectsResult ingestBatchToLocalDB(
+      @Nonnull OperationContext opContext,
+      @Nonnull final AspectsBatch inputBatch,
+      boolean overwrite) {
 
     return opContext.withSpan(
         "ingestAspectsToLocalDB",
@@ -999,7 +1171,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                     // read #2 (potentially)
                     final Map<String, Map<String, Long>> nextVersions =
                         EntityUtils.calculateNextVersions(
-                            txContext, aspectDao, batchAspects, urnAspects);
+                            txContext, aspectDao, batchAspects, urnAspects, latestRowVersioning);
 
                     // 1. Convert patches to full upserts
                     // 2. Run any entity/aspect level hooks
@@ -1024,7 +1196,11 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
                       Map<String, Map<String, Long>> newNextVersions =
                           EntityUtils.calculateNextVersions(
-                              txContext, aspectDao, updatedLatestAspects, updatedItems.getFirst());
+                              txContext,
+                              aspectDao,
+                              updatedLatestAspects,
+                              updatedItems.getFirst(),
+                              latestRowVersioning);
                       // merge
                       updatedNextVersions = AspectsBatch.merge(nextVersions, newNextVersions);
 
@@ -1703,6 +1879,31 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
       @Nonnull OperationContext opContext,
       @Nonnull RestoreIndicesArgs args,
       @Nonnull Consumer<String> logger) {
+    // failed batches are logged and skipped, there is no checkpoint to hold back
+    return streamRestoreIndices(opContext, args, logger, null);
+  }
+
+  @Nonnull
+  @Override
+  public List<RestoreIndicesResult> restoreIndices(
+      @Nonnull OperationContext opContext,
+      @Nonnull RestoreIndicesArgs args,
+      @Nonnull Consumer<String> logger,
+      @Nonnull Consumer<RestoreIndicesResult> checkpoint) {
+    return streamRestoreIndices(opContext, args, logger, checkpoint);
+  }
+
+  /**
+   * Restores the indices of the streamed aspect table, batch by batch.
+   *
+   * @param checkpoint when set, the first failed batch stops the restore with an exception, after
+   *     the batches read before it were checkpointed, so that the checkpoint never moves past it
+   */
+  private List<RestoreIndicesResult> streamRestoreIndices(
+      @Nonnull OperationContext opContext,
+      @Nonnull RestoreIndicesArgs args,
+      @Nonnull Consumer<String> logger,
+      @Nullable Consumer<RestoreIndicesResult> checkpoint) {
 
     logger.accept(String.format("Args are %s", args));
     logger.accept(
@@ -1710,40 +1911,129 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
             "Reading rows %s through %s (0 == infinite) in batches of %s from the aspects table started.",
             args.start, args.start + args.limit, args.batchSize));
 
-    long startTime = System.currentTimeMillis();
+    final long startTime = System.currentTimeMillis();
+    // a single batch (i.e. offset based callers) gains nothing from a worker pool
+    final boolean parallel =
+        args.numThreads > 1 && (args.limit <= 0 || args.limit > args.batchSize);
+    final ExecutorService executor =
+        parallel ? Executors.newFixedThreadPool(args.numThreads) : null;
+    // completed in submission order so that checkpoints only ever move forward
+    final Deque<Future<RestoreIndicesResult>> inFlight = new ArrayDeque<>();
+    final List<RestoreIndicesResult> results = new ArrayList<>();
+    final AtomicLong rowsRead = new AtomicLong();
+
+    final Consumer<RestoreIndicesResult> onComplete =
+        result -> {
+          if (result == null) {
+            return;
+          }
+          results.add(result);
+          long rows = rowsRead.addAndGet(result.rowsMigrated + result.ignored + result.skipped);
+          long elapsedMs = Math.max(1, System.currentTimeMillis() - startTime);
+          logger.accept(
+              String.format(
+                  "Read %s rows (%.2f rows/sec), last urn %s, last aspect %s",
+                  rows, rows * 1000.0 / elapsedMs, result.lastUrn, result.lastAspect));
+          if (checkpoint != null) {
+            checkpoint.accept(result);
+          }
+        };
+    final boolean failFast = checkpoint != null;
 
     try (PartitionedStream<EbeanAspectV2> stream = aspectDao.streamAspectBatches(args)) {
-      return stream
-          .partition(args.batchSize)
-          .map(
-              batch -> {
-                long timeSqlQueryMs = System.currentTimeMillis() - startTime;
+      Iterator<Stream<EbeanAspectV2>> batches = stream.partition(args.batchSize).iterator();
+      while (batches.hasNext()) {
+        final List<EbeanAspectV2> batch = batches.next().collect(Collectors.toList());
+        final long timeSqlQueryMs = System.currentTimeMillis() - startTime;
+
+        if (executor == null) {
+          final FutureTask<RestoreIndicesResult> task =
+              new FutureTask<>(
+                  () -> restoreIndicesBatch(opContext, args, batch, timeSqlQueryMs, logger));
+          task.run();
+          onComplete.accept(awaitBatch(task, failFast));
+          continue;
+        }
 
-                try {
-                  List<SystemAspect> systemAspects =
-                      EntityUtils.toSystemAspectFromEbeanAspects(
-                          opContext.getRetrieverContext(), batch.collect(Collectors.toList()));
+        inFlight.add(
+            executor.submit(
+                () -> restoreIndicesBatch(opContext, args, batch, timeSqlQueryMs, logger)));
+        // bound the number of batches held in memory while the workers catch up
+        while (inFlight.size() >= args.numThreads * 2
+            || (!inFlight.isEmpty() && inFlight.peek().isDone())) {
+          onComplete.accept(awaitBatch(inFlight.poll(), failFast));
+        }
+      }
 
-                  RestoreIndicesResult result =
-                      restoreIndices(opContext, systemAspects, logger, args.createDefaultAspects());
-                  result.timeSqlQueryMs = timeSqlQueryMs;
+      while (!inFlight.isEmpty()) {
+        onComplete.accept(awaitBatch(inFlight.poll(), failFast));
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
 
-                  logger.accept("Batch completed.");
-                  try {
-                    TimeUnit.MILLISECONDS.sleep(args.batchDelayMs);
-                  } catch (InterruptedException e) {
-                    throw new RuntimeException(
-                        "Thread interrupted while sleeping after successful batch migration.");
-                  }
+    return results;
+  }
 
-                  return result;
-                } catch (Exception e) {
-                  log.error("Error processing aspect for restore indices.", e);
-                  return null;
-                }
-              })
-          .filter(Objects::nonNull)
-          .collect(Collectors.toList());
+  private RestoreIndicesResult restoreIndicesBatch(
+      @Nonnull OperationContext opContext,
+      @Nonnull RestoreIndicesArgs args,
+      @Nonnull List<EbeanAspectV2> batch,
+      long timeSqlQueryMs,
+      @Nonnull Consumer<String> logger) {
+    List<EbeanAspectV2> shardBatch =
+        args.numShards > 1
+            ? batch.stream()
+                .filter(aspect -> args.inShard(aspect.getKey().getUrn()))
+                .collect(Collectors.toList())
+            : batch;
+    List<SystemAspect> systemAspects =
+        EntityUtils.toSystemAspectFromEbeanAspects(opContext.getRetrieverContext(), shardBatch);
+
+    RestoreIndicesResult result =
+        restoreIndices(opContext, systemAspects, logger, args.createDefaultAspects());
+    result.timeSqlQueryMs = timeSqlQueryMs;
+    result.skipped = batch.size() - shardBatch.size();
+    if (!batch.isEmpty()) {
+      // resume from the last row read, not the last row restored
+      EbeanAspectV2.PrimaryKey lastKey = batch.get(batch.size() - 1).getKey();
+      result.lastUrn = lastKey.getUrn();
+      result.lastAspect = lastKey.getAspect();
+    }
+
+    logger.accept("Batch completed.");
+    try {
+      TimeUnit.MILLISECONDS.sleep(args.batchDelayMs);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(
+          "Thread interrupted while sleeping after successful batch migration.");
+    }
+
+    return result;
+  }
+
+  /**
+   * @param failFast rethrow the failure of the batch instead of skipping it
+   * @return the result of the batch, null if it failed and was skipped
+   */
+  @Nullable
+  private static RestoreIndicesResult awaitBatch(
+      Future<RestoreIndicesResult> future, boolean failFast) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for restore indices batch.", e);
+    } catch (ExecutionException e) {
+      if (failFast) {
+        throw new RuntimeException(
+            "Error processing aspect for restore indices, stopping at the failed batch.",
+            e.getCause());
+      }
+      log.error("Error processing aspect for restore indices.", e.getCause());
+      return null;
     }
   }
 
@@ -2603,7 +2893,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
                             : aspectName,
                         ASPECT_LATEST_VERSION))
             .collect(Collectors.toSet());
-    final Map<EntityAspectIdentifier, EntityAspect> aspects = aspectDao.batchGet(dbKeys, forUpdate);
+    final Map<EntityAspectIdentifier, EntityAspect> aspects = batchGet(dbKeys, forUpdate);
     final Set<String> existingUrnStrings =
         aspects.values().stream()
             .filter(Objects::nonNull)
@@ -2852,6 +3142,11 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
             .stream()
             .findFirst()
             .orElse(null);
+    latestAspectCache.invalidate(
+        urn,
+        result != null && Boolean.TRUE.equals(result.getKeyAffected()) && hardDelete
+            ? opContext.getEntityAspectNames(entityUrn)
+            : List.of(aspectName));
 
     if (result != null) {
       processPostCommitMCLSideEffects(opContext, List.of(result.toMCL(auditStamp)));
@@ -2918,11 +3213,19 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
     Map<EntityAspectIdentifier, EntityAspect> batchGetResults = new HashMap<>();
     Iterators.partition(dbKeys.iterator(), MAX_KEYS_PER_QUERY)
         .forEachRemaining(
-            batch ->
-                batchGetResults.putAll(aspectDao.batchGet(ImmutableSet.copyOf(batch), forUpdate)));
+            batch -> batchGetResults.putAll(batchGet(ImmutableSet.copyOf(batch), forUpdate)));
     return batchGetResults;
   }
 
+  /** Reads the latest rows through the cache, unless they are locked for an update. */
+  @Nonnull
+  private Map<EntityAspectIdentifier, EntityAspect> batchGet(
+      @Nonnull final Set<EntityAspectIdentifier> dbKeys, boolean forUpdate) {
+    return forUpdate
+        ? aspectDao.batchGet(dbKeys, true)
+        : latestAspectCache.batchGet(aspectDao, dbKeys);
+  }
+
   /*
    * When a user tries to fetch a negative version, we want to index most recent to least recent snapshots.
    * To do this, we want to fetch the maximum version and subtract the negative version from that. Since -1 represents
@@ -2938,7 +3241,7 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
 
   private Map<EntityAspectIdentifier, EnvelopedAspect> getEnvelopedAspects(
       @Nonnull OperationContext opContext, final Set<EntityAspectIdentifier> dbKeys) {
-    final Map<EntityAspectIdentifier, EntityAspect> dbEntries = aspectDao.batchGet(dbKeys, false);
+    final Map<EntityAspectIdentifier, EntityAspect> dbEntries = batchGet(dbKeys, false);
 
     List<SystemAspect> envelopedAspects =
         EntityUtils.toSystemAspects(opContext.getRetrieverContext(), dbEntries.values());
@@ -3021,4 +3324,24 @@ public class EntityServiceImpl implements EntityService<ChangeItemImpl> {
       log.debug(message);
     }
   }
+
+  /** Some sub-batches of a batch failed after the others were committed. */
+  private static class PartialIngestException extends RuntimeException {
+    private final IngestAspectsResult committed;
+    private final RuntimeException failure;
+
+    private PartialIngestException(IngestAspectsResult committed, RuntimeException failure) {
+      super(failure);
+      this.committed = committed;
+      this.failure = failure;
+    }
+
+    IngestAspectsResult getCommitted() {
+      return committed;
+    }
+
+    RuntimeException getFailure() {
+      return failure;
+    }
+  }
 }
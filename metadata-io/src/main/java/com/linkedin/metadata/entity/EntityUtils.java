@@ -299,10 +299,34 @@ public class EntityUtils {
       AspectDao aspectDao,
       Map<String, Map<String, T>> latestAspects,
       Map<String, Set<String>> urnAspects) {
+    return calculateNextVersions(txContext, aspectDao, latestAspects, urnAspects, false);
+  }
+
+  /**
+   * Same as {@link #calculateNextVersions(TransactionContext, AspectDao, Map, Map)}, optionally
+   * trusting the version 0 rows read with {@code forUpdate} as the only source of versions.
+   *
+   * <p>With {@code latestRowVersioning} an aspect without a version 0 row is new and starts at
+   * version 0, so the database is only queried for version 0 rows written before the version was
+   * tracked in their system metadata (see the BackfillLatestVersion upgrade) or after a duplicate
+   * key exception, when a stray older version exists without its version 0 row.
+   *
+   * @param latestRowVersioning skip the max(version) lookup for aspects without a version 0 row
+   */
+  public static <T extends SystemAspect> Map<String, Map<String, Long>> calculateNextVersions(
+      TransactionContext txContext,
+      AspectDao aspectDao,
+      Map<String, Map<String, T>> latestAspects,
+      Map<String, Set<String>> urnAspects,
+      boolean latestRowVersioning) {
 
     final Map<String, Map<String, Long>> precalculatedVersions;
     final Map<String, Set<String>> missingAspectVersions;
-    if (txContext.getFailedAttempts() > 2 && txContext.lastExceptionIsDuplicateKey()) {
+    if (latestRowVersioning && txContext.lastExceptionIsDuplicateKey()) {
+      log.warn("DuplicateKey exception detected, fallback to database max(version)+1");
+      precalculatedVersions = Map.of();
+      missingAspectVersions = urnAspects;
+    } else if (txContext.getFailedAttempts() > 2 && txContext.lastExceptionIsDuplicateKey()) {
       log.warn(
           "Multiple exceptions detected, last exception detected as DuplicateKey, fallback to database max(version)+1");
       precalculatedVersions = Map.of();
@@ -328,6 +352,12 @@ public class EntityUtils {
                       !precalculatedVersions
                           .getOrDefault(urnAspectName.getKey(), Map.of())
                           .containsKey(urnAspectName.getValue()))
+              .filter(
+                  urnAspectName ->
+                      !latestRowVersioning
+                          || latestAspects
+                              .getOrDefault(urnAspectName.getKey(), Map.of())
+                              .containsKey(urnAspectName.getValue()))
               .collect(
                   Collectors.groupingBy(
                       Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toSet())));
@@ -0,0 +1,210 @@
+package com.linkedin.metadata.entity;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.metadata.aspect.EntityAspect;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Process wide read-through cache of the latest (version 0) row of aspects, including the absence
+ * of a row. Rows are kept in their stored form, every reader gets its own copy to build its {@link
+ * com.linkedin.metadata.aspect.SystemAspect} from.
+ *
+ * <p>Entries are invalidated by the local writes once they are committed and by the MCLs of the
+ * writes of other instances. Reads from within a write transaction always go to the database. A
+ * load which overlaps an invalidation of its key is dropped, so a slow read cannot reinstate a
+ * stale row. Entries also expire after a while in case an MCL is missed.
+ */
+public class LatestAspectCache {
+
+  /** A cache which never stores anything, every read goes to the database. */
+  public static final LatestAspectCache DISABLED = new LatestAspectCache(0, 0, null);
+
+  private static final int GENERATION_STRIPES = 1024;
+  // Rough size of the key, the row object and the cache entry besides the strings
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  private final boolean enabled;
+  private final Cache<EntityAspectIdentifier, Optional<EntityAspect>> cache;
+  @Nullable private final MetricUtils metricUtils;
+
+  // Bumped by the invalidations of the keys of a stripe, see batchGet
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  private final ThreadLocal<Integer> writeTransactions = ThreadLocal.withInitial(() -> 0);
+
+  private final Map<String, AtomicLong> hits = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> misses = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxWeightBytes approximate memory taken by the cached rows, 0 disables the cache
+   * @param ttlSeconds time an entry stays valid, 0 disables the cache
+   */
+  public LatestAspectCache(long maxWeightBytes, int ttlSeconds, @Nullable MetricUtils metricUtils) {
+    this.enabled = maxWeightBytes > 0 && ttlSeconds > 0;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(Math.max(maxWeightBytes, 0))
+            .weigher(LatestAspectCache::weigh)
+            .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+            .build();
+    this.metricUtils = metricUtils;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Runs a write transaction, the reads it makes through this cache bypass it. Nested calls are
+   * allowed.
+   */
+  public <T> T inWriteTransaction(@Nonnull Supplier<T> transaction) {
+    writeTransactions.set(writeTransactions.get() + 1);
+    try {
+      return transaction.get();
+    } finally {
+      writeTransactions.set(writeTransactions.get() - 1);
+    }
+  }
+
+  /**
+   * Serves the latest rows from the cache and reads the rest, along with any other version, in a
+   * single {@link AspectDao#batchGet} call.
+   *
+   * @return the existing rows
+   */
+  @Nonnull
+  public Map<EntityAspectIdentifier, EntityAspect> batchGet(
+      @Nonnull AspectDao aspectDao, @Nonnull Set<EntityAspectIdentifier> keys) {
+    if (!enabled || writeTransactions.get() > 0) {
+      return aspectDao.batchGet(keys, false);
+    }
+
+    final Map<EntityAspectIdentifier, EntityAspect> results = new HashMap<>();
+    final Map<EntityAspectIdentifier, Long> loadGenerations = new HashMap<>();
+    final Set<EntityAspectIdentifier> toLoad = new HashSet<>();
+    final Map<String, Integer> aspectHits = new HashMap<>();
+    final Map<String, Integer> aspectMisses = new HashMap<>();
+    for (EntityAspectIdentifier key : keys) {
+      if (key.getVersion() != ASPECT_LATEST_VERSION) {
+        toLoad.add(key);
+        continue;
+      }
+      Optional<EntityAspect> cached = cache.getIfPresent(key);
+      if (cached != null) {
+        aspectHits.merge(key.getAspect(), 1, Integer::sum);
+        cached.ifPresent(row -> results.put(key, copy(row)));
+      } else {
+        aspectMisses.merge(key.getAspect(), 1, Integer::sum);
+        loadGenerations.put(key, generations.get(stripe(key)));
+        toLoad.add(key);
+      }
+    }
+    aspectHits.forEach((aspectName, count) -> record(hits, aspectName, count));
+    aspectMisses.forEach((aspectName, count) -> record(misses, aspectName, count));
+
+    if (!toLoad.isEmpty()) {
+      final Map<EntityAspectIdentifier, EntityAspect> loaded = aspectDao.batchGet(toLoad, false);
+      results.putAll(loaded);
+      loadGenerations.forEach(
+          (key, loadGeneration) -> {
+            EntityAspect row = loaded.get(key);
+            cache.put(key, Optional.ofNullable(row == null ? null : copy(row)));
+            // Stored first and checked after, an invalidation cannot slip in between
+            if (generations.get(stripe(key)) != loadGeneration) {
+              cache.invalidate(key);
+            }
+          });
+    }
+    return results;
+  }
+
+  /** Drops the latest rows of the given aspects of the entity. */
+  public void invalidate(@Nonnull String urn, @Nonnull Collection<String> aspectNames) {
+    if (!enabled) {
+      return;
+    }
+    for (String aspectName : aspectNames) {
+      EntityAspectIdentifier key =
+          new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+      generations.incrementAndGet(stripe(key));
+      cache.invalidate(key);
+    }
+  }
+
+  public void invalidateAll() {
+    for (int i = 0; i < GENERATION_STRIPES; i++) {
+      generations.incrementAndGet(i);
+    }
+    cache.invalidateAll();
+  }
+
+  /** Share of the reads of the aspect served from the cache. */
+  public double getHitRate(@Nonnull String aspectName) {
+    long hitCount = getHitCount(aspectName);
+    long total = hitCount + getMissCount(aspectName);
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  @VisibleForTesting
+  long getHitCount(@Nonnull String aspectName) {
+    return hits.getOrDefault(aspectName, new AtomicLong()).get();
+  }
+
+  @VisibleForTesting
+  long getMissCount(@Nonnull String aspectName) {
+    return misses.getOrDefault(aspectName, new AtomicLong()).get();
+  }
+
+  private void record(Map<String, AtomicLong> counters, String aspectName, int count) {
+    counters.computeIfAbsent(aspectName, k -> new AtomicLong()).addAndGet(count);
+    if (metricUtils != null) {
+      metricUtils.increment(
+          this.getClass(), aspectName + (counters == hits ? "_cacheHit" : "_cacheMiss"), count);
+      metricUtils.setGaugeValue(
+          this.getClass(), aspectName + "_cacheHitRate", getHitRate(aspectName));
+    }
+  }
+
+  private static int stripe(EntityAspectIdentifier key) {
+    return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+  }
+
+  private static EntityAspect copy(EntityAspect row) {
+    return row.toBuilder().build();
+  }
+
+  private static int weigh(EntityAspectIdentifier key, Optional<EntityAspect> row) {
+    long chars =
+        key.getUrn().length()
+            + key.getAspect().length()
+            + row.map(
+                    value ->
+                        length(value.getMetadata())
+                            + length(value.getSystemMetadata())
+                            + length(value.getCreatedBy())
+                            + length(value.getCreatedFor()))
+                .orElse(0L);
+    return (int) Math.min(ENTRY_OVERHEAD_BYTES + 2 * chars, Integer.MAX_VALUE);
+  }
+
+  private static long length(@Nullable String value) {
+    return value == null ? 0 : value.length();
+  }
+}
@@ -0,0 +1,92 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * In-process write locks per urn. Threads of this instance writing the same urn wait for each
+ * other here instead of conflicting on the {@code SELECT ... FOR UPDATE} row locks of the database
+ * and retrying their whole transaction. Writers of different urns never wait for each other.
+ */
+public class UrnWriteLocks {
+
+  /** No locking, writers only rely on the database. */
+  public static final UrnWriteLocks DISABLED = new UrnWriteLocks(false);
+
+  private final boolean enabled;
+
+  // Locks of the urns currently held or waited for, removed by their last user
+  private final Map<String, UrnLock> locks = new ConcurrentHashMap<>();
+
+  public UrnWriteLocks(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Locks all the urns until the returned handle is closed. Urns are always locked in the same
+   * order, so two callers with overlapping urns cannot deadlock.
+   */
+  @Nonnull
+  public Held lock(@Nonnull Collection<String> urns) {
+    if (!enabled || urns.isEmpty()) {
+      return () -> {};
+    }
+    final List<String> ordered = urns.stream().distinct().sorted().collect(Collectors.toList());
+    final List<String> held = new ArrayList<>(ordered.size());
+    try {
+      for (String urn : ordered) {
+        UrnLock urnLock =
+            locks.compute(
+                urn,
+                (key, existing) -> {
+                  UrnLock acquired = existing == null ? new UrnLock() : existing;
+                  acquired.users++;
+                  return acquired;
+                });
+        held.add(urn);
+        urnLock.lock.lock();
+      }
+    } catch (RuntimeException e) {
+      unlock(held);
+      throw e;
+    }
+    return () -> unlock(held);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return locks.size();
+  }
+
+  private void unlock(List<String> held) {
+    for (int i = held.size() - 1; i >= 0; i--) {
+      locks.computeIfPresent(
+          held.get(i),
+          (key, urnLock) -> {
+            if (urnLock.lock.isHeldByCurrentThread()) {
+              urnLock.lock.unlock();
+            }
+            return --urnLock.users == 0 ? null : urnLock;
+          });
+    }
+  }
+
+  /** Lock of an urn along with the number of threads holding or waiting for it. */
+  private static class UrnLock {
+    private final ReentrantLock lock = new ReentrantLock();
+    private int users;
+  }
+
+  /** Locks taken by {@link #lock(Collection)}. */
+  public interface Held extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -716,6 +716,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     // Default state is rollback
     TransactionResult<T> result = TransactionResult.rollback();
     do {
+      // Together with txFailed gives the retry rate
+      if (metricUtils != null)
+        metricUtils.increment(MetricRegistry.name(this.getClass(), "txAttempt"), 1);
       try (Transaction transaction =
           server.beginTransaction(TxScope.requiresNew().setIsolation(TX_ISOLATION))) {
         transaction.setBatchMode(true);
@@ -937,6 +940,37 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return ebeanAspects.stream().map(EbeanAspectV2::toEntityAspect).collect(Collectors.toList());
   }
 
+  @Override
+  @Nonnull
+  public List<EntityAspect> getAspectKeysInRange(
+      @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis) {
+    validateConnection();
+    List<EbeanAspectV2> ebeanAspects =
+        server
+            .find(EbeanAspectV2.class)
+            .select(String.join(",", EbeanAspectV2.KEY_ID, EbeanAspectV2.CREATED_ON_COLUMN))
+            .setDisableLazyLoading(true)
+            .where()
+            .eq(EbeanAspectV2.URN_COLUMN, urn.toString())
+            .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+            .inRange(
+                EbeanAspectV2.CREATED_ON_COLUMN,
+                new Timestamp(startTimeMillis),
+                new Timestamp(endTimeMillis))
+            .findList();
+    // Only the selected columns, the others are not loaded
+    return ebeanAspects.stream()
+        .map(
+            ebeanAspect ->
+                EntityAspect.builder()
+                    .urn(ebeanAspect.getKey().getUrn())
+                    .aspect(ebeanAspect.getKey().getAspect())
+                    .version(ebeanAspect.getKey().getVersion())
+                    .createdOn(ebeanAspect.getCreatedOn())
+                    .build())
+        .collect(Collectors.toList());
+  }
+
   private static Map<String, SystemAspect> toAspectMap(
       @Nonnull EntityRegistry entityRegistry, Set<EbeanAspectV2> beans) {
     return beans.stream()
@@ -2,34 +2,95 @@ package com.linkedin.metadata.graph;
 
 import static com.linkedin.metadata.Constants.*;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.Siblings;
-import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.config.ConfigUtils;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.validation.ValidationUtils;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Combines the lineage of an entity with the lineage of its siblings. The lineage of all the
+ * siblings is fetched concurrently, the sibling groups can be cached for a while, in which case
+ * they are to be invalidated once the siblings of an entity change.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class SiblingGraphService {
 
+  /** The entity, its siblings, their siblings and so on. */
+  @Value
+  private static class SiblingGroup {
+    List<Urn> members;
+    // the members with siblings of their own
+    Set<Urn> withSiblings;
+  }
+
   private final EntityService _entityService;
   private final GraphService _graphService;
+  private final ExecutorService _lineageExecutor;
+  @Nullable private final Cache<Urn, SiblingGroup> _siblingGroups;
+
+  public SiblingGraphService(EntityService entityService, GraphService graphService) {
+    this(entityService, graphService, 0, 0, 0);
+  }
+
+  /**
+   * @param lineageConcurrency threads fetching the lineage of the siblings, 0 fetches it in the
+   *     calling thread
+   * @param siblingGroupCacheSize number of sibling groups cached, 0 disables the cache
+   * @param siblingGroupCacheTtlSeconds time a sibling group is cached for
+   */
+  public SiblingGraphService(
+      EntityService entityService,
+      GraphService graphService,
+      int lineageConcurrency,
+      int siblingGroupCacheSize,
+      int siblingGroupCacheTtlSeconds) {
+    _entityService = entityService;
+    _graphService = graphService;
+    _lineageExecutor =
+        lineageConcurrency > 0
+            ? Executors.newFixedThreadPool(
+                lineageConcurrency,
+                new ThreadFactoryBuilder()
+                    .setNameFormat("sibling-lineage-%d")
+                    .setDaemon(true)
+                    .build())
+            : MoreExecutors.newDirectExecutorService();
+    _siblingGroups =
+        siblingGroupCacheSize > 0 && siblingGroupCacheTtlSeconds > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(siblingGroupCacheSize)
+                .expireAfterWrite(siblingGroupCacheTtlSeconds, TimeUnit.SECONDS)
+                .build()
+            : null;
+  }
 
   @Nonnull
   public EntityLineageResult getLineage(
@@ -99,65 +160,215 @@ public class SiblingGraphService {
               "More than 1 hop is not supported for %s", this.getClass().getSimpleName()));
     }
 
-    EntityLineageResult entityLineage =
-        _graphService.getLineage(opContext, entityUrn, direction, offset, count, maxHops);
+    final SiblingGroup siblingGroup = getSiblingGroup(opContext, entityUrn);
+
+    // without siblings, the lineage is passed through
+    if (!siblingGroup.getWithSiblings().contains(entityUrn)) {
+      return ValidationUtils.validateEntityLineageResult(
+          opContext,
+          _graphService.getLineage(opContext, entityUrn, direction, offset, count, maxHops),
+          _entityService,
+          includeGhostEntities);
+    }
+
+    visitedUrns.add(entityUrn);
+    final List<Urn> members = new ArrayList<>();
+    members.add(entityUrn);
+    for (Urn siblingUrn : siblingGroup.getMembers()) {
+      if (visitedUrns.add(siblingUrn)) {
+        members.add(siblingUrn);
+      }
+    }
+    final Set<Urn> allSiblingsInGroup = new HashSet<>(siblingGroup.getMembers());
+
+    // fetch the lineage of the whole group at once. The page of a sibling depends on the lineage
+    // of the previous ones, so it is cut from its first offset + count relationships afterwards
+    final int entityOffset = offset;
+    final int entityCount = count;
+    final List<CompletableFuture<EntityLineageResult>> futures =
+        members.stream()
+            .map(
+                urn ->
+                    CompletableFuture.supplyAsync(
+                        () ->
+                            urn.equals(entityUrn)
+                                ? _graphService.getLineage(
+                                    opContext, urn, direction, entityOffset, entityCount, maxHops)
+                                : _graphService.getLineage(
+                                    opContext,
+                                    urn,
+                                    direction,
+                                    0,
+                                    entityOffset + entityCount,
+                                    maxHops),
+                        _lineageExecutor))
+            .collect(Collectors.toList());
+    final List<EntityLineageResult> memberLineages =
+        futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
 
-    Siblings siblingAspectOfEntity =
-        (Siblings) _entityService.getLatestAspect(opContext, entityUrn, SIBLINGS_ASPECT_NAME);
+    // a single existence check and siblings lookup for the lineage of all the siblings
+    final Set<Urn> validUrns = getValidUrns(opContext, memberLineages, includeGhostEntities);
+    final Map<Urn, List<RecordTemplate>> siblingAspects =
+        _entityService.getLatestAspects(
+            opContext, validUrns, ImmutableSet.of(SIBLINGS_ASPECT_NAME));
 
-    // if you have siblings, we want to fetch their lineage too and merge it in
-    if (siblingAspectOfEntity != null && siblingAspectOfEntity.hasSiblings()) {
-      UrnArray siblingUrns = siblingAspectOfEntity.getSiblings();
-      Set<Urn> allSiblingsInGroup = new HashSet<>(siblingUrns);
-      allSiblingsInGroup.add(entityUrn);
+    EntityLineageResult entityLineage = null;
+    for (int i = 0; i < members.size(); i++) {
+      final Urn memberUrn = members.get(i);
+      EntityLineageResult memberLineage =
+          retainValid(
+              i == 0 ? memberLineages.get(i) : page(memberLineages.get(i), offset, count),
+              validUrns);
 
       // remove your siblings from your lineage
-      entityLineage =
-          filterLineageResultFromSiblings(
-              opContext, entityUrn, allSiblingsInGroup, entityLineage, null, includeGhostEntities);
+      if (siblingGroup.getWithSiblings().contains(memberUrn)) {
+        memberLineage =
+            filterLineageResultFromSiblings(
+                memberUrn, allSiblingsInGroup, memberLineage, null, siblingAspects);
+      }
 
       // Update offset and count to fetch the correct number of edges from the next sibling node
-      offset = Math.max(0, offset - entityLineage.getTotal());
-      count = Math.max(0, count - entityLineage.getRelationships().size());
-
-      visitedUrns.add(entityUrn);
-      // iterate through each sibling and include their lineage in the bunch
-      for (Urn siblingUrn : siblingUrns) {
-        if (visitedUrns.contains(siblingUrn)) {
-          continue;
+      offset = Math.max(0, offset - memberLineage.getTotal());
+      count = Math.max(0, count - memberLineage.getRelationships().size());
+
+      // include the lineage of the sibling in the bunch
+      entityLineage =
+          i == 0
+              ? memberLineage
+              : filterLineageResultFromSiblings(
+                  memberUrn, allSiblingsInGroup, memberLineage, entityLineage, siblingAspects);
+    }
+
+    return entityLineage;
+  }
+
+  /**
+   * Drops the cached sibling groups any of the entities belongs to, to be called once their
+   * siblings changed.
+   */
+  public void invalidateSiblingGroups(@Nonnull Collection<Urn> urns) {
+    if (_siblingGroups != null) {
+      _siblingGroups
+          .asMap()
+          .values()
+          .removeIf(group -> group.getMembers().stream().anyMatch(urns::contains));
+    }
+  }
+
+  @Nonnull
+  private SiblingGroup getSiblingGroup(@Nonnull OperationContext opContext, @Nonnull Urn urn) {
+    if (_siblingGroups == null) {
+      return resolveSiblingGroup(opContext, urn);
+    }
+    try {
+      return _siblingGroups.get(urn, () -> resolveSiblingGroup(opContext, urn));
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to resolve the siblings of " + urn, e.getCause());
+    }
+  }
+
+  /**
+   * Resolves the siblings of the entity, the siblings of these and so on. The siblings aspects of
+   * each level are read in one batch.
+   */
+  @Nonnull
+  private SiblingGroup resolveSiblingGroup(@Nonnull OperationContext opContext, @Nonnull Urn urn) {
+    final Siblings siblingAspectOfEntity =
+        (Siblings) _entityService.getLatestAspect(opContext, urn, SIBLINGS_ASPECT_NAME);
+    if (siblingAspectOfEntity == null || !siblingAspectOfEntity.hasSiblings()) {
+      return new SiblingGroup(ImmutableList.of(urn), ImmutableSet.of());
+    }
+
+    final Set<Urn> members = new LinkedHashSet<>();
+    final Set<Urn> withSiblings = new HashSet<>();
+    members.add(urn);
+    withSiblings.add(urn);
+    List<Urn> level =
+        siblingAspectOfEntity.getSiblings().stream()
+            .filter(members::add)
+            .collect(Collectors.toList());
+    while (!level.isEmpty()) {
+      final Map<Urn, List<RecordTemplate>> siblingAspects =
+          _entityService.getLatestAspects(
+              opContext, new HashSet<>(level), ImmutableSet.of(SIBLINGS_ASPECT_NAME));
+      final List<Urn> nextLevel = new ArrayList<>();
+      for (Urn siblingUrn : level) {
+        final Optional<Siblings> siblingsAspect =
+            siblingAspects.getOrDefault(siblingUrn, ImmutableList.of()).stream()
+                .filter(aspect -> aspect instanceof Siblings)
+                .map(aspect -> (Siblings) aspect)
+                .findAny();
+        if (siblingsAspect.isPresent() && siblingsAspect.get().hasSiblings()) {
+          withSiblings.add(siblingUrn);
+          for (Urn nextUrn : siblingsAspect.get().getSiblings()) {
+            if (members.add(nextUrn)) {
+              nextLevel.add(nextUrn);
+            }
+          }
         }
-        // need to call siblingGraphService to get sibling results for this sibling entity in case
-        // there is more than one sibling
-        EntityLineageResult nextEntityLineage =
-            filterLineageResultFromSiblings(
-                opContext,
-                siblingUrn,
-                allSiblingsInGroup,
-                getLineage(
-                    opContext,
-                    siblingUrn,
-                    direction,
-                    offset,
-                    count,
-                    maxHops,
-                    false,
-                    includeGhostEntities,
-                    visitedUrns),
-                entityLineage,
-                includeGhostEntities);
-
-        // Update offset and count to fetch the correct number of edges from the next sibling node
-        offset = Math.max(0, offset - nextEntityLineage.getTotal());
-        count = Math.max(0, count - nextEntityLineage.getCount() - entityLineage.getCount());
-
-        entityLineage.setFiltered(getFiltered(entityLineage) + getFiltered(nextEntityLineage));
-        entityLineage = nextEntityLineage;
       }
-      ;
+      level = nextLevel;
     }
+    return new SiblingGroup(ImmutableList.copyOf(members), ImmutableSet.copyOf(withSiblings));
+  }
 
+  @Nonnull
+  private Set<Urn> getValidUrns(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<EntityLineageResult> lineages,
+      boolean includeGhostEntities) {
+    final LineageRelationshipArray relationships =
+        lineages.stream()
+            .flatMap(lineage -> lineage.getRelationships().stream())
+            .collect(Collectors.toCollection(LineageRelationshipArray::new));
     return ValidationUtils.validateEntityLineageResult(
-        opContext, entityLineage, _entityService, includeGhostEntities);
+            opContext,
+            new EntityLineageResult()
+                .setStart(0)
+                .setCount(relationships.size())
+                .setTotal(relationships.size())
+                .setRelationships(relationships),
+            _entityService,
+            includeGhostEntities)
+        .getRelationships()
+        .stream()
+        .map(LineageRelationship::getEntity)
+        .collect(Collectors.toSet());
+  }
+
+  // same as ValidationUtils.validateEntityLineageResult, given the urns which passed validation
+  private EntityLineageResult retainValid(
+      @Nonnull EntityLineageResult entityLineageResult, @Nonnull Set<Urn> validUrns) {
+    final LineageRelationshipArray validRelationships =
+        entityLineageResult.getRelationships().stream()
+            .filter(relationship -> validUrns.contains(relationship.getEntity()))
+            .collect(Collectors.toCollection(LineageRelationshipArray::new));
+    return new EntityLineageResult()
+        .setStart(entityLineageResult.getStart())
+        .setCount(entityLineageResult.getCount())
+        .setTotal(entityLineageResult.getTotal())
+        .setFiltered(
+            getFiltered(entityLineageResult)
+                + entityLineageResult.getRelationships().size()
+                - validRelationships.size())
+        .setRelationships(validRelationships);
+  }
+
+  // cuts the page at offset out of the relationships fetched from offset 0
+  private EntityLineageResult page(
+      @Nonnull EntityLineageResult entityLineageResult, int offset, int count) {
+    final LineageRelationshipArray relationships = entityLineageResult.getRelationships();
+    if (offset == 0 && count >= relationships.size()) {
+      return entityLineageResult;
+    }
+    final int from = Math.min(offset, relationships.size());
+    final int to = Math.min(from + count, relationships.size());
+    return new EntityLineageResult()
+        .setStart(offset)
+        .setCount(to - from)
+        .setTotal(entityLineageResult.getTotal())
+        .setFiltered(getFiltered(entityLineageResult))
+        .setRelationships(new LineageRelationshipArray(relationships.subList(from, to)));
   }
 
   private int getFiltered(@Nullable EntityLineageResult entityLineageResult) {
@@ -169,12 +380,11 @@ public class SiblingGraphService {
   // takes a lineage result and removes any nodes that are siblings of some other node already in
   // the result
   private EntityLineageResult filterLineageResultFromSiblings(
-      @Nonnull OperationContext opContext,
       @Nonnull final Urn urn,
       @Nonnull final Set<Urn> allSiblingsInGroup,
       @Nonnull final EntityLineageResult entityLineageResult,
       @Nullable final EntityLineageResult existingResult,
-      boolean includeGhostEntities) {
+      @Nonnull final Map<Urn, List<RecordTemplate>> siblingAspects) {
     int numFiltered = 0;
 
     // 1) remove the source entities siblings from this entity's downstreams
@@ -218,14 +428,10 @@ public class SiblingGraphService {
                     : ImmutableList.<LineageRelationship>of().stream())
             .collect(Collectors.toList());
 
-    // 4) fetch the siblings of each lineage result
+    // 4) the siblings of each lineage result are read upfront
     final Set<Urn> combinedResultUrns =
         combinedResults.stream().map(LineageRelationship::getEntity).collect(Collectors.toSet());
 
-    final Map<Urn, List<RecordTemplate>> siblingAspects =
-        _entityService.getLatestAspects(
-            opContext, combinedResultUrns, ImmutableSet.of(SIBLINGS_ASPECT_NAME));
-
     // 5) if you are not primary & your sibling is in the results, filter yourself out of the return
     // set
     Map<Boolean, List<LineageRelationship>> partitionedFilteredSiblings =
@@ -266,7 +472,6 @@ public class SiblingGraphService {
     combinedLineageResult.setCount(uniqueFilteredRelationships.size());
     combinedLineageResult.setFiltered(
         numFiltered + getFiltered(existingResult) + getFiltered(entityLineageResult));
-    return ValidationUtils.validateEntityLineageResult(
-        opContext, combinedLineageResult, _entityService, includeGhostEntities);
+    return combinedLineageResult;
   }
 }
@@ -56,6 +56,10 @@ public class ESGraphQueryDAO implements GraphQueryDAO {
     return config;
   }
 
+  public void setEdgeStatusIndex(@Nonnull EdgeStatusIndex edgeStatusIndex) {
+    delegate.setEdgeStatusIndex(edgeStatusIndex);
+  }
+
   @Override
   public LineageResponse getLineage(
       @Nonnull OperationContext opContext,
@@ -0,0 +1,274 @@
+package com.linkedin.metadata.graph.elastic;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+
+/**
+ * Side index of the soft-delete status changes of urns which are not applied to the graph edges
+ * yet. A status change is a single document written here instead of an update by query over every
+ * edge of the urn. Graph queries overlay the pending statuses on the status fields of the edges,
+ * until a background reconciler has applied them to the edges and removed them from this index.
+ *
+ * <p>The pending statuses are expected to be few, they are read in full and cached in memory for
+ * {@code refreshSeconds}.
+ */
+@Slf4j
+public class EdgeStatusIndex {
+  public static final String INDEX_NAME = "graph_edge_status_v1";
+  public static final EdgeStatusIndex DISABLED =
+      new EdgeStatusIndex(null, null, null, "MD5", 0, 0, 0, 0, null);
+
+  private static final String URN_FIELD = "urn";
+  private static final String REMOVED_FIELD = "removed";
+  private static final String UPDATED_ON_FIELD = "updatedOn";
+
+  /** Status changes of urns not yet applied to the edges. */
+  @Value
+  public static class PendingStatuses {
+    public static final PendingStatuses EMPTY =
+        new PendingStatuses(Collections.emptySet(), Collections.emptySet());
+
+    Set<String> removed;
+    Set<String> restored;
+
+    public boolean isEmpty() {
+      return removed.isEmpty() && restored.isEmpty();
+    }
+  }
+
+  private final RestHighLevelClient searchClient;
+  private final ESBulkProcessor bulkProcessor;
+  private final IndexConvention indexConvention;
+  private final String idHashAlgo;
+  private final int maxPending;
+  private final long reconcileIntervalSeconds;
+  private final int reconcileBatchSize;
+  @Nullable private final MetricUtils metricUtils;
+
+  private final Supplier<PendingStatuses> pending;
+  private volatile PendingStatuses lastPending = PendingStatuses.EMPTY;
+  private ScheduledExecutorService reconciler;
+
+  public EdgeStatusIndex(
+      RestHighLevelClient searchClient,
+      ESBulkProcessor bulkProcessor,
+      IndexConvention indexConvention,
+      @Nonnull String idHashAlgo,
+      long refreshSeconds,
+      int maxPending,
+      long reconcileIntervalSeconds,
+      int reconcileBatchSize,
+      @Nullable MetricUtils metricUtils) {
+    this.searchClient = searchClient;
+    this.bulkProcessor = bulkProcessor;
+    this.indexConvention = indexConvention;
+    this.idHashAlgo = idHashAlgo;
+    this.maxPending = maxPending;
+    this.reconcileIntervalSeconds = reconcileIntervalSeconds;
+    this.reconcileBatchSize = reconcileBatchSize;
+    this.metricUtils = metricUtils;
+    this.pending =
+        refreshSeconds > 0
+            ? Suppliers.memoizeWithExpiration(this::loadPending, refreshSeconds, TimeUnit.SECONDS)
+            : this::loadPending;
+  }
+
+  public boolean isEnabled() {
+    return searchClient != null;
+  }
+
+  public String getIndexName() {
+    return indexConvention.getIndexName(INDEX_NAME);
+  }
+
+  public static Map<String, Object> getMappings() {
+    return ImmutableMap.of(
+        "properties",
+        ImmutableMap.of(
+            URN_FIELD, ImmutableMap.of("type", "keyword"),
+            REMOVED_FIELD, ImmutableMap.of("type", "boolean"),
+            UPDATED_ON_FIELD, ImmutableMap.of("type", "date", "format", "epoch_millis")));
+  }
+
+  /** Records the status of the urn, to be applied to its edges by the reconciler. */
+  public void setStatus(@Nonnull Urn urn, boolean removed) {
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    document.put(URN_FIELD, urn.toString());
+    document.put(REMOVED_FIELD, removed);
+    document.put(UPDATED_ON_FIELD, System.currentTimeMillis());
+    bulkProcessor.add(
+        new UpdateRequest(getIndexName(), toDocId(urn))
+            .detectNoop(false)
+            .docAsUpsert(true)
+            .doc(document.toString(), XContentType.JSON));
+    if (metricUtils != null) {
+      metricUtils.increment(getClass(), "statusChange", 1);
+    }
+  }
+
+  /** The statuses not yet applied to the edges, empty when disabled. */
+  @Nonnull
+  public PendingStatuses getPending() {
+    return isEnabled() ? pending.get() : PendingStatuses.EMPTY;
+  }
+
+  /**
+   * Periodically applies the pending statuses with the given function, which has to update all the
+   * edges of the urn and return whether it did.
+   */
+  public synchronized void startReconciler(@Nonnull BiPredicate<Urn, Boolean> applyStatus) {
+    if (!isEnabled() || reconcileIntervalSeconds <= 0 || reconciler != null) {
+      return;
+    }
+    reconciler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("edge-status-reconciler-%d")
+                .build());
+    reconciler.scheduleWithFixedDelay(
+        () -> reconcile(applyStatus),
+        reconcileIntervalSeconds,
+        reconcileIntervalSeconds,
+        TimeUnit.SECONDS);
+  }
+
+  /**
+   * Applies the oldest pending statuses. A status is only removed from the index if all the edges
+   * were updated and it was not changed again while being applied, otherwise it is applied again on
+   * the next run.
+   *
+   * @return the number of statuses applied
+   */
+  @VisibleForTesting
+  int reconcile(@Nonnull BiPredicate<Urn, Boolean> applyStatus) {
+    int applied = 0;
+    try {
+      final SearchRequest searchRequest =
+          new SearchRequest(getIndexName())
+              .source(
+                  new SearchSourceBuilder()
+                      .query(QueryBuilders.matchAllQuery())
+                      .size(reconcileBatchSize)
+                      .sort(UPDATED_ON_FIELD, SortOrder.ASC)
+                      .seqNoAndPrimaryTerm(true));
+      final SearchResponse response = searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      for (SearchHit hit : response.getHits().getHits()) {
+        final Map<String, Object> source = hit.getSourceAsMap();
+        if (!applyStatus.test(
+            UrnUtils.getUrn((String) source.get(URN_FIELD)), (Boolean) source.get(REMOVED_FIELD))) {
+          log.warn(
+              "Failed to apply the status of {}, retrying on the next run", source.get(URN_FIELD));
+          continue;
+        }
+        try {
+          searchClient.delete(
+              new DeleteRequest(getIndexName(), hit.getId())
+                  .setIfSeqNo(hit.getSeqNo())
+                  .setIfPrimaryTerm(hit.getPrimaryTerm()),
+              RequestOptions.DEFAULT);
+        } catch (OpenSearchStatusException e) {
+          if (e.status() != RestStatus.CONFLICT) {
+            throw e;
+          }
+          log.debug("Status of {} changed while being applied", source.get(URN_FIELD));
+        }
+        applied++;
+      }
+    } catch (Exception e) {
+      log.warn("Failed to apply the pending edge statuses", e);
+    }
+    if (metricUtils != null && applied > 0) {
+      metricUtils.increment(getClass(), "reconciled", applied);
+    }
+    return applied;
+  }
+
+  private PendingStatuses loadPending() {
+    try {
+      final SearchRequest searchRequest =
+          new SearchRequest(getIndexName())
+              .source(
+                  new SearchSourceBuilder()
+                      .query(QueryBuilders.matchAllQuery())
+                      .size(maxPending)
+                      .fetchSource(new String[] {URN_FIELD, REMOVED_FIELD}, null));
+      final SearchResponse response = searchClient.search(searchRequest, RequestOptions.DEFAULT);
+      final Set<String> removed = new HashSet<>();
+      final Set<String> restored = new HashSet<>();
+      for (SearchHit hit : response.getHits().getHits()) {
+        final Map<String, Object> source = hit.getSourceAsMap();
+        if (Boolean.TRUE.equals(source.get(REMOVED_FIELD))) {
+          removed.add((String) source.get(URN_FIELD));
+        } else {
+          restored.add((String) source.get(URN_FIELD));
+        }
+      }
+      final long total = response.getHits().getTotalHits().value;
+      if (total > maxPending) {
+        log.warn(
+            "{} pending edge statuses, only the first {} are applied to queries",
+            total,
+            maxPending);
+      }
+      if (metricUtils != null) {
+        metricUtils.setGaugeValue(getClass(), "pending", total);
+      }
+      lastPending = new PendingStatuses(removed, restored);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to read the pending edge statuses, using the last ones read", e);
+    }
+    return lastPending;
+  }
+
+  private String toDocId(@Nonnull Urn urn) {
+    try {
+      final MessageDigest md = MessageDigest.getInstance(idHashAlgo);
+      return Base64.getEncoder()
+          .encodeToString(md.digest(urn.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      log.error("Unable to hash document ID, returning unhashed id: " + urn);
+      return urn.toString();
+    }
+  }
+}
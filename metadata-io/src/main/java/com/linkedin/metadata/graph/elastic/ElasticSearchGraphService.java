@@ -61,6 +61,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.script.Script;
@@ -82,6 +83,19 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   public static final String INDEX_NAME = "graph_service_v1";
   private static final Map<String, Object> EMPTY_HASH = new HashMap<>();
 
+  @Nonnull private EdgeStatusIndex edgeStatusIndex = EdgeStatusIndex.DISABLED;
+
+  /**
+   * Records soft-delete status changes in the given side index instead of updating every edge of
+   * the urn, the edges are updated in the background.
+   */
+  public void setEdgeStatusIndex(@Nonnull EdgeStatusIndex edgeStatusIndex) {
+    this.edgeStatusIndex = edgeStatusIndex;
+    graphReadDAO.setEdgeStatusIndex(edgeStatusIndex);
+    edgeStatusIndex.startReconciler(
+        (urn, removed) -> updateEdgeStatus(urn, removed, EdgeUrnType.values()));
+  }
+
   private static String toDocument(@Nonnull final Edge edge) {
     final ObjectNode searchDocument = JsonNodeFactory.instance.objectNode();
 
@@ -274,7 +288,24 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   @Override
   public void setEdgeStatus(
       @Nonnull Urn urn, boolean removed, @Nonnull EdgeUrnType... edgeUrnTypes) {
+    // Pending statuses apply to every urn of the edges
+    if (edgeStatusIndex.isEnabled()
+        && Set.of(edgeUrnTypes).containsAll(Arrays.asList(EdgeUrnType.values()))) {
+      edgeStatusIndex.setStatus(urn, removed);
+    } else {
+      updateEdgeStatus(urn, removed, edgeUrnTypes);
+    }
+  }
 
+  /**
+   * Updates the status fields of the edges of the urn.
+   *
+   * @return whether every edge was updated, false if any update by query failed, timed out or hit
+   *     a version conflict
+   */
+  private boolean updateEdgeStatus(
+      @Nonnull Urn urn, boolean removed, @Nonnull EdgeUrnType... edgeUrnTypes) {
+    boolean updated = true;
     for (EdgeUrnType edgeUrnType : edgeUrnTypes) {
       // Update the graph status fields per urn type which do not match target state
       QueryBuilder negativeQuery = getUrnStatusQuery(edgeUrnType, urn, !removed);
@@ -289,8 +320,17 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
               scriptContent,
               Collections.singletonMap("newValue", removed));
 
-      graphWriteDAO.updateByQuery(script, negativeQuery);
+      final BulkByScrollResponse response = graphWriteDAO.updateByQuery(script, negativeQuery);
+      if (response == null
+          || response.isTimedOut()
+          || !response.getBulkFailures().isEmpty()
+          || !response.getSearchFailures().isEmpty()
+          || response.getVersionConflicts() > 0) {
+        log.warn("Failed to update the {} status of the edges of {}", edgeUrnType, urn);
+        updated = false;
+      }
     }
+    return updated;
   }
 
   public void removeEdgesFromNode(
@@ -318,17 +358,30 @@ public class ElasticSearchGraphService implements GraphService, ElasticSearchInd
   @Override
   public List<ReindexConfig> buildReindexConfigs(
       Collection<Pair<Urn, StructuredPropertyDefinition>> properties) throws IOException {
-    return List.of(
+    final List<ReindexConfig> configs = new ArrayList<>();
+    configs.add(
         indexBuilder.buildReindexState(
             indexConvention.getIndexName(INDEX_NAME),
             GraphRelationshipMappingsBuilder.getMappings(),
             Collections.emptyMap()));
+    if (edgeStatusIndex.isEnabled()) {
+      configs.add(
+          indexBuilder.buildReindexState(
+              edgeStatusIndex.getIndexName(),
+              EdgeStatusIndex.getMappings(),
+              Collections.emptyMap()));
+    }
+    return configs;
   }
 
   @Override
   public void clear() {
     esBulkProcessor.deleteByQuery(
         QueryBuilders.matchAllQuery(), true, indexConvention.getIndexName(INDEX_NAME));
+    if (edgeStatusIndex.isEnabled()) {
+      esBulkProcessor.deleteByQuery(
+          QueryBuilders.matchAllQuery(), true, edgeStatusIndex.getIndexName());
+    }
   }
 
   @Override
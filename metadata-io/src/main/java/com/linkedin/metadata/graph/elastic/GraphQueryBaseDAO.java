@@ -20,6 +20,7 @@ import com.linkedin.data.template.IntegerArray;
 import com.linkedin.metadata.config.ConfigUtils;
 import com.linkedin.metadata.config.graph.GraphServiceConfiguration;
 import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration;
 import com.linkedin.metadata.graph.GraphFilters;
 import com.linkedin.metadata.graph.LineageGraphFilters;
 import com.linkedin.metadata.graph.LineageRelationship;
@@ -35,6 +36,7 @@ import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.UrnExtractionUtils;
 import com.linkedin.metadata.utils.ConcurrencyUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.metadata.utils.metrics.MicrometerMetricsRegistry;
 import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.util.ArrayList;
@@ -48,12 +50,16 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -82,6 +88,13 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
   protected final ElasticSearchConfiguration config;
   protected final MetricUtils metricUtils;
 
+  // Bounded pool for the per-hop frontier batches, nested slice and group-by queries stay on the
+  // common pool so that a batch waiting on its own sub-queries can never starve this pool
+  private final ExecutorService lineageQueryPool;
+
+  // Soft-delete statuses not yet applied to the edges
+  @Setter @Nonnull private EdgeStatusIndex edgeStatusIndex = EdgeStatusIndex.DISABLED;
+
   public GraphQueryBaseDAO(
       GraphServiceConfiguration graphServiceConfig,
       ElasticSearchConfiguration config,
@@ -89,6 +102,26 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
     this.graphServiceConfig = graphServiceConfig;
     this.config = config;
     this.metricUtils = metricUtils;
+
+    int maxThreads =
+        Optional.ofNullable(config.getSearch())
+            .map(search -> search.getGraph())
+            .map(GraphQueryConfiguration::getMaxThreads)
+            .filter(threads -> threads > 0)
+            .orElse(Runtime.getRuntime().availableProcessors());
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            maxThreads, // core threads
+            maxThreads, // max threads
+            60L,
+            TimeUnit.SECONDS, // thread keep-alive time
+            new LinkedBlockingQueue<>());
+    pool.allowCoreThreadTimeOut(true);
+    this.lineageQueryPool = pool;
+    if (metricUtils != null) {
+      MicrometerMetricsRegistry.registerExecutorMetrics(
+          "lineageQuery", this.lineageQueryPool, metricUtils.getRegistry());
+    }
   }
 
   protected abstract RestHighLevelClient getClient();
@@ -159,7 +192,12 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
       final int offset,
       @Nullable Integer count) {
     BoolQueryBuilder finalQuery =
-        buildQuery(opContext, config.getSearch().getGraph(), graphFilters);
+        buildQuery(
+            opContext,
+            config.getSearch().getGraph(),
+            graphFilters,
+            null,
+            edgeStatusIndex.getPending());
 
     return executeLineageSearchQuery(opContext, finalQuery, offset, count);
   }
@@ -183,7 +221,7 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
     Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
     visitedEntities.add(entityUrn);
     Set<Urn> viaEntities = ConcurrentHashMap.newKeySet();
-    ThreadSafePathStore existingPaths = new ThreadSafePathStore();
+    ThreadSafePathStore existingPaths = ThreadSafePathStore.deferred();
     List<Urn> currentLevel = ImmutableList.of(entityUrn);
 
     for (int i = 0; i < maxHops; i++) {
@@ -201,6 +239,8 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
       }
 
       // Do one hop on the lineage graph
+      final long hopStartTime = System.currentTimeMillis();
+      final int frontierSize = currentLevel.size();
       Stream<Urn> intermediateStream =
           processOneHopLineage(
               opContext,
@@ -217,6 +257,13 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
       currentLevel = intermediateStream.collect(Collectors.toList());
       currentTime = System.currentTimeMillis();
       remainingTime = timeoutTime - currentTime;
+      if (metricUtils != null) {
+        metricUtils.histogram(this.getClass(), "lineageHop_durationMs", currentTime - hopStartTime);
+        metricUtils.histogram(this.getClass(), "lineageHop_frontierSize", frontierSize);
+      }
+    }
+    if (remainingTime < 0 && metricUtils != null) {
+      metricUtils.increment(this.getClass(), "lineage_timeout", 1);
     }
     List<LineageRelationship> resultList = new ArrayList<>(result.values());
     LineageResponse response = new LineageResponse(resultList.size(), resultList);
@@ -230,6 +277,8 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
               .getLineageRelationships()
               .subList(offset, Math.min(offset + count, response.getTotal()));
     }
+    // only build the full paths of the page being returned
+    existingPaths.materializePaths(subList);
 
     return new LineageResponse(response.getTotal(), subList);
   }
@@ -402,7 +451,8 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
                                     numHops,
                                     remainingHops,
                                     existingPaths,
-                                    exploreMultiplePaths)))
+                                    exploreMultiplePaths),
+                            lineageQueryPool))
                 .collect(Collectors.toList()),
             remainingTime,
             TimeUnit.MILLISECONDS)
@@ -618,7 +668,12 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
       @Nullable Integer count) {
 
     BoolQueryBuilder finalQuery =
-        buildQuery(opContext, config.getSearch().getGraph(), graphFilters);
+        buildQuery(
+            opContext,
+            config.getSearch().getGraph(),
+            graphFilters,
+            null,
+            edgeStatusIndex.getPending());
 
     return executeScrollSearchQuery(
         opContext, finalQuery, sortCriteria, scrollId, keepAlive, count);
@@ -1318,7 +1373,7 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
     Set<Urn> visitedEntities = ConcurrentHashMap.newKeySet();
     visitedEntities.add(entityUrn);
     Set<Urn> viaEntities = ConcurrentHashMap.newKeySet();
-    ThreadSafePathStore existingPaths = new ThreadSafePathStore();
+    ThreadSafePathStore existingPaths = ThreadSafePathStore.deferred();
     List<Urn> currentLevel = ImmutableList.of(entityUrn);
 
     for (int i = 0; i < maxHops; i++) {
@@ -1383,6 +1438,7 @@ public abstract class GraphQueryBaseDAO implements GraphQueryDAO {
     }
 
     List<LineageRelationship> resultList = new ArrayList<>(result.values());
+    existingPaths.materializePaths(resultList);
     return new LineageResponse(resultList.size(), resultList);
   }
 
@@ -3,45 +3,347 @@ package com.linkedin.metadata.graph.elastic;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.graph.LineageRelationship;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
 
 /**
- * Thread-safe wrapper for storing paths during lineage computation. Uses ConcurrentHashMap with
- * Set<UrnArray> for efficient duplicate detection.
+ * Thread-safe store for the paths found during lineage computation.
+ *
+ * <p>URNs are interned to int ids and every path is a node in a trie kept in primitive arrays: a
+ * node records its parent node and the id of its last URN, so extending a path by an edge is a
+ * constant amount of work and paths sharing a prefix share its nodes. Identical paths map to the
+ * same node, which gives duplicate detection for free. {@link UrnArray} paths are only built when
+ * they are read.
+ *
+ * <p>A store created with {@link #deferred()} also leaves the paths of the relationships created
+ * during the walk empty, so that {@link #materializePaths(Collection)} only has to build them for
+ * the relationships that are actually returned.
  */
+@Slf4j
 public class ThreadSafePathStore {
-  protected final ConcurrentHashMap<Urn, Set<UrnArray>> pathMap = new ConcurrentHashMap<>();
+  /** The root node is the empty path, every other path descends from it. */
+  private static final int ROOT = 0;
 
-  public void addPath(Urn destinationUrn, UrnArray path) {
-    pathMap.compute(
-        destinationUrn,
-        (key, existingSet) -> {
-          if (existingSet == null) {
-            Set<UrnArray> newSet = ConcurrentHashMap.newKeySet();
-            newSet.add(path);
-            return newSet;
-          } else {
-            existingSet.add(path);
-            return existingSet;
-          }
-        });
+  private static final int NO_URN = -1;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final boolean deferMaterialization;
+
+  private final Map<Urn, Integer> urnIds = new HashMap<>();
+  private final List<Urn> urns = new ArrayList<>();
+
+  private int[] nodeParent = new int[INITIAL_CAPACITY];
+  private int[] nodeUrn = new int[INITIAL_CAPACITY];
+  private int[] nodeDepth = new int[INITIAL_CAPACITY];
+  private int nodeCount;
+
+  /** Nodes whose path visits the same urn twice, these are never extended. */
+  private final BitSet cyclicNodes = new BitSet();
+
+  /** (parent node, urn id) to child node */
+  private final LongIntMap children = new LongIntMap();
+
+  /** (destination urn id, node) pairs already registered as a path to the destination */
+  private final LongIntMap terminals = new LongIntMap();
+
+  /** Nodes of the paths to each destination, indexed by urn id, in insertion order */
+  private int[][] destinationPaths = new int[INITIAL_CAPACITY][];
+
+  private int[] destinationPathCounts = new int[INITIAL_CAPACITY];
+
+  public ThreadSafePathStore() {
+    this(false);
+  }
+
+  private ThreadSafePathStore(boolean deferMaterialization) {
+    this.deferMaterialization = deferMaterialization;
+    nodeParent[ROOT] = ROOT;
+    nodeUrn[ROOT] = NO_URN;
+    nodeDepth[ROOT] = 0;
+    nodeCount = 1;
+  }
+
+  /**
+   * A store for paged lineage walks: relationships are created without paths and {@link
+   * #materializePaths(Collection)} fills them in for the page being returned.
+   */
+  public static ThreadSafePathStore deferred() {
+    return new ThreadSafePathStore(true);
+  }
+
+  public synchronized void addPath(Urn destinationUrn, UrnArray path) {
+    int node = ROOT;
+    for (Urn urn : path) {
+      node = child(node, intern(urn));
+    }
+    addTerminal(intern(destinationUrn), node);
+  }
+
+  /**
+   * Extends every acyclic path to the parent with the via and child urns, or starts a new path at
+   * the parent if there is none.
+   *
+   * @return true if at least one path to the child was added or already existed
+   */
+  public synchronized boolean addEdge(
+      @Nonnull Urn parentUrn, @Nullable Urn viaUrn, @Nonnull Urn childUrn) {
+    final int parentId = intern(parentUrn);
+    final int viaId = viaUrn == null ? NO_URN : intern(viaUrn);
+    final int childId = intern(childUrn);
+
+    final int count = destinationPathCounts[parentId];
+    if (count == 0) {
+      addTerminal(childId, extend(child(ROOT, parentId), viaId, childId));
+      return true;
+    }
+
+    boolean edgeAdded = false;
+    // the parent's array may be replaced while adding paths to the child, keep the snapshot
+    final int[] pathsToParent = destinationPaths[parentId];
+    for (int i = 0; i < count; i++) {
+      int pathToParent = pathsToParent[i];
+      if (cyclicNodes.get(pathToParent)) {
+        log.debug("Skipping extending path {} because it contains a cycle", pathToParent);
+        continue;
+      }
+      addTerminal(childId, extend(pathToParent, viaId, childId));
+      edgeAdded = true;
+    }
+    return edgeAdded;
+  }
+
+  /** Materializes the paths to the destination, the returned set is a copy. */
+  public synchronized Set<UrnArray> getPaths(Urn destinationUrn) {
+    Integer destinationId = urnIds.get(destinationUrn);
+    if (destinationId == null) {
+      return new LinkedHashSet<>();
+    }
+    int count = destinationPathCounts[destinationId];
+    Set<UrnArray> paths = new LinkedHashSet<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      paths.add(materialize(destinationPaths[destinationId][i]));
+    }
+    return paths;
+  }
+
+  public synchronized int getPathCount(Urn destinationUrn) {
+    Integer destinationId = urnIds.get(destinationUrn);
+    return destinationId == null ? 0 : destinationPathCounts[destinationId];
+  }
+
+  /** Whether any path to the destination goes through the given urn, without materializing. */
+  public synchronized boolean anyPathContains(Urn destinationUrn, Urn urn) {
+    Integer destinationId = urnIds.get(destinationUrn);
+    Integer urnId = urnIds.get(urn);
+    if (destinationId == null || urnId == null) {
+      return false;
+    }
+    for (int i = 0; i < destinationPathCounts[destinationId]; i++) {
+      if (pathContains(destinationPaths[destinationId][i], urnId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Paths to attach to a relationship created during the walk, empty for a {@link #deferred()}
+   * store.
+   */
+  public UrnArrayArray getRelationshipPaths(Urn destinationUrn) {
+    if (deferMaterialization) {
+      return new UrnArrayArray();
+    }
+    return new UrnArrayArray(getPaths(destinationUrn));
   }
 
-  public Set<UrnArray> getPaths(Urn destinationUrn) {
-    return pathMap.getOrDefault(destinationUrn, ConcurrentHashMap.newKeySet());
+  /**
+   * Adds the stored paths to the given relationships, keeping any paths they already carry (i.e.
+   * the truncated paths of via entities). No-op unless the store is {@link #deferred()}.
+   */
+  public void materializePaths(@Nonnull Collection<LineageRelationship> relationships) {
+    if (!deferMaterialization) {
+      return;
+    }
+    for (LineageRelationship relationship : relationships) {
+      if (getPathCount(relationship.getEntity()) == 0) {
+        continue;
+      }
+      Set<UrnArray> paths = new LinkedHashSet<>();
+      if (relationship.hasPaths()) {
+        paths.addAll(relationship.getPaths());
+      }
+      paths.addAll(getPaths(relationship.getEntity()));
+      relationship.setPaths(new UrnArrayArray(paths));
+    }
   }
 
-  public Map<Urn, UrnArrayArray> toUrnArrayArrayMap() {
+  public synchronized Map<Urn, UrnArrayArray> toUrnArrayArrayMap() {
     Map<Urn, UrnArrayArray> result = new HashMap<>();
-    pathMap.forEach(
-        (urn, pathSet) -> {
-          UrnArrayArray urnArrayArray = new UrnArrayArray(pathSet.size());
-          urnArrayArray.addAll(pathSet);
-          result.put(urn, urnArrayArray);
-        });
+    for (int urnId = 0; urnId < urns.size(); urnId++) {
+      int count = destinationPathCounts[urnId];
+      if (count > 0) {
+        UrnArrayArray urnArrayArray = new UrnArrayArray(count);
+        for (int i = 0; i < count; i++) {
+          urnArrayArray.add(materialize(destinationPaths[urnId][i]));
+        }
+        result.put(urns.get(urnId), urnArrayArray);
+      }
+    }
     return result;
   }
+
+  private int intern(Urn urn) {
+    Integer existing = urnIds.get(urn);
+    if (existing != null) {
+      return existing;
+    }
+    int urnId = urns.size();
+    urns.add(urn);
+    urnIds.put(urn, urnId);
+    if (urnId == destinationPaths.length) {
+      destinationPaths = Arrays.copyOf(destinationPaths, urnId * 2);
+      destinationPathCounts = Arrays.copyOf(destinationPathCounts, urnId * 2);
+    }
+    return urnId;
+  }
+
+  private int extend(int node, int viaId, int childId) {
+    if (viaId != NO_URN) {
+      node = child(node, viaId);
+    }
+    return child(node, childId);
+  }
+
+  private int child(int parent, int urnId) {
+    long key = pack(parent, urnId);
+    int existing = children.get(key);
+    if (existing >= 0) {
+      return existing;
+    }
+    if (nodeCount == nodeParent.length) {
+      int capacity = nodeCount * 2;
+      nodeParent = Arrays.copyOf(nodeParent, capacity);
+      nodeUrn = Arrays.copyOf(nodeUrn, capacity);
+      nodeDepth = Arrays.copyOf(nodeDepth, capacity);
+    }
+    int node = nodeCount++;
+    nodeParent[node] = parent;
+    nodeUrn[node] = urnId;
+    nodeDepth[node] = nodeDepth[parent] + 1;
+    if (cyclicNodes.get(parent) || pathContains(parent, urnId)) {
+      cyclicNodes.set(node);
+    }
+    children.put(key, node);
+    return node;
+  }
+
+  private void addTerminal(int destinationId, int node) {
+    long key = pack(destinationId, node);
+    if (terminals.get(key) >= 0) {
+      return;
+    }
+    terminals.put(key, node);
+    int count = destinationPathCounts[destinationId];
+    int[] paths = destinationPaths[destinationId];
+    if (paths == null) {
+      paths = new int[2];
+    } else if (count == paths.length) {
+      paths = Arrays.copyOf(paths, count * 2);
+    }
+    paths[count] = node;
+    destinationPaths[destinationId] = paths;
+    destinationPathCounts[destinationId] = count + 1;
+  }
+
+  private boolean pathContains(int node, int urnId) {
+    for (int n = node; n != ROOT; n = nodeParent[n]) {
+      if (nodeUrn[n] == urnId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private UrnArray materialize(int node) {
+    Urn[] path = new Urn[nodeDepth[node]];
+    for (int n = node, i = path.length - 1; n != ROOT; n = nodeParent[n], i--) {
+      path[i] = urns.get(nodeUrn[n]);
+    }
+    return new UrnArray(Arrays.asList(path));
+  }
+
+  private static long pack(int high, int low) {
+    return ((long) high << 32) | (low & 0xFFFFFFFFL);
+  }
+
+  /** Open addressing map from non-negative long keys to non-negative int values. */
+  private static final class LongIntMap {
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] values = newValues(INITIAL_CAPACITY);
+    private int size;
+
+    int get(long key) {
+      int mask = keys.length - 1;
+      for (int slot = slot(key, mask); values[slot] >= 0; slot = (slot + 1) & mask) {
+        if (keys[slot] == key) {
+          return values[slot];
+        }
+      }
+      return -1;
+    }
+
+    void put(long key, int value) {
+      if ((size + 1) * 2 > keys.length) {
+        resize();
+      }
+      int mask = keys.length - 1;
+      int slot = slot(key, mask);
+      while (values[slot] >= 0) {
+        if (keys[slot] == key) {
+          values[slot] = value;
+          return;
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      values[slot] = value;
+      size++;
+    }
+
+    private void resize() {
+      long[] oldKeys = keys;
+      int[] oldValues = values;
+      keys = new long[oldKeys.length * 2];
+      values = newValues(oldKeys.length * 2);
+      size = 0;
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldValues[i] >= 0) {
+          put(oldKeys[i], oldValues[i]);
+        }
+      }
+    }
+
+    private static int slot(long key, int mask) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int[] newValues(int capacity) {
+      int[] values = new int[capacity];
+      Arrays.fill(values, -1);
+      return values;
+    }
+  }
 }
@@ -12,8 +12,11 @@ import static com.linkedin.metadata.graph.elastic.utils.GraphQueryConstants.*;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.aspect.models.graph.EdgeUrnType;
+import com.linkedin.metadata.graph.elastic.EdgeStatusIndex;
 import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
@@ -87,6 +90,35 @@ public class GraphFilterUtils {
     return finalQuery;
   }
 
+  /**
+   * Builds the queries matching the edges whose urn of the given type is soft-deleted, to be
+   * excluded. Statuses not yet applied to the edges take precedence over their status field.
+   *
+   * @param edgeUrnType the urn of the edge to check
+   * @param pending the statuses not yet applied to the edges
+   * @return queries to add as must not clauses
+   */
+  public static List<QueryBuilder> getSoftDeletedQueries(
+      @Nonnull EdgeUrnType edgeUrnType, @Nonnull EdgeStatusIndex.PendingStatuses pending) {
+    final String urnField = getUrnFieldName(edgeUrnType);
+    final QueryBuilder statusQuery =
+        QueryBuilders.termsQuery(getUrnStatusFieldName(edgeUrnType), "true");
+
+    final List<QueryBuilder> queries = new ArrayList<>();
+    if (pending.getRestored().isEmpty()) {
+      queries.add(statusQuery);
+    } else {
+      queries.add(
+          QueryBuilders.boolQuery()
+              .filter(statusQuery)
+              .mustNot(QueryBuilders.termsQuery(urnField, pending.getRestored())));
+    }
+    if (!pending.getRemoved().isEmpty()) {
+      queries.add(QueryBuilders.termsQuery(urnField, pending.getRemoved()));
+    }
+    return queries;
+  }
+
   public static String getUrnStatusFieldName(EdgeUrnType edgeUrnType) {
     switch (edgeUrnType) {
       case SOURCE:
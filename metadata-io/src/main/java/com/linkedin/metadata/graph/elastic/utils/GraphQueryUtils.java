@@ -14,6 +14,7 @@ import com.linkedin.metadata.config.search.GraphQueryConfiguration;
 import com.linkedin.metadata.graph.GraphFilters;
 import com.linkedin.metadata.graph.LineageGraphFilters;
 import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.graph.elastic.EdgeStatusIndex;
 import com.linkedin.metadata.graph.elastic.ThreadSafePathStore;
 import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
 import com.linkedin.metadata.query.filter.Filter;
@@ -101,6 +102,24 @@ public final class GraphQueryUtils {
       @Nonnull final GraphQueryConfiguration graphQueryConfiguration,
       @Nonnull final GraphFilters graphFilters,
       @Nullable final String lifecycleOwner) {
+    return buildQuery(
+        opContext,
+        graphQueryConfiguration,
+        graphFilters,
+        lifecycleOwner,
+        EdgeStatusIndex.PendingStatuses.EMPTY);
+  }
+
+  /**
+   * Builds the query of the edges matching the filters, soft-deleted edges are excluded according
+   * to both their status fields and the pending statuses not yet applied to them.
+   */
+  public static BoolQueryBuilder buildQuery(
+      @Nonnull final OperationContext opContext,
+      @Nonnull final GraphQueryConfiguration graphQueryConfiguration,
+      @Nonnull final GraphFilters graphFilters,
+      @Nullable final String lifecycleOwner,
+      @Nonnull final EdgeStatusIndex.PendingStatuses pendingStatuses) {
     BoolQueryBuilder finalQuery = QueryBuilders.boolQuery();
 
     final RelationshipDirection relationshipDirection = graphFilters.getRelationshipDirection();
@@ -159,20 +178,21 @@ public final class GraphQueryUtils {
     }
     if (!Optional.ofNullable(opContext.getSearchContext().getSearchFlags().isIncludeSoftDeleted())
         .orElse(false)) {
-      applyExcludeSoftDelete(graphQueryConfiguration, finalQuery);
+      applyExcludeSoftDelete(graphQueryConfiguration, pendingStatuses, finalQuery);
     }
 
     return finalQuery;
   }
 
   private static void applyExcludeSoftDelete(
-      GraphQueryConfiguration graphQueryConfiguration, BoolQueryBuilder boolQueryBuilder) {
+      GraphQueryConfiguration graphQueryConfiguration,
+      EdgeStatusIndex.PendingStatuses pendingStatuses,
+      BoolQueryBuilder boolQueryBuilder) {
     if (graphQueryConfiguration.isGraphStatusEnabled()) {
       Arrays.stream(EdgeUrnType.values())
-          .map(
+          .flatMap(
               edgeUrnType ->
-                  QueryBuilders.termsQuery(
-                      GraphFilterUtils.getUrnStatusFieldName(edgeUrnType), "true"))
+                  GraphFilterUtils.getSoftDeletedQueries(edgeUrnType, pendingStatuses).stream())
           .filter(statusQuery -> !boolQueryBuilder.mustNot().contains(statusQuery))
           .forEach(boolQueryBuilder::mustNot);
     }
@@ -281,18 +301,7 @@ public final class GraphQueryUtils {
   public static boolean isRelationshipConnectedToInput(
       LineageRelationship relationship, Urn inputUrn, ThreadSafePathStore existingPaths) {
 
-    Set<UrnArray> paths = existingPaths.getPaths(relationship.getEntity());
-    if (paths == null || paths.isEmpty()) {
-      return false;
-    }
-
-    for (UrnArray path : paths) {
-      if (path.contains(inputUrn)) {
-        return true;
-      }
-    }
-
-    return false;
+    return existingPaths.anyPathContains(relationship.getEntity(), inputUrn);
   }
 
   /**
@@ -539,7 +548,7 @@ public final class GraphQueryUtils {
                   type,
                   destinationUrn,
                   numHops,
-                  new UrnArrayArray(existingPaths.getPaths(destinationUrn)),
+                  existingPaths.getRelationshipPaths(destinationUrn),
                   // Fetch the paths to the next level entity.
                   createdOn,
                   createdActor,
@@ -635,7 +644,7 @@ public final class GraphQueryUtils {
                   type,
                   sourceUrn,
                   numHops,
-                  new UrnArrayArray(existingPaths.getPaths(sourceUrn)),
+                  existingPaths.getRelationshipPaths(sourceUrn),
                   // Fetch the paths to the next level entity.
                   createdOn,
                   createdActor,
@@ -902,8 +911,8 @@ public final class GraphQueryUtils {
    * outwards from the originally requested source node. If edges are added to the path set in an
    * out of order manner, then the paths to a given node may be partial / incomplete.
    *
-   * <p>Note that calling this method twice with the same edge is not safe. It will result in
-   * duplicate paths being appended into the list of paths to the provided child urn.
+   * <p>Calling this method twice with the same edge is safe, paths already known for the child urn
+   * are not added again.
    *
    * @param existingPaths a running set of unique, uni-directional paths to each node in the graph
    *     starting from the original root node for which lineage was requested.
@@ -921,39 +930,6 @@ public final class GraphQueryUtils {
       @Nonnull final Urn parentUrn,
       final Urn viaUrn,
       @Nonnull final Urn childUrn) {
-    boolean edgeAdded = false;
-    // Collect all full-paths to this child node. This is what will be returned.
-    Set<UrnArray> pathsToParent = existingPaths.getPaths(parentUrn);
-    if (!pathsToParent.isEmpty()) {
-      // If there are existing paths to this parent node, then we attempt
-      // to append the child to each of the existing paths (lengthen it).
-      // We then store this as a separate, unique path associated with the child.
-      for (UrnArray pathToParent : pathsToParent) {
-        if (GraphQueryUtils.containsCycle(pathToParent)) {
-          log.debug("Skipping extending path {} because it contains a cycle", pathToParent);
-          continue;
-        }
-        UrnArray pathToChild = GraphQueryUtils.clonePath(pathToParent);
-        if (viaUrn != null) {
-          pathToChild.add(viaUrn);
-        }
-        pathToChild.add(childUrn);
-        // Use the thread-safe addPath method which handles duplicates automatically
-        existingPaths.addPath(childUrn, pathToChild);
-        edgeAdded = true;
-      }
-    } else {
-      // No existing paths to this parent urn. Let's create a new path to the child!
-      UrnArray pathToChild = new UrnArray();
-      if (viaUrn == null) {
-        pathToChild.addAll(ImmutableList.of(parentUrn, childUrn));
-      } else {
-        pathToChild.addAll(ImmutableList.of(parentUrn, viaUrn, childUrn));
-      }
-      // Use the thread-safe addPath method which handles duplicates automatically
-      existingPaths.addPath(childUrn, pathToChild);
-      edgeAdded = true;
-    }
-    return edgeAdded;
+    return existingPaths.addEdge(parentUrn, viaUrn, childUrn);
   }
 }
@@ -37,15 +37,18 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
@@ -53,6 +56,7 @@ import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -69,20 +73,34 @@ import org.neo4j.driver.types.Relationship;
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  public static final int DEFAULT_WRITE_BATCH_SIZE = 1000;
+  private static final Set<String> PRESERVED_EDGE_PROPERTIES =
+      Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
   private final LineageRegistry lineageRegistry;
   private final Driver driver;
   private final SessionConfig sessionConfig;
   @Getter private final GraphServiceConfiguration graphServiceConfig;
+  private final int writeBatchSize;
 
   public Neo4jGraphService(
       @Nonnull LineageRegistry lineageRegistry,
       @Nonnull Driver driver,
       @Nonnull SessionConfig sessionConfig,
       @Nonnull GraphServiceConfiguration graphServiceConfig) {
+    this(lineageRegistry, driver, sessionConfig, graphServiceConfig, DEFAULT_WRITE_BATCH_SIZE);
+  }
+
+  public Neo4jGraphService(
+      @Nonnull LineageRegistry lineageRegistry,
+      @Nonnull Driver driver,
+      @Nonnull SessionConfig sessionConfig,
+      @Nonnull GraphServiceConfiguration graphServiceConfig,
+      int writeBatchSize) {
     this.lineageRegistry = lineageRegistry;
     this.driver = driver;
     this.sessionConfig = sessionConfig;
     this.graphServiceConfig = graphServiceConfig;
+    this.writeBatchSize = Math.max(1, writeBatchSize);
   }
 
   @Override
@@ -92,76 +110,137 @@ public class Neo4jGraphService implements GraphService {
 
   @Override
   public void addEdge(@Nonnull final Edge edge) {
-    log.debug(
-        String.format(
-            "Adding Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+    addEdges(Collections.singletonList(edge));
+  }
 
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
-
-    // Introduce startUrn, endUrn for real source node and destination node without consider direct
-    // or indirect pattern match
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
+  @Override
+  public void upsertEdge(final Edge edge) {
+    addEdge(edge);
+  }
+
+  @Override
+  public void removeEdge(final Edge edge) {
+    removeEdges(Collections.singletonList(edge));
+  }
+
+  /**
+   * Adds the edges in batches of {@code writeBatchSize} edges, each batch in one transaction. The
+   * edges of a batch with the same node labels and relationship type are merged by a single
+   * parameterized UNWIND statement.
+   */
+  @Override
+  public void addEdges(@Nonnull final Collection<Edge> edges) {
+    log.debug("Adding {} edges", edges.size());
+    executeBatches(edges, Neo4jGraphService::buildAddEdgesStatements);
+  }
+
+  @Override
+  public void upsertEdges(@Nonnull final Collection<Edge> edges) {
+    addEdges(edges);
+  }
+
+  /** Removes the edges and their reverse relationships in batches, see {@link #addEdges}. */
+  @Override
+  public void removeEdges(@Nonnull final Collection<Edge> edges) {
+    log.debug("Deleting {} edges", edges.size());
+    executeBatches(edges, Neo4jGraphService::buildRemoveEdgesStatements);
+  }
+
+  /** Node labels and relationship type shared by the edges written by one UNWIND statement. */
+  @Value
+  private static class EdgeShape {
+    String sourceType;
+    String destinationType;
+    String relationshipType;
     // Extra relationship typename start with r_ for
     // direct-outgoing-downstream/indirect-incoming-upstream relationships
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    // Build parameterized query instead of string concatenation
-    StringBuilder queryBuilder = new StringBuilder();
-    queryBuilder.append("MERGE (source:").append(sourceType).append(" {urn: $sourceUrn}) ");
-    queryBuilder.append("MERGE (destination:").append(destinationType).append(" {urn: $destUrn}) ");
-    queryBuilder
-        .append("MERGE (source)-[:")
-        .append(edge.getRelationshipType())
-        .append("]->(destination) ");
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      startUrn = destinationUrn;
-      queryBuilder
-          .append("MERGE (destination)-[r:")
-          .append(reverseRelationshipType)
-          .append("]->(source) ");
-    } else {
-      queryBuilder
-          .append("MERGE (source)-[r:")
-          .append(reverseRelationshipType)
-          .append("]->(destination) ");
-    }
+    String reverseRelationshipType;
+    boolean sourceDestReversed;
+  }
 
-    // Add SET clause for properties
-    List<String> propertySetters = new ArrayList<>();
+  @Nonnull
+  private EdgeShape edgeShape(@Nonnull final Edge edge) {
+    final String sourceType = edge.getSource().getEntityType();
+    return new EdgeShape(
+        sourceType,
+        edge.getDestination().getEntityType(),
+        edge.getRelationshipType(),
+        "r_" + edge.getRelationshipType(),
+        isSourceDestReversed(sourceType, edge.getRelationshipType()));
+  }
 
+  @Nonnull
+  private static List<Statement> buildAddEdgesStatements(
+      @Nonnull final Map<EdgeShape, List<Edge>> edgesByShape) {
+    final List<Statement> statements = new ArrayList<>();
+    edgesByShape.forEach(
+        (shape, edges) -> {
+          final List<Map<String, Object>> rows = new ArrayList<>();
+          for (Edge edge : edges) {
+            final String sourceUrn = edge.getSource().toString();
+            final String destinationUrn = edge.getDestination().toString();
+            // startUrn, endUrn are the real source and destination nodes of the reverse
+            // relationship, without considering direct or indirect pattern match
+            final Map<String, Object> properties = edgeProperties(edge);
+            properties.put("startUrn", shape.isSourceDestReversed() ? destinationUrn : sourceUrn);
+            properties.put("endUrn", shape.isSourceDestReversed() ? sourceUrn : destinationUrn);
+
+            final Map<String, Object> row = new HashMap<>();
+            row.put("sourceUrn", sourceUrn);
+            row.put("destUrn", destinationUrn);
+            row.put("properties", properties);
+            rows.add(row);
+          }
+
+          final String reverseRelationship =
+              shape.isSourceDestReversed()
+                  ? "(destination)-[r:" + shape.getReverseRelationshipType() + "]->(source)"
+                  : "(source)-[r:" + shape.getReverseRelationshipType() + "]->(destination)";
+          final String statement =
+              String.format(
+                  "UNWIND $edges AS edge "
+                      + "MERGE (source:%s {urn: edge.sourceUrn}) "
+                      + "MERGE (destination:%s {urn: edge.destUrn}) "
+                      + "MERGE (source)-[:%s]->(destination) "
+                      + "MERGE %s "
+                      + "SET r += edge.properties",
+                  shape.getSourceType(),
+                  shape.getDestinationType(),
+                  shape.getRelationshipType(),
+                  reverseRelationship);
+          statements.add(new Statement(statement, Map.of("edges", rows)));
+        });
+    return statements;
+  }
+
+  /** Properties set on the reverse relationship, only the ones present on the edge. */
+  @Nonnull
+  private static Map<String, Object> edgeProperties(@Nonnull final Edge edge) {
+    final Map<String, Object> properties = new HashMap<>();
     if (edge.getCreatedOn() != null) {
-      propertySetters.add("r.createdOn = $createdOn");
+      properties.put("createdOn", edge.getCreatedOn());
     }
     if (edge.getCreatedActor() != null) {
-      propertySetters.add("r.createdActor = $createdActor");
+      properties.put("createdActor", edge.getCreatedActor().toString());
     }
     if (edge.getUpdatedOn() != null) {
-      propertySetters.add("r.updatedOn = $updatedOn");
+      properties.put("updatedOn", edge.getUpdatedOn());
     }
     if (edge.getUpdatedActor() != null) {
-      propertySetters.add("r.updatedActor = $updatedActor");
+      properties.put("updatedActor", edge.getUpdatedActor().toString());
     }
 
     // Add custom properties
     if (edge.getProperties() != null) {
       for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
-        final Set<String> preservedKeySet =
-            Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
-        if (preservedKeySet.contains(entry.getKey())) {
+        if (PRESERVED_EDGE_PROPERTIES.contains(entry.getKey())) {
           throw new UnsupportedOperationException(
               String.format(
                   "Tried setting properties on graph edge but property key is preserved. Key: %s",
                   entry.getKey()));
         }
         if (entry.getValue() instanceof String) {
-          propertySetters.add("r." + entry.getKey() + " = $prop_" + entry.getKey());
+          properties.put(entry.getKey(), entry.getValue());
         } else {
           throw new UnsupportedOperationException(
               String.format(
@@ -170,110 +249,79 @@ public class Neo4jGraphService implements GraphService {
         }
       }
     }
+    return properties;
+  }
 
-    // Add startUrn and endUrn properties
-    propertySetters.add("r.startUrn = $startUrn");
-    propertySetters.add("r.endUrn = $endUrn");
+  @Nonnull
+  private static List<Statement> buildRemoveEdgesStatements(
+      @Nonnull final Map<EdgeShape, List<Edge>> edgesByShape) {
+    // DELETE relationship - using parameterized query for property values
+    final String deleteRelationshipTemplate =
+        "UNWIND $edges AS edge "
+            + "MATCH (source:%s {urn: edge.sourceUrn})-[r:%s]->"
+            + "(destination:%s {urn: edge.destUrn}) "
+            + "DELETE r";
 
-    // Add SET clause if there are properties to set
-    if (!propertySetters.isEmpty()) {
-      queryBuilder.append("SET ").append(String.join(", ", propertySetters));
-    }
+    final List<Statement> statements = new ArrayList<>();
+    edgesByShape.forEach(
+        (shape, edges) -> {
+          final List<Map<String, Object>> rows = new ArrayList<>();
+          final List<Map<String, Object>> reverseRows = new ArrayList<>();
+          for (Edge edge : edges) {
+            final String sourceUrn = edge.getSource().toString();
+            final String destinationUrn = edge.getDestination().toString();
+            rows.add(Map.of("sourceUrn", sourceUrn, "destUrn", destinationUrn));
+            reverseRows.add(
+                shape.isSourceDestReversed()
+                    ? Map.of("sourceUrn", destinationUrn, "destUrn", sourceUrn)
+                    : Map.of("sourceUrn", sourceUrn, "destUrn", destinationUrn));
+          }
 
-    // Build parameters map
-    Map<String, Object> params = new HashMap<>();
-    params.put("sourceUrn", sourceUrn);
-    params.put("destUrn", destinationUrn);
-    params.put("startUrn", startUrn);
-    params.put("endUrn", endUrn);
+          statements.add(
+              new Statement(
+                  String.format(
+                      deleteRelationshipTemplate,
+                      shape.getSourceType(),
+                      shape.getRelationshipType(),
+                      shape.getDestinationType()),
+                  Map.of("edges", rows)));
+          statements.add(
+              new Statement(
+                  String.format(
+                      deleteRelationshipTemplate,
+                      shape.isSourceDestReversed()
+                          ? shape.getDestinationType()
+                          : shape.getSourceType(),
+                      shape.getReverseRelationshipType(),
+                      shape.isSourceDestReversed()
+                          ? shape.getSourceType()
+                          : shape.getDestinationType()),
+                  Map.of("edges", reverseRows)));
+        });
+    return statements;
+  }
 
-    if (edge.getCreatedOn() != null) {
-      params.put("createdOn", edge.getCreatedOn());
-    }
-    if (edge.getCreatedActor() != null) {
-      params.put("createdActor", edge.getCreatedActor());
-    }
-    if (edge.getUpdatedOn() != null) {
-      params.put("updatedOn", edge.getUpdatedOn());
-    }
-    if (edge.getUpdatedActor() != null) {
-      params.put("updatedActor", edge.getUpdatedActor());
+  /**
+   * Writes the edges in batches reusing one session, the statements built for a batch are executed
+   * in one transaction.
+   */
+  private void executeBatches(
+      @Nonnull final Collection<Edge> edges,
+      @Nonnull final Function<Map<EdgeShape, List<Edge>>, List<Statement>> buildStatements) {
+    if (edges.isEmpty()) {
+      return;
     }
-
-    // Add custom properties to parameters
-    if (edge.getProperties() != null) {
-      for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
-        if (entry.getValue() instanceof String) {
-          params.put("prop_" + entry.getKey(), entry.getValue());
+    try (final Session session = driver.session(sessionConfig)) {
+      for (List<Edge> batch : Iterables.partition(edges, writeBatchSize)) {
+        final Map<EdgeShape, List<Edge>> edgesByShape = new LinkedHashMap<>();
+        for (Edge edge : batch) {
+          edgesByShape.computeIfAbsent(edgeShape(edge), shape -> new ArrayList<>()).add(edge);
         }
+        final ExecutionResult result =
+            executeStatements(session, buildStatements.apply(edgesByShape));
+        log.debug("Wrote {} edges in {} ms", batch.size(), result.getTookMs());
       }
     }
-
-    // Execute the query
-    final Statement statement = buildStatement(queryBuilder.toString(), params);
-    executeStatements(Collections.singletonList(statement));
-  }
-
-  @Override
-  public void upsertEdge(final Edge edge) {
-    addEdge(edge);
-  }
-
-  @Override
-  public void removeEdge(final Edge edge) {
-    log.debug(
-        String.format(
-            "Deleting Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
-
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
-
-    String startUrn = sourceUrn;
-    String startType = sourceType;
-    String endUrn = destinationUrn;
-    String endType = destinationType;
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      endType = sourceType;
-      startUrn = destinationUrn;
-      startType = destinationType;
-    }
-
-    final List<Statement> statements = new ArrayList<>();
-
-    // DELETE relationship - using parameterized query for property values
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: $sourceUrn})-[r:%s]->(destination:%s {urn: $destUrn}) DELETE r";
-
-    // Format the query template with node labels and relationship type
-    final String statement =
-        String.format(
-            mergeRelationshipTemplate, sourceType, edge.getRelationshipType(), destinationType);
-
-    // Parameters for the first statement - only for property values
-    Map<String, Object> params = new HashMap<>();
-    params.put("sourceUrn", sourceUrn);
-    params.put("destUrn", destinationUrn);
-
-    statements.add(buildStatement(statement, params));
-
-    // Format the query template for reverse relationship
-    final String statementR =
-        String.format(mergeRelationshipTemplate, startType, reverseRelationshipType, endType);
-
-    // Parameters for the reverse relationship statement - only for property values
-    Map<String, Object> paramsR = new HashMap<>();
-    paramsR.put("sourceUrn", startUrn);
-    paramsR.put("destUrn", endUrn);
-
-    statements.add(buildStatement(statementR, paramsR));
-
-    executeStatements(statements);
   }
 
   @Nonnull
@@ -716,16 +764,18 @@ public class Neo4jGraphService implements GraphService {
             String.format(matchDeleteTemplate, srcNodeLabel, relationshipTypeFilter);
         runQuery(buildStatement(statementNoDirection, params)).consume();
       } else {
+        final List<Edge> edges = new ArrayList<>(neo4jResult.size());
         for (Record typeDest : neo4jResult) {
           String relationshipType = typeDest.values().get(0).asString();
           String destUrnString = typeDest.values().get(1).asNode().get("urn").asString();
           Urn destUrn = createFromString(destUrnString);
           if (removeMode.equals("0")) {
-            removeEdge(new Edge(destUrn, urn, relationshipType, null, null, null, null, null));
+            edges.add(new Edge(destUrn, urn, relationshipType, null, null, null, null, null));
           } else {
-            removeEdge(new Edge(urn, destUrn, relationshipType, null, null, null, null, null));
+            edges.add(new Edge(urn, destUrn, relationshipType, null, null, null, null, null));
           }
         }
+        removeEdges(edges);
       }
     }
   }
@@ -780,32 +830,32 @@ public class Neo4jGraphService implements GraphService {
   /**
    * Executes a list of statements with parameters in one transaction.
    *
+   * @param session the session to execute the transaction in
    * @param statements List of statements with parameters to be executed in order
    */
-  private ExecutionResult executeStatements(@Nonnull List<Statement> statements) {
+  private ExecutionResult executeStatements(
+      @Nonnull Session session, @Nonnull List<Statement> statements) {
     final StopWatch stopWatch = new StopWatch();
     stopWatch.start();
     int retry = 0;
-    try (final Session session = driver.session(sessionConfig)) {
-      for (retry = 0; retry <= MAX_TRANSACTION_RETRY; retry++) {
-        try {
-          session.executeWrite(
-              tx -> {
-                for (Statement statement : statements) {
-                  tx.run(statement.getCommandText(), statement.getParams());
-                }
-                return null;
-              });
-          break;
-        } catch (Neo4jException e) {
-          log.warn("Failed to execute Neo4j write transaction. Retry count: {}", retry, e);
-          if (retry == MAX_TRANSACTION_RETRY) {
-            throw new RetryLimitReached(
-                "Failed to execute Neo4j write transaction after "
-                    + MAX_TRANSACTION_RETRY
-                    + " retries",
-                e);
-          }
+    for (retry = 0; retry <= MAX_TRANSACTION_RETRY; retry++) {
+      try {
+        session.executeWrite(
+            tx -> {
+              for (Statement statement : statements) {
+                tx.run(statement.getCommandText(), statement.getParams());
+              }
+              return null;
+            });
+        break;
+      } catch (Neo4jException e) {
+        log.warn("Failed to execute Neo4j write transaction. Retry count: {}", retry, e);
+        if (retry == MAX_TRANSACTION_RETRY) {
+          throw new RetryLimitReached(
+              "Failed to execute Neo4j write transaction after "
+                  + MAX_TRANSACTION_RETRY
+                  + " retries",
+              e);
         }
       }
     }
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -27,6 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class SearchService {
+  /** Phase reported in the search result timings, alongside the ones of the search backend. */
+  public static final String TIMING_ENTITIES_TO_SEARCH = "entitiesToSearch";
+
   private final CachingEntitySearchService _cachingEntitySearchService;
   private final EntityDocCountCache _entityDocCountCache;
   private final SearchRanker _searchRanker;
@@ -152,7 +156,9 @@ public class SearchService {
             entities, input, postFilters, sortCriteria, from, size));
 
     final List<String> finalFacets = facetInput(facets);
+    long entitiesStart = System.nanoTime();
     List<String> nonEmptyEntities = getEntitiesToSearch(opContext, entities, size);
+    long entitiesMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entitiesStart);
     if (nonEmptyEntities.isEmpty()) {
       // Optimization: If the indices are all empty, return empty result
       return getEmptySearchResult(from, size);
@@ -160,11 +166,17 @@ public class SearchService {
     SearchResult result =
         _cachingEntitySearchService.search(
             opContext, nonEmptyEntities, input, postFilters, sortCriteria, from, size, finalFacets);
+    LongMap timings =
+        result.getMetadata().hasTimings()
+            ? new LongMap(result.getMetadata().getTimings())
+            : new LongMap();
+    timings.put(TIMING_ENTITIES_TO_SEARCH, entitiesMillis);
     result
         .getMetadata()
         .setAggregations(
             withAdditionalAggregates(
-                result.getEntities(), result.getMetadata().getAggregations(), finalFacets));
+                result.getEntities(), result.getMetadata().getAggregations(), finalFacets))
+        .setTimings(timings);
     return result;
   }
 
@@ -1,6 +1,6 @@
 package com.linkedin.metadata.search.cache;
 
-import static com.datahub.util.RecordUtils.*;
+import static com.datahub.util.RecordUtils.toRecordTemplate;
 import static com.linkedin.metadata.utils.metrics.MetricUtils.CACHE_HIT_ATTR;
 
 import com.linkedin.metadata.search.SearchEntity;
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.springframework.cache.Cache;
@@ -101,13 +102,12 @@ public class CacheableSearcher<K> {
             if ((opContext.getSearchContext().getSearchFlags().isSkipCache() == null
                 || !opContext.getSearchContext().getSearchFlags().isSkipCache())) {
 
-              String json = cache.get(cacheKey, String.class);
-              result = json != null ? toRecordTemplate(SearchResult.class, json) : null;
+              result = getCachedResult(cacheKey);
 
               if (result == null) {
                 Span.current().setAttribute(CACHE_HIT_ATTR, false);
                 result = searcher.apply(batch);
-                cache.put(cacheKey, toJsonString(result));
+                cache.put(cacheKey, new CachedSearchResult(result, System.currentTimeMillis()));
                 opContext
                     .getMetricUtils()
                     .ifPresent(
@@ -120,7 +120,7 @@ public class CacheableSearcher<K> {
             } else {
               Span.current().setAttribute(CACHE_HIT_ATTR, false);
               result = searcher.apply(batch);
-              cache.put(cacheKey, toJsonString(result));
+              cache.put(cacheKey, new CachedSearchResult(result, System.currentTimeMillis()));
             }
           } else {
             Span.current().setAttribute(CACHE_HIT_ATTR, false);
@@ -131,4 +131,20 @@ public class CacheableSearcher<K> {
         MetricUtils.DROPWIZARD_NAME,
         MetricUtils.name(this.getClass(), "getBatch"));
   }
+
+  /**
+   * Reads a cached batch. Entries written before the binary format was introduced are stored as
+   * JSON strings and are still accepted so a rolling upgrade does not invalidate a shared cache.
+   */
+  @Nullable
+  private SearchResult getCachedResult(K cacheKey) {
+    Cache.ValueWrapper wrapper = cache.get(cacheKey);
+    Object cached = wrapper != null ? wrapper.get() : null;
+    if (cached instanceof CachedSearchResult) {
+      return ((CachedSearchResult) cached).getSearchResult();
+    } else if (cached instanceof String) {
+      return toRecordTemplate(SearchResult.class, (String) cached);
+    }
+    return null;
+  }
 }
@@ -1,23 +1,55 @@
 package com.linkedin.metadata.search.cache;
 
-import static com.datahub.util.RecordUtils.*;
-import static com.linkedin.metadata.search.utils.GZIPUtil.*;
-
+import com.linkedin.data.codec.ProtobufDataCodec;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
+import java.io.IOException;
 import java.io.Serializable;
 import lombok.Data;
 
+/**
+ * Cached search page stored as the protobuf encoding of the result's DataMap. Reading it back only
+ * decodes the map and wraps it in a {@link SearchResult}, whose fields are materialized lazily, so
+ * a cache hit skips the JSON parse entirely.
+ *
+ * <p>The timings of the search which computed the page are left out, they do not describe the
+ * later reads served from the cache.
+ */
 @Data
 public class CachedSearchResult implements Serializable {
+  private static final ProtobufDataCodec CODEC = new ProtobufDataCodec();
+
   private final byte[] searchResult;
   private final long timestamp;
 
-  public CachedSearchResult(SearchResult lineageResult, long timestamp) {
-    this.searchResult = gzipCompress(toJsonString(lineageResult));
+  public CachedSearchResult(SearchResult searchResult, long timestamp) {
+    try {
+      this.searchResult = CODEC.mapToBytes(withoutTimings(searchResult).data());
+    } catch (IOException e) {
+      throw new IllegalStateException("Error while encoding search result.", e);
+    }
     this.timestamp = timestamp;
   }
 
+  private static SearchResult withoutTimings(SearchResult searchResult) {
+    if (!searchResult.hasMetadata() || !searchResult.getMetadata().hasTimings()) {
+      return searchResult;
+    }
+    try {
+      // Shallow copies, the result itself keeps its timings
+      SearchResultMetadata metadata = searchResult.getMetadata().clone();
+      metadata.removeTimings();
+      return searchResult.clone().setMetadata(metadata);
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException("Error while copying search result.", e);
+    }
+  }
+
   public SearchResult getSearchResult() {
-    return toRecordTemplate(SearchResult.class, gzipDecompress(searchResult));
+    try {
+      return new SearchResult(CODEC.bytesToMap(searchResult));
+    } catch (IOException e) {
+      throw new IllegalStateException("Error while decoding search result.", e);
+    }
   }
 }
@@ -5,14 +5,12 @@ import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.search.EntitySearchService;
-import com.linkedin.metadata.utils.ConcurrencyUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -45,11 +43,8 @@ public class EntityDocCountCache {
 
   private Map<String, Long> fetchEntityDocCount(
       @Nonnull OperationContext opContext, @Nullable Filter filter) {
-    return ConcurrencyUtils.transformAndCollectAsync(
-        entityRegistry.getEntitySpecs().keySet(),
-        Function.identity(),
-        Collectors.toMap(
-            Function.identity(), v -> entitySearchService.docCount(opContext, v, filter)));
+    return entitySearchService.docCountPerEntity(
+        opContext, entityRegistry.getEntitySpecs().keySet(), filter);
   }
 
   @WithSpan
@@ -0,0 +1,256 @@
+package com.linkedin.metadata.search.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.metadata.utils.metrics.MicrometerMetricsRegistry;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snapshots of the facet style aggregates, i.e. the browse v2 groups and the quick filter
+ * aggregations, computed once per search context and request fingerprint and shared by the readers.
+ *
+ * <p>A snapshot is served as is while it is fresh. Once it is older than the refresh interval, or
+ * once the number of changes seen in the MCL stream since it was computed crosses the threshold, it
+ * is still served while a single background load replaces it (stale-while-revalidate). Snapshots
+ * older than the maximum staleness are dropped and loaded again by the reader.
+ */
+@Slf4j
+public class FacetSnapshotCache {
+
+  /** A cache which never stores anything, every read runs its loader. */
+  public static final FacetSnapshotCache DISABLED = new FacetSnapshotCache(0, 0, 0, 0, 0, null);
+
+  private static final String REFRESH_POOL_NAME = "facet-snapshot-refresh";
+
+  @Value
+  private static class Snapshot {
+    RecordTemplate value;
+    long computedAtMillis;
+    long changeCount;
+  }
+
+  private final boolean enabled;
+  private final long refreshMillis;
+  private final long changeThreshold;
+  private final Cache<String, Snapshot> cache;
+  @Nullable private final ThreadPoolExecutor refreshPool;
+  @Nullable private final MetricUtils metricUtils;
+  private final Clock clock;
+
+  private final AtomicLong changeCount = new AtomicLong();
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+  private final Map<String, AtomicLong> hits = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> staleHits = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> misses = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxSize number of snapshots kept, 0 disables the cache
+   * @param refreshSeconds age after which a snapshot is refreshed in the background
+   * @param maxStaleSeconds age after which a snapshot is no longer served, 0 disables the cache
+   * @param changeThreshold changes after which a snapshot is refreshed, 0 ignores the changes
+   * @param refreshConcurrency threads running the background refreshes
+   */
+  public FacetSnapshotCache(
+      int maxSize,
+      int refreshSeconds,
+      int maxStaleSeconds,
+      long changeThreshold,
+      int refreshConcurrency,
+      @Nullable MetricUtils metricUtils) {
+    this(
+        maxSize,
+        refreshSeconds,
+        maxStaleSeconds,
+        changeThreshold,
+        refreshConcurrency,
+        metricUtils,
+        Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  FacetSnapshotCache(
+      int maxSize,
+      int refreshSeconds,
+      int maxStaleSeconds,
+      long changeThreshold,
+      int refreshConcurrency,
+      @Nullable MetricUtils metricUtils,
+      @Nonnull Clock clock) {
+    this.enabled = maxSize > 0 && maxStaleSeconds > 0;
+    this.refreshMillis = TimeUnit.SECONDS.toMillis(Math.max(refreshSeconds, 0));
+    this.changeThreshold = Math.max(changeThreshold, 0);
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(Math.max(maxSize, 0))
+            .expireAfterWrite(Math.max(maxStaleSeconds, 0), TimeUnit.SECONDS)
+            .build();
+    this.metricUtils = metricUtils;
+    this.clock = clock;
+    this.refreshPool = enabled ? buildRefreshPool(Math.max(refreshConcurrency, 1), maxSize) : null;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Serves the snapshot of the request from the cache, loading it on a miss.
+   *
+   * @param name kind of snapshot, used for the metrics
+   * @param fingerprint identifies the request, including the search context
+   * @param loader computes the snapshot, also used to refresh it in the background
+   * @return a copy of the snapshot owned by the caller
+   */
+  @Nonnull
+  public <T extends RecordTemplate> T get(
+      @Nonnull String name, @Nonnull String fingerprint, @Nonnull Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    final String key = name + "|" + fingerprint;
+    final Snapshot snapshot = cache.getIfPresent(key);
+    if (snapshot == null) {
+      record(misses, name);
+      return load(key, loader);
+    }
+    if (isStale(snapshot)) {
+      record(staleHits, name);
+      refreshAsync(key, loader);
+    } else {
+      record(hits, name);
+    }
+    @SuppressWarnings("unchecked")
+    final T value = (T) snapshot.getValue();
+    return copy(value);
+  }
+
+  /** Counts the changes seen in the MCL stream, see the change threshold. */
+  public void recordChanges(long count) {
+    if (enabled) {
+      changeCount.addAndGet(count);
+    }
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** Share of the reads of the kind of snapshot served from the cache, stale or not. */
+  public double getHitRate(@Nonnull String name) {
+    long served = getHitCount(name) + getStaleHitCount(name);
+    long total = served + getMissCount(name);
+    return total == 0 ? 0 : (double) served / total;
+  }
+
+  @VisibleForTesting
+  long getHitCount(@Nonnull String name) {
+    return hits.getOrDefault(name, new AtomicLong()).get();
+  }
+
+  @VisibleForTesting
+  long getStaleHitCount(@Nonnull String name) {
+    return staleHits.getOrDefault(name, new AtomicLong()).get();
+  }
+
+  @VisibleForTesting
+  long getMissCount(@Nonnull String name) {
+    return misses.getOrDefault(name, new AtomicLong()).get();
+  }
+
+  private boolean isStale(Snapshot snapshot) {
+    if (clock.millis() - snapshot.getComputedAtMillis() >= refreshMillis) {
+      return true;
+    }
+    return changeThreshold > 0 && changeCount.get() - snapshot.getChangeCount() >= changeThreshold;
+  }
+
+  private <T extends RecordTemplate> T load(String key, Supplier<T> loader) {
+    // Read before the load, changes made while it runs count towards the next refresh
+    final long changesBefore = changeCount.get();
+    final long computedAt = clock.millis();
+    final T value = loader.get();
+    cache.put(key, new Snapshot(copy(value), computedAt, changesBefore));
+    return value;
+  }
+
+  private <T extends RecordTemplate> void refreshAsync(String key, Supplier<T> loader) {
+    if (!refreshing.add(key)) {
+      return;
+    }
+    try {
+      refreshPool.execute(
+          () -> {
+            try {
+              load(key, loader);
+            } catch (RuntimeException e) {
+              log.warn("Failed to refresh facet snapshot {}, serving the previous one", key, e);
+            } finally {
+              refreshing.remove(key);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // Saturated, the next read of the stale snapshot tries again
+      refreshing.remove(key);
+      log.debug("Skipped the refresh of facet snapshot {}", key);
+    }
+  }
+
+  private ThreadPoolExecutor buildRefreshPool(int concurrency, int queueSize) {
+    final ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            concurrency, // core threads
+            concurrency, // max threads
+            60,
+            TimeUnit.SECONDS, // thread keep-alive time
+            new ArrayBlockingQueue<>(queueSize), // fixed size queue
+            new ThreadFactoryBuilder()
+                .setNameFormat(REFRESH_POOL_NAME + "-%d")
+                .setDaemon(true)
+                .build(),
+            new ThreadPoolExecutor.AbortPolicy());
+    pool.allowCoreThreadTimeOut(true);
+    if (metricUtils != null) {
+      MicrometerMetricsRegistry.registerExecutorMetrics(
+          REFRESH_POOL_NAME, pool, metricUtils.getRegistry());
+    }
+    return pool;
+  }
+
+  private void record(Map<String, AtomicLong> counters, String name) {
+    counters.computeIfAbsent(name, k -> new AtomicLong()).incrementAndGet();
+    if (metricUtils != null) {
+      final String suffix =
+          counters == hits ? "_cacheHit" : counters == staleHits ? "_cacheStaleHit" : "_cacheMiss";
+      metricUtils.increment(this.getClass(), name + suffix, 1);
+      metricUtils.setGaugeValue(this.getClass(), name + "_cacheHitRate", getHitRate(name));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends RecordTemplate> T copy(T value) {
+    try {
+      return (T) value.copy();
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException("Failed to copy facet snapshot", e);
+    }
+  }
+}
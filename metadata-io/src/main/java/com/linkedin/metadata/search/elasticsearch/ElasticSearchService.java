@@ -142,6 +142,18 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
         filter);
   }
 
+  @Override
+  public Map<String, Long> docCountPerEntity(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> entityNames,
+      @Nullable Filter filter) {
+    return esSearchDAO.docCountPerEntity(
+        opContext.withSearchFlags(
+            flags -> applyDefaultSearchFlags(flags, null, DEFAULT_SERVICE_SEARCH_FLAGS)),
+        entityNames,
+        filter);
+  }
+
   @Override
   public void upsertDocument(
       @Nonnull OperationContext opContext,
@@ -37,11 +37,14 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -53,6 +56,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.opensearch.action.explain.ExplainRequest;
 import org.opensearch.action.explain.ExplainResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
@@ -74,6 +79,12 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 public class ESSearchDAO {
   private static final NamedXContentRegistry X_CONTENT_REGISTRY;
 
+  // Phases reported in the timings of the search result metadata
+  public static final String TIMING_BUILD_REQUEST = "buildRequest";
+  public static final String TIMING_EXECUTE = "execute";
+  public static final String TIMING_BACKEND = "took";
+  public static final String TIMING_EXTRACT = "extract";
+
   static {
     SearchModule searchModule = new SearchModule(Settings.EMPTY, Collections.emptyList());
     X_CONTENT_REGISTRY = new NamedXContentRegistry(searchModule.getNamedXContents());
@@ -137,6 +148,83 @@ public class ESSearchDAO {
         MetricUtils.name(this.getClass(), "docCount"));
   }
 
+  /**
+   * Counts the documents of each entity matching the filter. The counts are sent as a single
+   * multi-search request, which the backend executes concurrently, instead of one count request
+   * per entity.
+   *
+   * @return the count of each entity, keyed by the given entity name
+   */
+  @Nonnull
+  public Map<String, Long> docCountPerEntity(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> entityNames,
+      @Nullable Filter filter) {
+    final List<String> names = new ArrayList<>(entityNames);
+    if (names.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final List<SearchRequest> countRequests =
+        names.stream()
+            .map(
+                entityName -> {
+                  EntitySpec entitySpec = opContext.getEntityRegistry().getEntitySpec(entityName);
+                  String indexName =
+                      opContext.getSearchContext().getIndexConvention().getIndexName(entitySpec);
+                  return new SearchRequest(indexName)
+                      .source(
+                          new SearchSourceBuilder()
+                              .query(
+                                  SearchRequestHandler.getFilterQuery(
+                                      opContext,
+                                      filter,
+                                      entitySpec.getSearchableFieldTypes(),
+                                      queryFilterRewriteChain))
+                              .size(0)
+                              .trackTotalHits(true));
+                })
+            .collect(Collectors.toList());
+
+    return opContext.withSpan(
+        "docCountPerEntity",
+        () -> {
+          try {
+            final List<SearchResponse> responses = multiSearch(countRequests);
+            final Map<String, Long> counts = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+              counts.put(names.get(i), responses.get(i).getHits().getTotalHits().value);
+            }
+            return counts;
+          } catch (IOException e) {
+            log.error("Count query failed:" + e.getMessage());
+            throw new ESQueryException("Count query failed:", e);
+          }
+        },
+        MetricUtils.DROPWIZARD_NAME,
+        MetricUtils.name(this.getClass(), "docCountPerEntity"));
+  }
+
+  /**
+   * Sends the requests in a single round trip.
+   *
+   * @return the responses, in the order of the requests
+   */
+  private List<SearchResponse> multiSearch(@Nonnull List<SearchRequest> searchRequests)
+      throws IOException {
+    final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    searchRequests.forEach(multiSearchRequest::add);
+    final MultiSearchResponse multiSearchResponse =
+        client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+    final List<SearchResponse> responses = new ArrayList<>(searchRequests.size());
+    for (MultiSearchResponse.Item item : multiSearchResponse.getResponses()) {
+      if (item.isFailure()) {
+        throw new ESQueryException("Multi search query failed:", item.getFailure());
+      }
+      responses.add(item.getResponse());
+    }
+    return responses;
+  }
+
   @Nonnull
   @WithSpan
   private SearchResult executeAndExtract(
@@ -145,7 +233,8 @@ public class ESSearchDAO {
       @Nonnull SearchRequest searchRequest,
       @Nullable Filter filter,
       int from,
-      @Nullable Integer size) {
+      @Nullable Integer size,
+      @Nonnull Map<String, Long> timings) {
     long id = System.currentTimeMillis();
 
     return opContext.withSpan(
@@ -154,23 +243,33 @@ public class ESSearchDAO {
           SearchResponse searchResponse = null;
           try {
             log.debug("Executing request {}: {}", id, searchRequest);
+            long executeStart = System.nanoTime();
             searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+            timings.put(TIMING_EXECUTE, elapsedMillis(executeStart));
+            if (searchResponse.getTook() != null) {
+              timings.put(TIMING_BACKEND, searchResponse.getTook().getMillis());
+            }
             // extract results, validated against document model as well
-            return transformIndexIntoEntityName(
-                opContext.getSearchContext().getIndexConvention(),
-                SearchRequestHandler.getBuilder(
-                        opContext,
-                        entitySpec,
-                        searchConfiguration,
-                        customSearchConfiguration,
-                        queryFilterRewriteChain,
-                        searchServiceConfig)
-                    .extractResult(
-                        opContext,
-                        searchResponse,
-                        filter,
-                        from,
-                        ConfigUtils.applyLimit(searchServiceConfig, size)));
+            long extractStart = System.nanoTime();
+            SearchResult result =
+                transformIndexIntoEntityName(
+                    opContext.getSearchContext().getIndexConvention(),
+                    SearchRequestHandler.getBuilder(
+                            opContext,
+                            entitySpec,
+                            searchConfiguration,
+                            customSearchConfiguration,
+                            queryFilterRewriteChain,
+                            searchServiceConfig)
+                        .extractResult(
+                            opContext,
+                            searchResponse,
+                            filter,
+                            from,
+                            ConfigUtils.applyLimit(searchServiceConfig, size)));
+            timings.put(TIMING_EXTRACT, elapsedMillis(extractStart));
+            result.getMetadata().setTimings(new LongMap(timings));
+            return result;
           } catch (Exception e) {
             log.error("Search query failed", e);
             log.error("Response to the failed search query: {}", searchResponse);
@@ -320,7 +419,10 @@ public class ESSearchDAO {
       @Nullable Integer size,
       @Nonnull List<String> facets) {
 
+    final Map<String, Long> timings = new LinkedHashMap<>();
+
     // Step 1: construct the query
+    long buildStart = System.nanoTime();
     final Triple<SearchRequest, Filter, List<EntitySpec>> searchRequestComponents =
         opContext.withSpan(
             "searchRequest",
@@ -329,6 +431,7 @@ public class ESSearchDAO {
                     opContext, entityNames, input, postFilters, sortCriteria, from, size, facets),
             MetricUtils.DROPWIZARD_NAME,
             MetricUtils.name(this.getClass(), "searchRequest"));
+    timings.put(TIMING_BUILD_REQUEST, elapsedMillis(buildStart));
 
     if (testLoggingEnabled) {
       testLog(opContext.getObjectMapper(), searchRequestComponents.getLeft());
@@ -341,7 +444,8 @@ public class ESSearchDAO {
         searchRequestComponents.getLeft(),
         searchRequestComponents.getMiddle(),
         from,
-        size);
+        size,
+        timings);
   }
 
   @VisibleForTesting
@@ -416,7 +520,13 @@ public class ESSearchDAO {
 
     searchRequest.indices(indexConvention.getIndexName(entitySpec));
     return executeAndExtract(
-        opContext, List.of(entitySpec), searchRequest, transformedFilters, from, size);
+        opContext,
+        List.of(entitySpec),
+        searchRequest,
+        transformedFilters,
+        from,
+        size,
+        new LinkedHashMap<>());
   }
 
   /**
@@ -750,6 +860,10 @@ public class ESSearchDAO {
         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
   }
 
+  private static long elapsedMillis(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
   private boolean isSliceDisabled() {
     return ELASTICSEARCH_IMPLEMENTATION_ELASTICSEARCH.equalsIgnoreCase(elasticSearchImpl);
   }
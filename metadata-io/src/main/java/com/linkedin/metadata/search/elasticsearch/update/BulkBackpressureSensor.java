@@ -0,0 +1,258 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.dao.throttle.ThrottleControl;
+import com.linkedin.metadata.dao.throttle.ThrottleEvent;
+import com.linkedin.metadata.dao.throttle.ThrottleSensor;
+import com.linkedin.metadata.dao.throttle.ThrottleType;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.rest.RestStatus;
+
+/**
+ * Adaptive concurrency limit for the {@link ESBulkProcessor}. Every bulk request holds a permit
+ * while in flight and the number of permits follows an AIMD policy: it grows by one after each
+ * healthy bulk and is halved when a bulk exceeds the target latency, is rejected by the cluster
+ * (429) or fails outright.
+ *
+ * <p>Callers of {@link ESBulkProcessor#add} block while all permits are taken, which slows down the
+ * consuming thread. If the cluster is still overloaded once the limit has reached its minimum, a
+ * {@link ThrottleType#ES_BULK_BACKPRESSURE} event is raised so that the registered throttle
+ * callbacks (MCE consumers, API requests) back off until a healthy bulk clears it.
+ */
+@Slf4j
+public class BulkBackpressureSensor implements ThrottleSensor, AutoCloseable {
+  private static final String CONCURRENCY_LIMIT_METRIC = "bulk_concurrency_limit";
+  private static final String LATENCY_METRIC = "bulk_latency_ms";
+  private static final String REJECTED_METRIC = "bulk_rejected";
+  private static final String THROTTLED_METRIC = "bulk_throttled";
+  private static final ThrottleEvent CLEAR =
+      ThrottleEvent.clearThrottle(Set.of(ThrottleType.ES_BULK_BACKPRESSURE));
+
+  private final int minConcurrency;
+  private final int maxConcurrency;
+  private final long targetLatencyMs;
+  private final long throttleWaitMs;
+  @Nullable private final MetricUtils metricUtils;
+
+  /** A list of throttle event listeners to execute when throttling occurs and ceases */
+  private final List<Function<ThrottleEvent, ThrottleControl>> throttleCallbacks =
+      new CopyOnWriteArrayList<>();
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("bulk-backpressure-%d")
+              .setDaemon(true)
+              .build());
+  private final Object lock = new Object();
+  private int concurrencyLimit;
+  private int inFlight;
+  @Nullable private List<ThrottleControl> activeThrottles;
+
+  @Builder
+  public BulkBackpressureSensor(
+      int minConcurrency,
+      int maxConcurrency,
+      long targetLatencyMs,
+      long throttleWaitMs,
+      @Nullable MetricUtils metricUtils) {
+    this.minConcurrency = Math.max(1, minConcurrency);
+    this.maxConcurrency = Math.max(this.minConcurrency, maxConcurrency);
+    this.targetLatencyMs = targetLatencyMs;
+    this.throttleWaitMs = throttleWaitMs;
+    this.metricUtils = metricUtils;
+    this.concurrencyLimit = this.minConcurrency;
+  }
+
+  @Override
+  public BulkBackpressureSensor addCallback(Function<ThrottleEvent, ThrottleControl> callback) {
+    throttleCallbacks.add(callback);
+    return this;
+  }
+
+  /** Upper bound of concurrent bulk requests, used to size the underlying bulk processor. */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @VisibleForTesting
+  public int getConcurrencyLimit() {
+    synchronized (lock) {
+      return concurrencyLimit;
+    }
+  }
+
+  @VisibleForTesting
+  public boolean isThrottled() {
+    synchronized (lock) {
+      return activeThrottles != null;
+    }
+  }
+
+  /** Block until a bulk request may be sent under the current concurrency limit. */
+  public void acquire() throws InterruptedException {
+    synchronized (lock) {
+      while (inFlight >= concurrencyLimit) {
+        lock.wait();
+      }
+      inFlight++;
+    }
+  }
+
+  public void release() {
+    synchronized (lock) {
+      inFlight = Math.max(0, inFlight - 1);
+      lock.notifyAll();
+    }
+  }
+
+  /** Stops the pending throttle expiries, invoked by the container when the bean is destroyed. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  public void onResponse(long latencyMs, @Nonnull BulkResponse response) {
+    long rejected =
+        Arrays.stream(response.getItems())
+            .filter(BulkItemResponse::isFailed)
+            .filter(item -> RestStatus.TOO_MANY_REQUESTS.equals(item.getFailure().getStatus()))
+            .count();
+    if (metricUtils != null) {
+      metricUtils.histogram(this.getClass(), LATENCY_METRIC, latencyMs);
+      if (rejected > 0) {
+        metricUtils.increment(this.getClass(), REJECTED_METRIC, rejected);
+      }
+    }
+
+    if (rejected > 0 || latencyMs > targetLatencyMs) {
+      log.warn(
+          "Bulk request overloaded, rejected items: {} latency: {} ms target: {} ms",
+          rejected,
+          latencyMs,
+          targetLatencyMs);
+      decrease();
+    } else {
+      increase();
+    }
+  }
+
+  public void onFailure(long latencyMs, @Nonnull Exception failure) {
+    if (metricUtils != null) {
+      metricUtils.histogram(this.getClass(), LATENCY_METRIC, latencyMs);
+      if (isRejection(failure)) {
+        metricUtils.increment(this.getClass(), REJECTED_METRIC, 1);
+      }
+    }
+    log.warn("Bulk request failed after {} ms, reducing concurrency.", latencyMs, failure);
+    decrease();
+  }
+
+  private void increase() {
+    synchronized (lock) {
+      if (concurrencyLimit < maxConcurrency) {
+        concurrencyLimit++;
+        lock.notifyAll();
+      }
+      updateGauges();
+    }
+    clearThrottle(null);
+  }
+
+  /**
+   * Resume throttled callbacks, either after a healthy bulk or once the wait has elapsed.
+   *
+   * @param expected only clear this throttle, null to clear any active throttle
+   */
+  private void clearThrottle(@Nullable List<ThrottleControl> expected) {
+    final List<ThrottleControl> clear;
+    synchronized (lock) {
+      if (activeThrottles == null || (expected != null && activeThrottles != expected)) {
+        return;
+      }
+      clear = activeThrottles;
+      activeThrottles = null;
+      updateGauges();
+    }
+
+    log.info("Bulk backpressure cleared, resuming {} callbacks.", clear.size());
+    clear.forEach(control -> control.execute(CLEAR));
+  }
+
+  private void decrease() {
+    List<ThrottleControl> pending = null;
+    synchronized (lock) {
+      if (concurrencyLimit > minConcurrency) {
+        concurrencyLimit = Math.max(minConcurrency, concurrencyLimit / 2);
+      } else if (activeThrottles == null) {
+        // already at the floor and still overloaded, push back on the producers
+        pending = new ArrayList<>();
+        activeThrottles = pending;
+      }
+      updateGauges();
+    }
+
+    if (pending != null) {
+      log.warn(
+          "Bulk backpressure engaged, throttling {} callbacks for {} ms.",
+          throttleCallbacks.size(),
+          throttleWaitMs);
+      final ThrottleEvent throttleEvent =
+          ThrottleEvent.throttle(Map.of(ThrottleType.ES_BULK_BACKPRESSURE, throttleWaitMs));
+      final List<ThrottleControl> controls =
+          throttleCallbacks.stream()
+              .map(callback -> callback.apply(throttleEvent))
+              .collect(Collectors.toCollection(ArrayList::new));
+      synchronized (lock) {
+        if (activeThrottles == pending && !scheduler.isShutdown()) {
+          activeThrottles = controls;
+          // nothing may be flowing while producers are paused, do not wait on a healthy bulk
+          scheduler.schedule(() -> clearThrottle(controls), throttleWaitMs, TimeUnit.MILLISECONDS);
+          return;
+        }
+        if (activeThrottles == pending) {
+          activeThrottles = null;
+          updateGauges();
+        }
+      }
+      // cleared while the callbacks were running, or closed and nothing would resume them
+      controls.forEach(control -> control.execute(CLEAR));
+    }
+  }
+
+  private void updateGauges() {
+    if (metricUtils != null) {
+      metricUtils.setGaugeValue(this.getClass(), CONCURRENCY_LIMIT_METRIC, concurrencyLimit);
+      metricUtils.setGaugeValue(this.getClass(), THROTTLED_METRIC, activeThrottles != null ? 1 : 0);
+    }
+  }
+
+  private static boolean isRejection(Throwable failure) {
+    for (Throwable t = failure; t != null; t = t.getCause()) {
+      if (t instanceof OpenSearchStatusException statusException
+          && RestStatus.TOO_MANY_REQUESTS.equals(statusException.status())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
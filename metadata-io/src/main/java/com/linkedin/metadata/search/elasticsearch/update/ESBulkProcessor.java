@@ -4,6 +4,7 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BackoffPolicy;
 import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.RequestOptions;
@@ -20,6 +22,8 @@ import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.tasks.TaskSubmissionResponse;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -59,6 +63,15 @@ public class ESBulkProcessor implements Closeable {
 
   private final MetricUtils metricUtils;
 
+  /** Maximum size of a bulk request in bytes when running in adaptive mode. */
+  @Builder.Default private Long bulkSizeBytes = 5L * 1024 * 1024;
+
+  /**
+   * Enables adaptive mode: bulks are sized by {@link #bulkSizeBytes} instead of the request count
+   * and the number of concurrent bulks is driven by the sensor.
+   */
+  @Nullable private final BulkBackpressureSensor backpressureSensor;
+
   private ESBulkProcessor(
       @NonNull RestHighLevelClient searchClient,
       @NonNull Boolean async,
@@ -70,7 +83,9 @@ public class ESBulkProcessor implements Closeable {
       TimeValue defaultTimeout,
       WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
       BulkProcessor ignored,
-      MetricUtils metricUtils) {
+      MetricUtils metricUtils,
+      Long bulkSizeBytes,
+      BulkBackpressureSensor backpressureSensor) {
     this.searchClient = searchClient;
     this.async = async;
     this.batchDelete = batchDelete;
@@ -80,8 +95,10 @@ public class ESBulkProcessor implements Closeable {
     this.retryInterval = retryInterval;
     this.defaultTimeout = defaultTimeout;
     this.writeRequestRefreshPolicy = writeRequestRefreshPolicy;
-    this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
     this.metricUtils = metricUtils;
+    this.bulkSizeBytes = bulkSizeBytes;
+    this.backpressureSensor = backpressureSensor;
+    this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
   }
 
   public ESBulkProcessor add(DocWriteRequest<?> request) {
@@ -196,39 +213,91 @@ public class ESBulkProcessor implements Closeable {
   }
 
   private BulkProcessor toBulkProcessor() {
-    return BulkProcessor.builder(
-            (request, bulkListener) -> {
-              try {
-                BulkResponse response = searchClient.bulk(request, RequestOptions.DEFAULT);
-                bulkListener.onResponse(response);
-              } catch (IOException e) {
-                bulkListener.onFailure(e);
-                throw new RuntimeException(e);
-              }
-            },
-            BulkListener.getInstance(writeRequestRefreshPolicy, metricUtils))
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
-        // retry methods)
-        .setBackoffPolicy(
-            BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-        .build();
+    return buildBulkProcessor(
+        (request, bulkListener) -> {
+          try {
+            BulkResponse response = searchClient.bulk(request, RequestOptions.DEFAULT);
+            bulkListener.onResponse(response);
+          } catch (IOException e) {
+            bulkListener.onFailure(e);
+            throw new RuntimeException(e);
+          }
+        });
   }
 
   private BulkProcessor toAsyncBulkProcessor() {
-    return BulkProcessor.builder(
-            (request, bulkListener) -> {
-              searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
-            },
-            BulkListener.getInstance(writeRequestRefreshPolicy, metricUtils))
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
-        // retry methods)
-        .setBackoffPolicy(
-            BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-        .build();
+    return buildBulkProcessor(
+        (request, bulkListener) -> {
+          searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
+        });
+  }
+
+  private BulkProcessor buildBulkProcessor(
+      BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer) {
+    BulkProcessor.Builder builder =
+        BulkProcessor.builder(
+                backpressureSensor == null ? consumer : withBackpressure(consumer),
+                BulkListener.getInstance(writeRequestRefreshPolicy, metricUtils))
+            .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
+            // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has
+            // other retry methods)
+            .setBackoffPolicy(
+                BackoffPolicy.constantBackoff(
+                    TimeValue.timeValueSeconds(retryInterval), numRetries));
+
+    if (backpressureSensor == null) {
+      builder.setBulkActions(bulkRequestsLimit);
+    } else {
+      // flush on size rather than count, the sensor limits how many bulks are in flight
+      builder
+          .setBulkActions(-1)
+          .setBulkSize(new ByteSizeValue(bulkSizeBytes))
+          .setConcurrentRequests(backpressureSensor.getMaxConcurrency());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Holds a sensor permit for the lifetime of each bulk request and reports its outcome, so that
+   * the concurrency limit follows the observed latency and rejections.
+   */
+  private BiConsumer<BulkRequest, ActionListener<BulkResponse>> withBackpressure(
+      BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer) {
+    return (request, bulkListener) -> {
+      try {
+        backpressureSensor.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        bulkListener.onFailure(e);
+        return;
+      }
+
+      final long startTime = System.currentTimeMillis();
+      consumer.accept(
+          request,
+          new ActionListener<>() {
+            @Override
+            public void onResponse(BulkResponse response) {
+              try {
+                backpressureSensor.onResponse(System.currentTimeMillis() - startTime, response);
+              } finally {
+                backpressureSensor.release();
+              }
+              bulkListener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              try {
+                backpressureSensor.onFailure(System.currentTimeMillis() - startTime, e);
+              } finally {
+                backpressureSensor.release();
+              }
+              bulkListener.onFailure(e);
+            }
+          });
+    };
   }
 
   @Override
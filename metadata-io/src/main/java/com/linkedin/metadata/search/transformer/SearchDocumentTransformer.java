@@ -23,6 +23,7 @@ import com.linkedin.metadata.aspect.AspectRetriever;
 import com.linkedin.metadata.entity.EntityUtils;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.metadata.models.LogicalValueType;
 import com.linkedin.metadata.models.SearchScoreFieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
@@ -71,6 +72,10 @@ public class SearchDocumentTransformer {
 
   private static final String BROWSE_PATH_V2_DELIMITER = "␟";
 
+  // Extracted together in a single traversal of the aspect
+  private static final Set<Class<? extends FieldSpec>> SEARCH_FIELD_SPEC_TYPES =
+      Set.of(SearchableFieldSpec.class, SearchableRefFieldSpec.class, SearchScoreFieldSpec.class);
+
   public Optional<String> transformSnapshot(
       final RecordTemplate snapshot, final EntitySpec entitySpec, final Boolean forDelete) {
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
@@ -185,13 +190,15 @@ public class SearchDocumentTransformer {
       final Boolean forDelete,
       final AuditStamp mclCreateAuditStamp)
       throws RemoteInvocationException, URISyntaxException {
+    final Map<FieldSpec, List<Object>> extractedFields =
+        FieldExtractor.extractFields(
+            aspect, aspectSpec, SEARCH_FIELD_SPEC_TYPES, maxValueLength, false);
     final Map<SearchableFieldSpec, List<Object>> extractedSearchableFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchableFieldSpecs(), maxValueLength);
+        FieldExtractor.getFields(extractedFields, SearchableFieldSpec.class);
     final Map<SearchableRefFieldSpec, List<Object>> extractedSearchRefFields =
-        FieldExtractor.extractFields(
-            aspect, aspectSpec.getSearchableRefFieldSpecs(), maxValueLength);
+        FieldExtractor.getFields(extractedFields, SearchableRefFieldSpec.class);
     final Map<SearchScoreFieldSpec, List<Object>> extractedSearchScoreFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchScoreFieldSpecs(), maxValueLength);
+        FieldExtractor.getFields(extractedFields, SearchScoreFieldSpec.class);
 
     Optional<ObjectNode> result = Optional.empty();
 
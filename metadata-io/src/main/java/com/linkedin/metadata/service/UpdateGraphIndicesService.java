@@ -340,7 +340,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     }
 
     Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldSpecs(), true);
+        FieldExtractor.extractFields(aspect, aspectSpec, RelationshipFieldSpec.class, true);
 
     // restrict the creation of schema field nodes and their relationships especially for
     // platforms like hdfs
@@ -383,7 +383,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
                 new Filter().setOr(new ConjunctiveCriterionArray()),
                 RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(graphService::addEdge);
+      graphService.addEdges(edgesToAdd);
     }
   }
 
@@ -428,7 +428,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Remove any old edges that no longer exist first
     if (!subtractiveDifference.isEmpty()) {
       log.debug("Removing edges: {}", subtractiveDifference);
-      subtractiveDifference.forEach(graphService::removeEdge);
+      graphService.removeEdges(subtractiveDifference);
       opContext
           .getMetricUtils()
           .ifPresent(
@@ -442,7 +442,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Then add new edges
     if (!additiveDifference.isEmpty()) {
       log.debug("Adding edges: {}", additiveDifference);
-      additiveDifference.forEach(graphService::addEdge);
+      graphService.addEdges(additiveDifference);
       opContext
           .getMetricUtils()
           .ifPresent(
@@ -454,7 +454,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Then update existing edges
     if (!mergedEdges.isEmpty()) {
       log.debug("Updating edges: {}", mergedEdges);
-      mergedEdges.forEach(graphService::upsertEdge);
+      graphService.upsertEdges(mergedEdges);
       opContext
           .getMetricUtils()
           .ifPresent(
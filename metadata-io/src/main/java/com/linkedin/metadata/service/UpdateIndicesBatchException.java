@@ -0,0 +1,26 @@
+package com.linkedin.metadata.service;
+
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+
+/**
+ * Thrown by {@link UpdateIndicesService#handleChangeEvents} when events of the batch could not be
+ * indexed. The cause is the first failure, later failures are suppressed by it.
+ */
+@Getter
+public class UpdateIndicesBatchException extends RuntimeException {
+  /** Positions in the batch of the events which failed. */
+  private final Set<Integer> failedIndices;
+
+  public UpdateIndicesBatchException(
+      @Nonnull Set<Integer> failedIndices, @Nonnull RuntimeException first) {
+    super(
+        String.format(
+            "%d events of the batch failed to be indexed, first failure: %s",
+            failedIndices.size(), first),
+        first);
+    this.failedIndices = Collections.unmodifiableSet(failedIndices);
+  }
+}
@@ -34,12 +34,16 @@ import io.datahubproject.metadata.context.OperationContext;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -64,6 +68,7 @@ public class UpdateIndicesService implements SearchIndicesService {
 
   private static final String DOCUMENT_TRANSFORM_FAILED_METRIC = "document_transform_failed";
   private static final String SEARCH_DIFF_MODE_SKIPPED_METRIC = "search_diff_no_changes_detected";
+  private static final String COALESCED_DOCUMENTS_METRIC = "search_documents_coalesced";
 
   private static final Set<ChangeType> UPDATE_CHANGE_TYPES =
       ImmutableSet.of(
@@ -117,38 +122,140 @@ public class UpdateIndicesService implements SearchIndicesService {
   public void handleChangeEvent(
       @Nonnull OperationContext opContext, @Nonnull final MetadataChangeLog event) {
     try {
-      MCLItemImpl batch = MCLItemImpl.builder().build(event, opContext.getAspectRetriever());
-
-      Stream<MCLItem> sideEffects =
-          AspectsBatch.applyMCLSideEffects(List.of(batch), opContext.getRetrieverContext());
-
-      for (MCLItem mclItem :
-          Stream.concat(Stream.of(batch), sideEffects).collect(Collectors.toList())) {
-        MetadataChangeLog hookEvent = mclItem.getMetadataChangeLog();
-        if (UPDATE_CHANGE_TYPES.contains(hookEvent.getChangeType())) {
-          // non-system metadata
-          handleUpdateChangeEvent(opContext, mclItem, false);
-          // graph update
-          updateGraphIndicesService.handleChangeEvent(opContext, event);
-          // system metadata is last for tracing
-          handleUpdateChangeEvent(opContext, mclItem, true);
-        } else if (hookEvent.getChangeType() == ChangeType.DELETE) {
-          Pair<EntitySpec, AspectSpec> specPair = extractSpecPair(mclItem);
-          boolean isDeletingKey = isDeletingKey(specPair);
-
-          // non-system metadata
-          handleNonSystemMetadataDeleteChangeEvent(opContext, specPair, mclItem, isDeletingKey);
-          // graph update
-          updateGraphIndicesService.handleChangeEvent(opContext, event);
-          // system metadata is last for tracing
-          handleSystemMetadataDeleteChangeEvent(mclItem.getUrn(), specPair, isDeletingKey);
-        }
-      }
+      processChangeEvent(opContext, event, null);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Processes a batch of change events in order, coalescing search document updates per urn. The
+   * partial documents produced by all update events for the same entity document are merged and
+   * written as a single upsert once the batch was processed, instead of one upsert per event.
+   * Timeseries and graph updates are applied per event as in {@link #handleChangeEvent}, system
+   * metadata is written after the coalesced search documents to preserve its role as the last
+   * write for tracing. A delete event flushes the pending updates before it is applied.
+   *
+   * <p>Failures of individual events do not prevent the rest of the batch from being indexed. Once
+   * the batch was processed an {@link UpdateIndicesBatchException} identifies the events which
+   * failed. The coalesced documents are not attributed to single events, so a failure to write
+   * them fails every event of the batch.
+   *
+   * @param opContext operation's context
+   * @param events the change events to be processed, in consumption order
+   * @throws UpdateIndicesBatchException if events of the batch failed
+   */
+  public void handleChangeEvents(
+      @Nonnull OperationContext opContext, @Nonnull final List<MetadataChangeLog> events) {
+    final PendingIndexUpdates pending = new PendingIndexUpdates();
+    final Set<Integer> failedIndices = new LinkedHashSet<>();
+    RuntimeException failure = null;
+
+    for (int i = 0; i < events.size(); i++) {
+      MetadataChangeLog event = events.get(i);
+      try {
+        processChangeEvent(opContext, event, pending);
+      } catch (Exception e) {
+        log.error("Failed to update indices for urn: {}", event.getEntityUrn(), e);
+        failedIndices.add(i);
+        failure = addFailure(failure, e);
+      }
+    }
+
+    try {
+      flushPendingUpdates(opContext, pending);
+    } catch (Exception e) {
+      log.error("Failed to write the coalesced index updates of {} events", events.size(), e);
+      IntStream.range(0, events.size()).forEach(failedIndices::add);
+      failure = addFailure(failure, e);
+    }
+
+    opContext
+        .getMetricUtils()
+        .ifPresent(
+            metricUtils ->
+                metricUtils.histogram(
+                    this.getClass(), COALESCED_DOCUMENTS_METRIC, pending.coalescedDocuments));
+
+    if (failure != null) {
+      throw new UpdateIndicesBatchException(failedIndices, failure);
+    }
+  }
+
+  private static RuntimeException addFailure(
+      @Nullable RuntimeException failure, @Nonnull Exception e) {
+    RuntimeException wrapped =
+        e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+    if (failure == null) {
+      return wrapped;
+    }
+    failure.addSuppressed(wrapped);
+    return failure;
+  }
+
+  private void processChangeEvent(
+      @Nonnull OperationContext opContext,
+      @Nonnull final MetadataChangeLog event,
+      @Nullable PendingIndexUpdates pending)
+      throws IOException {
+    MCLItemImpl batch = MCLItemImpl.builder().build(event, opContext.getAspectRetriever());
+
+    Stream<MCLItem> sideEffects =
+        AspectsBatch.applyMCLSideEffects(List.of(batch), opContext.getRetrieverContext());
+
+    for (MCLItem mclItem :
+        Stream.concat(Stream.of(batch), sideEffects).collect(Collectors.toList())) {
+      MetadataChangeLog hookEvent = mclItem.getMetadataChangeLog();
+      if (UPDATE_CHANGE_TYPES.contains(hookEvent.getChangeType())) {
+        // non-system metadata
+        handleUpdateChangeEvent(opContext, mclItem, false, pending);
+        // graph update
+        updateGraphIndicesService.handleChangeEvent(opContext, event);
+        // system metadata is last for tracing
+        if (pending == null) {
+          handleUpdateChangeEvent(opContext, mclItem, true, null);
+        } else {
+          pending.systemMetadataUpdates.add(mclItem);
+        }
+      } else if (hookEvent.getChangeType() == ChangeType.DELETE) {
+        if (pending != null) {
+          // Apply buffered writes first so they cannot resurrect deleted data
+          flushPendingUpdates(opContext, pending);
+        }
+        Pair<EntitySpec, AspectSpec> specPair = extractSpecPair(mclItem);
+        boolean isDeletingKey = isDeletingKey(specPair);
+
+        // non-system metadata
+        handleNonSystemMetadataDeleteChangeEvent(opContext, specPair, mclItem, isDeletingKey);
+        // graph update
+        updateGraphIndicesService.handleChangeEvent(opContext, event);
+        // system metadata is last for tracing
+        handleSystemMetadataDeleteChangeEvent(mclItem.getUrn(), specPair, isDeletingKey);
+      }
+    }
+  }
+
+  private void flushPendingUpdates(
+      @Nonnull OperationContext opContext, @Nonnull PendingIndexUpdates pending) {
+    pending.searchDocuments.forEach(
+        (entityDocument, document) ->
+            elasticSearchService.upsertDocument(
+                opContext,
+                entityDocument.getFirst(),
+                document.toString(),
+                entityDocument.getSecond()));
+    pending.searchDocuments.clear();
+
+    for (MCLItem mclItem : pending.systemMetadataUpdates) {
+      try {
+        handleUpdateChangeEvent(opContext, mclItem, true, null);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    pending.systemMetadataUpdates.clear();
+  }
+
   /**
    * This very important method processes {@link MetadataChangeLog} events that represent changes to
    * the Metadata Graph.
@@ -159,7 +266,10 @@ public class UpdateIndicesService implements SearchIndicesService {
    * @param event the change event to be processed.
    */
   private void handleUpdateChangeEvent(
-      @Nonnull OperationContext opContext, @Nonnull final MCLItem event, boolean forSystemMetadata)
+      @Nonnull OperationContext opContext,
+      @Nonnull final MCLItem event,
+      boolean forSystemMetadata,
+      @Nullable PendingIndexUpdates pending)
       throws IOException {
 
     final EntitySpec entitySpec = event.getEntitySpec();
@@ -190,7 +300,7 @@ public class UpdateIndicesService implements SearchIndicesService {
       }
 
       // Step 2. For all aspects, attempt to update Search
-      updateSearchService(opContext, event);
+      updateSearchService(opContext, event, pending);
     } else if (forSystemMetadata && !aspectSpec.isTimeseries()) {
       // Inject into the System Metadata Index when an aspect is non-timeseries only.
       // TODO: Verify whether timeseries aspects can be dropped into System Metadata as well
@@ -306,8 +416,12 @@ public class UpdateIndicesService implements SearchIndicesService {
     }
   }
 
-  /** Process snapshot and update search index */
-  private void updateSearchService(@Nonnull OperationContext opContext, MCLItem event) {
+  /**
+   * Process snapshot and update search index. When pending updates are supplied the document is
+   * merged into the pending document for the urn instead of being written immediately.
+   */
+  private void updateSearchService(
+      @Nonnull OperationContext opContext, MCLItem event, @Nullable PendingIndexUpdates pending) {
     Urn urn = event.getUrn();
     RecordTemplate aspect = event.getRecordTemplate();
     AspectSpec aspectSpec = event.getAspectSpec();
@@ -387,12 +501,15 @@ public class UpdateIndicesService implements SearchIndicesService {
       }
     }
 
-    String finalDocument =
+    ObjectNode finalDocument =
         SearchDocumentTransformer.handleRemoveFields(
-                searchDocument.get(), previousSearchDocument.orElse(null))
-            .toString();
+            searchDocument.get(), previousSearchDocument.orElse(null));
 
-    elasticSearchService.upsertDocument(opContext, entityName, finalDocument, docId);
+    if (pending != null) {
+      pending.merge(entityName, docId, finalDocument);
+    } else {
+      elasticSearchService.upsertDocument(opContext, entityName, finalDocument.toString(), docId);
+    }
   }
 
   /** Process snapshot and update time-series index */
@@ -485,4 +602,38 @@ public class UpdateIndicesService implements SearchIndicesService {
 
     elasticSearchService.upsertDocument(opContext, entityName, searchDocument.get(), docId);
   }
+
+  /** Search document and system metadata writes deferred while processing a batch of events. */
+  private static class PendingIndexUpdates {
+    // (entity name, document id) -> merged partial document, in first-seen order
+    private final Map<Pair<String, String>, ObjectNode> searchDocuments = new LinkedHashMap<>();
+    private final List<MCLItem> systemMetadataUpdates = new ArrayList<>();
+    private int coalescedDocuments = 0;
+
+    private void merge(String entityName, String docId, ObjectNode document) {
+      Pair<String, String> key = Pair.of(entityName, docId);
+      ObjectNode existing = searchDocuments.get(key);
+      if (existing == null) {
+        searchDocuments.put(key, document);
+      } else {
+        mergeDocument(existing, document);
+        coalescedDocuments++;
+      }
+    }
+
+    /** Later values win, nested objects are merged the same way a partial update would be. */
+    private static void mergeDocument(ObjectNode target, ObjectNode update) {
+      update
+          .fields()
+          .forEachRemaining(
+              field -> {
+                JsonNode current = target.get(field.getKey());
+                if (current != null && current.isObject() && field.getValue().isObject()) {
+                  mergeDocument((ObjectNode) current, (ObjectNode) field.getValue());
+                } else {
+                  target.set(field.getKey(), field.getValue());
+                }
+              });
+    }
+  }
 }
@@ -0,0 +1,116 @@
+package com.linkedin.metadata.system_telemetry;
+
+import com.linkedin.metadata.config.graphql.GraphQLMetricsConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.stats.Statistics;
+
+/**
+ * Records the statistics of the DataLoaders used by a request, to make the number of fetches per
+ * request visible: the number of dispatches of each loader and the number of keys per dispatch.
+ *
+ * <p>The statistics can also be returned in the {@value #EXTENSION_KEY} extension of the response,
+ * when enabled by {@code dataLoaderStatsExtensionEnabled}. Only the loaders created with a
+ * statistics collector are reported.
+ */
+public class GraphQLDataLoaderInstrumentation extends SimplePerformantInstrumentation {
+  public static final String EXTENSION_KEY = "dataLoaders";
+
+  private final MeterRegistry meterRegistry;
+  private final double[] percentiles;
+  private final boolean extensionEnabled;
+
+  public GraphQLDataLoaderInstrumentation(
+      MeterRegistry meterRegistry, GraphQLMetricsConfiguration config) {
+    this.meterRegistry = meterRegistry;
+    this.percentiles = MetricUtils.parsePercentiles(config.getPercentiles());
+    this.extensionEnabled = config.isDataLoaderStatsExtensionEnabled();
+  }
+
+  @Override
+  public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+      ExecutionResult executionResult,
+      InstrumentationExecutionParameters parameters,
+      InstrumentationState state) {
+    final DataLoaderRegistry registry =
+        parameters.getExecutionInput() != null
+            ? parameters.getExecutionInput().getDataLoaderRegistry()
+            : null;
+    if (registry == null) {
+      return CompletableFuture.completedFuture(executionResult);
+    }
+
+    final String operationName = getOperationName(parameters);
+    final Map<String, Map<String, Long>> loaderStatistics = new LinkedHashMap<>();
+    for (Map.Entry<String, DataLoader<?, ?>> entry : registry.getDataLoadersMap().entrySet()) {
+      final Statistics statistics = entry.getValue().getStatistics();
+      if (statistics.getLoadCount() == 0) {
+        continue;
+      }
+      record(entry.getKey(), operationName, statistics);
+
+      final Map<String, Long> values = new LinkedHashMap<>();
+      values.put("loads", statistics.getLoadCount());
+      values.put("cacheHits", statistics.getCacheHitCount());
+      values.put("dispatches", statistics.getBatchInvokeCount());
+      values.put("batchedKeys", statistics.getBatchLoadCount());
+      loaderStatistics.put(entry.getKey(), values);
+    }
+
+    if (!extensionEnabled || loaderStatistics.isEmpty()) {
+      return CompletableFuture.completedFuture(executionResult);
+    }
+    return CompletableFuture.completedFuture(
+        ExecutionResultImpl.newExecutionResult()
+            .from(executionResult)
+            .addExtension(EXTENSION_KEY, loaderStatistics)
+            .build());
+  }
+
+  private void record(String loaderName, String operationName, Statistics statistics) {
+    DistributionSummary.builder("graphql.dataloader.dispatches")
+        .tag("loader", loaderName)
+        .tag("operation", operationName)
+        .publishPercentiles(percentiles)
+        .register(meterRegistry)
+        .record(statistics.getBatchInvokeCount());
+
+    if (statistics.getBatchInvokeCount() > 0) {
+      DistributionSummary.builder("graphql.dataloader.batch.size")
+          .tag("loader", loaderName)
+          .tag("operation", operationName)
+          .publishPercentiles(percentiles)
+          .register(meterRegistry)
+          .record((double) statistics.getBatchLoadCount() / statistics.getBatchInvokeCount());
+    }
+
+    if (statistics.getCacheHitCount() > 0) {
+      meterRegistry
+          .counter(
+              "graphql.dataloader.cache.hits", "loader", loaderName, "operation", operationName)
+          .increment(statistics.getCacheHitCount());
+    }
+  }
+
+  private String getOperationName(InstrumentationExecutionParameters parameters) {
+    if (parameters.getOperation() != null) {
+      return parameters.getOperation();
+    }
+    if (parameters.getExecutionInput() != null
+        && parameters.getExecutionInput().getOperationName() != null) {
+      return parameters.getExecutionInput().getOperationName();
+    }
+    return "unnamed";
+  }
+}
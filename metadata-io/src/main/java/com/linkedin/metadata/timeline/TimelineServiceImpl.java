@@ -5,9 +5,15 @@ import static com.linkedin.metadata.Constants.*;
 
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.aspect.EntityAspect;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -26,6 +32,7 @@ import com.linkedin.metadata.timeline.eventgenerator.GlossaryTermsChangeEventGen
 import com.linkedin.metadata.timeline.eventgenerator.InstitutionalMemoryChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.OwnershipChangeEventGenerator;
 import com.linkedin.metadata.timeline.eventgenerator.SchemaMetadataChangeEventGenerator;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import jakarta.json.Json;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonValue;
@@ -39,12 +46,15 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.apache.commons.collections4.CollectionUtils;
 
 public class TimelineServiceImpl implements TimelineService {
@@ -66,15 +76,41 @@ public class TimelineServiceImpl implements TimelineService {
   private static final long FIRST_TRANSACTION_ID = 0;
   private static final String BUILD_VALUE_COMPUTED = "computed";
 
+  public static final long DEFAULT_DIFF_CACHE_SIZE = 10000;
+  public static final int DEFAULT_PAGE_SIZE = 100;
+
   private final AspectDao _aspectDao;
   private final EntityChangeEventGeneratorFactory _entityChangeEventGeneratorFactory;
   private final EntityRegistry _entityRegistry;
   private final HashMap<String, HashMap<ChangeCategory, Set<String>>>
       entityTypeElementAspectRegistry = new HashMap<>();
 
+  // Change transaction of a category between two consecutive aspect versions, empty if none
+  private final Cache<String, Optional<ChangeTransaction>> _diffCache;
+  private final int _pageSize;
+  @Nullable private final MetricUtils _metricUtils;
+
   public TimelineServiceImpl(@Nonnull AspectDao aspectDao, @Nonnull EntityRegistry entityRegistry) {
+    this(aspectDao, entityRegistry, DEFAULT_DIFF_CACHE_SIZE, DEFAULT_PAGE_SIZE, null);
+  }
+
+  /**
+   * @param diffCacheSize number of computed diffs kept, one per category and pair of consecutive
+   *     aspect versions, 0 disables the cache
+   * @param pageSize number of aspect versions loaded at once to compute the diffs not cached
+   */
+  public TimelineServiceImpl(
+      @Nonnull AspectDao aspectDao,
+      @Nonnull EntityRegistry entityRegistry,
+      long diffCacheSize,
+      int pageSize,
+      @Nullable MetricUtils metricUtils) {
     this._aspectDao = aspectDao;
     _entityRegistry = entityRegistry;
+    _diffCache =
+        CacheBuilder.newBuilder().maximumSize(Math.max(diffCacheSize, 0)).recordStats().build();
+    _pageSize = Math.max(pageSize, 1);
+    _metricUtils = metricUtils;
 
     // TODO: Simplify this structure.
     // TODO: Load up from yaml file
@@ -265,8 +301,9 @@ public class TimelineServiceImpl implements TimelineService {
             .filter(aspectSpec -> !aspectSpec.isTimeseries())
             .map(AspectSpec::getName)
             .collect(Collectors.toSet());
+    // Contents are only loaded for the diffs which are not cached, see computeDiffs
     List<EntityAspect> aspectsInRange =
-        this._aspectDao.getAspectsInRange(urn, fullAspectNames, startTimeMillis, endTimeMillis);
+        this._aspectDao.getAspectKeysInRange(urn, fullAspectNames, startTimeMillis, endTimeMillis);
 
     // Prepopulate with all versioned aspectNames -> ignore timeseries using
     // registry
@@ -282,7 +319,7 @@ public class TimelineServiceImpl implements TimelineService {
         aspectRowSetMap.entrySet().stream()
             .filter(entry -> aspectNames.contains(entry.getKey()))
             .map(Map.Entry::getValue)
-            .map(value -> computeDiffs(value, urn.getEntityType(), elementNames, rawDiffRequested))
+            .map(value -> computeDiffs(urn, value, elementNames, rawDiffRequested))
             .collect(
                 TreeMap::new,
                 this::combineComputedDiffsPerTransactionId,
@@ -417,28 +454,174 @@ public class TimelineServiceImpl implements TimelineService {
     return timestampVersionCache;
   }
 
+  /**
+   * Diffs each version of the aspect with the one before it. Cached diffs are reused, the contents
+   * of the versions are only loaded for the others, a page of versions at a time.
+   */
   private SortedMap<Long, List<ChangeTransaction>> computeDiffs(
+      Urn urn,
       TreeSet<EntityAspect> aspectTimeline,
-      String entityType,
       Set<ChangeCategory> elementNames,
       boolean rawDiffsRequested) {
-    EntityAspect previousValue = null;
+    String entityType = urn.getEntityType();
     SortedMap<Long, List<ChangeTransaction>> changeTransactionsMap = new TreeMap<>();
-    long transactionId;
-    for (EntityAspect currentValue : aspectTimeline) {
-      transactionId = currentValue.getCreatedOn().getTime();
-      if (previousValue != null) {
-        // we skip the first element and only compare once we have two in hand
+    List<EntityAspect> timeline = new ArrayList<>(aspectTimeline);
+
+    // we skip the first element and only compare once we have two in hand
+    List<Integer> uncached = new ArrayList<>();
+    for (int i = 1; i < timeline.size(); i++) {
+      List<ChangeTransaction> cached =
+          getCachedDiff(
+              pairKey(urn, timeline.get(i - 1), timeline.get(i)),
+              entityType,
+              timeline.get(i).getAspect(),
+              elementNames,
+              rawDiffsRequested);
+      if (cached != null) {
+        changeTransactionsMap.put(timeline.get(i).getCreatedOn().getTime(), cached);
+      } else {
+        uncached.add(i);
+      }
+    }
+    recordDiffCacheMetrics(Math.max(timeline.size() - 1, 0) - uncached.size(), uncached.size());
+
+    for (List<Integer> page : Lists.partition(uncached, _pageSize)) {
+      Map<EntityAspectIdentifier, EntityAspect> contents =
+          loadContents(
+              page.stream()
+                  .flatMap(i -> Stream.of(timeline.get(i - 1), timeline.get(i)))
+                  .collect(Collectors.toList()));
+      for (int i : page) {
+        EntityAspect previousKey = timeline.get(i - 1);
+        EntityAspect currentKey = timeline.get(i);
+        EntityAspect previousValue = withContent(previousKey, contents);
+        EntityAspect currentValue = withContent(currentKey, contents);
+        if (previousValue == null || currentValue == null) {
+          // Deleted since the range was read
+          continue;
+        }
+        // A version 0 row rewritten since the range was read is not cached under its former key
+        boolean unchanged =
+            previousValue.getCreatedOn().equals(previousKey.getCreatedOn())
+                && currentValue.getCreatedOn().equals(currentKey.getCreatedOn());
         changeTransactionsMap.put(
-            transactionId,
-            computeDiff(previousValue, currentValue, entityType, elementNames, rawDiffsRequested));
+            currentKey.getCreatedOn().getTime(),
+            computeDiff(
+                unchanged ? pairKey(urn, previousKey, currentKey) : null,
+                previousValue,
+                currentValue,
+                entityType,
+                elementNames,
+                rawDiffsRequested));
       }
-      previousValue = currentValue;
     }
     return changeTransactionsMap;
   }
 
+  /** Identifies two consecutive versions of an aspect. */
+  private static String pairKey(Urn urn, EntityAspect previousValue, EntityAspect currentValue) {
+    return String.join(
+        "|",
+        urn.toString(),
+        currentValue.getAspect(),
+        versionKey(previousValue),
+        versionKey(currentValue));
+  }
+
+  // The version 0 row is updated in place, its creation time tells its contents apart
+  private static String versionKey(EntityAspect aspect) {
+    return aspect.getVersion() + "@" + aspect.getCreatedOn().getTime();
+  }
+
+  private static String diffCacheKey(
+      String pairKey, ChangeCategory element, boolean rawDiffsRequested) {
+    return String.join("|", pairKey, element.name(), String.valueOf(rawDiffsRequested));
+  }
+
+  /**
+   * @return the cached change transactions between the two versions, null unless all the
+   *     categories are cached
+   */
+  @Nullable
+  private List<ChangeTransaction> getCachedDiff(
+      String pairKey,
+      String entityType,
+      String aspectName,
+      Set<ChangeCategory> elementNames,
+      boolean rawDiffsRequested) {
+    List<ChangeTransaction> transactions = new ArrayList<>();
+    for (ChangeCategory element : elementNames) {
+      if (_entityChangeEventGeneratorFactory.getGenerator(entityType, element, aspectName)
+          == null) {
+        continue;
+      }
+      Optional<ChangeTransaction> cached =
+          _diffCache.getIfPresent(diffCacheKey(pairKey, element, rawDiffsRequested));
+      if (cached == null) {
+        return null;
+      }
+      cached.map(TimelineServiceImpl::copy).ifPresent(transactions::add);
+    }
+    return transactions;
+  }
+
+  /** Fetches the rows which were read without their contents. */
+  private Map<EntityAspectIdentifier, EntityAspect> loadContents(Collection<EntityAspect> rows) {
+    Set<EntityAspectIdentifier> keys =
+        rows.stream()
+            .filter(row -> row.getMetadata() == null && row.getVersion() != -1)
+            .map(EntityAspectIdentifier::fromEntityAspect)
+            .collect(Collectors.toSet());
+    return keys.isEmpty() ? Map.of() : _aspectDao.batchGet(keys, false);
+  }
+
+  @Nullable
+  private static EntityAspect withContent(
+      EntityAspect row, Map<EntityAspectIdentifier, EntityAspect> contents) {
+    if (row.getMetadata() != null || row.getVersion() == -1) {
+      return row;
+    }
+    return contents.get(EntityAspectIdentifier.fromEntityAspect(row));
+  }
+
+  /**
+   * Change transactions are modified when they are combined, the cache holds its own copies and
+   * hands out new ones.
+   */
+  private static ChangeTransaction copy(ChangeTransaction transaction) {
+    return ChangeTransaction.builder()
+        .timestamp(transaction.getTimestamp())
+        .actor(transaction.getActor())
+        .proxy(transaction.getProxy())
+        .reporter(transaction.getReporter())
+        .semVer(transaction.getSemVer())
+        .semVerChange(transaction.getSemVerChange())
+        .changeEvents(
+            transaction.getChangeEvents() == null
+                ? null
+                : new ArrayList<>(transaction.getChangeEvents()))
+        .rawDiff(transaction.getRawDiff())
+        .versionStamp(transaction.getVersionStamp())
+        .build();
+  }
+
+  private void recordDiffCacheMetrics(int hits, int misses) {
+    if (_metricUtils != null) {
+      _metricUtils.increment(this.getClass(), "diffCacheHit", hits);
+      _metricUtils.increment(this.getClass(), "diffCacheMiss", misses);
+    }
+  }
+
+  @VisibleForTesting
+  CacheStats getDiffCacheStats() {
+    return _diffCache.stats();
+  }
+
+  /**
+   * @param pairKey key of the two versions in the diff cache, null if the result must not be cached
+   */
   private List<ChangeTransaction> computeDiff(
+      @Nullable String pairKey,
       @Nonnull EntityAspect previousValue,
       @Nonnull EntityAspect currentValue,
       String entityType,
@@ -457,7 +640,13 @@ public class TimelineServiceImpl implements TimelineService {
           ChangeTransaction changeTransaction =
               entityChangeEventGenerator.getSemanticDiff(
                   previousValue, currentValue, element, rawDiff, rawDiffsRequested);
-          if (CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents())) {
+          boolean hasChanges = CollectionUtils.isNotEmpty(changeTransaction.getChangeEvents());
+          if (pairKey != null) {
+            _diffCache.put(
+                diffCacheKey(pairKey, element, rawDiffsRequested),
+                hasChanges ? Optional.of(copy(changeTransaction)) : Optional.empty());
+          }
+          if (hasChanges) {
             semanticChangeTransactions.add(changeTransaction);
           }
         } catch (Exception e) {
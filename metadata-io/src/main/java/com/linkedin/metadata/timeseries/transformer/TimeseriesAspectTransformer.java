@@ -16,6 +16,7 @@ import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.FieldSpec;
 import com.linkedin.metadata.models.TimeseriesFieldCollectionSpec;
 import com.linkedin.metadata.models.TimeseriesFieldSpec;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
@@ -27,6 +28,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -37,6 +39,8 @@ import org.apache.commons.codec.digest.DigestUtils;
 @Slf4j
 public class TimeseriesAspectTransformer {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Set<Class<? extends FieldSpec>> TIMESERIES_FIELD_SPEC_TYPES =
+      Set.of(TimeseriesFieldSpec.class, TimeseriesFieldCollectionSpec.class);
 
   static {
     int maxSize =
@@ -72,15 +76,16 @@ public class TimeseriesAspectTransformer {
           MappingsBuilder.SYSTEM_METADATA_FIELD,
           OBJECT_MAPPER.readTree(RecordUtils.toJsonString(systemMetadata)));
     }
+    final Map<FieldSpec, List<Object>> extractedFields =
+        FieldExtractor.extractFields(timeseriesAspect, aspectSpec, TIMESERIES_FIELD_SPEC_TYPES);
     final Map<TimeseriesFieldSpec, List<Object>> timeseriesFieldValueMap =
-        FieldExtractor.extractFields(timeseriesAspect, aspectSpec.getTimeseriesFieldSpecs());
+        FieldExtractor.getFields(extractedFields, TimeseriesFieldSpec.class);
     timeseriesFieldValueMap.forEach((k, v) -> setTimeseriesField(document, k, v));
     finalDocuments.put(getDocId(document, null, idHashAlgo), document);
 
     // Create new rows for the member collection fields.
     final Map<TimeseriesFieldCollectionSpec, List<Object>> timeseriesFieldCollectionValueMap =
-        FieldExtractor.extractFields(
-            timeseriesAspect, aspectSpec.getTimeseriesFieldCollectionSpecs());
+        FieldExtractor.getFields(extractedFields, TimeseriesFieldCollectionSpec.class);
     timeseriesFieldCollectionValueMap.forEach(
         (key, values) ->
             finalDocuments.putAll(
@@ -4,17 +4,22 @@ import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertThrows;
 
+import com.datahub.plugins.auth.authorization.Authorizer;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.Status;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RequiredFieldNotPresentException;
+import com.linkedin.data.template.StringArray;
 import com.linkedin.domain.Domains;
+import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.client.EntityClientConfig;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.browse.BrowseResultV2;
 import com.linkedin.metadata.entity.DeleteEntityService;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.IngestResult;
@@ -25,6 +30,7 @@ import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.SearchService;
+import com.linkedin.metadata.search.cache.FacetSnapshotCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.service.RollbackService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
@@ -32,11 +38,20 @@ import com.linkedin.metadata.utils.AuditStampUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
 import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -220,4 +235,176 @@ public class JavaEntityClientTest {
 
     assertEquals(urnStr, "urn:li:container:orderingTest");
   }
+
+  @Test
+  void testBatchGetV2LoadsSubBatches() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+    Set<Urn> urns =
+        Set.of(
+            UrnUtils.getUrn("urn:li:container:a"),
+            UrnUtils.getUrn("urn:li:container:b"),
+            UrnUtils.getUrn("urn:li:container:c"));
+    when(_entityService.getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true)))
+        .thenAnswer(invocation -> responses(invocation.getArgument(2)));
+
+    Map<Urn, EntityResponse> result =
+        client.batchGetV2(opContext, "container", urns, Set.of("status"), true);
+
+    assertEquals(result.keySet(), urns);
+    // One call per sub-batch of a single urn
+    verify(_entityService, times(3))
+        .getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true));
+  }
+
+  @Test
+  void testBatchGetV2CoalescesConcurrentRequests() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+    Urn urn = UrnUtils.getUrn("urn:li:container:a");
+    CountDownLatch release = new CountDownLatch(1);
+    when(_entityService.getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true)))
+        .thenAnswer(
+            invocation -> {
+              release.await(10, TimeUnit.SECONDS);
+              return responses(invocation.getArgument(2));
+            });
+
+    CompletableFuture<Map<Urn, EntityResponse>> first =
+        client.batchGetV2Async(opContext, "container", Set.of(urn), Set.of("status"), true);
+    CompletableFuture<Map<Urn, EntityResponse>> second =
+        client.batchGetV2Async(opContext, "container", Set.of(urn), Set.of("status"), true);
+    release.countDown();
+
+    assertEquals(first.get(10, TimeUnit.SECONDS).keySet(), Set.of(urn));
+    assertEquals(second.get(10, TimeUnit.SECONDS), first.get());
+    verify(_entityService, times(1))
+        .getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true));
+  }
+
+  @Test
+  void testBatchGetV2DoesNotJoinLoadsOlderThanAWrite() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+    Urn urn = UrnUtils.getUrn("urn:li:container:a");
+    CountDownLatch release = new CountDownLatch(1);
+    when(_entityService.getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true)))
+        .thenAnswer(
+            invocation -> {
+              release.await(10, TimeUnit.SECONDS);
+              return responses(invocation.getArgument(2));
+            });
+
+    CompletableFuture<Map<Urn, EntityResponse>> beforeWrite =
+        client.batchGetV2Async(opContext, "container", Set.of(urn), Set.of("status"), true);
+    client.ingestProposal(
+        opContext,
+        new MetadataChangeProposal()
+            .setEntityUrn(urn)
+            .setAspectName("status")
+            .setEntityType("container")
+            .setChangeType(ChangeType.UPSERT)
+            .setAspect(GenericRecordUtils.serializeAspect(new Status().setRemoved(true))),
+        false);
+    // reading back the write starts a new load
+    CompletableFuture<Map<Urn, EntityResponse>> afterWrite =
+        client.batchGetV2Async(opContext, "container", Set.of(urn), Set.of("status"), true);
+    release.countDown();
+
+    assertEquals(beforeWrite.get(10, TimeUnit.SECONDS).keySet(), Set.of(urn));
+    assertEquals(afterWrite.get(10, TimeUnit.SECONDS).keySet(), Set.of(urn));
+    verify(_entityService, times(2))
+        .getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true));
+  }
+
+  @Test
+  void testBatchGetV2Failure() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+    when(_entityService.getEntitiesV2(any(), eq("container"), anySet(), anySet(), eq(true)))
+        .thenThrow(new URISyntaxException("urn:li:container:", "invalid urn"));
+
+    assertThrows(
+        URISyntaxException.class,
+        () ->
+            client.batchGetV2(
+                opContext,
+                "container",
+                Set.of(UrnUtils.getUrn("urn:li:container:a")),
+                Set.of("status"),
+                true));
+  }
+
+  @Test
+  void testBrowseV2ServedFromFacetSnapshot() {
+    JavaEntityClient client = getJavaEntityClient();
+    client.setFacetSnapshotCache(new FacetSnapshotCache(10, 60, 600, 0, 1, null));
+    when(_entitySearchService.browseV2(
+            any(), eq(List.of("dataset")), eq("/prod"), isNull(), anyString(), eq(0), eq(10)))
+        .thenAnswer(invocation -> new BrowseResultV2().setNumGroups(2));
+
+    assertEquals(
+        client.browseV2(opContext, List.of("dataset"), "/prod", null, "", 0, 10).getNumGroups(), 2);
+    assertEquals(
+        client.browseV2(opContext, List.of("dataset"), "/prod", null, "", 0, 10).getNumGroups(), 2);
+    verify(_entitySearchService, times(1))
+        .browseV2(any(), eq(List.of("dataset")), eq("/prod"), isNull(), eq(""), eq(0), eq(10));
+
+    // Browsing with a query always goes to the search service
+    client.browseV2(opContext, List.of("dataset"), "/prod", null, "orders", 0, 10);
+    client.browseV2(opContext, List.of("dataset"), "/prod", null, "orders", 0, 10);
+    verify(_entitySearchService, times(2))
+        .browseV2(
+            any(), eq(List.of("dataset")), eq("/prod"), isNull(), eq("orders"), eq(0), eq(10));
+  }
+
+  @Test
+  void testFacetSnapshotSharedByActorsWithTheSamePolicies() {
+    JavaEntityClient client = getJavaEntityClient();
+    client.setFacetSnapshotCache(new FacetSnapshotCache(10, 60, 600, 0, 1, null));
+    when(_entitySearchService.browseV2(
+            any(), eq(List.of("dataset")), eq("/prod"), isNull(), anyString(), eq(0), eq(10)))
+        .thenAnswer(invocation -> new BrowseResultV2().setNumGroups(2));
+    DataHubPolicyInfo ownerPolicy =
+        new DataHubPolicyInfo()
+            .setDisplayName("owners")
+            .setState(PoliciesConfig.ACTIVE_POLICY_STATE)
+            .setType(PoliciesConfig.METADATA_POLICY_TYPE)
+            .setActors(new DataHubActorFilter().setResourceOwners(true))
+            .setPrivileges(new StringArray(List.of("VIEW_ENTITY_PAGE")));
+    Authorizer ownersAuthorizer = mock(Authorizer.class);
+    when(ownersAuthorizer.getActorPolicies(any())).thenReturn(Set.of(ownerPolicy));
+
+    // Owner based policies key the search context by actor, the snapshots are shared still
+    for (String user : List.of("alice", "bob")) {
+      client.browseV2(
+          TestOperationContexts.userContextNoSearchAuthorization(
+              ownersAuthorizer, UrnUtils.getUrn("urn:li:corpuser:" + user)),
+          List.of("dataset"),
+          "/prod",
+          null,
+          "",
+          0,
+          10);
+    }
+    verify(_entitySearchService, times(1))
+        .browseV2(any(), eq(List.of("dataset")), eq("/prod"), isNull(), eq(""), eq(0), eq(10));
+
+    // Other policies get a snapshot of their own
+    client.browseV2(
+        TestOperationContexts.userContextNoSearchAuthorization(
+            Authorizer.EMPTY, UrnUtils.getUrn("urn:li:corpuser:carol")),
+        List.of("dataset"),
+        "/prod",
+        null,
+        "",
+        0,
+        10);
+    verify(_entitySearchService, times(2))
+        .browseV2(any(), eq(List.of("dataset")), eq("/prod"), isNull(), eq(""), eq(0), eq(10));
+  }
+
+  private static Map<Urn, EntityResponse> responses(Set<Urn> urns) {
+    return urns.stream()
+        .collect(
+            Collectors.toMap(
+                urn -> urn,
+                urn -> new EntityResponse().setUrn(urn).setEntityName(urn.getEntityType())));
+  }
 }
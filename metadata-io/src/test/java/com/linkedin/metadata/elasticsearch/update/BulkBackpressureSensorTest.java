@@ -0,0 +1,155 @@
+package com.linkedin.metadata.elasticsearch.update;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.dao.throttle.ThrottleControl;
+import com.linkedin.metadata.dao.throttle.ThrottleEvent;
+import com.linkedin.metadata.dao.throttle.ThrottleType;
+import com.linkedin.metadata.search.elasticsearch.update.BulkBackpressureSensor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.rest.RestStatus;
+import org.testng.annotations.Test;
+
+public class BulkBackpressureSensorTest {
+
+  private static BulkBackpressureSensor sensor(long throttleWaitMs) {
+    return BulkBackpressureSensor.builder()
+        .minConcurrency(1)
+        .maxConcurrency(4)
+        .targetLatencyMs(100)
+        .throttleWaitMs(throttleWaitMs)
+        .build();
+  }
+
+  private static BulkResponse response(BulkItemResponse... items) {
+    BulkResponse response = mock(BulkResponse.class);
+    when(response.getItems()).thenReturn(items);
+    return response;
+  }
+
+  private static BulkItemResponse rejectedItem() {
+    BulkItemResponse.Failure failure = mock(BulkItemResponse.Failure.class);
+    when(failure.getStatus()).thenReturn(RestStatus.TOO_MANY_REQUESTS);
+    BulkItemResponse item = mock(BulkItemResponse.class);
+    when(item.isFailed()).thenReturn(true);
+    when(item.getFailure()).thenReturn(failure);
+    return item;
+  }
+
+  @Test
+  public void testAdditiveIncreaseMultiplicativeDecrease() {
+    BulkBackpressureSensor sensor = sensor(60000);
+    assertEquals(sensor.getConcurrencyLimit(), 1);
+
+    for (int i = 0; i < 5; i++) {
+      sensor.onResponse(10, response());
+    }
+    assertEquals(sensor.getConcurrencyLimit(), 4, "Limit is capped at the maximum");
+
+    sensor.onResponse(500, response());
+    assertEquals(sensor.getConcurrencyLimit(), 2, "Slow bulk halves the limit");
+
+    sensor.onResponse(10, response(rejectedItem()));
+    assertEquals(sensor.getConcurrencyLimit(), 1, "Rejected items halve the limit");
+
+    sensor.onFailure(10, new OpenSearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS));
+    assertEquals(sensor.getConcurrencyLimit(), 1, "Limit never drops below the minimum");
+  }
+
+  @Test
+  public void testThrottleAtMinimumConcurrency() {
+    BulkBackpressureSensor sensor = sensor(60000);
+    List<ThrottleEvent> throttleEvents = new ArrayList<>();
+    List<ThrottleEvent> clearEvents = new ArrayList<>();
+    sensor.addCallback(
+        event -> {
+          throttleEvents.add(event);
+          return ThrottleControl.builder().callback(clearEvents::add).build();
+        });
+
+    sensor.onResponse(500, response());
+    assertTrue(sensor.isThrottled());
+    assertEquals(throttleEvents.size(), 1);
+    assertEquals(
+        throttleEvents.get(0).getActiveThrottles(), Set.of(ThrottleType.ES_BULK_BACKPRESSURE));
+    assertEquals(
+        throttleEvents.get(0).getActiveThrottleMaxWaitMs(Set.of()).longValue(), 60000L);
+
+    // still overloaded, no duplicate throttle events
+    sensor.onResponse(500, response());
+    assertEquals(throttleEvents.size(), 1);
+    assertTrue(clearEvents.isEmpty());
+
+    sensor.onResponse(10, response());
+    assertFalse(sensor.isThrottled());
+    assertEquals(clearEvents.size(), 1);
+    assertEquals(
+        clearEvents.get(0).getDisabledThrottles(), Set.of(ThrottleType.ES_BULK_BACKPRESSURE));
+  }
+
+  @Test
+  public void testThrottleClearedAfterWait() throws Exception {
+    BulkBackpressureSensor sensor = sensor(50);
+    CompletableFuture<ThrottleEvent> cleared = new CompletableFuture<>();
+    sensor.addCallback(event -> ThrottleControl.builder().callback(cleared::complete).build());
+
+    sensor.onFailure(10, new RuntimeException("connection reset"));
+    assertTrue(sensor.isThrottled());
+
+    cleared.get(5, TimeUnit.SECONDS);
+    assertFalse(sensor.isThrottled());
+  }
+
+  @Test
+  public void testThrottleNotEngagedAfterClose() {
+    BulkBackpressureSensor sensor = sensor(60000);
+    List<ThrottleEvent> clearEvents = new ArrayList<>();
+    sensor.addCallback(event -> ThrottleControl.builder().callback(clearEvents::add).build());
+    sensor.close();
+
+    sensor.onFailure(10, new RuntimeException("connection reset"));
+
+    // nothing would clear the throttle once closed, the callbacks are resumed right away
+    assertFalse(sensor.isThrottled());
+    assertEquals(clearEvents.size(), 1);
+  }
+
+  @Test
+  public void testAcquireBlocksAtLimit() throws Exception {
+    BulkBackpressureSensor sensor = sensor(60000);
+    sensor.acquire();
+
+    CompletableFuture<Void> second =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                sensor.acquire();
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    try {
+      second.get(200, TimeUnit.MILLISECONDS);
+      throw new AssertionError("Expected acquire to block while the permit is held");
+    } catch (TimeoutException expected) {
+      // blocked
+    }
+
+    sensor.release();
+    second.get(5, TimeUnit.SECONDS);
+    sensor.release();
+  }
+}
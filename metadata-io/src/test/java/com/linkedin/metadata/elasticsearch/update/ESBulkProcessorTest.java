@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
+import com.linkedin.metadata.search.elasticsearch.update.BulkBackpressureSensor;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.IOException;
@@ -77,6 +78,26 @@ public class ESBulkProcessorTest {
     assertEquals(test.getWriteRequestRefreshPolicy(), WriteRequest.RefreshPolicy.IMMEDIATE);
   }
 
+  @Test
+  public void testESBulkProcessorBuilderAdaptive() {
+    BulkBackpressureSensor sensor =
+        BulkBackpressureSensor.builder()
+            .minConcurrency(1)
+            .maxConcurrency(4)
+            .targetLatencyMs(1000)
+            .throttleWaitMs(1000)
+            .build();
+    ESBulkProcessor processor =
+        ESBulkProcessor.builder(mockSearchClient, mockMetricUtils)
+            .async(true)
+            .bulkSizeBytes(1024L)
+            .backpressureSensor(sensor)
+            .build();
+
+    processor.add(new IndexRequest("test-index").id("1"));
+    assertEquals(sensor.getConcurrencyLimit(), 1);
+  }
+
   @Test
   public void testAddRequest() {
     ESBulkProcessor processor = ESBulkProcessor.builder(mockSearchClient, mockMetricUtils).build();
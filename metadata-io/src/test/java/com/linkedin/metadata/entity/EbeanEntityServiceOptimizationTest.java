@@ -216,6 +216,54 @@ public class EbeanEntityServiceOptimizationTest {
         mustInclude);
   }
 
+  @Test
+  public void testLatestRowVersioningOptimization() {
+    entityService.setLatestRowVersioning(true);
+    Urn testUrn1 =
+        UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:opt,testLatestRowVersioning,PROD)");
+    final String mustInclude = "urn:li:dataPlatform:opt";
+
+    // single insert (non-existing), no max(version) lookup for new aspects
+    assertSQL(
+        AspectsBatchImpl.builder()
+            .retrieverContext(opContext.getRetrieverContext())
+            .one(
+                ChangeItemImpl.builder()
+                    .urn(testUrn1)
+                    .aspectName(STATUS_ASPECT_NAME)
+                    .recordTemplate(new Status().setRemoved(false))
+                    .changeType(ChangeType.UPSERT)
+                    .auditStamp(TEST_AUDIT_STAMP)
+                    .build(opContext.getAspectRetriever()),
+                opContext.getRetrieverContext())
+            .build(opContext),
+        nonExistingBaseCount - defaultAspectsNextVersion + 1,
+        1,
+        0,
+        "initial: single insert without next version lookup",
+        mustInclude);
+
+    // single update (existing from previous - with actual change), same as before
+    assertSQL(
+        AspectsBatchImpl.builder()
+            .retrieverContext(opContext.getRetrieverContext())
+            .one(
+                ChangeItemImpl.builder()
+                    .urn(testUrn1)
+                    .aspectName(STATUS_ASPECT_NAME)
+                    .recordTemplate(new Status().setRemoved(true))
+                    .changeType(ChangeType.UPSERT)
+                    .auditStamp(TEST_AUDIT_STAMP)
+                    .build(opContext.getAspectRetriever()),
+                opContext.getRetrieverContext())
+            .build(opContext),
+        existingBaseCount + 2,
+        1,
+        1,
+        "existing: single change",
+        mustInclude);
+  }
+
   private void assertSQL(
       @Nonnull AspectsBatch batch,
       int expectedSelectCount,
@@ -7,10 +7,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -18,7 +20,9 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 import com.datahub.util.RecordUtils;
 import com.linkedin.common.AuditStamp;
@@ -399,6 +403,163 @@ public class EbeanEntityServiceTest
     System.out.println("done");
   }
 
+  @Test
+  public void testParallelSubBatchIngest() throws Exception {
+    _entityServiceImpl.setIngestConcurrency(4, true);
+
+    List<Urn> entityUrns =
+        IntStream.range(0, 50)
+            .mapToObj(i -> UrnUtils.getUrn("urn:li:corpuser:parallelSubBatch" + i))
+            .collect(Collectors.toList());
+    List<ChangeItemImpl> items =
+        entityUrns.stream()
+            .map(
+                entityUrn ->
+                    ChangeItemImpl.builder()
+                        .urn(entityUrn)
+                        .aspectName(STATUS_ASPECT_NAME)
+                        .recordTemplate(new Status().setRemoved(true))
+                        .systemMetadata(AspectGenerationUtils.createSystemMetadata())
+                        .auditStamp(TEST_AUDIT_STAMP)
+                        .build(TestOperationContexts.emptyActiveUsersAspectRetriever(null)))
+            .collect(Collectors.toList());
+
+    List<UpdateAspectResult> results =
+        _entityServiceImpl.ingestAspects(
+            opContext,
+            AspectsBatchImpl.builder()
+                .retrieverContext(opContext.getRetrieverContext())
+                .items(items)
+                .build(opContext),
+            false,
+            true);
+    assertEquals(results.size(), entityUrns.size(), "Expected a result for every item");
+
+    for (Urn entityUrn : entityUrns) {
+      EnvelopedAspect envelopedAspect =
+          _entityServiceImpl.getLatestEnvelopedAspect(
+              opContext, CORP_USER_ENTITY_NAME, entityUrn, STATUS_ASPECT_NAME);
+      assertNotNull(envelopedAspect, "Expected aspect for " + entityUrn);
+      assertEquals(envelopedAspect.getVersion(), 0L, "Expected version 0");
+      assertEquals(envelopedAspect.getSystemMetadata().getVersion(), "1");
+    }
+  }
+
+  @Test
+  public void testParallelSubBatchPartialFailure() throws Exception {
+    Urn failingUrn = UrnUtils.getUrn("urn:li:corpuser:partialSubBatch0");
+    List<Urn> entityUrns =
+        IntStream.range(0, 20)
+            .mapToObj(i -> UrnUtils.getUrn("urn:li:corpuser:partialSubBatch" + i))
+            .collect(Collectors.toList());
+
+    // The transaction of the sub-batch holding the failing urn fails without a retry
+    EbeanAspectDao aspectDao = spy(_aspectDao);
+    doAnswer(
+            invocation -> {
+              Map<String, Set<String>> urnAspects = invocation.getArgument(1);
+              if (urnAspects.containsKey(failingUrn.toString())) {
+                throw new IllegalStateException("Sub-batch failure");
+              }
+              return invocation.callRealMethod();
+            })
+        .when(aspectDao)
+        .getLatestAspects(any(), any(), eq(true));
+    EntityServiceImpl entityService =
+        new EntityServiceImpl(aspectDao, _mockProducer, false, new PreProcessHooks(), true);
+    entityService.setUpdateIndicesService(_mockUpdateIndicesService);
+    entityService.setIngestConcurrency(4, true);
+
+    AspectsBatchImpl batch =
+        AspectsBatchImpl.builder()
+            .retrieverContext(opContext.getRetrieverContext())
+            .items(
+                entityUrns.stream()
+                    .map(
+                        entityUrn ->
+                            ChangeItemImpl.builder()
+                                .urn(entityUrn)
+                                .aspectName(STATUS_ASPECT_NAME)
+                                .recordTemplate(new Status().setRemoved(true))
+                                .systemMetadata(AspectGenerationUtils.createSystemMetadata())
+                                .auditStamp(TEST_AUDIT_STAMP)
+                                .build(TestOperationContexts.emptyActiveUsersAspectRetriever(null)))
+                    .collect(Collectors.toList()))
+            .build(opContext);
+
+    IllegalStateException failure =
+        expectThrows(
+            IllegalStateException.class,
+            () -> entityService.ingestAspects(opContext, batch, true, true));
+    assertEquals(failure.getMessage(), "Sub-batch failure");
+
+    // The other sub-batches were committed and their MCLs emitted before the failure surfaced
+    int committed = 0;
+    for (Urn entityUrn : entityUrns) {
+      EnvelopedAspect envelopedAspect =
+          _entityServiceImpl.getLatestEnvelopedAspect(
+              opContext, CORP_USER_ENTITY_NAME, entityUrn, STATUS_ASPECT_NAME);
+      if (envelopedAspect != null) {
+        committed++;
+        verify(_mockProducer, atLeastOnce())
+            .produceMetadataChangeLog(any(OperationContext.class), eq(entityUrn), any(), any());
+      } else {
+        verify(_mockProducer, never())
+            .produceMetadataChangeLog(any(OperationContext.class), eq(entityUrn), any(), any());
+      }
+    }
+    assertNull(
+        _entityServiceImpl.getLatestEnvelopedAspect(
+            opContext, CORP_USER_ENTITY_NAME, failingUrn, STATUS_ASPECT_NAME));
+    assertTrue(committed > 0, "Expected the other sub-batches to be committed");
+  }
+
+  @Test
+  public void testLatestAspectCache() throws Exception {
+    LatestAspectCache cache = new LatestAspectCache(1024 * 1024, 60, null);
+    _entityServiceImpl.setLatestAspectCache(cache);
+    Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:latestAspectCache");
+
+    assertNull(_entityServiceImpl.getLatestAspect(opContext, entityUrn, STATUS_ASPECT_NAME));
+
+    ingestStatus(entityUrn, true);
+    assertEquals(
+        _entityServiceImpl.getLatestAspect(opContext, entityUrn, STATUS_ASPECT_NAME),
+        new Status().setRemoved(true));
+    assertEquals(
+        _entityServiceImpl.getLatestAspect(opContext, entityUrn, STATUS_ASPECT_NAME),
+        new Status().setRemoved(true));
+    assertTrue(cache.getHitCount(STATUS_ASPECT_NAME) > 0, "Expected a read from the cache");
+
+    ingestStatus(entityUrn, false);
+    assertEquals(
+        _entityServiceImpl.getLatestAspect(opContext, entityUrn, STATUS_ASPECT_NAME),
+        new Status().setRemoved(false));
+
+    _entityServiceImpl.deleteAspectWithoutMCL(
+        opContext, entityUrn.toString(), STATUS_ASPECT_NAME, Map.of(), true);
+    assertNull(_entityServiceImpl.getLatestAspect(opContext, entityUrn, STATUS_ASPECT_NAME));
+  }
+
+  private void ingestStatus(Urn entityUrn, boolean removed) {
+    _entityServiceImpl.ingestAspects(
+        opContext,
+        AspectsBatchImpl.builder()
+            .retrieverContext(opContext.getRetrieverContext())
+            .items(
+                List.of(
+                    ChangeItemImpl.builder()
+                        .urn(entityUrn)
+                        .aspectName(STATUS_ASPECT_NAME)
+                        .recordTemplate(new Status().setRemoved(removed))
+                        .systemMetadata(AspectGenerationUtils.createSystemMetadata())
+                        .auditStamp(TEST_AUDIT_STAMP)
+                        .build(TestOperationContexts.emptyActiveUsersAspectRetriever(null))))
+            .build(opContext),
+        false,
+        true);
+  }
+
   @Test
   public void testSystemMetadataDuplicateKey() throws Exception {
     Urn entityUrn = UrnUtils.getUrn("urn:li:corpuser:duplicateKeyTest");
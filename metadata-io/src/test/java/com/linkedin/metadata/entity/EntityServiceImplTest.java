@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -911,6 +912,70 @@ public class EntityServiceImplTest {
         .produceMetadataChangeLog(any(OperationContext.class), any(), any(), any());
   }
 
+  /**
+   * With a checkpoint the first failed batch stops the restore, the checkpoint never moves past it.
+   */
+  @Test
+  public void testRestoreIndicesCheckpointStopsOnFailedBatch() throws Exception {
+    AspectDao mockAspectDao = mock(AspectDao.class);
+    PartitionedStream<EbeanAspectV2> mockStream = mock(PartitionedStream.class);
+
+    EbeanAspectV2 successAspect =
+        restoreIndicesAspect(
+            "urn:li:dataset:(urn:li:dataPlatform:test,success,PROD)",
+            RecordUtils.toJsonString(new Status().setRemoved(false)));
+    EbeanAspectV2 failAspect =
+        restoreIndicesAspect("urn:li:dataset:(urn:li:dataPlatform:test,fail,PROD)", "INVALID_JSON");
+    EbeanAspectV2 anotherSuccessAspect =
+        restoreIndicesAspect(
+            "urn:li:dataset:(urn:li:dataPlatform:test,anotherSuccess,PROD)",
+            RecordUtils.toJsonString(new Status().setRemoved(false)));
+    when(mockStream.partition(anyInt()))
+        .thenReturn(
+            Stream.of(
+                Stream.of(successAspect), Stream.of(failAspect), Stream.of(anotherSuccessAspect)));
+    when(mockAspectDao.streamAspectBatches(any())).thenReturn(mockStream);
+
+    EventProducer mockEventProducer = mock(EventProducer.class);
+    when(mockEventProducer.produceMetadataChangeLog(
+            any(OperationContext.class), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    EntityServiceImpl entityService =
+        new EntityServiceImpl(
+            mockAspectDao, mockEventProducer, false, mock(PreProcessHooks.class), 0, true);
+
+    RestoreIndicesArgs args =
+        new RestoreIndicesArgs()
+            .start(0)
+            .limit(0)
+            .batchSize(1)
+            .batchDelayMs(0L)
+            .createDefaultAspects(false);
+    List<RestoreIndicesResult> checkpoints = new ArrayList<>();
+
+    assertThrows(
+        RuntimeException.class,
+        () -> entityService.restoreIndices(opContext, args, message -> {}, checkpoints::add));
+
+    assertEquals(checkpoints.size(), 1);
+    assertEquals(checkpoints.get(0).lastUrn, successAspect.getKey().getUrn());
+    // nothing is read after the failed batch
+    verify(mockEventProducer, times(1))
+        .produceMetadataChangeLog(any(OperationContext.class), any(), any(), any());
+  }
+
+  private static EbeanAspectV2 restoreIndicesAspect(String urn, String metadata) {
+    return new EbeanAspectV2(
+        urn,
+        STATUS_ASPECT_NAME,
+        0L,
+        metadata,
+        new Timestamp(System.currentTimeMillis()),
+        TEST_AUDIT_STAMP.getActor().toString(),
+        null,
+        RecordUtils.toJsonString(SystemMetadataUtils.createDefaultSystemMetadata()));
+  }
+
   @Test
   public void testDeleteAspectWithoutMCL_EntityNotFoundException() {
     // Mock AspectDao
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -135,6 +136,39 @@ public class EntityUtilsTest {
     assertTrue(result.isEmpty());
   }
 
+  @Test
+  public void testCalculateNextVersions_LatestRowVersioning() {
+    TransactionContext txContext = mock(TransactionContext.class);
+    AspectDao aspectDao = mock(AspectDao.class);
+    String urn = "urn:li:corpuser:latestRowVersioning";
+    SystemAspect status = mock(SystemAspect.class);
+    when(status.getVersion()).thenReturn(0L);
+    when(status.getSystemMetadataVersion()).thenReturn(Optional.of(3L));
+    Map<String, Map<String, SystemAspect>> latestAspects = Map.of(urn, Map.of("status", status));
+    Map<String, Set<String>> urnAspects = Map.of(urn, Set.of("status", "corpUserInfo"));
+
+    // aspects without a version 0 row are new, no database lookup
+    Map<String, Map<String, Long>> result =
+        EntityUtils.calculateNextVersions(txContext, aspectDao, latestAspects, urnAspects, true);
+    assertEquals(result, Map.of(urn, Map.of("status", 3L)));
+    verifyNoInteractions(aspectDao);
+
+    // otherwise their max(version) is read
+    when(aspectDao.getNextVersions(Map.of(urn, Set.of("corpUserInfo"))))
+        .thenReturn(Map.of(urn, Map.of("corpUserInfo", 0L)));
+    result =
+        EntityUtils.calculateNextVersions(txContext, aspectDao, latestAspects, urnAspects, false);
+    assertEquals(result, Map.of(urn, Map.of("status", 3L, "corpUserInfo", 0L)));
+
+    // a duplicate key means a version exists without its version 0 row
+    when(txContext.lastExceptionIsDuplicateKey()).thenReturn(true);
+    when(aspectDao.getNextVersions(urnAspects))
+        .thenReturn(Map.of(urn, Map.of("status", 3L, "corpUserInfo", 2L)));
+    result =
+        EntityUtils.calculateNextVersions(txContext, aspectDao, latestAspects, urnAspects, true);
+    assertEquals(result, Map.of(urn, Map.of("status", 3L, "corpUserInfo", 2L)));
+  }
+
   private static class MockRecordTemplate extends com.linkedin.data.template.RecordTemplate {
     public MockRecordTemplate() {
       super(new com.linkedin.data.DataMap(), null);
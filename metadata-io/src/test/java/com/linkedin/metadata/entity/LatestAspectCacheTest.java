@@ -0,0 +1,131 @@
+package com.linkedin.metadata.entity;
+
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.aspect.EntityAspect;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class LatestAspectCacheTest {
+  private static final String URN = "urn:li:corpuser:test";
+  private static final EntityAspectIdentifier LATEST =
+      new EntityAspectIdentifier(URN, "corpUserInfo", 0);
+  private static final EntityAspectIdentifier ABSENT =
+      new EntityAspectIdentifier(URN, "corpUserEditableInfo", 0);
+  private static final EntityAspectIdentifier PREVIOUS =
+      new EntityAspectIdentifier(URN, "corpUserInfo", 1);
+
+  private AspectDao aspectDao;
+  private LatestAspectCache cache;
+
+  @BeforeMethod
+  public void setup() {
+    aspectDao = mock(AspectDao.class);
+    when(aspectDao.batchGet(anySet(), eq(false)))
+        .thenAnswer(
+            invocation -> {
+              Set<EntityAspectIdentifier> keys = invocation.getArgument(0);
+              Map<EntityAspectIdentifier, EntityAspect> rows = new HashMap<>();
+              keys.stream()
+                  .filter(key -> !key.equals(ABSENT))
+                  .forEach(key -> rows.put(key, row(key, "{\"v\":" + key.getVersion() + "}")));
+              return rows;
+            });
+    cache = new LatestAspectCache(1024 * 1024, 60, null);
+  }
+
+  @Test
+  public void testServesLatestRowsFromCache() {
+    Map<EntityAspectIdentifier, EntityAspect> first = cache.batchGet(aspectDao, Set.of(LATEST));
+    Map<EntityAspectIdentifier, EntityAspect> second = cache.batchGet(aspectDao, Set.of(LATEST));
+
+    verify(aspectDao, times(1)).batchGet(anySet(), eq(false));
+    assertEquals(second, first);
+    // Readers never share a row
+    assertNotSame(second.get(LATEST), first.get(LATEST));
+    assertEquals(cache.getHitCount("corpUserInfo"), 1);
+    assertEquals(cache.getMissCount("corpUserInfo"), 1);
+  }
+
+  @Test
+  public void testCachesAbsentRows() {
+    assertTrue(cache.batchGet(aspectDao, Set.of(ABSENT)).isEmpty());
+    assertTrue(cache.batchGet(aspectDao, Set.of(ABSENT)).isEmpty());
+
+    verify(aspectDao, times(1)).batchGet(Set.of(ABSENT), false);
+  }
+
+  @Test
+  public void testAlwaysReadsPreviousVersions() {
+    cache.batchGet(aspectDao, Set.of(LATEST, PREVIOUS));
+    cache.batchGet(aspectDao, Set.of(LATEST, PREVIOUS));
+
+    verify(aspectDao).batchGet(Set.of(LATEST, PREVIOUS), false);
+    verify(aspectDao).batchGet(Set.of(PREVIOUS), false);
+  }
+
+  @Test
+  public void testInvalidate() {
+    cache.batchGet(aspectDao, Set.of(LATEST, ABSENT));
+    cache.invalidate(URN, List.of("corpUserInfo"));
+    cache.batchGet(aspectDao, Set.of(LATEST, ABSENT));
+
+    verify(aspectDao).batchGet(Set.of(LATEST, ABSENT), false);
+    verify(aspectDao).batchGet(Set.of(LATEST), false);
+  }
+
+  @Test
+  public void testBypassedInWriteTransaction() {
+    cache.batchGet(aspectDao, Set.of(LATEST));
+    cache.inWriteTransaction(() -> cache.batchGet(aspectDao, Set.of(LATEST)));
+
+    verify(aspectDao, times(2)).batchGet(Set.of(LATEST), false);
+  }
+
+  @Test
+  public void testLoadOverlappingInvalidationIsNotCached() {
+    AspectDao racingDao = mock(AspectDao.class);
+    when(racingDao.batchGet(anySet(), eq(false)))
+        .thenAnswer(
+            invocation -> {
+              // A write commits while the stale row is read
+              cache.invalidate(URN, List.of("corpUserInfo"));
+              return Map.of(LATEST, row(LATEST, "{\"v\":\"stale\"}"));
+            });
+    cache.batchGet(racingDao, Set.of(LATEST));
+    cache.batchGet(aspectDao, Set.of(LATEST));
+
+    verify(aspectDao).batchGet(Set.of(LATEST), false);
+  }
+
+  @Test
+  public void testDisabled() {
+    LatestAspectCache.DISABLED.batchGet(aspectDao, Set.of(LATEST));
+    LatestAspectCache.DISABLED.batchGet(aspectDao, Set.of(LATEST));
+
+    verify(aspectDao, times(2)).batchGet(Set.of(LATEST), false);
+    verify(aspectDao, never()).batchGet(anySet(), eq(true));
+  }
+
+  private static EntityAspect row(EntityAspectIdentifier key, String metadata) {
+    return EntityAspect.builder()
+        .urn(key.getUrn())
+        .aspect(key.getAspect())
+        .version(key.getVersion())
+        .metadata(metadata)
+        .build();
+  }
+}
@@ -0,0 +1,45 @@
+package com.linkedin.metadata.entity;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.testng.annotations.Test;
+
+public class UrnWriteLocksTest {
+  private static final String URN_A = "urn:li:corpuser:a";
+  private static final String URN_B = "urn:li:corpuser:b";
+
+  @Test
+  public void testOnlyWritersOfTheSameUrnWait() throws Exception {
+    UrnWriteLocks locks = new UrnWriteLocks(true);
+
+    UrnWriteLocks.Held held = locks.lock(List.of(URN_A));
+    // another urn is never blocked
+    CompletableFuture.runAsync(() -> locks.lock(List.of(URN_B)).close()).get(5, TimeUnit.SECONDS);
+
+    CompletableFuture<Void> sameUrn =
+        CompletableFuture.runAsync(() -> locks.lock(List.of(URN_B, URN_A)).close());
+    try {
+      sameUrn.get(200, TimeUnit.MILLISECONDS);
+      throw new AssertionError("Expected the writer of the same urn to wait");
+    } catch (TimeoutException expected) {
+      assertFalse(sameUrn.isDone());
+    }
+    held.close();
+    sameUrn.get(5, TimeUnit.SECONDS);
+
+    // locks of urns nobody writes anymore are released
+    assertEquals(locks.size(), 0);
+  }
+
+  @Test
+  public void testDisabled() {
+    UrnWriteLocks.Held held = UrnWriteLocks.DISABLED.lock(List.of(URN_A));
+    held.close();
+    assertEquals(UrnWriteLocks.DISABLED.size(), 0);
+  }
+}
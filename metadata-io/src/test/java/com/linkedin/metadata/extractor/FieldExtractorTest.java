@@ -1,23 +1,54 @@
 package com.linkedin.metadata.extractor;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
+import com.datahub.test.BatchType;
+import com.datahub.test.ComplexNestedRecord;
+import com.datahub.test.TestEntityComponentProfile;
+import com.datahub.test.TestEntityComponentProfileArray;
 import com.datahub.test.TestEntityInfo;
+import com.datahub.test.TestEntityProfile;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.data.template.StringMapArray;
 import com.linkedin.metadata.TestEntitySpecBuilder;
 import com.linkedin.metadata.TestEntityUtil;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import com.linkedin.metadata.models.FieldSpec;
+import com.linkedin.metadata.models.RelationshipFieldSpec;
+import com.linkedin.metadata.models.SearchScoreFieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
+import com.linkedin.metadata.models.SearchableRefFieldSpec;
+import com.linkedin.metadata.models.TimeseriesFieldCollectionSpec;
+import com.linkedin.metadata.models.TimeseriesFieldSpec;
+import com.linkedin.metadata.models.extractor.AspectExtractor;
 import com.linkedin.metadata.models.extractor.FieldExtractor;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
 import org.testng.annotations.Test;
 
 public class FieldExtractorTest {
+  private static final Set<Class<? extends FieldSpec>> ALL_SPEC_TYPES =
+      Set.of(
+          SearchableFieldSpec.class,
+          SearchableRefFieldSpec.class,
+          SearchScoreFieldSpec.class,
+          RelationshipFieldSpec.class,
+          TimeseriesFieldSpec.class,
+          TimeseriesFieldCollectionSpec.class);
+
   @Test
   public void testExtractor() {
     EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
@@ -102,4 +133,128 @@ public class FieldExtractorTest {
         "Expected no matching values because of value limit of 1");
     assertEquals(result.get(nameToSpec.get("esObjectField")), ImmutableList.of("key3="));
   }
+
+  @Test
+  public void testCompiledExtractionMatchesSpecBySpec() {
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    Map<String, RecordTemplate> aspects =
+        AspectExtractor.extractAspectRecords(TestEntityUtil.getSnapshot());
+    assertTrue(aspects.size() > 1);
+    for (Map.Entry<String, RecordTemplate> aspect : aspects.entrySet()) {
+      AspectSpec aspectSpec = testEntitySpec.getAspectSpec(aspect.getKey());
+      assertSameExtraction(aspect.getValue(), aspectSpec, 200);
+      assertSameExtraction(aspect.getValue(), aspectSpec, 1);
+    }
+    assertSameExtraction(new TestEntityInfo(), testEntitySpec.getAspectSpec("testEntityInfo"), 200);
+    assertSameExtraction(testEntityProfile(), timeseriesProfileSpec(), 200);
+  }
+
+  @Test
+  public void testCompiledExtractionOfSpecTypes() {
+    AspectSpec testEntityInfoSpec = TestEntitySpecBuilder.getSpec().getAspectSpec("testEntityInfo");
+    TestEntityInfo testEntityInfo =
+        TestEntityUtil.getTestEntityInfo(TestEntityUtil.getTestEntityUrn());
+
+    Map<RelationshipFieldSpec, List<Object>> relationships =
+        FieldExtractor.extractFields(
+            testEntityInfo, testEntityInfoSpec, RelationshipFieldSpec.class, true);
+    assertEquals(
+        relationships.keySet(), Set.copyOf(testEntityInfoSpec.getRelationshipFieldSpecs()));
+
+    Map<FieldSpec, List<Object>> searchable =
+        FieldExtractor.extractFields(
+            testEntityInfo, testEntityInfoSpec, Set.of(SearchableFieldSpec.class));
+    assertEquals(searchable.keySet(), Set.copyOf(testEntityInfoSpec.getSearchableFieldSpecs()));
+
+    // A missing aspect has no values unless it is required
+    assertTrue(
+        FieldExtractor.extractFields(null, testEntityInfoSpec, ALL_SPEC_TYPES).values().stream()
+            .allMatch(List::isEmpty));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            FieldExtractor.extractFields(
+                null, testEntityInfoSpec, RelationshipFieldSpec.class, true));
+  }
+
+  @Test
+  public void testCompiledPlanIsReusedAcrossRecords() {
+    AspectSpec testEntityInfoSpec = TestEntitySpecBuilder.getSpec().getAspectSpec("testEntityInfo");
+    TestEntityInfo testEntityInfo =
+        TestEntityUtil.getTestEntityInfo(TestEntityUtil.getTestEntityUrn());
+
+    Map<FieldSpec, List<Object>> first =
+        FieldExtractor.extractFields(testEntityInfo, testEntityInfoSpec, ALL_SPEC_TYPES);
+    // the plan compiled for the spec must not carry values over to the next record
+    assertSameExtraction(new TestEntityInfo(), testEntityInfoSpec, 200);
+    Map<FieldSpec, List<Object>> second =
+        FieldExtractor.extractFields(testEntityInfo, testEntityInfoSpec, ALL_SPEC_TYPES);
+
+    assertTrue(first.values().stream().anyMatch(values -> !values.isEmpty()));
+    assertEquals(second.keySet(), first.keySet());
+    first.forEach(
+        (spec, values) ->
+            assertEquals(
+                new ArrayList<>(second.get(spec)), new ArrayList<>(values), spec.toString()));
+  }
+
+  private static void assertSameExtraction(
+      RecordTemplate record, AspectSpec aspectSpec, int maxValueLength) {
+    Map<FieldSpec, List<Object>> compiled =
+        FieldExtractor.extractFields(record, aspectSpec, ALL_SPEC_TYPES, maxValueLength, false);
+    Map<FieldSpec, List<Object>> specBySpec =
+        extractSpecBySpec(record, aspectSpec, maxValueLength);
+    assertEquals(compiled.keySet(), specBySpec.keySet());
+    specBySpec.forEach(
+        (spec, values) ->
+            assertEquals(
+                new ArrayList<>(compiled.get(spec)), new ArrayList<>(values), spec.toString()));
+  }
+
+  private static Map<FieldSpec, List<Object>> extractSpecBySpec(
+      RecordTemplate record, AspectSpec aspectSpec, int maxValueLength) {
+    Map<FieldSpec, List<Object>> extracted = new HashMap<>();
+    extracted.putAll(
+        FieldExtractor.extractFields(record, aspectSpec.getSearchableFieldSpecs(), maxValueLength));
+    extracted.putAll(
+        FieldExtractor.extractFields(
+            record, aspectSpec.getSearchableRefFieldSpecs(), maxValueLength));
+    extracted.putAll(
+        FieldExtractor.extractFields(
+            record, aspectSpec.getSearchScoreFieldSpecs(), maxValueLength));
+    extracted.putAll(
+        FieldExtractor.extractFields(
+            record, aspectSpec.getRelationshipFieldSpecs(), maxValueLength));
+    extracted.putAll(
+        FieldExtractor.extractFields(record, aspectSpec.getTimeseriesFieldSpecs(), maxValueLength));
+    extracted.putAll(
+        FieldExtractor.extractFields(
+            record, aspectSpec.getTimeseriesFieldCollectionSpecs(), maxValueLength));
+    return extracted;
+  }
+
+  private static AspectSpec timeseriesProfileSpec() {
+    return new EntitySpecBuilder()
+        .buildAspectSpec(new TestEntityProfile().schema(), RecordTemplate.class);
+  }
+
+  private static TestEntityProfile testEntityProfile() {
+    StringMap partition1 = new StringMap();
+    partition1.put("p_key1", "p_val1");
+    StringMap partition2 = new StringMap();
+    partition2.put("p_key2", "p_val2");
+    return new TestEntityProfile()
+        .setTimestampMillis(1L)
+        .setStat(20L)
+        .setStrStat("20")
+        .setStrArray(new StringArray("sa_20", "sa_21"))
+        .setComponentProfiles(
+            new TestEntityComponentProfileArray(
+                new TestEntityComponentProfile().setKey("col1").setStat(21L),
+                new TestEntityComponentProfile().setKey("col2").setStat(22L)))
+        .setAComplexNestedRecord(
+            new ComplexNestedRecord()
+                .setType(BatchType.PARTITION_BATCH)
+                .setPartitions(new StringMapArray(partition1, partition2)));
+  }
 }
@@ -0,0 +1,137 @@
+package com.linkedin.metadata.graph.elastic;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class EdgeStatusIndexTest {
+  private static final Urn REMOVED_URN = UrnUtils.getUrn("urn:li:container:removed");
+  private static final Urn RESTORED_URN = UrnUtils.getUrn("urn:li:container:restored");
+
+  private RestHighLevelClient mockClient;
+  private ESBulkProcessor mockBulkProcessor;
+  private EdgeStatusIndex statusIndex;
+
+  @BeforeMethod
+  public void setup() throws Exception {
+    mockClient = mock(RestHighLevelClient.class);
+    mockBulkProcessor = mock(ESBulkProcessor.class);
+    statusIndex =
+        new EdgeStatusIndex(
+            mockClient,
+            mockBulkProcessor,
+            IndexConventionImpl.noPrefix("md5"),
+            "MD5",
+            60,
+            100,
+            0,
+            10,
+            null);
+
+    SearchHit removedHit = mockHit("1", REMOVED_URN, true, 3);
+    SearchHit restoredHit = mockHit("2", RESTORED_URN, false, 4);
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {removedHit, restoredHit},
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                1.0f));
+    when(mockClient.search(any(SearchRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenReturn(response);
+  }
+
+  @Test
+  public void testSetStatusWritesOneDocument() {
+    statusIndex.setStatus(REMOVED_URN, true);
+
+    ArgumentCaptor<UpdateRequest> request = ArgumentCaptor.forClass(UpdateRequest.class);
+    verify(mockBulkProcessor).add(request.capture());
+    assertEquals(request.getValue().index(), EdgeStatusIndex.INDEX_NAME);
+    assertTrue(request.getValue().docAsUpsert());
+    Map<String, Object> document = request.getValue().doc().sourceAsMap();
+    assertEquals(document.get("urn"), REMOVED_URN.toString());
+    assertEquals(document.get("removed"), true);
+  }
+
+  @Test
+  public void testPendingStatusesAreCached() throws Exception {
+    EdgeStatusIndex.PendingStatuses pending = statusIndex.getPending();
+    assertEquals(pending.getRemoved(), Set.of(REMOVED_URN.toString()));
+    assertEquals(pending.getRestored(), Set.of(RESTORED_URN.toString()));
+
+    statusIndex.getPending();
+    verify(mockClient, times(1)).search(any(SearchRequest.class), eq(RequestOptions.DEFAULT));
+  }
+
+  @Test
+  public void testReconcileKeepsStatusesChangedMeanwhile() throws Exception {
+    when(mockClient.delete(any(DeleteRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenReturn(null)
+        .thenThrow(new OpenSearchStatusException("version conflict", RestStatus.CONFLICT));
+    List<Urn> applied = new ArrayList<>();
+
+    assertEquals(statusIndex.reconcile((urn, removed) -> applied.add(urn)), 2);
+    assertEquals(applied, List.of(REMOVED_URN, RESTORED_URN));
+
+    ArgumentCaptor<DeleteRequest> deletes = ArgumentCaptor.forClass(DeleteRequest.class);
+    verify(mockClient, times(2)).delete(deletes.capture(), eq(RequestOptions.DEFAULT));
+    assertEquals(deletes.getAllValues().get(0).id(), "1");
+    assertEquals(deletes.getAllValues().get(0).ifSeqNo(), 3);
+    assertEquals(deletes.getAllValues().get(1).ifSeqNo(), 4);
+  }
+
+  @Test
+  public void testReconcileKeepsStatusesNotApplied() throws Exception {
+    // the edges of the removed urn failed to update
+    assertEquals(statusIndex.reconcile((urn, removed) -> !removed), 1);
+
+    ArgumentCaptor<DeleteRequest> deletes = ArgumentCaptor.forClass(DeleteRequest.class);
+    verify(mockClient, times(1)).delete(deletes.capture(), eq(RequestOptions.DEFAULT));
+    assertEquals(deletes.getValue().id(), "2");
+  }
+
+  @Test
+  public void testDisabled() {
+    assertFalse(EdgeStatusIndex.DISABLED.isEnabled());
+    assertTrue(EdgeStatusIndex.DISABLED.getPending().isEmpty());
+  }
+
+  private static SearchHit mockHit(String id, Urn urn, boolean removed, long seqNo) {
+    SearchHit hit = mock(SearchHit.class);
+    when(hit.getId()).thenReturn(id);
+    when(hit.getSourceAsMap()).thenReturn(Map.of("urn", urn.toString(), "removed", removed));
+    when(hit.getSeqNo()).thenReturn(seqNo);
+    when(hit.getPrimaryTerm()).thenReturn(1L);
+    return hit;
+  }
+}
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import com.linkedin.common.urn.Urn;
@@ -37,6 +38,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import org.apache.lucene.search.TotalHits;
 import org.mockito.ArgumentCaptor;
 import org.opensearch.action.search.SearchRequest;
@@ -45,6 +47,7 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.script.Script;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -123,6 +126,52 @@ public class ElasticSearchGraphServiceTest {
     }
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSetEdgeStatusWithStatusIndex() {
+    final Urn testUrn = UrnUtils.getUrn("urn:li:container:test");
+    EdgeStatusIndex mockStatusIndex = mock(EdgeStatusIndex.class);
+    when(mockStatusIndex.isEnabled()).thenReturn(true);
+    ElasticSearchGraphService service =
+        new ElasticSearchGraphService(
+            new LineageRegistry(new TestEntityRegistry()),
+            mockESBulkProcessor,
+            IndexConventionImpl.noPrefix("md5"),
+            mockWriteDAO,
+            mockReadDAO,
+            mock(ESIndexBuilder.class),
+            "md5");
+    service.setEdgeStatusIndex(mockStatusIndex);
+    verify(mockReadDAO).setEdgeStatusIndex(mockStatusIndex);
+
+    service.setEdgeStatus(testUrn, true, EdgeUrnType.values());
+    verify(mockStatusIndex).setStatus(testUrn, true);
+    verify(mockWriteDAO, never()).updateByQuery(any(), any());
+
+    // Only some of the urns of the edges, updated right away
+    service.setEdgeStatus(testUrn, false, EdgeUrnType.SOURCE);
+    verify(mockStatusIndex, never()).setStatus(testUrn, false);
+    verify(mockWriteDAO, times(1)).updateByQuery(any(), any());
+
+    // The reconciler updates every urn of the edges
+    reset(mockWriteDAO);
+    ArgumentCaptor<BiPredicate<Urn, Boolean>> applyStatus =
+        ArgumentCaptor.forClass(BiPredicate.class);
+    verify(mockStatusIndex).startReconciler(applyStatus.capture());
+    BulkByScrollResponse updated = mock(BulkByScrollResponse.class);
+    when(mockWriteDAO.updateByQuery(any(), any())).thenReturn(updated);
+    assertTrue(applyStatus.getValue().test(testUrn, true));
+    verify(mockWriteDAO, times(EdgeUrnType.values().length)).updateByQuery(any(), any());
+
+    // A failed or conflicting update keeps the status pending
+    when(mockWriteDAO.updateByQuery(any(), any())).thenReturn(updated).thenReturn(null);
+    assertFalse(applyStatus.getValue().test(testUrn, true));
+    BulkByScrollResponse conflicted = mock(BulkByScrollResponse.class);
+    when(conflicted.getVersionConflicts()).thenReturn(1L);
+    when(mockWriteDAO.updateByQuery(any(), any())).thenReturn(conflicted);
+    assertFalse(applyStatus.getValue().test(testUrn, true));
+  }
+
   @Test
   public void testScrollRelatedEntities() {
     // Mock dependencies
@@ -0,0 +1,114 @@
+package com.linkedin.metadata.graph.elastic;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.LineageRelationship;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+public class ThreadSafePathStoreTest {
+  private static final Urn A = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,a,PROD)");
+  private static final Urn B = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,b,PROD)");
+  private static final Urn C = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,c,PROD)");
+  private static final Urn VIA =
+      UrnUtils.getUrn("urn:li:dataJob:(urn:li:dataFlow:(airflow,f,PROD),j)");
+
+  @Test
+  public void testPathsAreSharedAndDeduplicated() {
+    ThreadSafePathStore store = new ThreadSafePathStore();
+    assertTrue(store.addEdge(A, null, B));
+    assertTrue(store.addEdge(A, null, B));
+    assertTrue(store.addEdge(B, VIA, C));
+    store.addPath(C, new UrnArray(ImmutableList.of(A, B, VIA, C)));
+
+    assertEquals(store.getPathCount(B), 1);
+    assertEquals(store.getPathCount(C), 1);
+    assertEquals(
+        store.toUrnArrayArrayMap().get(C),
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(A, B, VIA, C)))));
+    assertTrue(store.anyPathContains(C, VIA));
+    assertFalse(store.anyPathContains(B, C));
+    assertEquals(store.getPathCount(A), 0);
+  }
+
+  @Test
+  public void testCyclicPathsAreNotExtended() {
+    ThreadSafePathStore store = new ThreadSafePathStore();
+    store.addEdge(A, null, B);
+    store.addEdge(B, null, A);
+    // A -> B -> A is a cycle, extending it would only produce longer cycles
+    assertFalse(store.addEdge(A, null, C));
+    assertEquals(store.getPathCount(C), 0);
+  }
+
+  @Test
+  public void testDeferredMaterialization() {
+    ThreadSafePathStore store = ThreadSafePathStore.deferred();
+    store.addEdge(A, VIA, B);
+    assertTrue(store.getRelationshipPaths(B).isEmpty());
+
+    LineageRelationship relationship = new LineageRelationship().setEntity(B);
+    relationship.setPaths(store.getRelationshipPaths(B));
+    LineageRelationship viaRelationship = new LineageRelationship().setEntity(VIA);
+    viaRelationship.setPaths(
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(A, VIA)))));
+
+    store.materializePaths(List.of(relationship, viaRelationship));
+    assertEquals(
+        relationship.getPaths(),
+        new UrnArrayArray(ImmutableList.of(new UrnArray(ImmutableList.of(A, VIA, B)))));
+    assertEquals(viaRelationship.getPaths().size(), 1, "Via paths are left untouched");
+  }
+
+  /**
+   * A tree with a fan out of 10 walked level by level like the lineage BFS, after which a single
+   * page of the deepest relationships is materialized.
+   */
+  @Test
+  public void testSyntheticTreeMaterializesOnlyThePage() {
+    final int numEdges = 1_110;
+    final int fanOut = 10;
+    List<Urn> nodes = new ArrayList<>(numEdges + 1);
+    for (int i = 0; i <= numEdges; i++) {
+      nodes.add(UrnUtils.getUrn("urn:li:corpuser:node" + i));
+    }
+
+    ThreadSafePathStore store = ThreadSafePathStore.deferred();
+    for (int child = 1; child <= numEdges; child++) {
+      int parent = (child - 1) / fanOut;
+      assertTrue(store.addEdge(nodes.get(parent), null, nodes.get(child)));
+    }
+
+    List<LineageRelationship> page = new ArrayList<>();
+    for (int i = numEdges - 99; i <= numEdges; i++) {
+      page.add(new LineageRelationship().setEntity(nodes.get(i)).setPaths(new UrnArrayArray()));
+    }
+    LineageRelationship notOnPage =
+        new LineageRelationship().setEntity(nodes.get(1)).setPaths(new UrnArrayArray());
+    store.materializePaths(page);
+
+    for (LineageRelationship relationship : page) {
+      assertEquals(relationship.getPaths().size(), 1);
+      UrnArray path = relationship.getPaths().get(0);
+      // root -> level 1 -> level 2 -> leaf
+      assertEquals(path.size(), 4);
+      assertEquals(path.get(0), nodes.get(0));
+      assertEquals(path.get(path.size() - 1), relationship.getEntity());
+      for (int i = 1; i < path.size(); i++) {
+        int child = nodes.indexOf(path.get(i));
+        assertEquals(path.get(i - 1), nodes.get((child - 1) / fanOut));
+      }
+    }
+    assertTrue(notOnPage.getPaths().isEmpty());
+    assertEquals(store.getPathCount(nodes.get(numEdges)), 1);
+    assertEquals(store.getPathCount(nodes.get(0)), 0);
+  }
+}
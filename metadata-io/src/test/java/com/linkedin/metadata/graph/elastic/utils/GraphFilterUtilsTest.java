@@ -7,11 +7,15 @@ import static org.testng.Assert.assertTrue;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.aspect.models.graph.EdgeUrnType;
+import com.linkedin.metadata.graph.elastic.EdgeStatusIndex;
 import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
+import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.testng.annotations.Test;
 
@@ -209,4 +213,26 @@ public class GraphFilterUtilsTest {
   private EdgeInfo createMockEdgeInfo(String type, String opposingEntityType) {
     return new EdgeInfo(type, RelationshipDirection.OUTGOING, opposingEntityType);
   }
+
+  @Test
+  public void testGetSoftDeletedQueries() {
+    List<QueryBuilder> queries =
+        GraphFilterUtils.getSoftDeletedQueries(
+            EdgeUrnType.SOURCE, EdgeStatusIndex.PendingStatuses.EMPTY);
+    assertEquals(queries, List.of(QueryBuilders.termsQuery("source.removed", "true")));
+
+    // Pending statuses take precedence over the status of the edges
+    EdgeStatusIndex.PendingStatuses pending =
+        new EdgeStatusIndex.PendingStatuses(
+            Set.of("urn:li:tag:removed"), Set.of(TEST_URN.toString()));
+    queries = GraphFilterUtils.getSoftDeletedQueries(EdgeUrnType.SOURCE, pending);
+    assertEquals(queries.size(), 2);
+    BoolQueryBuilder statusQuery = (BoolQueryBuilder) queries.get(0);
+    assertEquals(statusQuery.filter(), List.of(QueryBuilders.termsQuery("source.removed", "true")));
+    assertEquals(
+        statusQuery.mustNot(),
+        List.of(QueryBuilders.termsQuery("source.urn", Set.of(TEST_URN.toString()))));
+    assertEquals(
+        queries.get(1), QueryBuilders.termsQuery("source.urn", Set.of("urn:li:tag:removed")));
+  }
 }
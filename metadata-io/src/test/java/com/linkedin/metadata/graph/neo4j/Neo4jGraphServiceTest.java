@@ -40,12 +40,14 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.Getter;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.SessionConfig;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
@@ -254,6 +256,63 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBaseNoVia {
     assertEquals(result.getTotal(), 0);
   }
 
+  @Test
+  public void testAddAndRemoveEdgesInBatches() throws Exception {
+    Neo4jGraphService batchingService =
+        new Neo4jGraphService(
+            _client.getLineageRegistry(),
+            _driver,
+            SessionConfig.defaultConfig(),
+            TEST_GRAPH_SERVICE_CONFIG.toBuilder().type("neo4j").build(),
+            2);
+    DatasetUrn datasetUrn =
+        new DatasetUrn(new DataPlatformUrn("snowflake"), "test", FabricType.TEST);
+    List<Edge> edges =
+        List.of(
+            new Edge(datasetUrn, new TagUrn("tag1"), TAG_RELATIONSHIP, 1L, null, null, null, null),
+            new Edge(datasetUrn, new TagUrn("tag2"), TAG_RELATIONSHIP, 2L, null, null, null, null),
+            new Edge(
+                datasetUrn,
+                new TagUrn("tag3"),
+                TAG_RELATIONSHIP,
+                3L,
+                null,
+                null,
+                null,
+                Map.of("source", "UI")));
+    batchingService.addEdges(edges);
+
+    assertEquals(findTags(batchingService, datasetUrn).getTotal(), 3);
+    try (var session = _driver.session()) {
+      Record record =
+          session
+              .run(
+                  "MATCH ()-[r:r_" + TAG_RELATIONSHIP + "]-(:tag {urn: $urn}) RETURN r",
+                  Map.of("urn", "urn:li:tag:tag3"))
+              .single();
+      assertEquals(record.get("r").get("createdOn").asLong(), 3L);
+      assertEquals(record.get("r").get("source").asString(), "UI");
+    }
+
+    batchingService.removeEdges(edges.subList(0, 2));
+    RelatedEntitiesResult result = findTags(batchingService, datasetUrn);
+    assertEquals(result.getTotal(), 1);
+    assertEquals(result.getEntities().get(0).getUrn(), "urn:li:tag:tag3");
+  }
+
+  private RelatedEntitiesResult findTags(GraphService graphService, Urn datasetUrn) {
+    return graphService.findRelatedEntities(
+        operationContext,
+        Set.of(datasetType),
+        newFilter(Collections.singletonMap("urn", datasetUrn.toString())),
+        Set.of("tag"),
+        EMPTY_FILTER,
+        Set.of(TAG_RELATIONSHIP),
+        newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.OUTGOING),
+        0,
+        100);
+  }
+
   private Set<UrnArray> getPathUrnArraysFromLineageResult(EntityLineageResult result) {
     return result.getRelationships().stream()
         .map(x -> x.getPaths().get(0))
@@ -141,7 +141,7 @@ public class SiblingGraphServiceTest {
             eq(datasetFiveUrn),
             eq(LineageDirection.UPSTREAM),
             eq(0),
-            eq(97),
+            eq(100),
             eq(1)))
         .thenReturn(siblingMockResult);
 
@@ -198,7 +198,7 @@ public class SiblingGraphServiceTest {
             eq(datasetThreeUrn),
             eq(LineageDirection.UPSTREAM),
             eq(0),
-            eq(98),
+            eq(100),
             eq(1)))
         .thenReturn(siblingMockResult);
 
@@ -398,7 +398,7 @@ public class SiblingGraphServiceTest {
             eq(datasetThreeUrn),
             eq(LineageDirection.UPSTREAM),
             eq(0),
-            eq(99),
+            eq(100),
             eq(1)))
         .thenReturn(siblingMockResult);
 
@@ -471,7 +471,7 @@ public class SiblingGraphServiceTest {
             eq(datasetFourUrn),
             eq(LineageDirection.UPSTREAM),
             eq(0),
-            eq(99),
+            eq(100),
             eq(1)))
         .thenReturn(mockResult);
 
@@ -1041,6 +1041,91 @@ public class SiblingGraphServiceTest {
     assertEquals(upstreamLineage, mockResult);
   }
 
+  @Test
+  public void testSiblingGroupIsCached() {
+    EntityService<?> entityService = Mockito.mock(EntityService.class);
+    GraphService graphService = Mockito.mock(GraphService.class);
+    when(graphService.getGraphServiceConfig()).thenReturn(TEST_GRAPH_SERVICE_CONFIG);
+    when(entityService.exists(any(OperationContext.class), any(Collection.class), anyBoolean()))
+        .thenAnswer(args -> new HashSet<>(args.getArgument(1)));
+    SiblingGraphService service = new SiblingGraphService(entityService, graphService, 2, 10, 60);
+
+    EntityLineageResult mockResult = new EntityLineageResult();
+    mockResult.setStart(0);
+    mockResult.setTotal(1);
+    mockResult.setCount(1);
+    mockResult.setRelationships(new LineageRelationshipArray(makeBasicRelationship(datasetOneUrn)));
+    when(graphService.getLineage(
+            any(OperationContext.class),
+            eq(datasetFourUrn),
+            eq(LineageDirection.UPSTREAM),
+            eq(0),
+            eq(100),
+            eq(1)))
+        .then(invocation -> mockResult.clone());
+
+    EntityLineageResult siblingMockResult = new EntityLineageResult();
+    siblingMockResult.setStart(0);
+    siblingMockResult.setTotal(1);
+    siblingMockResult.setCount(1);
+    siblingMockResult.setRelationships(
+        new LineageRelationshipArray(makeBasicRelationship(datasetTwoUrn)));
+    when(graphService.getLineage(
+            any(OperationContext.class),
+            eq(datasetThreeUrn),
+            eq(LineageDirection.UPSTREAM),
+            eq(0),
+            eq(100),
+            eq(1)))
+        .then(invocation -> siblingMockResult.clone());
+
+    Siblings primarySibling = new Siblings();
+    primarySibling.setPrimary(true);
+    primarySibling.setSiblings(new UrnArray(ImmutableList.of(datasetThreeUrn)));
+    when(entityService.getLatestAspect(
+            any(OperationContext.class), eq(datasetFourUrn), eq(SIBLINGS_ASPECT_NAME)))
+        .thenReturn(primarySibling);
+
+    Siblings secondarySibling = new Siblings();
+    secondarySibling.setPrimary(false);
+    secondarySibling.setSiblings(new UrnArray(ImmutableList.of(datasetFourUrn)));
+    Map<Urn, List<RecordTemplate>> siblingsMap =
+        ImmutableMap.of(
+            datasetOneUrn, ImmutableList.of(),
+            datasetTwoUrn, ImmutableList.of(),
+            datasetThreeUrn, ImmutableList.of(secondarySibling));
+    when(entityService.getLatestAspects(any(OperationContext.class), any(), any()))
+        .thenReturn(siblingsMap);
+
+    EntityLineageResult expectedResult = new EntityLineageResult();
+    expectedResult.setStart(0);
+    expectedResult.setTotal(2);
+    expectedResult.setCount(2);
+    expectedResult.setFiltered(0);
+    expectedResult.setRelationships(
+        new LineageRelationshipArray(
+            makeBasicRelationship(datasetTwoUrn), makeBasicRelationship(datasetOneUrn)));
+
+    for (int i = 0; i < 2; i++) {
+      assertEquals(
+          service.getLineage(opContext, datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1),
+          expectedResult);
+    }
+    verify(entityService, times(1))
+        .getLatestAspect(any(OperationContext.class), eq(datasetFourUrn), eq(SIBLINGS_ASPECT_NAME));
+    // one existence check for the lineage of both siblings
+    verify(entityService, times(2))
+        .exists(any(OperationContext.class), any(Collection.class), anyBoolean());
+
+    // the group is resolved again once the siblings of a member changed
+    service.invalidateSiblingGroups(Set.of(datasetThreeUrn));
+    assertEquals(
+        service.getLineage(opContext, datasetFourUrn, LineageDirection.UPSTREAM, 0, 100, 1),
+        expectedResult);
+    verify(entityService, times(2))
+        .getLatestAspect(any(OperationContext.class), eq(datasetFourUrn), eq(SIBLINGS_ASPECT_NAME));
+  }
+
   static Urn createFromString(@Nonnull String rawUrn) {
     try {
       return Urn.createFromString(rawUrn);
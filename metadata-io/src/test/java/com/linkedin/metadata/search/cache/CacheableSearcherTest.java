@@ -1,12 +1,15 @@
 package com.linkedin.metadata.search.cache;
 
+import static com.datahub.util.RecordUtils.toJsonString;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.Streams;
 import com.linkedin.common.urn.TestEntityUrn;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.LongMap;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.SearchFlags;
 import com.linkedin.metadata.search.AggregationMetadataArray;
@@ -17,6 +20,7 @@ import com.linkedin.metadata.search.SearchResultMetadata;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.mockito.Mockito;
@@ -160,7 +164,7 @@ public class CacheableSearcherTest {
         result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
         getUrns(0, 10));
     Mockito.verify(mockCache, Mockito.times(1)).put(Mockito.any(), Mockito.any());
-    Mockito.verify(mockCache, Mockito.times(0)).get(Mockito.any(), Mockito.any(Class.class));
+    Mockito.verify(mockCache, Mockito.times(0)).get(Mockito.any());
     Mockito.reset(mockCache);
 
     // Test cache hit when searchFlags is null
@@ -179,7 +183,7 @@ public class CacheableSearcherTest {
         result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
         getUrns(0, 10));
     Mockito.verify(mockCache, Mockito.times(1)).put(Mockito.any(), Mockito.any());
-    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any(), Mockito.any(Class.class));
+    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any());
     Mockito.reset(mockCache);
 
     // Test cache hit when skipCache is false
@@ -199,7 +203,62 @@ public class CacheableSearcherTest {
         result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
         getUrns(0, 10));
     Mockito.verify(mockCache, Mockito.times(1)).put(Mockito.any(), Mockito.any());
-    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any(), Mockito.any(Class.class));
+    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any());
+  }
+
+  @Test
+  public void testCachedSearchResultRoundTrip() {
+    OperationContext opContext =
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+    Cache cache = cacheManager.getCache("binarySearcher");
+    CacheableSearcher<Integer> searcher =
+        new CacheableSearcher<>(
+            cache,
+            10,
+            qs -> getSearchResult(qs, 10),
+            CacheableSearcher.QueryPagination::getFrom,
+            true);
+
+    SearchResult expected = searcher.getSearchResults(opContext, 0, 10);
+    Object cached = cache.get(0).get();
+    assertTrue(cached instanceof CachedSearchResult);
+    assertEquals(
+        ((CachedSearchResult) cached).getSearchResult(),
+        getSearchResult(new CacheableSearcher.QueryPagination(0, 10), 10));
+    assertEquals(searcher.getSearchResults(opContext, 0, 10), expected);
+
+    // Entries written in the legacy JSON format are still served
+    cache.put(0, toJsonString(getSearchResult(new CacheableSearcher.QueryPagination(0, 10), 5)));
+    SearchResult legacy = searcher.getSearchResults(opContext, 0, 10);
+    assertEquals(legacy.getEntities().size(), 5);
+    assertEquals(
+        legacy.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
+        getUrns(0, 5));
+  }
+
+  @Test
+  public void testTimingsAreNotCached() {
+    OperationContext opContext =
+        TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+    CacheableSearcher<Integer> searcher =
+        new CacheableSearcher<>(
+            cacheManager.getCache("timedSearcher"),
+            10,
+            qs -> {
+              SearchResult result = getSearchResult(qs, 10);
+              result.getMetadata().setTimings(new LongMap(Map.of("execute", 5L)));
+              return result;
+            },
+            CacheableSearcher.QueryPagination::getFrom,
+            true);
+
+    // The search which computed the page reports its timings, the reads of the cache do not
+    assertEquals(
+        searcher.getSearchResults(opContext, 0, 10).getMetadata().getTimings(),
+        new LongMap(Map.of("execute", 5L)));
+    SearchResult cached = searcher.getSearchResults(opContext, 0, 10);
+    assertFalse(cached.getMetadata().hasTimings());
+    assertEquals(cached.getEntities().size(), 10);
   }
 
   private SearchResult getEmptySearchResult(CacheableSearcher.QueryPagination queryPagination) {
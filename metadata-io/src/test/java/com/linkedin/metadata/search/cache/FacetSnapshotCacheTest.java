@@ -0,0 +1,138 @@
+package com.linkedin.metadata.search.cache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.browse.BrowseResultV2;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class FacetSnapshotCacheTest {
+  private static final String FINGERPRINT = "context|dataset|/prod";
+
+  private AtomicInteger loads;
+  private Supplier<BrowseResultV2> loader;
+
+  @BeforeMethod
+  public void setup() {
+    loads = new AtomicInteger();
+    loader = () -> new BrowseResultV2().setNumGroups(loads.incrementAndGet());
+  }
+
+  @Test
+  public void testServesSnapshotFromCache() {
+    FacetSnapshotCache cache = new FacetSnapshotCache(10, 60, 600, 0, 1, null);
+
+    BrowseResultV2 first = cache.get("browseV2", FINGERPRINT, loader);
+    BrowseResultV2 second = cache.get("browseV2", FINGERPRINT, loader);
+
+    assertEquals(loads.get(), 1);
+    assertEquals(second, first);
+    // Readers never share a snapshot
+    assertNotSame(second, first);
+    assertEquals(cache.getHitCount("browseV2"), 1);
+    assertEquals(cache.getMissCount("browseV2"), 1);
+  }
+
+  @Test
+  public void testServesStaleSnapshotWhileRefreshing() throws Exception {
+    MutableClock clock = new MutableClock();
+    FacetSnapshotCache cache = new FacetSnapshotCache(10, 60, 600, 0, 1, null, clock);
+    cache.get("browseV2", FINGERPRINT, loader);
+
+    clock.advanceSeconds(61);
+    CountDownLatch refreshed = new CountDownLatch(1);
+    BrowseResultV2 stale =
+        cache.get(
+            "browseV2",
+            FINGERPRINT,
+            () -> {
+              BrowseResultV2 result = loader.get();
+              refreshed.countDown();
+              return result;
+            });
+
+    assertEquals(stale.getNumGroups(), 1);
+    assertEquals(cache.getStaleHitCount("browseV2"), 1);
+    assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+    assertEquals(awaitRefresh(cache), 2);
+    assertEquals(loads.get(), 2);
+  }
+
+  @Test
+  public void testRefreshesAfterChangeThreshold() throws Exception {
+    FacetSnapshotCache cache = new FacetSnapshotCache(10, 3600, 7200, 5, 1, null);
+    cache.get("browseV2", FINGERPRINT, loader);
+
+    cache.recordChanges(4);
+    assertEquals(cache.get("browseV2", FINGERPRINT, loader).getNumGroups(), 1);
+    assertEquals(cache.getStaleHitCount("browseV2"), 0);
+
+    cache.recordChanges(1);
+    assertEquals(cache.get("browseV2", FINGERPRINT, loader).getNumGroups(), 1);
+    assertEquals(cache.getStaleHitCount("browseV2"), 1);
+    assertEquals(awaitRefresh(cache), 2);
+    assertEquals(loads.get(), 2);
+  }
+
+  @Test
+  public void testInvalidateAll() {
+    FacetSnapshotCache cache = new FacetSnapshotCache(10, 60, 600, 0, 1, null);
+    cache.get("browseV2", FINGERPRINT, loader);
+    cache.invalidateAll();
+
+    assertEquals(cache.get("browseV2", FINGERPRINT, loader).getNumGroups(), 2);
+    assertEquals(cache.getMissCount("browseV2"), 2);
+  }
+
+  @Test
+  public void testDisabled() {
+    FacetSnapshotCache.DISABLED.get("browseV2", FINGERPRINT, loader);
+    FacetSnapshotCache.DISABLED.get("browseV2", FINGERPRINT, loader);
+
+    assertEquals(loads.get(), 2);
+  }
+
+  /** Reads the snapshot until the background refresh has replaced the first one. */
+  private int awaitRefresh(FacetSnapshotCache cache) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    int numGroups = cache.get("browseV2", FINGERPRINT, loader).getNumGroups();
+    while (numGroups == 1 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      numGroups = cache.get("browseV2", FINGERPRINT, loader).getNumGroups();
+    }
+    return numGroups;
+  }
+
+  private static class MutableClock extends Clock {
+    private volatile Instant now = Instant.now();
+
+    void advanceSeconds(long seconds) {
+      now = now.plusSeconds(seconds);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
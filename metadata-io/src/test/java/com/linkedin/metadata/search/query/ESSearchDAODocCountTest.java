@@ -0,0 +1,104 @@
+package com.linkedin.metadata.search.query;
+
+import static com.linkedin.metadata.Constants.ELASTICSEARCH_IMPLEMENTATION_ELASTICSEARCH;
+import static io.datahubproject.test.search.SearchTestUtils.TEST_OS_SEARCH_CONFIG;
+import static io.datahubproject.test.search.SearchTestUtils.TEST_SEARCH_SERVICE_CONFIG;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+import com.datahub.util.exception.ESQueryException;
+import com.linkedin.metadata.search.elasticsearch.query.ESSearchDAO;
+import com.linkedin.metadata.search.elasticsearch.query.filter.QueryFilterRewriteChain;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.search.SearchHits;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ESSearchDAODocCountTest {
+
+  private RestHighLevelClient mockClient;
+  private OperationContext opContext;
+  private ESSearchDAO esSearchDAO;
+
+  @BeforeMethod
+  public void setup() {
+    mockClient = Mockito.mock(RestHighLevelClient.class);
+    opContext = TestOperationContexts.systemContextNoValidate();
+    esSearchDAO =
+        new ESSearchDAO(
+            mockClient,
+            false,
+            ELASTICSEARCH_IMPLEMENTATION_ELASTICSEARCH,
+            TEST_OS_SEARCH_CONFIG,
+            null,
+            QueryFilterRewriteChain.EMPTY,
+            TEST_SEARCH_SERVICE_CONFIG);
+  }
+
+  @Test
+  public void testDocCountPerEntityInSingleRequest() throws Exception {
+    Mockito.when(mockClient.msearch(Mockito.any(), Mockito.eq(RequestOptions.DEFAULT)))
+        .thenReturn(
+            new MultiSearchResponse(
+                new MultiSearchResponse.Item[] {
+                  new MultiSearchResponse.Item(countResponse(3), null),
+                  new MultiSearchResponse.Item(countResponse(0), null)
+                },
+                1L));
+
+    Map<String, Long> counts =
+        esSearchDAO.docCountPerEntity(opContext, List.of("dataset", "chart"), null);
+
+    assertEquals(counts, Map.of("dataset", 3L, "chart", 0L));
+    ArgumentCaptor<MultiSearchRequest> captor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+    Mockito.verify(mockClient).msearch(captor.capture(), Mockito.eq(RequestOptions.DEFAULT));
+    Mockito.verify(mockClient, Mockito.never()).count(Mockito.any(), Mockito.any());
+    List<SearchRequest> requests = captor.getValue().requests();
+    assertEquals(requests.size(), 2);
+    assertEquals(requests.get(0).source().size(), 0);
+    assertEquals(
+        requests.get(0).indices()[0],
+        opContext.getSearchContext().getIndexConvention().getEntityIndexName("dataset"));
+  }
+
+  @Test
+  public void testDocCountPerEntityFailure() throws Exception {
+    Mockito.when(mockClient.msearch(Mockito.any(), Mockito.eq(RequestOptions.DEFAULT)))
+        .thenReturn(
+            new MultiSearchResponse(
+                new MultiSearchResponse.Item[] {
+                  new MultiSearchResponse.Item(null, new RuntimeException("index missing"))
+                },
+                1L));
+
+    assertThrows(
+        ESQueryException.class,
+        () -> esSearchDAO.docCountPerEntity(opContext, List.of("dataset"), null));
+  }
+
+  @Test
+  public void testDocCountPerEntityWithoutEntities() throws Exception {
+    assertEquals(esSearchDAO.docCountPerEntity(opContext, List.of(), null), Map.of());
+    Mockito.verify(mockClient, Mockito.never()).msearch(Mockito.any(), Mockito.any());
+  }
+
+  private static SearchResponse countResponse(long count) {
+    SearchResponse response = Mockito.mock(SearchResponse.class);
+    SearchHits hits = Mockito.mock(SearchHits.class);
+    Mockito.when(hits.getTotalHits()).thenReturn(new TotalHits(count, TotalHits.Relation.EQUAL_TO));
+    Mockito.when(response.getHits()).thenReturn(hits);
+    return response;
+  }
+}
@@ -17,6 +17,8 @@ import com.datahub.authentication.Authentication;
 import com.datahub.authorization.AuthorizerContext;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.datahub.authorization.DefaultEntitySpecResolver;
+import com.datahub.authorization.PolicyFetcher;
+import com.datahub.authorization.PolicyIndex;
 import com.datahub.authorization.config.ViewAuthorizationConfiguration;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.linkedin.common.Owner;
@@ -59,6 +61,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
 import org.testng.annotations.Test;
@@ -629,21 +632,14 @@ public class ESAccessControlUtilTest {
       when(ctx.getEntitySpecResolver()).thenReturn(specResolver);
       init(Map.of(), ctx);
 
-      readWriteLock.writeLock().lock();
-      try {
-        policyCache.clear();
-        Map<String, List<DataHubPolicyInfo>> byPrivilegeName =
-            policies.stream()
-                .flatMap(
-                    policy -> policy.getPrivileges().stream().map(priv -> Pair.of(priv, policy)))
-                .collect(
-                    Collectors.groupingBy(
-                        Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toList())));
-        policyCache.putAll(byPrivilegeName);
-        policyCache.put(ALL, policies);
-      } finally {
-        readWriteLock.writeLock().unlock();
-      }
+      policyIndex.set(
+          PolicyIndex.of(
+              IntStream.range(0, policies.size())
+                  .mapToObj(
+                      i ->
+                          new PolicyFetcher.Policy(
+                              UrnUtils.getUrn("urn:li:dataHubPolicy:test-" + i), policies.get(i)))
+                  .collect(Collectors.toList())));
     }
 
     private static SystemEntityClient mockUserGroupEntityClient(
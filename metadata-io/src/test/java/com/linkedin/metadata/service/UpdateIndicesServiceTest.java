@@ -2,13 +2,28 @@ package com.linkedin.metadata.service;
 
 import static com.linkedin.metadata.Constants.CONTAINER_ASPECT_NAME;
 import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.DATASET_PROPERTIES_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.STATUS_ASPECT_NAME;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.Status;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.dataset.DatasetProperties;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
@@ -17,10 +32,15 @@ import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.utils.AuditStampUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.metadata.utils.SystemMetadataUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeMethod;
@@ -80,4 +100,136 @@ public class UpdateIndicesServiceTest {
             eq(event.getCreated()));
     verify(updateGraphIndicesService).handleChangeEvent(operationContext, event);
   }
+
+  @Test
+  public void testHandleChangeEventsCoalescesSearchDocuments() throws Exception {
+    Urn urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleHdfsDataset,PROD)");
+    when(entitySearchService.getIndexConvention())
+        .thenReturn(operationContext.getSearchContext().getIndexConvention());
+
+    ObjectNode statusDocument = JsonNodeFactory.instance.objectNode();
+    statusDocument.put("urn", urn.toString());
+    statusDocument.put("removed", false);
+    ObjectNode propertiesDocument = JsonNodeFactory.instance.objectNode();
+    propertiesDocument.put("urn", urn.toString());
+    propertiesDocument.put("name", "SampleHdfsDataset");
+    when(searchDocumentTransformer.transformAspect(
+            any(), eq(urn), any(Status.class), any(), eq(false), any()))
+        .thenReturn(Optional.of(statusDocument));
+    when(searchDocumentTransformer.transformAspect(
+            any(), eq(urn), any(DatasetProperties.class), any(), eq(false), any()))
+        .thenReturn(Optional.of(propertiesDocument));
+
+    MetadataChangeLog statusEvent =
+        upsertEvent(urn, STATUS_ASPECT_NAME, new Status().setRemoved(false));
+    MetadataChangeLog propertiesEvent =
+        upsertEvent(
+            urn,
+            DATASET_PROPERTIES_ASPECT_NAME,
+            new DatasetProperties().setName("SampleHdfsDataset"));
+
+    updateIndicesService.handleChangeEvents(
+        operationContext, List.of(statusEvent, propertiesEvent));
+
+    ArgumentCaptor<String> documentCaptor = ArgumentCaptor.forClass(String.class);
+    verify(entitySearchService, times(1))
+        .upsertDocument(
+            eq(operationContext), eq(DATASET_ENTITY_NAME), documentCaptor.capture(), any());
+    JsonNode merged = new ObjectMapper().readTree(documentCaptor.getValue());
+    assertEquals(merged.get("removed").asBoolean(), false);
+    assertEquals(merged.get("name").asText(), "SampleHdfsDataset");
+
+    verify(updateGraphIndicesService).handleChangeEvent(operationContext, statusEvent);
+    verify(updateGraphIndicesService).handleChangeEvent(operationContext, propertiesEvent);
+    verify(systemMetadataService).insert(any(), eq(urn.toString()), eq(STATUS_ASPECT_NAME));
+    verify(systemMetadataService)
+        .insert(any(), eq(urn.toString()), eq(DATASET_PROPERTIES_ASPECT_NAME));
+  }
+
+  @Test
+  public void testHandleChangeEventsReportsFailedEvents() {
+    Urn urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleHdfsDataset,PROD)");
+    when(entitySearchService.getIndexConvention())
+        .thenReturn(operationContext.getSearchContext().getIndexConvention());
+    when(searchDocumentTransformer.transformAspect(any(), any(), any(), any(), eq(false), any()))
+        .thenReturn(Optional.empty());
+
+    MetadataChangeLog statusEvent =
+        upsertEvent(urn, STATUS_ASPECT_NAME, new Status().setRemoved(false));
+    MetadataChangeLog propertiesEvent =
+        upsertEvent(
+            urn,
+            DATASET_PROPERTIES_ASPECT_NAME,
+            new DatasetProperties().setName("SampleHdfsDataset"));
+    RuntimeException graphFailure = new RuntimeException("graph unavailable");
+    doThrow(graphFailure)
+        .when(updateGraphIndicesService)
+        .handleChangeEvent(operationContext, statusEvent);
+
+    UpdateIndicesBatchException e =
+        expectThrows(
+            UpdateIndicesBatchException.class,
+            () ->
+                updateIndicesService.handleChangeEvents(
+                    operationContext, List.of(statusEvent, propertiesEvent)));
+
+    assertEquals(e.getFailedIndices(), Set.of(0));
+    assertSame(e.getCause(), graphFailure);
+    verify(updateGraphIndicesService).handleChangeEvent(operationContext, propertiesEvent);
+  }
+
+  @Test
+  public void testHandleChangeEventsReportsFailedFlush() {
+    Urn urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleHdfsDataset,PROD)");
+    when(entitySearchService.getIndexConvention())
+        .thenReturn(operationContext.getSearchContext().getIndexConvention());
+    ObjectNode statusDocument = JsonNodeFactory.instance.objectNode();
+    statusDocument.put("urn", urn.toString());
+    statusDocument.put("removed", false);
+    when(searchDocumentTransformer.transformAspect(
+            any(), eq(urn), any(Status.class), any(), eq(false), any()))
+        .thenReturn(Optional.of(statusDocument));
+    when(searchDocumentTransformer.transformAspect(
+            any(), eq(urn), any(DatasetProperties.class), any(), eq(false), any()))
+        .thenReturn(Optional.empty());
+
+    MetadataChangeLog statusEvent =
+        upsertEvent(urn, STATUS_ASPECT_NAME, new Status().setRemoved(false));
+    MetadataChangeLog propertiesEvent =
+        upsertEvent(
+            urn,
+            DATASET_PROPERTIES_ASPECT_NAME,
+            new DatasetProperties().setName("SampleHdfsDataset"));
+    RuntimeException graphFailure = new RuntimeException("graph unavailable");
+    doThrow(graphFailure)
+        .when(updateGraphIndicesService)
+        .handleChangeEvent(operationContext, propertiesEvent);
+    RuntimeException searchFailure = new RuntimeException("search unavailable");
+    doThrow(searchFailure)
+        .when(entitySearchService)
+        .upsertDocument(any(), eq(DATASET_ENTITY_NAME), any(), any());
+
+    UpdateIndicesBatchException e =
+        expectThrows(
+            UpdateIndicesBatchException.class,
+            () ->
+                updateIndicesService.handleChangeEvents(
+                    operationContext, List.of(statusEvent, propertiesEvent)));
+
+    assertEquals(e.getFailedIndices(), Set.of(0, 1));
+    assertSame(e.getCause(), graphFailure);
+    assertEquals(List.of(graphFailure.getSuppressed()), List.of(searchFailure));
+  }
+
+  private static MetadataChangeLog upsertEvent(Urn urn, String aspectName, RecordTemplate aspect) {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setChangeType(ChangeType.UPSERT);
+    event.setEntityUrn(urn);
+    event.setAspectName(aspectName);
+    event.setEntityType(urn.getEntityType());
+    event.setAspect(GenericRecordUtils.serializeAspect(aspect));
+    event.setSystemMetadata(SystemMetadataUtils.createDefaultSystemMetadata());
+    event.setCreated(AuditStampUtils.createDefaultAuditStamp());
+    return event;
+  }
 }
@@ -152,6 +152,8 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "authorization",
           "authorization.defaultAuthorizer.cachePolicyFetchSize",
           "authorization.defaultAuthorizer.cacheRefreshIntervalSecs",
+          "authorization.defaultAuthorizer.resolutionCache.maxSize",
+          "authorization.defaultAuthorizer.resolutionCache.ttlSeconds",
           "authorization.restApiAuthorization",
           "authorization.view.recommendations.peerGroupEnabled",
           "defaultAuthorizer",
@@ -243,6 +245,7 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "kafka.consumer.maxPartitionFetchBytes",
           "kafka.consumer.mcl.aspectsToDrop",
           "kafka.consumer.mcl.autoOffsetReset",
+          "kafka.consumer.mcl.batchEnabled",
           "kafka.consumer.mcl.fineGrainedLoggingEnabled",
           "kafka.consumer.mcp.autoOffsetReset",
           "kafka.consumer.metrics.maxExpectedValue",
@@ -416,6 +419,8 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "server.server-header",
 
           // DataHub configuration
+          "datahub.gms.async.export.concurrency",
+          "datahub.gms.async.export.timeout-ms",
           "datahub.gms.async.request-timeout-ms",
           "datahub.gms.host",
           "datahub.gms.port",
@@ -509,6 +514,7 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "neo4j.maxTransactionRetryTime",
           "neo4j.uri",
           "neo4j.username",
+          "neo4j.writeBatchSize",
 
           // Elasticsearch configuration
           "elasticsearch.buildIndices.allowDocCountMismatch",
@@ -524,6 +530,12 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "elasticsearch.bulkDelete.timeout",
           "elasticsearch.bulkDelete.timeoutUnit",
           "elasticsearch.bulkProcessor.async",
+          "elasticsearch.bulkProcessor.adaptive.enabled",
+          "elasticsearch.bulkProcessor.adaptive.maxConcurrency",
+          "elasticsearch.bulkProcessor.adaptive.minConcurrency",
+          "elasticsearch.bulkProcessor.adaptive.sizeBytes",
+          "elasticsearch.bulkProcessor.adaptive.targetLatencyMs",
+          "elasticsearch.bulkProcessor.adaptive.throttleWaitMs",
           "elasticsearch.bulkProcessor.enableBatchDelete",
           "elasticsearch.bulkProcessor.flushPeriod",
           "elasticsearch.bulkProcessor.numRetries",
@@ -573,6 +585,11 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "elasticsearch.search.graph.maxThreads",
           "elasticsearch.search.graph.pointInTimeCreationEnabled",
           "elasticsearch.search.graph.queryOptimization",
+          "elasticsearch.search.graph.statusIndex.enabled",
+          "elasticsearch.search.graph.statusIndex.maxPending",
+          "elasticsearch.search.graph.statusIndex.reconcileBatchSize",
+          "elasticsearch.search.graph.statusIndex.reconcileIntervalSeconds",
+          "elasticsearch.search.graph.statusIndex.refreshSeconds",
           "elasticsearch.search.graph.timeoutSeconds",
           "elasticsearch.search.maxTermBucketSize",
           "elasticsearch.search.partial.factor",
@@ -600,7 +617,10 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "entityChangeEvents.consumerGroupSuffix",
           "entityChangeEvents.enabled",
           "entityChangeEvents.entityExclusions",
+          "entityClient.java.get.batchConcurrency",
+          "entityClient.java.get.batchQueueSize",
           "entityClient.java.get.batchSize",
+          "entityClient.java.get.batchThreadKeepAlive",
           "entityClient.java.ingest.batchSize",
           "entityClient.numRetries",
           "entityClient.restli.get.batchConcurrency",
@@ -612,9 +632,21 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "entityClient.restli.ingest.batchSize",
           "entityClient.restli.ingest.batchThreadKeepAlive",
           "entityClient.retryInterval",
+          "entityService.aspectCache.enabled",
+          "entityService.aspectCache.hook.consumerGroupSuffix",
+          "entityService.aspectCache.hook.enabled",
+          "entityService.aspectCache.maxWeightBytes",
+          "entityService.aspectCache.ttlSeconds",
           "entityService.impl",
+          "entityService.ingest.latestRowVersioning",
+          "entityService.ingest.parallelism",
+          "entityService.ingest.urnLocks",
           "entityService.retention.applyOnBootstrap",
           "entityService.retention.enabled",
+          "eventsApi.buffer.enabled",
+          "eventsApi.buffer.idleTimeoutSeconds",
+          "eventsApi.buffer.maxBytesPerPartition",
+          "eventsApi.buffer.maxEventsPerPartition",
           "eventsApi.enabled",
           "forms.hook.consumerGroupSuffix",
           "forms.hook.enabled",
@@ -623,6 +655,8 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "graphQL.concurrency.maxPoolSize",
           "graphQL.concurrency.separateThreadPool",
           "graphQL.concurrency.stackSize",
+          "graphQL.metrics.dataLoaderStatsEnabled",
+          "graphQL.metrics.dataLoaderStatsExtensionEnabled",
           "graphQL.metrics.enabled",
           "graphQL.metrics.fieldLevelEnabled",
           "graphQL.metrics.fieldLevelOperations",
@@ -644,6 +678,8 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "incidents.hook.consumerGroupSuffix",
           "incidents.hook.enabled",
           "incidents.hook.maxIncidentHistory",
+          "policyCache.hook.consumerGroupSuffix",
+          "policyCache.hook.enabled",
           "ingestion.batchRefreshCount",
           "ingestion.defaultCliVersion",
           "ingestion.enabled",
@@ -696,6 +732,10 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "systemUpdate.ingestionIndices.enabled",
           "systemUpdate.ingestionIndices.limit",
           "systemUpdate.initialBackOffMs",
+          "systemUpdate.latestVersion.batchSize",
+          "systemUpdate.latestVersion.delayMs",
+          "systemUpdate.latestVersion.enabled",
+          "systemUpdate.latestVersion.limit",
           "systemUpdate.maxBackOffs",
           "systemUpdate.ownershipTypes.batchSize",
           "systemUpdate.ownershipTypes.enabled",
@@ -760,9 +800,21 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "searchService.cache.hazelcast.service-dns-timeout",
           "searchService.cache.hazelcast.kubernetes-api-retries",
           "searchService.cache.hazelcast.resolve-not-ready-addresses",
+          "searchService.cache.hazelcast.nearCache.enabled",
+          "searchService.cache.hazelcast.nearCache.maxSize",
+          "searchService.cache.hazelcast.nearCache.ttlSeconds",
+          "searchService.cache.hazelcast.nearCache.invalidationBatchFrequencySeconds",
           "searchService.cacheImplementation",
           "searchService.enableCache",
           "searchService.enableEviction",
+          "searchService.facetCache.changeThreshold",
+          "searchService.facetCache.enabled",
+          "searchService.facetCache.hook.consumerGroupSuffix",
+          "searchService.facetCache.hook.enabled",
+          "searchService.facetCache.maxSize",
+          "searchService.facetCache.maxStaleSeconds",
+          "searchService.facetCache.refreshConcurrency",
+          "searchService.facetCache.refreshSeconds",
           "searchService.limit.results.apiDefault",
           "searchService.limit.results.max",
           "searchService.limit.results.strict",
@@ -775,6 +827,9 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "searchService.resultBatchSize",
           "siblings.consumerGroupSuffix",
           "siblings.enabled",
+          "siblings.lineage.concurrency",
+          "siblings.lineage.groupCache.maxSize",
+          "siblings.lineage.groupCache.ttlSeconds",
           "springdoc.api-docs.path",
           "springdoc.api-docs.version",
           "springdoc.cache.disabled",
@@ -788,6 +843,8 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "telemetry.enabledIngestion",
           "telemetry.enabledServer",
           "telemetry.enableThirdPartyLogging",
+          "timelineService.diffCache.maxSize",
+          "timelineService.pageSize",
           "timeseriesAspectService.limit.results.apiDefault",
           "timeseriesAspectService.limit.results.max",
           "timeseriesAspectService.limit.results.strict",
@@ -0,0 +1,141 @@
+package com.linkedin.metadata.system_telemetry;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import com.linkedin.metadata.config.graphql.GraphQLMetricsConfiguration;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.stats.SimpleStatisticsCollector;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class GraphQLDataLoaderInstrumentationTest {
+
+  private MeterRegistry meterRegistry;
+  private GraphQLMetricsConfiguration config;
+  private GraphQLDataLoaderInstrumentation instrumentation;
+  private DataLoaderRegistry dataLoaderRegistry;
+  private InstrumentationExecutionParameters parameters;
+
+  @BeforeMethod
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    config = new GraphQLMetricsConfiguration();
+    config.setPercentiles("0.5,0.99");
+    instrumentation = new GraphQLDataLoaderInstrumentation(meterRegistry, config);
+
+    dataLoaderRegistry = new DataLoaderRegistry();
+    ExecutionInput executionInput =
+        ExecutionInput.newExecutionInput()
+            .query("query getUser { hello }")
+            .operationName("getUser")
+            .dataLoaderRegistry(dataLoaderRegistry)
+            .build();
+    parameters = mock(InstrumentationExecutionParameters.class);
+    when(parameters.getExecutionInput()).thenReturn(executionInput);
+    when(parameters.getOperation()).thenReturn("getUser");
+  }
+
+  @Test
+  public void testRecordsLoaderStatistics() throws Exception {
+    config.setDataLoaderStatsExtensionEnabled(true);
+    instrumentation = new GraphQLDataLoaderInstrumentation(meterRegistry, config);
+    loadUsers();
+
+    ExecutionResult result =
+        instrumentation
+            .instrumentExecutionResult(
+                ExecutionResultImpl.newExecutionResult().data(Map.of()).build(), parameters, null)
+            .get();
+
+    Map<String, Map<String, Long>> extension =
+        (Map<String, Map<String, Long>>)
+            result.getExtensions().get(GraphQLDataLoaderInstrumentation.EXTENSION_KEY);
+    assertEquals(extension.get("Users").get("loads"), 3L);
+    assertEquals(extension.get("Users").get("cacheHits"), 1L);
+    assertEquals(extension.get("Users").get("dispatches"), 1L);
+    assertEquals(extension.get("Users").get("batchedKeys"), 2L);
+
+    DistributionSummary dispatches =
+        meterRegistry
+            .find("graphql.dataloader.dispatches")
+            .tag("loader", "Users")
+            .tag("operation", "getUser")
+            .summary();
+    assertEquals(dispatches.count(), 1);
+    assertEquals(dispatches.totalAmount(), 1.0);
+    DistributionSummary batchSize =
+        meterRegistry.find("graphql.dataloader.batch.size").tag("loader", "Users").summary();
+    assertEquals(batchSize.totalAmount(), 2.0);
+    Counter cacheHits =
+        meterRegistry.find("graphql.dataloader.cache.hits").tag("loader", "Users").counter();
+    assertEquals(cacheHits.count(), 1.0);
+  }
+
+  @Test
+  public void testNoExtensionByDefault() throws Exception {
+    loadUsers();
+    ExecutionResult executionResult =
+        ExecutionResultImpl.newExecutionResult().data(Map.of()).build();
+
+    ExecutionResult result =
+        instrumentation.instrumentExecutionResult(executionResult, parameters, null).get();
+
+    // No extension added, the statistics are still recorded as metrics
+    assertSame(result, executionResult);
+    DistributionSummary dispatches =
+        meterRegistry.find("graphql.dataloader.dispatches").tag("loader", "Users").summary();
+    assertEquals(dispatches.count(), 1);
+    Counter cacheHits =
+        meterRegistry.find("graphql.dataloader.cache.hits").tag("loader", "Users").counter();
+    assertEquals(cacheHits.count(), 1.0);
+  }
+
+  @Test
+  public void testUnusedLoadersAreNotReported() throws Exception {
+    dataLoaderRegistry.register(
+        "Users",
+        DataLoader.newDataLoader(
+            (List<String> keys) -> CompletableFuture.completedFuture(keys),
+            DataLoaderOptions.newOptions().setStatisticsCollector(SimpleStatisticsCollector::new)));
+    ExecutionResult executionResult =
+        ExecutionResultImpl.newExecutionResult().data(Map.of()).build();
+
+    ExecutionResult result =
+        instrumentation.instrumentExecutionResult(executionResult, parameters, null).get();
+
+    assertSame(result, executionResult);
+    assertNull(meterRegistry.find("graphql.dataloader.dispatches").summary());
+  }
+
+  private void loadUsers() {
+    DataLoader<String, String> loader =
+        DataLoader.newDataLoader(
+            (List<String> keys) ->
+                CompletableFuture.completedFuture(
+                    keys.stream().map(String::toUpperCase).collect(Collectors.toList())),
+            DataLoaderOptions.newOptions().setStatisticsCollector(SimpleStatisticsCollector::new));
+    dataLoaderRegistry.register("Users", loader);
+    loader.load("a");
+    loader.load("b");
+    loader.load("a");
+    dataLoaderRegistry.dispatchAll();
+  }
+}
@@ -37,6 +37,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 /**
@@ -126,6 +127,50 @@ public abstract class TimelineServiceTest<T_AD extends AspectDao> {
     // Assert.assertEquals(changes.get(1).getTimestamp(), timestamps.get(5).getTime().longValue());
   }
 
+  @Test
+  public void testGetTimelineReusesCachedDiffs() throws Exception {
+    Urn entityUrn =
+        Urn.createFromString(
+            "urn:li:dataset:(urn:li:dataPlatform:hive,cachedTable"
+                + System.currentTimeMillis()
+                + ",PROD)");
+    String aspectName = "schemaMetadata";
+    int versions = 20;
+
+    for (int i = versions; i > 0; i--) {
+      AuditStamp auditStamp = createTestAuditStamp(0).setTime(System.currentTimeMillis() - i);
+      _entityServiceImpl.ingestAspects(
+          opContext,
+          entityUrn,
+          Collections.singletonList(
+              new Pair<>(aspectName, getSchemaMetadata("Description version " + i))),
+          auditStamp,
+          getSystemMetadata(auditStamp, "run-" + i));
+    }
+
+    Set<ChangeCategory> elements = Collections.singleton(ChangeCategory.TECHNICAL_SCHEMA);
+    long startTime = createTestAuditStamp(1).getTime();
+
+    List<ChangeTransaction> cold =
+        _entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null, false);
+    long hitsAfterCold = _entityTimelineService.getDiffCacheStats().hitCount();
+    long missesAfterCold = _entityTimelineService.getDiffCacheStats().missCount();
+
+    List<ChangeTransaction> warm =
+        _entityTimelineService.getTimeline(entityUrn, elements, startTime, 0, null, null, false);
+
+    Assert.assertFalse(cold.isEmpty());
+    Assert.assertEquals(warm.size(), cold.size());
+    for (int i = 0; i < cold.size(); i++) {
+      Assert.assertEquals(warm.get(i).getTimestamp(), cold.get(i).getTimestamp());
+      Assert.assertEquals(warm.get(i).getSemVer(), cold.get(i).getSemVer());
+      Assert.assertEquals(warm.get(i).getChangeEvents(), cold.get(i).getChangeEvents());
+    }
+    Assert.assertTrue(
+        _entityTimelineService.getDiffCacheStats().hitCount() - hitsAfterCold >= versions - 1);
+    Assert.assertEquals(_entityTimelineService.getDiffCacheStats().missCount(), missesAfterCold);
+  }
+
   private static AuditStamp createTestAuditStamp(int daysAgo) {
     try {
       Long timestamp = System.currentTimeMillis() - (daysAgo * 24 * 60 * 60 * 1000L);
@@ -6,12 +6,21 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -30,6 +39,9 @@ public abstract class AbstractKafkaListener<E, H extends EventHook<E>, R>
   protected boolean fineGrainedLoggingEnabled;
   protected Map<String, Set<String>> aspectsToDrop;
 
+  // Runs the hooks which opted in concurrently in batch mode, created on first use
+  private ExecutorService hookExecutor;
+
   @Override
   public GenericKafkaListener<E, H, R> init(
       @Nonnull OperationContext systemOperationContext,
@@ -56,57 +68,8 @@ public abstract class AbstractKafkaListener<E, H extends EventHook<E>, R>
   @Override
   public void consume(@Nonnull final ConsumerRecord<String, R> consumerRecord) {
     try {
-      systemOperationContext
-          .getMetricUtils()
-          .ifPresent(
-              metricUtils -> {
-                long queueTimeMs = System.currentTimeMillis() - consumerRecord.timestamp();
-
-                // Dropwizard legacy
-                metricUtils.histogram(this.getClass(), "kafkaLag", queueTimeMs);
-
-                // Micrometer with tags
-                // TODO: include priority level when available
-                metricUtils
-                    .getRegistry()
-                    .timer(
-                        MetricUtils.KAFKA_MESSAGE_QUEUE_TIME,
-                        "topic",
-                        consumerRecord.topic(),
-                        "consumer.group",
-                        consumerGroupId)
-                    .record(Duration.ofMillis(queueTimeMs));
-              });
-      final R record = consumerRecord.value();
-      log.debug(
-          "Got event consumer: {} key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
-          consumerGroupId,
-          consumerRecord.key(),
-          consumerRecord.topic(),
-          consumerRecord.partition(),
-          consumerRecord.offset(),
-          consumerRecord.serializedValueSize(),
-          consumerRecord.timestamp());
-
-      systemOperationContext
-          .getMetricUtils()
-          .ifPresent(
-              metricUtils ->
-                  metricUtils.increment(
-                      this.getClass(), consumerGroupId + "_received_event_count", 1));
-
-      E event;
-      try {
-        event = convertRecord(record);
-      } catch (Exception e) {
-        systemOperationContext
-            .getMetricUtils()
-            .ifPresent(
-                metricUtils ->
-                    metricUtils.increment(
-                        this.getClass(), consumerGroupId + "_conversion_failure", 1));
-        log.error("Error deserializing message due to: ", e);
-        log.error("Message: {}", record.toString());
+      E event = receiveRecord(consumerRecord);
+      if (event == null) {
         return;
       }
 
@@ -128,6 +91,99 @@ public abstract class AbstractKafkaListener<E, H extends EventHook<E>, R>
     }
   }
 
+  @Override
+  public void consumeBatch(@Nonnull final List<ConsumerRecord<String, R>> consumerRecords) {
+    try {
+      List<E> events = new ArrayList<>(consumerRecords.size());
+      String topic = null;
+      for (ConsumerRecord<String, R> consumerRecord : consumerRecords) {
+        if (topic == null) {
+          topic = consumerRecord.topic();
+        }
+        E event = receiveRecord(consumerRecord);
+        if (event == null) {
+          continue;
+        }
+        setMDCContext(event);
+        if (shouldSkipProcessing(event)) {
+          log.info("Skipping event: {}", getEventDisplayString(event));
+          continue;
+        }
+        events.add(event);
+      }
+      // The hooks set the context of each event they process
+      MDC.clear();
+
+      if (!events.isEmpty()) {
+        processBatchWithHooks(events, topic);
+      }
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  /**
+   * Records lag metrics for the record and converts it to an event.
+   *
+   * @param consumerRecord The Kafka consumer record
+   * @return the converted event or null if it could not be deserialized
+   */
+  @Nullable
+  private E receiveRecord(@Nonnull final ConsumerRecord<String, R> consumerRecord) {
+    systemOperationContext
+        .getMetricUtils()
+        .ifPresent(
+            metricUtils -> {
+              long queueTimeMs = System.currentTimeMillis() - consumerRecord.timestamp();
+
+              // Dropwizard legacy
+              metricUtils.histogram(this.getClass(), "kafkaLag", queueTimeMs);
+
+              // Micrometer with tags
+              // TODO: include priority level when available
+              metricUtils
+                  .getRegistry()
+                  .timer(
+                      MetricUtils.KAFKA_MESSAGE_QUEUE_TIME,
+                      "topic",
+                      consumerRecord.topic(),
+                      "consumer.group",
+                      consumerGroupId)
+                  .record(Duration.ofMillis(queueTimeMs));
+            });
+    final R record = consumerRecord.value();
+    log.debug(
+        "Got event consumer: {} key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
+        consumerGroupId,
+        consumerRecord.key(),
+        consumerRecord.topic(),
+        consumerRecord.partition(),
+        consumerRecord.offset(),
+        consumerRecord.serializedValueSize(),
+        consumerRecord.timestamp());
+
+    systemOperationContext
+        .getMetricUtils()
+        .ifPresent(
+            metricUtils ->
+                metricUtils.increment(
+                    this.getClass(), consumerGroupId + "_received_event_count", 1));
+
+    try {
+      return convertRecord(record);
+    } catch (Exception e) {
+      systemOperationContext
+          .getMetricUtils()
+          .ifPresent(
+              metricUtils ->
+                  metricUtils.increment(
+                      this.getClass(), consumerGroupId + "_conversion_failure", 1));
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return null;
+    }
+  }
+
   /**
    * Process the event with all registered hooks.
    *
@@ -201,6 +257,184 @@ public abstract class AbstractKafkaListener<E, H extends EventHook<E>, R>
             .toArray(String[]::new));
   }
 
+  /**
+   * Process a batch of events with all registered hooks. Each hook receives the complete batch in
+   * consumption order, so events for the same urn (same partition key) are seen in order. Hooks run
+   * one after the other in execution order, as for single events, except for hooks of the same
+   * {@link EventHook#executionOrder()} which opted in with {@link EventHook#isConcurrentInBatch()},
+   * those run concurrently. The method returns once every hook has finished, so the container only
+   * commits offsets for fully processed batches.
+   *
+   * @param events The events to process
+   * @param topic The topic the events were consumed from
+   */
+  protected void processBatchWithHooks(List<E> events, String topic) {
+    systemOperationContext.withQueueSpan(
+        "consumeBatch",
+        events.stream().map(this::getSystemMetadata).collect(Collectors.toList()),
+        topic,
+        () -> {
+          log.info(
+              "Invoking hooks for consumer: {} batch size: {}", consumerGroupId, events.size());
+          systemOperationContext
+              .getMetricUtils()
+              .ifPresent(
+                  metricUtils ->
+                      metricUtils.histogram(
+                          this.getClass(), consumerGroupId + "_batch_size", events.size()));
+
+          final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+          for (List<H> hookGroup : groupHooksForBatch()) {
+            if (hookGroup.size() == 1) {
+              invokeHookBatch(hookGroup.get(0), events, mdcContext);
+            } else {
+              CompletableFuture.allOf(
+                      hookGroup.stream()
+                          .map(
+                              hook ->
+                                  CompletableFuture.runAsync(
+                                      () -> invokeHookBatchWithMDC(hook, events, mdcContext),
+                                      getHookExecutor()))
+                          .toArray(CompletableFuture[]::new))
+                  .join();
+            }
+          }
+
+          systemOperationContext
+              .getMetricUtils()
+              .ifPresent(
+                  metricUtils ->
+                      metricUtils.increment(
+                          this.getClass(),
+                          consumerGroupId + "_consumed_event_count",
+                          events.size()));
+          log.info(
+              "Successfully completed hooks for consumer: {} batch size: {}",
+              consumerGroupId,
+              events.size());
+        },
+        MetricUtils.DROPWIZARD_NAME,
+        MetricUtils.name(this.getClass(), "consumeBatch"));
+  }
+
+  /**
+   * Splits the hooks, in execution order, into the groups run one after the other. The hooks of an
+   * execution order which opted in to run concurrently form one group, placed where the first of
+   * them is, every other hook is a group of its own. Hooks sharing an execution order have no
+   * defined order among each other, so this does not reorder hooks which depend on each other.
+   */
+  private List<List<H>> groupHooksForBatch() {
+    List<List<H>> groups = new ArrayList<>();
+    Map<Integer, List<H>> concurrentGroups = new HashMap<>();
+    for (H hook : hooks) {
+      if (!hook.isConcurrentInBatch()) {
+        groups.add(List.of(hook));
+        continue;
+      }
+      List<H> group = concurrentGroups.get(hook.executionOrder());
+      if (group == null) {
+        group = new ArrayList<>();
+        concurrentGroups.put(hook.executionOrder(), group);
+        groups.add(group);
+      }
+      group.add(hook);
+    }
+    return groups;
+  }
+
+  private void invokeHookBatchWithMDC(
+      H hook, List<E> events, @Nullable Map<String, String> mdcContext) {
+    resetMDCContext(mdcContext);
+    try {
+      invokeHookBatch(hook, events, mdcContext);
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  /**
+   * Invokes the hook for the batch, setting the logging context of each event the hook processes
+   * on its own. The context of the batch is restored once the hook returns.
+   */
+  private void invokeHookBatch(H hook, List<E> events, @Nullable Map<String, String> mdcContext) {
+    final String hookName = hook.getClass().getSimpleName();
+
+    systemOperationContext.withSpan(
+        hookName,
+        () -> {
+          log.debug("Invoking hook {} for batch of {} events", hookName, events.size());
+          Set<Integer> failedIndices = Collections.emptySet();
+          try {
+            hook.invokeBatch(events, this::setMDCContext);
+          } catch (Exception e) {
+            resetMDCContext(mdcContext);
+            // Just skip the failed events and continue - "at most once" processing
+            failedIndices =
+                e instanceof EventHookBatchException
+                    ? ((EventHookBatchException) e).getFailedIndices()
+                    : IntStream.range(0, events.size()).boxed().collect(Collectors.toSet());
+            final int failures = failedIndices.size();
+            systemOperationContext
+                .getMetricUtils()
+                .ifPresent(
+                    metricUtils ->
+                        metricUtils.increment(this.getClass(), hookName + "_failure", failures));
+            log.error(
+                "Failed to execute hook with name {} for {} of {} events",
+                hook.getClass().getCanonicalName(),
+                failures,
+                events.size(),
+                e);
+
+            Span currentSpan = Span.current();
+            currentSpan.recordException(e);
+            currentSpan.setStatus(StatusCode.ERROR, e.getMessage());
+            currentSpan.setAttribute(MetricUtils.ERROR_TYPE, e.getClass().getName());
+          }
+          resetMDCContext(mdcContext);
+          for (int i = 0; i < events.size(); i++) {
+            if (!failedIndices.contains(i)) {
+              updateMetrics(hookName, events.get(i));
+            }
+          }
+        },
+        MetricUtils.DROPWIZARD_NAME,
+        MetricUtils.name(this.getClass(), hookName + "_batch_latency"));
+  }
+
+  private static void resetMDCContext(@Nullable Map<String, String> mdcContext) {
+    if (mdcContext != null) {
+      MDC.setContextMap(mdcContext);
+    } else {
+      MDC.clear();
+    }
+  }
+
+  private synchronized ExecutorService getHookExecutor() {
+    if (hookExecutor == null) {
+      final AtomicInteger threadCount = new AtomicInteger();
+      hookExecutor =
+          Executors.newFixedThreadPool(
+              Math.max(1, hooks.size()),
+              runnable -> {
+                Thread thread =
+                    new Thread(
+                        runnable, consumerGroupId + "-batch-hook-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return hookExecutor;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (hookExecutor != null) {
+      hookExecutor.shutdown();
+      hookExecutor = null;
+    }
+  }
+
   /**
    * Sets MDC context based on event metadata.
    *
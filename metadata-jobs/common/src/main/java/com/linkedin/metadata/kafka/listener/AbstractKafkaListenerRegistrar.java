@@ -2,17 +2,18 @@ package com.linkedin.metadata.kafka.listener;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerEndpoint;
@@ -22,13 +23,14 @@ import org.springframework.messaging.handler.annotation.support.DefaultMessageHa
 
 @Slf4j
 public abstract class AbstractKafkaListenerRegistrar<E, H extends EventHook<E>, R>
-    implements GenericKafkaListenerRegistrar<E, H, R>, InitializingBean {
+    implements GenericKafkaListenerRegistrar<E, H, R>, InitializingBean, DisposableBean {
 
   protected final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
   protected final KafkaListenerContainerFactory<?> kafkaListenerContainerFactory;
   protected final String consumerGroupBase;
   protected final List<H> hooks;
   protected final ObjectMapper objectMapper;
+  private final List<GenericKafkaListener<E, H, R>> listeners = new CopyOnWriteArrayList<>();
 
   protected AbstractKafkaListenerRegistrar(
       KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
@@ -61,6 +63,11 @@ public abstract class AbstractKafkaListenerRegistrar<E, H extends EventHook<E>,
         });
   }
 
+  @Override
+  public void destroy() {
+    listeners.forEach(GenericKafkaListener::close);
+  }
+
   @Override
   @Nonnull
   public List<H> getEnabledHooks() {
@@ -95,10 +102,17 @@ public abstract class AbstractKafkaListenerRegistrar<E, H extends EventHook<E>,
         createListener(consumerGroupId, groupHooks, isFineGrainedLoggingEnabled(), aspectsToDrop);
 
     kafkaListenerEndpoint.setBean(listener);
+    listeners.add(listener);
 
     try {
-      Method consumeMethod = GenericKafkaListener.class.getMethod("consume", ConsumerRecord.class);
-      kafkaListenerEndpoint.setMethod(consumeMethod);
+      if (isBatchEnabled()) {
+        kafkaListenerEndpoint.setBatchListener(true);
+        kafkaListenerEndpoint.setMethod(
+            GenericKafkaListener.class.getMethod("consumeBatch", List.class));
+      } else {
+        kafkaListenerEndpoint.setMethod(
+            GenericKafkaListener.class.getMethod("consume", ConsumerRecord.class));
+      }
     } catch (NoSuchMethodException e) {
       throw new RuntimeException(e);
     }
@@ -137,6 +151,15 @@ public abstract class AbstractKafkaListenerRegistrar<E, H extends EventHook<E>,
    */
   protected abstract boolean isFineGrainedLoggingEnabled();
 
+  /**
+   * Checks if the listener should receive whole poll batches instead of single records.
+   *
+   * @return true if batch consumption is enabled, false otherwise
+   */
+  protected boolean isBatchEnabled() {
+    return false;
+  }
+
   /**
    * Parses the aspects to drop from configuration.
    *
@@ -1,6 +1,10 @@
 package com.linkedin.metadata.kafka.listener;
 
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
 public interface EventHook<E> {
@@ -25,6 +29,47 @@ public interface EventHook<E> {
   /** Invoke the hook when a MetadataChangeLog is received */
   void invoke(@Nonnull E event) throws Exception;
 
+  /**
+   * Invoke the hook for a batch of events, used when the listener runs in batch mode. Events must
+   * be processed in the given order. Hooks which benefit from handling several events at once may
+   * override this, the default invokes each event individually and, after the whole batch was
+   * attempted, throws an {@link EventHookBatchException} identifying the events which failed.
+   *
+   * @param events the events of the batch, in consumption order
+   * @param beforeEvent called before an event is processed on its own, the listener uses it to set
+   *     the logging context of the event. Hooks processing the events together need not call it.
+   */
+  default void invokeBatch(@Nonnull List<E> events, @Nonnull Consumer<E> beforeEvent)
+      throws Exception {
+    Set<Integer> failedIndices = new LinkedHashSet<>();
+    Exception failure = null;
+    for (int i = 0; i < events.size(); i++) {
+      try {
+        beforeEvent.accept(events.get(i));
+        invoke(events.get(i));
+      } catch (Exception e) {
+        failedIndices.add(i);
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw new EventHookBatchException(failedIndices, failure);
+    }
+  }
+
+  /**
+   * Whether the hook may run in batch mode concurrently with other hooks of the same {@link
+   * #executionOrder()} which also allow it. Hooks run one after the other in execution order
+   * otherwise, as they do for single events.
+   */
+  default boolean isConcurrentInBatch() {
+    return false;
+  }
+
   /**
    * Controls hook execution ordering
    *
@@ -0,0 +1,24 @@
+package com.linkedin.metadata.kafka.listener;
+
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+
+/**
+ * Thrown by {@link EventHook#invokeBatch} when events of the batch failed. The cause is the first
+ * failure, the failures of the later events are suppressed by it.
+ */
+@Getter
+public class EventHookBatchException extends Exception {
+  /** Positions in the batch of the events which failed. */
+  private final Set<Integer> failedIndices;
+
+  public EventHookBatchException(@Nonnull Set<Integer> failedIndices, @Nonnull Exception first) {
+    super(
+        String.format(
+            "%d events of the batch failed, first failure: %s", failedIndices.size(), first),
+        first);
+    this.failedIndices = Collections.unmodifiableSet(failedIndices);
+  }
+}
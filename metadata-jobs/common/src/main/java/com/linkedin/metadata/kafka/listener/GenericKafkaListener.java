@@ -41,6 +41,16 @@ public interface GenericKafkaListener<E, H extends EventHook<E>, R> {
    */
   void consume(@Nonnull ConsumerRecord<String, R> consumerRecord);
 
+  /**
+   * Process a batch of Kafka consumer records as returned by a single poll.
+   *
+   * @param consumerRecords The Kafka consumer records to process, in consumption order
+   */
+  void consumeBatch(@Nonnull List<ConsumerRecord<String, R>> consumerRecords);
+
+  /** Releases the resources of the listener once its container was stopped. */
+  default void close() {}
+
   /**
    * Converts a generic record to the specific event type.
    *
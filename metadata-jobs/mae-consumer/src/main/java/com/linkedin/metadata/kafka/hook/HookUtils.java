@@ -6,6 +6,7 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.mxe.MetadataChangeLog;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -30,5 +31,28 @@ public class HookUtils {
     return EntityKeyUtils.getUrnFromLog(event, entitySpec.getKeyAspectSpec());
   }
 
+  /**
+   * Checks that a hook maintaining state of this instance has a consumer group of its own. Sharing
+   * a consumer group with other instances would split the MCLs between them, leaving each instance
+   * to see only some of the changes.
+   *
+   * @param hookName name of the hook, used in the error
+   * @param consumerGroupSuffix the configured consumer group suffix of the hook
+   * @param suffixVariable environment variable setting the suffix, used in the error
+   * @throws IllegalStateException if the suffix is blank
+   */
+  public static void requireInstanceConsumerGroupSuffix(
+      @Nonnull String hookName,
+      @Nullable String consumerGroupSuffix,
+      @Nonnull String suffixVariable) {
+    if (consumerGroupSuffix == null || consumerGroupSuffix.isBlank()) {
+      throw new IllegalStateException(
+          String.format(
+              "%s requires a consumer group suffix unique to this instance, e.g. the pod name. "
+                  + "Set %s or disable the hook.",
+              hookName, suffixVariable));
+    }
+  }
+
   private HookUtils() {}
 }
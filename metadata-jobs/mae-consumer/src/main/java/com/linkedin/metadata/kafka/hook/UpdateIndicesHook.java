@@ -8,9 +8,17 @@ import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.search.EntitySearchServiceFactory;
 import com.linkedin.gms.factory.search.SearchDocumentTransformerFactory;
 import com.linkedin.gms.factory.timeseries.TimeseriesAspectServiceFactory;
+import com.linkedin.metadata.kafka.listener.EventHookBatchException;
+import com.linkedin.metadata.service.UpdateIndicesBatchException;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import com.linkedin.mxe.MetadataChangeLog;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -71,6 +79,44 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
 
   @Override
   public void invoke(@Nonnull final MetadataChangeLog event) {
+    if (isPreProcessed(event)) {
+      return;
+    }
+    updateIndicesService.handleChangeEvent(systemOperationContext, event);
+  }
+
+  /**
+   * Coalesces the search document updates of the batch into one upsert per urn. Events which could
+   * not be indexed are reported by their position in the given batch.
+   */
+  @Override
+  public void invokeBatch(
+      @Nonnull final List<MetadataChangeLog> events,
+      @Nonnull Consumer<MetadataChangeLog> beforeEvent)
+      throws EventHookBatchException {
+    List<Integer> positions = new ArrayList<>();
+    List<MetadataChangeLog> toProcess = new ArrayList<>();
+    for (int i = 0; i < events.size(); i++) {
+      if (!isPreProcessed(events.get(i))) {
+        positions.add(i);
+        toProcess.add(events.get(i));
+      }
+    }
+    if (toProcess.isEmpty()) {
+      return;
+    }
+    try {
+      updateIndicesService.handleChangeEvents(systemOperationContext, toProcess);
+    } catch (UpdateIndicesBatchException e) {
+      Set<Integer> failedIndices =
+          e.getFailedIndices().stream()
+              .map(positions::get)
+              .collect(Collectors.toCollection(LinkedHashSet::new));
+      throw new EventHookBatchException(failedIndices, (Exception) e.getCause());
+    }
+  }
+
+  private boolean isPreProcessed(@Nonnull final MetadataChangeLog event) {
     if (event.getSystemMetadata() != null) {
       if (event.getSystemMetadata().getProperties() != null) {
         if (!Boolean.parseBoolean(event.getSystemMetadata().getProperties().get(FORCE_INDEXING_KEY))
@@ -78,10 +124,10 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
             && !reprocessUIEvents) {
           // If coming from the UI, we pre-process the Update Indices hook as a fast path to avoid
           // Kafka lag
-          return;
+          return true;
         }
       }
     }
-    updateIndicesService.handleChangeEvent(systemOperationContext, event);
+    return false;
   }
 }
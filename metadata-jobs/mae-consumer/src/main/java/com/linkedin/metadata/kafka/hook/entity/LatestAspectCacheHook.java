@@ -0,0 +1,107 @@
+package com.linkedin.metadata.kafka.hook.entity;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.entity.LatestAspectCache;
+import com.linkedin.metadata.kafka.hook.HookUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This hook evicts the aspects written by other instances from the {@link LatestAspectCache} of
+ * the entity service running in the same process. Local writes evict their aspects themselves.
+ *
+ * <p>The hook is only enabled where the cache is present, i.e. when the MCL consumer runs inside
+ * GMS. Every instance must consume all the MCLs, so its consumer group suffix has to be unique per
+ * instance and the hook fails to start without one. With a standalone MAE consumer no instance
+ * sees the writes of the others, which is not supported while the cache is enabled.
+ */
+@Slf4j
+@Component
+public class LatestAspectCacheHook implements MetadataChangeLogHook {
+
+  private final boolean isEnabled;
+  @Getter private final String consumerGroupSuffix;
+
+  @Autowired(required = false)
+  @Qualifier("latestAspectCache")
+  @Nullable
+  private LatestAspectCache latestAspectCache;
+
+  private OperationContext systemOperationContext;
+
+  @Autowired
+  public LatestAspectCacheHook(
+      @Nonnull @Value("${entityService.aspectCache.hook.enabled:true}") Boolean isEnabled,
+      @Nonnull @Value("${entityService.aspectCache.hook.consumerGroupSuffix:}")
+          String consumerGroupSuffix) {
+    this.isEnabled = isEnabled;
+    this.consumerGroupSuffix = consumerGroupSuffix;
+  }
+
+  @VisibleForTesting
+  public LatestAspectCacheHook(
+      @Nonnull LatestAspectCache latestAspectCache,
+      @Nonnull Boolean isEnabled,
+      @Nonnull String consumerGroupSuffix) {
+    this(isEnabled, consumerGroupSuffix);
+    this.latestAspectCache = latestAspectCache;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return isEnabled && latestAspectCache != null && latestAspectCache.isEnabled();
+  }
+
+  @Override
+  public LatestAspectCacheHook init(@Nonnull OperationContext systemOperationContext) {
+    if (isEnabled()) {
+      HookUtils.requireInstanceConsumerGroupSuffix(
+          getClass().getSimpleName(),
+          consumerGroupSuffix,
+          "ENTITY_SERVICE_ASPECT_CACHE_HOOK_CONSUMER_GROUP_SUFFIX");
+    }
+    this.systemOperationContext = systemOperationContext;
+    return this;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    if (!event.hasAspectName()) {
+      return;
+    }
+    final Urn urn = getUrnFromEvent(event);
+    if (ChangeType.DELETE.equals(event.getChangeType())
+        && systemOperationContext.getKeyAspectName(urn).equals(event.getAspectName())) {
+      log.debug("Invalidating cached aspects of deleted entity {}", urn);
+      latestAspectCache.invalidate(
+          urn.toString(), systemOperationContext.getEntityAspectNames(urn));
+    } else {
+      latestAspectCache.invalidate(urn.toString(), List.of(event.getAspectName()));
+    }
+  }
+
+  private Urn getUrnFromEvent(final MetadataChangeLog event) {
+    if (event.hasEntityUrn()) {
+      return event.getEntityUrn();
+    }
+    return EntityKeyUtils.getUrnFromLog(
+        event,
+        systemOperationContext
+            .getEntityRegistry()
+            .getEntitySpec(event.getEntityType())
+            .getKeyAspectSpec());
+  }
+}
@@ -129,6 +129,12 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Only reads the change logs and emits platform events, independent of the other hooks. */
+  @Override
+  public boolean isConcurrentInBatch() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull final MetadataChangeLog logEvent) throws Exception {
     if (isEligibleForProcessing(logEvent)) {
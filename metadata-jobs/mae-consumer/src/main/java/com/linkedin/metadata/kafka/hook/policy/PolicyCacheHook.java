@@ -0,0 +1,143 @@
+package com.linkedin.metadata.kafka.hook.policy;
+
+import static com.linkedin.metadata.Constants.DATAHUB_POLICY_INFO_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.DATAHUB_POLICY_KEY_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.POLICY_ENTITY_NAME;
+
+import com.datahub.authorization.AuthorizationResolutionCache;
+import com.datahub.authorization.DataHubAuthorizer;
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.kafka.hook.HookUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubPolicyInfo;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This hook applies policy changes to the policy cache of the {@link DataHubAuthorizer} running in
+ * the same process, one policy at a time, instead of waiting for the next full refresh. It also
+ * evicts the cached actor and resource resolutions of entities whose ownership, group membership
+ * or other policy relevant aspects change.
+ *
+ * <p>The hook is only enabled where an authorizer is present, i.e. when the MCL consumer runs
+ * inside GMS. Without a consumer group suffix the GMS instances share the MCL partitions, so each
+ * applies only the policy changes of its own partitions right away and the other policy changes on
+ * its next full refresh. While the resolution cache is enabled every GMS instance has to evict the
+ * changes of all the MCL partitions, so the hook then requires a consumer group suffix unique to
+ * the instance. With a standalone MAE consumer the resolutions are only evicted by their TTL, which
+ * is not supported.
+ */
+@Slf4j
+@Component
+public class PolicyCacheHook implements MetadataChangeLogHook {
+  private static final Set<ChangeType> UPSERT_CHANGE_TYPES =
+      Set.of(ChangeType.UPSERT, ChangeType.CREATE, ChangeType.CREATE_ENTITY, ChangeType.RESTATE);
+
+  private final boolean isEnabled;
+  @Getter private final String consumerGroupSuffix;
+
+  @Autowired(required = false)
+  @Qualifier("dataHubAuthorizer")
+  @Nullable
+  private DataHubAuthorizer authorizer;
+
+  private OperationContext systemOperationContext;
+
+  @Autowired
+  public PolicyCacheHook(
+      @Nonnull @Value("${policyCache.hook.enabled:true}") Boolean isEnabled,
+      @Nonnull @Value("${policyCache.hook.consumerGroupSuffix:}") String consumerGroupSuffix) {
+    this.isEnabled = isEnabled;
+    this.consumerGroupSuffix = consumerGroupSuffix;
+  }
+
+  @VisibleForTesting
+  public PolicyCacheHook(
+      @Nonnull DataHubAuthorizer authorizer,
+      @Nonnull Boolean isEnabled,
+      @Nonnull String consumerGroupSuffix) {
+    this(isEnabled, consumerGroupSuffix);
+    this.authorizer = authorizer;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return isEnabled && authorizer != null;
+  }
+
+  @Override
+  public PolicyCacheHook init(@Nonnull OperationContext systemOperationContext) {
+    this.systemOperationContext = systemOperationContext;
+    if (isEnabled() && authorizer.getResolutionCache().isEnabled()) {
+      HookUtils.requireInstanceConsumerGroupSuffix(
+          getClass().getSimpleName(),
+          consumerGroupSuffix,
+          "POLICY_CACHE_HOOK_CONSUMER_GROUP_SUFFIX");
+    } else if (isEnabled() && consumerGroupSuffix.isBlank()) {
+      log.info(
+          "No consumer group suffix for {}, the policy changes of the MCL partitions of other "
+              + "instances are applied on the next full refresh of the policies",
+          getClass().getSimpleName());
+    }
+    return this;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    if (AuthorizationResolutionCache.INVALIDATING_ASPECTS.contains(event.getAspectName())
+        && authorizer.getResolutionCache().isEnabled()) {
+      final Urn urn = getUrnFromEvent(event);
+      log.debug("Invalidating cached authorization resolution of {}", urn);
+      authorizer.invalidateResolution(urn);
+      return;
+    }
+
+    if (!POLICY_ENTITY_NAME.equals(event.getEntityType())) {
+      return;
+    }
+
+    if (DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+        && UPSERT_CHANGE_TYPES.contains(event.getChangeType())
+        && event.hasAspect()) {
+      final Urn urn = getUrnFromEvent(event);
+      log.debug("Updating cached policy {}", urn);
+      authorizer.upsertPolicy(
+          urn,
+          GenericRecordUtils.deserializeAspect(
+              event.getAspect().getValue(),
+              event.getAspect().getContentType(),
+              DataHubPolicyInfo.class));
+    } else if ((DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+            || DATAHUB_POLICY_KEY_ASPECT_NAME.equals(event.getAspectName()))
+        && ChangeType.DELETE.equals(event.getChangeType())) {
+      final Urn urn = getUrnFromEvent(event);
+      log.debug("Removing cached policy {}", urn);
+      authorizer.removePolicy(urn);
+    }
+  }
+
+  private Urn getUrnFromEvent(final MetadataChangeLog event) {
+    if (event.hasEntityUrn()) {
+      return event.getEntityUrn();
+    }
+    return EntityKeyUtils.getUrnFromLog(
+        event,
+        systemOperationContext
+            .getEntityRegistry()
+            .getEntitySpec(event.getEntityType())
+            .getKeyAspectSpec());
+  }
+}
@@ -0,0 +1,81 @@
+package com.linkedin.metadata.kafka.hook.search;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.metadata.kafka.hook.HookUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.search.cache.FacetSnapshotCache;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * This hook counts the changes to the aspects for the {@link FacetSnapshotCache} running in the
+ * same process, its snapshots are refreshed once enough changes have been seen since they were
+ * computed.
+ *
+ * <p>The hook is only enabled where the cache is present, i.e. when the MCL consumer runs inside
+ * GMS. Every instance must consume all the MCLs, so its consumer group suffix has to be unique per
+ * instance and the hook fails to start without one.
+ */
+@Component
+public class FacetSnapshotCacheHook implements MetadataChangeLogHook {
+
+  private final boolean isEnabled;
+  @Getter private final String consumerGroupSuffix;
+
+  @Autowired(required = false)
+  @Qualifier("facetSnapshotCache")
+  @Nullable
+  private FacetSnapshotCache facetSnapshotCache;
+
+  @Autowired
+  public FacetSnapshotCacheHook(
+      @Nonnull @Value("${searchService.facetCache.hook.enabled:true}") Boolean isEnabled,
+      @Nonnull @Value("${searchService.facetCache.hook.consumerGroupSuffix:}")
+          String consumerGroupSuffix) {
+    this.isEnabled = isEnabled;
+    this.consumerGroupSuffix = consumerGroupSuffix;
+  }
+
+  @VisibleForTesting
+  public FacetSnapshotCacheHook(
+      @Nonnull FacetSnapshotCache facetSnapshotCache,
+      @Nonnull Boolean isEnabled,
+      @Nonnull String consumerGroupSuffix) {
+    this(isEnabled, consumerGroupSuffix);
+    this.facetSnapshotCache = facetSnapshotCache;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return isEnabled && facetSnapshotCache != null && facetSnapshotCache.isEnabled();
+  }
+
+  @Override
+  public FacetSnapshotCacheHook init(@Nonnull OperationContext systemOperationContext) {
+    if (isEnabled()) {
+      HookUtils.requireInstanceConsumerGroupSuffix(
+          getClass().getSimpleName(),
+          consumerGroupSuffix,
+          "SEARCH_SERVICE_FACET_CACHE_HOOK_CONSUMER_GROUP_SUFFIX");
+    }
+    return this;
+  }
+
+  @Override
+  public void invoke(@Nonnull MetadataChangeLog event) {
+    // Unchanged aspects do not move the aggregates
+    if (event.hasPreviousAspectValue()
+        && event.hasAspect()
+        && event.getPreviousAspectValue().equals(event.getAspect())) {
+      return;
+    }
+    facetSnapshotCache.recordChanges(1);
+  }
+}
@@ -21,6 +21,7 @@ import com.linkedin.gms.factory.entityclient.RestliEntityClientFactory;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.gms.factory.search.EntitySearchServiceFactory;
 import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.graph.SiblingGraphService;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.query.filter.Condition;
@@ -40,17 +41,23 @@ import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 
-/** This hook associates dbt datasets with their sibling entities */
+/**
+ * This hook associates dbt datasets with their sibling entities. Where it runs inside GMS, it also
+ * invalidates the sibling groups cached for lineage as the siblings of an entity change.
+ */
 @Slf4j
 @Component
 @Import({
@@ -99,11 +106,21 @@ public class SiblingAssociationHook implements MetadataChangeLogHook {
   @Value("${siblings.enabled:false}")
   private Boolean enabled;
 
+  @Autowired(required = false)
+  @Qualifier("siblingGraphService")
+  @Nullable
+  private SiblingGraphService siblingGraphService;
+
   @VisibleForTesting
   void setEnabled(Boolean newValue) {
     enabled = newValue;
   }
 
+  @VisibleForTesting
+  void setSiblingGraphService(@Nullable SiblingGraphService siblingGraphService) {
+    this.siblingGraphService = siblingGraphService;
+  }
+
   @Override
   public SiblingAssociationHook init(@Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
@@ -115,8 +132,18 @@ public class SiblingAssociationHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  /** Only maintains the siblings aspects, which no other hook of the consumer reads. */
+  @Override
+  public boolean isConcurrentInBatch() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull MetadataChangeLog event) {
+    if (siblingGraphService != null && SIBLINGS_ASPECT_NAME.equals(event.getAspectName())) {
+      siblingGraphService.invalidateSiblingGroups(Set.of(getUrnFromEvent(event)));
+    }
+
     if (enabled && isEligibleForProcessing(event)) {
 
       log.info(
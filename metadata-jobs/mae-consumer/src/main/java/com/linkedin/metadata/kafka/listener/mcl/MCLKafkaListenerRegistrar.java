@@ -81,6 +81,11 @@ public class MCLKafkaListenerRegistrar
     return configurationProvider.getKafka().getConsumer().getMcl().isFineGrainedLoggingEnabled();
   }
 
+  @Override
+  protected boolean isBatchEnabled() {
+    return configurationProvider.getKafka().getConsumer().getMcl().isBatchEnabled();
+  }
+
   @Override
   protected String getAspectsToDropConfig() {
     return configurationProvider.getKafka().getConsumer().getMcl().getAspectsToDrop();
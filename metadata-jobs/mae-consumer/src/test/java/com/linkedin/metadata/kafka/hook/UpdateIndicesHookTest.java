@@ -5,9 +5,12 @@ import static com.linkedin.metadata.kafka.hook.MCLProcessingTestDataGenerator.*;
 import static com.linkedin.metadata.search.utils.QueryUtils.newRelationshipFilter;
 import static io.datahubproject.test.search.SearchTestUtils.TEST_OS_SEARCH_CONFIG;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
 
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.InputField;
@@ -36,6 +39,7 @@ import com.linkedin.metadata.boot.kafka.DataHubUpgradeKafkaListener;
 import com.linkedin.metadata.config.SystemUpdateConfiguration;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
+import com.linkedin.metadata.kafka.listener.EventHookBatchException;
 import com.linkedin.metadata.key.ChartKey;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
@@ -46,6 +50,7 @@ import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.service.UpdateGraphIndicesService;
+import com.linkedin.metadata.service.UpdateIndicesBatchException;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
@@ -118,6 +123,10 @@ public class UpdateIndicesHookTest {
   public void setupTest() {
     actorUrn = UrnUtils.getUrn(TEST_ACTOR_URN);
     mockGraphService = mock(ElasticSearchGraphService.class);
+    // Bulk edge writes fall back to the single edge methods verified by the tests
+    doCallRealMethod().when(mockGraphService).addEdges(any());
+    doCallRealMethod().when(mockGraphService).upsertEdges(any());
+    doCallRealMethod().when(mockGraphService).removeEdges(any());
     mockEntitySearchService = mock(ElasticSearchService.class);
     mockTimeseriesAspectService = mock(TimeseriesAspectService.class);
     mockSystemMetadataService = mock(SystemMetadataService.class);
@@ -459,6 +468,41 @@ public class UpdateIndicesHookTest {
         mockSystemMetadataService);
   }
 
+  @Test
+  public void testInvokeBatchReportsFailedEventsByBatchPosition() throws Exception {
+    Urn upstreamUrn = UrnUtils.getUrn(TEST_SCHEMA_FIELD_HDFS_FIELD_INFO);
+    Urn downstreamUrn = UrnUtils.getUrn(TEST_SCHEMA_FIELD_HIVE_FIELD_INFO);
+    MetadataChangeLog preProcessed =
+        createUpstreamLineageMCLUIPreProcessed(
+            List.of(upstreamUrn),
+            downstreamUrn,
+            ChangeType.UPSERT,
+            List.of(TEST_DATASET_URN_2),
+            TEST_DATASET_URN);
+    MetadataChangeLog first =
+        createUpstreamLineageMCL(
+            List.of(upstreamUrn), downstreamUrn, List.of(TEST_DATASET_URN_2), TEST_DATASET_URN);
+    MetadataChangeLog second =
+        createUpstreamLineageMCL(
+            List.of(upstreamUrn), downstreamUrn, List.of(TEST_DATASET_URN_3), TEST_DATASET_URN);
+
+    UpdateIndicesService mockUpdateIndicesService = mock(UpdateIndicesService.class);
+    RuntimeException failure = new RuntimeException("search unavailable");
+    Mockito.doThrow(new UpdateIndicesBatchException(Set.of(1), failure))
+        .when(mockUpdateIndicesService)
+        .handleChangeEvents(opContext, List.of(first, second));
+    UpdateIndicesHook hook = new UpdateIndicesHook(mockUpdateIndicesService, true, false);
+    hook.init(opContext);
+
+    EventHookBatchException e =
+        expectThrows(
+            EventHookBatchException.class,
+            () -> hook.invokeBatch(List.of(preProcessed, first, second), event -> {}));
+
+    assertEquals(e.getFailedIndices(), Set.of(2));
+    assertSame(e.getCause(), failure);
+  }
+
   @Test
   public void testMCLUIPreProcessedReprocess() throws Exception {
     Urn upstreamUrn = UrnUtils.getUrn(TEST_SCHEMA_FIELD_HDFS_FIELD_INFO);
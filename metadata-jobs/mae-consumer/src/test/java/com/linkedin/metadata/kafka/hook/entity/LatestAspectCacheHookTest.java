@@ -0,0 +1,98 @@
+package com.linkedin.metadata.kafka.hook.entity;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.entity.LatestAspectCache;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.List;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class LatestAspectCacheHookTest {
+  private static final Urn DATASET_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+  private LatestAspectCache cache;
+  private LatestAspectCacheHook hook;
+
+  @BeforeMethod
+  public void setupTest() {
+    cache = Mockito.mock(LatestAspectCache.class);
+    when(cache.isEnabled()).thenReturn(true);
+    hook = new LatestAspectCacheHook(cache, true, "gms-0");
+    hook.init(TestOperationContexts.systemContextNoSearchAuthorization());
+  }
+
+  @Test
+  public void testInvalidatesChangedAspect() throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(DATASET_URN);
+    event.setAspectName(OWNERSHIP_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+
+    hook.invoke(event);
+    verify(cache).invalidate(DATASET_URN.toString(), List.of(OWNERSHIP_ASPECT_NAME));
+  }
+
+  @Test
+  public void testInvalidatesDeletedEntity() throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(DATASET_URN);
+    event.setAspectName(DATASET_KEY_ASPECT_NAME);
+    event.setChangeType(ChangeType.DELETE);
+
+    hook.invoke(event);
+    verify(cache)
+        .invalidate(
+            eq(DATASET_URN.toString()),
+            argThat(
+                aspectNames ->
+                    aspectNames.contains(DATASET_KEY_ASPECT_NAME)
+                        && aspectNames.contains(OWNERSHIP_ASPECT_NAME)));
+  }
+
+  @Test
+  public void testIgnoresEventsWithoutAspect() throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(DATASET_URN);
+    event.setChangeType(ChangeType.UPSERT);
+
+    hook.invoke(event);
+    verify(cache, never()).invalidate(any(), any());
+  }
+
+  @Test
+  public void testDisabledWithoutCache() {
+    assertTrue(hook.isEnabled());
+    assertFalse(new LatestAspectCacheHook(true, "").isEnabled());
+    assertFalse(new LatestAspectCacheHook(LatestAspectCache.DISABLED, true, "gms-0").isEnabled());
+  }
+
+  @Test
+  public void testRequiresInstanceConsumerGroup() {
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    assertThrows(
+        IllegalStateException.class,
+        () -> new LatestAspectCacheHook(cache, true, "").init(opContext));
+    // a standalone consumer without the cache needs none
+    new LatestAspectCacheHook(LatestAspectCache.DISABLED, true, "").init(opContext);
+  }
+}
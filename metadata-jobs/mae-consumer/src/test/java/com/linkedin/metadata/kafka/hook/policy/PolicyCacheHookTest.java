@@ -0,0 +1,122 @@
+package com.linkedin.metadata.kafka.hook.policy;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.datahub.authorization.AuthorizationResolutionCache;
+import com.datahub.authorization.DataHubAuthorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PolicyCacheHookTest {
+  private static final Urn POLICY_URN = UrnUtils.getUrn("urn:li:dataHubPolicy:test");
+
+  private DataHubAuthorizer authorizer;
+  private PolicyCacheHook hook;
+
+  @BeforeMethod
+  public void setupTest() {
+    authorizer = Mockito.mock(DataHubAuthorizer.class);
+    when(authorizer.getResolutionCache()).thenReturn(AuthorizationResolutionCache.DISABLED);
+    hook = new PolicyCacheHook(authorizer, true, "");
+    hook.init(TestOperationContexts.systemContextNoSearchAuthorization());
+  }
+
+  @Test
+  public void testUpsertPolicy() throws Exception {
+    final DataHubPolicyInfo info =
+        new DataHubPolicyInfo()
+            .setDisplayName("test")
+            .setType("METADATA")
+            .setState("ACTIVE")
+            .setPrivileges(new StringArray("EDIT_ENTITY"))
+            .setActors(new DataHubActorFilter().setAllUsers(true))
+            .setEditable(true);
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(POLICY_ENTITY_NAME);
+    event.setEntityUrn(POLICY_URN);
+    event.setAspectName(DATAHUB_POLICY_INFO_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setAspect(GenericRecordUtils.serializeAspect(info));
+
+    hook.invoke(event);
+    verify(authorizer).upsertPolicy(POLICY_URN, info);
+  }
+
+  @Test
+  public void testDeletePolicy() throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(POLICY_ENTITY_NAME);
+    event.setEntityUrn(POLICY_URN);
+    event.setAspectName(DATAHUB_POLICY_KEY_ASPECT_NAME);
+    event.setChangeType(ChangeType.DELETE);
+
+    hook.invoke(event);
+    verify(authorizer).removePolicy(POLICY_URN);
+  }
+
+  @Test
+  public void testIgnoresOtherEntities() throws Exception {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)"));
+    event.setAspectName(DATAHUB_POLICY_KEY_ASPECT_NAME);
+    event.setChangeType(ChangeType.DELETE);
+
+    hook.invoke(event);
+    verify(authorizer, never()).removePolicy(any());
+    verify(authorizer, never()).upsertPolicy(any(), any());
+  }
+
+  @Test
+  public void testInvalidatesResolutionOnOwnershipChange() throws Exception {
+    final Urn datasetUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(datasetUrn);
+    event.setAspectName(OWNERSHIP_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+
+    hook.invoke(event);
+    verify(authorizer, never()).invalidateResolution(any());
+
+    when(authorizer.getResolutionCache())
+        .thenReturn(new AuthorizationResolutionCache(10, 100, null));
+    hook.invoke(event);
+    verify(authorizer).invalidateResolution(datasetUrn);
+  }
+
+  @Test
+  public void testResolutionCacheRequiresInstanceConsumerGroup() {
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    when(authorizer.getResolutionCache())
+        .thenReturn(new AuthorizationResolutionCache(10, 100, null));
+    assertThrows(
+        IllegalStateException.class,
+        () -> new PolicyCacheHook(authorizer, true, "").init(opContext));
+    new PolicyCacheHook(authorizer, true, "gms-0").init(opContext);
+  }
+
+  @Test
+  public void testDisabledWithoutAuthorizer() {
+    assertTrue(hook.isEnabled());
+    assertFalse(new PolicyCacheHook(true, "").isEnabled());
+  }
+}
@@ -0,0 +1,78 @@
+package com.linkedin.metadata.kafka.hook.search;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.search.cache.FacetSnapshotCache;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class FacetSnapshotCacheHookTest {
+  private static final Urn DATASET_URN =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+  private FacetSnapshotCache cache;
+  private FacetSnapshotCacheHook hook;
+
+  @BeforeMethod
+  public void setupTest() {
+    cache = Mockito.mock(FacetSnapshotCache.class);
+    when(cache.isEnabled()).thenReturn(true);
+    hook = new FacetSnapshotCacheHook(cache, true, "gms-0");
+    hook.init(TestOperationContexts.systemContextNoSearchAuthorization());
+  }
+
+  @Test
+  public void testCountsChangedAspect() throws Exception {
+    hook.invoke(event(new Status().setRemoved(false), new Status().setRemoved(true)));
+    verify(cache).recordChanges(1);
+  }
+
+  @Test
+  public void testIgnoresUnchangedAspect() throws Exception {
+    hook.invoke(event(new Status().setRemoved(false), new Status().setRemoved(false)));
+    verify(cache, never()).recordChanges(anyLong());
+  }
+
+  @Test
+  public void testDisabledWithoutCache() {
+    assertTrue(hook.isEnabled());
+    assertFalse(new FacetSnapshotCacheHook(true, "").isEnabled());
+    assertFalse(new FacetSnapshotCacheHook(FacetSnapshotCache.DISABLED, true, "gms-0").isEnabled());
+  }
+
+  @Test
+  public void testRequiresInstanceConsumerGroup() {
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    assertThrows(
+        IllegalStateException.class,
+        () -> new FacetSnapshotCacheHook(cache, true, "").init(opContext));
+    new FacetSnapshotCacheHook(FacetSnapshotCache.DISABLED, true, "").init(opContext);
+  }
+
+  private static MetadataChangeLog event(Status previous, Status current) {
+    MetadataChangeLog event = new MetadataChangeLog();
+    event.setEntityType(DATASET_ENTITY_NAME);
+    event.setEntityUrn(DATASET_URN);
+    event.setAspectName(STATUS_ASPECT_NAME);
+    event.setChangeType(ChangeType.UPSERT);
+    event.setPreviousAspectValue(GenericRecordUtils.serializeAspect(previous));
+    event.setAspect(GenericRecordUtils.serializeAspect(current));
+    return event;
+  }
+}
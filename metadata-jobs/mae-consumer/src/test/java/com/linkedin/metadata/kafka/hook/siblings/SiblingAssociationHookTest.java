@@ -24,6 +24,7 @@ import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.SystemEntityClient;
 import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.graph.SiblingGraphService;
 import com.linkedin.metadata.key.DatasetKey;
 import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -37,6 +38,7 @@ import com.linkedin.mxe.MetadataChangeProposal;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.net.URISyntaxException;
+import java.util.Set;
 import org.mockito.Mockito;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -437,6 +439,30 @@ public class SiblingAssociationHookTest {
         .ingestProposal(any(OperationContext.class), Mockito.any(), eq(true));
   }
 
+  @Test
+  public void testInvalidatesCachedSiblingGroups() throws Exception {
+    SiblingGraphService siblingGraphService = Mockito.mock(SiblingGraphService.class);
+    _siblingAssociationHook.setSiblingGraphService(siblingGraphService);
+    Urn datasetUrn =
+        Urn.createFromString(
+            "urn:li:dataset:(urn:li:dataPlatform:bigquery,my-proj.jaffle_shop.customers,PROD)");
+
+    MetadataChangeLog event =
+        createEvent(DATASET_ENTITY_NAME, SIBLINGS_ASPECT_NAME, ChangeType.UPSERT);
+    event.setEntityUrn(datasetUrn);
+    _siblingAssociationHook.invoke(event);
+
+    Mockito.verify(siblingGraphService).invalidateSiblingGroups(Set.of(datasetUrn));
+    Mockito.verify(_mockEntityClient, Mockito.times(0))
+        .ingestProposal(any(OperationContext.class), Mockito.any(), eq(true));
+
+    event = createEvent(DATASET_ENTITY_NAME, UPSTREAM_LINEAGE_ASPECT_NAME, ChangeType.DELETE);
+    event.setEntityUrn(datasetUrn);
+    _siblingAssociationHook.invoke(event);
+
+    Mockito.verifyNoMoreInteractions(siblingGraphService);
+  }
+
   private MetadataChangeLog createEvent(
       String entityType, String aspectName, ChangeType changeType) {
     MetadataChangeLog event = new MetadataChangeLog();
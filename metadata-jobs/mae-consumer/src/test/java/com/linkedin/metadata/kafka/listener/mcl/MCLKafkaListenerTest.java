@@ -24,13 +24,17 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.slf4j.MDC;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -545,6 +549,217 @@ public class MCLKafkaListenerTest {
     }
   }
 
+  @Test
+  public void testConsumeBatch() throws Exception {
+    // Given - two events for the same urn and one dropped aspect
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+    MetadataChangeLog second = createTestMCL(ChangeType.DELETE);
+    MetadataChangeLog dropped = createTestMCL(ChangeType.UPSERT);
+    dropped.setAspectName("status");
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils
+          .when(() -> EventUtils.avroToPegasusMCL(any()))
+          .thenReturn(first, dropped, second);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord, mockConsumerRecord, mockConsumerRecord));
+
+      // Then - each hook receives the filtered batch in consumption order
+      verify(mockHook1).invokeBatch(eq(List.of(first, second)), any());
+      verify(mockHook2).invokeBatch(eq(List.of(first, second)), any());
+      InOrder inOrder = inOrder(mockHook1);
+      inOrder.verify(mockHook1).invoke(first);
+      inOrder.verify(mockHook1).invoke(second);
+      verify(mockHook1, never()).invoke(dropped);
+
+      verify(metricUtils, times(3))
+          .increment(
+              eq(MCLKafkaListener.class),
+              eq(TEST_CONSUMER_GROUP + "_received_event_count"),
+              eq(1d));
+      verify(metricUtils)
+          .increment(
+              eq(MCLKafkaListener.class),
+              eq(TEST_CONSUMER_GROUP + "_consumed_event_count"),
+              eq(2d));
+      verify(metricUtils)
+          .histogram(eq(MCLKafkaListener.class), eq(TEST_CONSUMER_GROUP + "_batch_size"), eq(2L));
+    }
+  }
+
+  @Test
+  public void testConsumeBatchHookFailure() throws Exception {
+    // Given
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+    MetadataChangeLog second = createTestMCL(ChangeType.DELETE);
+    doThrow(new RuntimeException("Hook failed")).when(mockHook1).invoke(first);
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils.when(() -> EventUtils.avroToPegasusMCL(any())).thenReturn(first, second);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord, mockConsumerRecord));
+
+      // Then - the failing event does not prevent the rest of the batch or other hooks
+      verify(mockHook1).invoke(second);
+      verify(mockHook2).invoke(first);
+      verify(mockHook2).invoke(second);
+      verify(metricUtils).increment(eq(MCLKafkaListener.class), eq("TestHook1_failure"), eq(1d));
+      verify(metricUtils, never())
+          .increment(eq(MCLKafkaListener.class), eq("TestHook2_failure"), anyDouble());
+    }
+  }
+
+  @Test
+  public void testConsumeBatchRunsHooksInExecutionOrder() throws Exception {
+    // Given
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+    List<String> threads = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread().getName());
+              return invocation.callRealMethod();
+            })
+        .when(mockHook1)
+        .invokeBatch(any(), any());
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils.when(() -> EventUtils.avroToPegasusMCL(any())).thenReturn(first);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord));
+
+      // Then - hooks which did not opt in run one after the other on the consumer thread
+      InOrder inOrder = inOrder(mockHook1, mockHook2);
+      inOrder.verify(mockHook1).invokeBatch(eq(List.of(first)), any());
+      inOrder.verify(mockHook2).invokeBatch(eq(List.of(first)), any());
+      assertEquals(threads, List.of(Thread.currentThread().getName()));
+    }
+  }
+
+  @Test
+  public void testConsumeBatchRunsOptedInHooksConcurrently() throws Exception {
+    // Given
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+    doReturn(true).when(mockHook1).isConcurrentInBatch();
+    doReturn(true).when(mockHook2).isConcurrentInBatch();
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    doAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread().getName());
+              return null;
+            })
+        .when(mockHook1)
+        .invoke(any());
+    doAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread().getName());
+              return null;
+            })
+        .when(mockHook2)
+        .invoke(any());
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils.when(() -> EventUtils.avroToPegasusMCL(any())).thenReturn(first);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord));
+      listener.close();
+
+      // Then
+      assertFalse(threads.isEmpty());
+      threads.forEach(
+          thread -> assertTrue(thread.startsWith(TEST_CONSUMER_GROUP + "-batch-hook-"), thread));
+    }
+  }
+
+  @Test
+  public void testConsumeBatchOverlapsOptedInHooksOfTheSameExecutionOrder() throws Exception {
+    // Given - two opted in hooks with a hook which did not opt in between them
+    MetadataChangeLogHook concurrentHook = spy(new TestHook2());
+    doReturn(true).when(mockHook1).isConcurrentInBatch();
+    doReturn(true).when(concurrentHook).isConcurrentInBatch();
+    listener.init(
+        systemOperationContext,
+        TEST_CONSUMER_GROUP,
+        Arrays.asList(mockHook1, mockHook2, concurrentHook),
+        true,
+        new HashMap<>());
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+
+    // Each opted in hook waits until the other one started
+    CountDownLatch started = new CountDownLatch(2);
+    Set<Boolean> overlapped = ConcurrentHashMap.newKeySet();
+    Answer<Void> awaitOther =
+        invocation -> {
+          started.countDown();
+          overlapped.add(started.await(10, TimeUnit.SECONDS));
+          return null;
+        };
+    doAnswer(awaitOther).when(mockHook1).invoke(any());
+    doAnswer(awaitOther).when(concurrentHook).invoke(any());
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils.when(() -> EventUtils.avroToPegasusMCL(any())).thenReturn(first);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord));
+      listener.close();
+
+      // Then
+      assertEquals(overlapped, Set.of(true));
+      verify(mockHook2).invoke(first);
+    }
+  }
+
+  @Test
+  public void testConsumeBatchSetsMDCContextPerEvent() throws Exception {
+    // Given
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+    MetadataChangeLog second = createTestMCL(ChangeType.DELETE);
+    List<String> changeTypes = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              changeTypes.add(MDC.get(Constants.MDC_CHANGE_TYPE));
+              return null;
+            })
+        .when(mockHook1)
+        .invoke(any());
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils.when(() -> EventUtils.avroToPegasusMCL(any())).thenReturn(first, second);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord, mockConsumerRecord));
+
+      // Then - each event is processed with its own context, cleared afterwards
+      assertEquals(changeTypes, List.of("UPSERT", "DELETE"));
+      assertNull(MDC.get(Constants.MDC_CHANGE_TYPE));
+    }
+  }
+
+  @Test
+  public void testConsumeBatchCountsFailuresPerEvent() throws Exception {
+    // Given
+    MetadataChangeLog first = createTestMCL(ChangeType.UPSERT);
+    MetadataChangeLog second = createTestMCL(ChangeType.DELETE);
+    MetadataChangeLog third = createTestMCL(ChangeType.CREATE);
+    doThrow(new RuntimeException("Hook failed")).when(mockHook1).invoke(first);
+    doThrow(new RuntimeException("Hook failed")).when(mockHook1).invoke(second);
+
+    try (MockedStatic<EventUtils> eventUtils = mockStatic(EventUtils.class)) {
+      eventUtils.when(() -> EventUtils.avroToPegasusMCL(any())).thenReturn(first, second, third);
+
+      // When
+      listener.consumeBatch(List.of(mockConsumerRecord, mockConsumerRecord, mockConsumerRecord));
+
+      // Then - one failure per failed event
+      verify(mockHook1).invoke(third);
+      verify(metricUtils).increment(eq(MCLKafkaListener.class), eq("TestHook1_failure"), eq(2d));
+    }
+  }
+
   // Helper method to create test MCL
   private MetadataChangeLog createTestMCL(ChangeType changeType) throws URISyntaxException {
     MetadataChangeLog mcl = new MetadataChangeLog();
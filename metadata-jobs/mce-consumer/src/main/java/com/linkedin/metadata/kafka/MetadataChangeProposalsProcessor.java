@@ -25,6 +25,7 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.PostConstruct;
@@ -33,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Conditional;
@@ -59,6 +61,11 @@ public class MetadataChangeProposalsProcessor {
   private final KafkaListenerEndpointRegistry registry;
   private final ConfigurationProvider provider;
 
+  // only present when the search components are loaded, i.e. embedded in GMS
+  @Autowired(required = false)
+  @Qualifier("bulkProcessorThrottle")
+  private ThrottleSensor bulkProcessorThrottle;
+
   @Value(
       "${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:"
           + Topics.FAILED_METADATA_CHANGE_PROPOSAL
@@ -70,7 +77,12 @@ public class MetadataChangeProposalsProcessor {
 
   @PostConstruct
   public void registerConsumerThrottle() {
-    KafkaListenerUtil.registerThrottle(kafkaThrottle, provider, registry, mceConsumerGroupId);
+    // a single pause decision, the consumer stays paused while either sensor throttles
+    KafkaListenerUtil.registerThrottles(
+        Arrays.asList(kafkaThrottle, bulkProcessorThrottle),
+        provider,
+        registry,
+        mceConsumerGroupId);
   }
 
   @KafkaListener(
@@ -3,7 +3,11 @@ package com.linkedin.metadata.kafka.util;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.metadata.dao.throttle.ThrottleControl;
 import com.linkedin.metadata.dao.throttle.ThrottleSensor;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.listener.MessageListenerContainer;
@@ -18,7 +22,26 @@ public class KafkaListenerUtil {
       ConfigurationProvider provider,
       KafkaListenerEndpointRegistry registry,
       String mceConsumerGroupId) {
-    if (kafkaThrottle != null
+    registerThrottles(
+        kafkaThrottle == null ? List.of() : List.of(kafkaThrottle),
+        provider,
+        registry,
+        mceConsumerGroupId);
+  }
+
+  /**
+   * Registers the consumer against several throttle sensors. The consumer is paused while any of
+   * the sensors throttles and resumed only once all of them cleared, so that one sensor clearing
+   * does not resume the consumer another sensor still holds.
+   */
+  public static void registerThrottles(
+      List<ThrottleSensor> throttles,
+      ConfigurationProvider provider,
+      KafkaListenerEndpointRegistry registry,
+      String mceConsumerGroupId) {
+    final List<ThrottleSensor> sensors =
+        throttles.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    if (!sensors.isEmpty()
         && provider
             .getMetadataChangeProposal()
             .getThrottle()
@@ -26,29 +49,66 @@ public class KafkaListenerUtil {
             .getMceConsumer()
             .isEnabled()) {
       log.info("MCE Consumer Throttle Enabled");
-      kafkaThrottle.addCallback(
-          (throttleEvent) -> {
-            Optional<MessageListenerContainer> container =
-                Optional.ofNullable(registry.getListenerContainer(mceConsumerGroupId));
-            if (container.isEmpty()) {
-              log.warn(
-                  "Expected container was missing: {} throttle is not possible.",
-                  mceConsumerGroupId);
-            } else {
-              if (throttleEvent.isThrottled()) {
-                container.ifPresent(MessageListenerContainer::pause);
-                return ThrottleControl.builder()
-                    // resume consumer after sleep
-                    .callback(
-                        (resumeEvent) -> container.ifPresent(MessageListenerContainer::resume))
-                    .build();
-              }
-            }
-
-            return ThrottleControl.NONE;
-          });
+      final ContainerPause pause = new ContainerPause(registry, mceConsumerGroupId);
+      sensors.forEach(
+          sensor ->
+              sensor.addCallback(
+                  (throttleEvent) -> {
+                    if (throttleEvent.isThrottled() && pause.acquire()) {
+                      final AtomicBoolean released = new AtomicBoolean();
+                      return ThrottleControl.builder()
+                          // resume consumer after sleep, unless another sensor still throttles
+                          .callback(
+                              (resumeEvent) -> {
+                                if (released.compareAndSet(false, true)) {
+                                  pause.release();
+                                }
+                              })
+                          .build();
+                    }
+
+                    return ThrottleControl.NONE;
+                  }));
     } else {
       log.info("MCE Consumer Throttle Disabled");
     }
   }
+
+  /** Pauses a listener container while at least one throttle is outstanding. */
+  private static class ContainerPause {
+    private final KafkaListenerEndpointRegistry registry;
+    private final String mceConsumerGroupId;
+    private int outstanding;
+
+    private ContainerPause(KafkaListenerEndpointRegistry registry, String mceConsumerGroupId) {
+      this.registry = registry;
+      this.mceConsumerGroupId = mceConsumerGroupId;
+    }
+
+    /**
+     * @return false if the container is missing and cannot be paused
+     */
+    private synchronized boolean acquire() {
+      Optional<MessageListenerContainer> container = getContainer();
+      if (container.isEmpty()) {
+        log.warn(
+            "Expected container was missing: {} throttle is not possible.", mceConsumerGroupId);
+        return false;
+      }
+      if (outstanding++ == 0) {
+        container.get().pause();
+      }
+      return true;
+    }
+
+    private synchronized void release() {
+      if (outstanding > 0 && --outstanding == 0) {
+        getContainer().ifPresent(MessageListenerContainer::resume);
+      }
+    }
+
+    private Optional<MessageListenerContainer> getContainer() {
+      return Optional.ofNullable(registry.getListenerContainer(mceConsumerGroupId));
+    }
+  }
 }
@@ -0,0 +1,95 @@
+package com.linkedin.metadata.kafka.util;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.dao.throttle.ThrottleControl;
+import com.linkedin.metadata.dao.throttle.ThrottleEvent;
+import com.linkedin.metadata.dao.throttle.ThrottleSensor;
+import com.linkedin.metadata.dao.throttle.ThrottleType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class KafkaListenerUtilTest {
+  private static final String CONSUMER_GROUP = "test-consumer-group";
+
+  private ConfigurationProvider provider;
+  private KafkaListenerEndpointRegistry registry;
+  private MessageListenerContainer container;
+
+  @BeforeMethod
+  public void setup() {
+    provider = mock(ConfigurationProvider.class, RETURNS_DEEP_STUBS);
+    when(provider
+            .getMetadataChangeProposal()
+            .getThrottle()
+            .getComponents()
+            .getMceConsumer()
+            .isEnabled())
+        .thenReturn(true);
+    container = mock(MessageListenerContainer.class);
+    registry = mock(KafkaListenerEndpointRegistry.class);
+    when(registry.getListenerContainer(CONSUMER_GROUP)).thenReturn(container);
+  }
+
+  @Test
+  public void testPausedWhileAnySensorThrottles() {
+    TestSensor lagSensor = new TestSensor();
+    TestSensor bulkSensor = new TestSensor();
+    KafkaListenerUtil.registerThrottles(
+        Arrays.asList(lagSensor, null, bulkSensor), provider, registry, CONSUMER_GROUP);
+
+    ThrottleControl lagControl = lagSensor.throttle(ThrottleType.MCL_VERSIONED_LAG);
+    ThrottleControl bulkControl = bulkSensor.throttle(ThrottleType.ES_BULK_BACKPRESSURE);
+    verify(container, times(1)).pause();
+
+    // the lag cleared but the bulk processor is still overloaded
+    lagControl.execute(ThrottleEvent.clearThrottle(Set.of(ThrottleType.MCL_VERSIONED_LAG)));
+    lagControl.execute(ThrottleEvent.clearThrottle(Set.of(ThrottleType.MCL_VERSIONED_LAG)));
+    verify(container, never()).resume();
+
+    bulkControl.execute(ThrottleEvent.clearThrottle(Set.of(ThrottleType.ES_BULK_BACKPRESSURE)));
+    verify(container, times(1)).resume();
+  }
+
+  @Test
+  public void testDisabled() {
+    when(provider
+            .getMetadataChangeProposal()
+            .getThrottle()
+            .getComponents()
+            .getMceConsumer()
+            .isEnabled())
+        .thenReturn(false);
+    TestSensor sensor = new TestSensor();
+    KafkaListenerUtil.registerThrottle(sensor, provider, registry, CONSUMER_GROUP);
+
+    assertNull(sensor.callback);
+  }
+
+  private static class TestSensor implements ThrottleSensor {
+    private Function<ThrottleEvent, ThrottleControl> callback;
+
+    @Override
+    public ThrottleSensor addCallback(Function<ThrottleEvent, ThrottleControl> callback) {
+      this.callback = callback;
+      return this;
+    }
+
+    private ThrottleControl throttle(ThrottleType type) {
+      return callback.apply(ThrottleEvent.throttle(Map.of(type, 1000L)));
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package com.datahub.authorization;
+
+import static com.linkedin.metadata.Constants.*;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.common.Ownership;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short lived, process wide memoization of the entity lookups done while evaluating policies: the
+ * roles of an actor, the ownership of a resource and the {@link FieldResolver} values of both.
+ *
+ * <p>Entries expire after a few seconds and are invalidated by urn when one of the {@link
+ * #INVALIDATING_ASPECTS} changes. A lookup which started before an invalidation of its entity
+ * never populates the cache, so a slow load cannot reinstate a stale value, while the lookups of
+ * other entities are still stored.
+ */
+@Slf4j
+public class AuthorizationResolutionCache {
+
+  /** A cache which never stores anything, every lookup goes to the backend. */
+  public static final AuthorizationResolutionCache DISABLED =
+      new AuthorizationResolutionCache(0, 0, null);
+
+  /** Aspects which feed the cached values, a change to one of them invalidates its entity. */
+  public static final Set<String> INVALIDATING_ASPECTS =
+      Set.of(
+          OWNERSHIP_ASPECT_NAME,
+          GROUP_MEMBERSHIP_ASPECT_NAME,
+          NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME,
+          ROLE_MEMBERSHIP_ASPECT_NAME,
+          DOMAINS_ASPECT_NAME,
+          GLOBAL_TAGS_ASPECT_NAME,
+          CONTAINER_ASPECT_NAME,
+          DATA_PLATFORM_INSTANCE_ASPECT_NAME);
+
+  // Derived from the spec itself, nothing to save
+  private static final Set<EntityFieldType> PRECOMPUTED_FIELDS =
+      Set.of(
+          EntityFieldType.TYPE,
+          EntityFieldType.RESOURCE_TYPE,
+          EntityFieldType.URN,
+          EntityFieldType.RESOURCE_URN);
+
+  private static final int GENERATION_STRIPES = 1024;
+
+  public static final String ROLES = "roles";
+  public static final String OWNERSHIP = "ownership";
+  public static final String FIELDS = "fields";
+
+  private final boolean enabled;
+  private final Cache<String, Set<Urn>> roles;
+  private final Cache<String, Ownership> ownerships;
+  private final Cache<String, Map<EntityFieldType, FieldResolver.FieldValue>> fieldValues;
+  @Nullable private final MetricUtils metricUtils;
+
+  // Bumped by the invalidations of the urns of a stripe, loads started under an older generation
+  // are not stored
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  // Bumped when a group changes, the roles of any member may derive from it
+  private final AtomicLong rolesGeneration = new AtomicLong();
+
+  private final Map<String, AtomicLong> hits = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> misses = new ConcurrentHashMap<>();
+
+  /**
+   * @param ttlSeconds time an entry stays valid, 0 disables the cache
+   * @param maxSize maximum number of entities kept per cached kind
+   */
+  public AuthorizationResolutionCache(
+      int ttlSeconds, long maxSize, @Nullable MetricUtils metricUtils) {
+    this.enabled = ttlSeconds > 0 && maxSize > 0;
+    this.roles = newCache(ttlSeconds, maxSize);
+    this.ownerships = newCache(ttlSeconds, maxSize);
+    this.fieldValues = newCache(ttlSeconds, maxSize);
+    this.metricUtils = metricUtils;
+  }
+
+  private static <V> Cache<String, V> newCache(int ttlSeconds, long maxSize) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+        .maximumSize(Math.max(maxSize, 0))
+        .build();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Roles of the actor, directly or through its groups. */
+  public Set<Urn> getRoles(@Nonnull String actorUrn, @Nonnull Callable<Set<Urn>> loader)
+      throws Exception {
+    return get(ROLES, roles, actorUrn, loader);
+  }
+
+  /** Ownership aspect of the resource, empty if it has none. */
+  public Ownership getOwnership(@Nonnull String resourceUrn, @Nonnull Callable<Ownership> loader)
+      throws Exception {
+    return get(OWNERSHIP, ownerships, resourceUrn, loader);
+  }
+
+  /**
+   * Wraps the resolver of a field of an entity so that its value is served from the cache. Empty
+   * values are not stored: the field resolver providers report failures as the shared empty value.
+   */
+  public FieldResolver getFieldResolver(
+      @Nonnull EntitySpec entitySpec,
+      @Nonnull EntityFieldType fieldType,
+      @Nonnull FieldResolver resolver) {
+    if (!enabled || entitySpec.getEntity().isEmpty() || PRECOMPUTED_FIELDS.contains(fieldType)) {
+      return resolver;
+    }
+    final String urn = entitySpec.getEntity();
+    return new FieldResolver(
+        () -> {
+          Map<EntityFieldType, FieldResolver.FieldValue> values = fieldValues.getIfPresent(urn);
+          FieldResolver.FieldValue cached = values == null ? null : values.get(fieldType);
+          if (cached != null) {
+            record(hits, FIELDS);
+            return CompletableFuture.completedFuture(cached);
+          }
+          record(misses, FIELDS);
+          final long loadGeneration = generation(FIELDS, urn);
+          return resolver
+              .getFieldValuesFuture()
+              .thenApply(
+                  value -> {
+                    if (value != FieldResolver.emptyFieldValue()
+                        && generation(FIELDS, urn) == loadGeneration) {
+                      try {
+                        fieldValues.get(urn, ConcurrentHashMap::new).put(fieldType, value);
+                      } catch (Exception e) {
+                        log.warn("Failed to cache field {} of {}", fieldType, urn, e);
+                      }
+                    }
+                    return value;
+                  });
+        });
+  }
+
+  /** Drops everything cached for the entity. */
+  public void invalidate(@Nonnull Urn urn) {
+    if (!enabled) {
+      return;
+    }
+    final String key = urn.toString();
+    generations.incrementAndGet(stripe(key));
+    roles.invalidate(key);
+    ownerships.invalidate(key);
+    fieldValues.invalidate(key);
+    if (CORP_GROUP_ENTITY_NAME.equals(urn.getEntityType())) {
+      // Roles of every member may derive from the group, they are not tracked per group.
+      rolesGeneration.incrementAndGet();
+      roles.invalidateAll();
+    }
+  }
+
+  public void invalidateAll() {
+    for (int i = 0; i < GENERATION_STRIPES; i++) {
+      generations.incrementAndGet(i);
+    }
+    rolesGeneration.incrementAndGet();
+    roles.invalidateAll();
+    ownerships.invalidateAll();
+    fieldValues.invalidateAll();
+  }
+
+  /** Share of the lookups of the given kind (roles, ownership, fields) served from the cache. */
+  public double getHitRate(@Nonnull String kind) {
+    long hitCount = hits.getOrDefault(kind, new AtomicLong()).get();
+    long total = hitCount + misses.getOrDefault(kind, new AtomicLong()).get();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  @VisibleForTesting
+  long getHitCount(@Nonnull String kind) {
+    return hits.getOrDefault(kind, new AtomicLong()).get();
+  }
+
+  @VisibleForTesting
+  long getMissCount(@Nonnull String kind) {
+    return misses.getOrDefault(kind, new AtomicLong()).get();
+  }
+
+  private <V> V get(String kind, Cache<String, V> cache, String key, Callable<V> loader)
+      throws Exception {
+    if (!enabled) {
+      return loader.call();
+    }
+    V cached = cache.getIfPresent(key);
+    if (cached != null) {
+      record(hits, kind);
+      return cached;
+    }
+    record(misses, kind);
+    final long loadGeneration = generation(kind, key);
+    V value = loader.call();
+    if (value != null && generation(kind, key) == loadGeneration) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  /** Only ever grows while invalidations affecting the key happen. */
+  private long generation(String kind, String key) {
+    long keyGeneration = generations.get(stripe(key));
+    return ROLES.equals(kind) ? keyGeneration + rolesGeneration.get() : keyGeneration;
+  }
+
+  private static int stripe(String key) {
+    return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+  }
+
+  private void record(Map<String, AtomicLong> counters, String kind) {
+    counters.computeIfAbsent(kind, k -> new AtomicLong()).incrementAndGet();
+    if (metricUtils != null) {
+      metricUtils.increment(
+          this.getClass(), kind + (counters == hits ? "_cacheHit" : "_cacheMiss"), 1);
+      metricUtils.setGaugeValue(this.getClass(), kind + "_cacheHitRate", getHitRate(kind));
+    }
+  }
+}
@@ -13,8 +13,6 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,9 +21,7 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.Getter;
@@ -53,17 +49,15 @@ public class DataHubAuthorizer implements Authorizer {
     ALLOW_ALL
   }
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  protected final Map<String, List<DataHubPolicyInfo>> policyCache =
-      new HashMap<>(); // Shared Policy Cache.
-  protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-  protected final Lock readLock = readWriteLock.readLock();
+  // Shared Policy Cache. Immutable, refreshes and policy updates swap in a new index.
+  protected final AtomicReference<PolicyIndex> policyIndex =
+      new AtomicReference<>(PolicyIndex.EMPTY);
 
   private final ScheduledExecutorService refreshExecutorService =
       Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable policyRefreshRunnable;
   private final PolicyEngine policyEngine;
+  @Getter private final AuthorizationResolutionCache resolutionCache;
   private EntitySpecResolver entitySpecResolver;
   private AuthorizationMode mode;
   @Getter private final OperationContext systemOpContext;
@@ -77,16 +71,34 @@ public class DataHubAuthorizer implements Authorizer {
       final int refreshIntervalSeconds,
       final AuthorizationMode mode,
       final int policyFetchSize) {
+    this(
+        systemOpContext,
+        entityClient,
+        delayIntervalSeconds,
+        refreshIntervalSeconds,
+        mode,
+        policyFetchSize,
+        AuthorizationResolutionCache.DISABLED);
+  }
+
+  public DataHubAuthorizer(
+      @Nonnull final OperationContext systemOpContext,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final int policyFetchSize,
+      @Nonnull final AuthorizationResolutionCache resolutionCache) {
     this.systemOpContext = systemOpContext;
     this.mode = Objects.requireNonNull(mode);
-    policyEngine = new PolicyEngine(Objects.requireNonNull(entityClient));
+    this.resolutionCache = Objects.requireNonNull(resolutionCache);
+    policyEngine = new PolicyEngine(Objects.requireNonNull(entityClient), resolutionCache);
     if (refreshIntervalSeconds > 0) {
       policyRefreshRunnable =
           new PolicyRefreshRunnable(
               systemOpContext,
               new PolicyFetcher(entityClient),
-              policyCache,
-              readWriteLock.writeLock(),
+              policyIndex,
               policyFetchSize);
       refreshExecutorService.scheduleAtFixedRate(
           policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
@@ -116,15 +128,27 @@ public class DataHubAuthorizer implements Authorizer {
             .map(entitySpecResolver::resolve)
             .collect(Collectors.toList());
 
-    // 1. Fetch the policies relevant to the requested privilege.
+    // 1. Fetch the policies which may grant the requested privilege on the resource type.
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(request.getPrivilege(), new ArrayList<>()));
+        policyIndex
+            .get()
+            .getCandidatePolicies(
+                request.getPrivilege(),
+                request.getResourceSpec().map(EntitySpec::getType).orElse(null));
     policiesToEvaluate.addAll(
         PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn())));
 
-    // 2. Evaluate each policy.
+    // 2. Evaluate each policy, resolving the actor and its groups and roles at most once.
+    final Optional<ResolvedEntitySpec> resolvedActorSpec = resolveActor(request);
+    final PolicyEngine.PolicyEvaluationContext context = new PolicyEngine.PolicyEvaluationContext();
     for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec, resolvedSubResources)) {
+      if (isRequestGranted(
+          policy,
+          request,
+          resolvedActorSpec,
+          resolvedResourceSpec,
+          resolvedSubResources,
+          context)) {
         // Short circuit if policy has granted privileges to this actor.
         return new AuthorizationResult(
             request,
@@ -142,7 +166,7 @@ public class DataHubAuthorizer implements Authorizer {
 
     // 1. Fetch all policies
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+        new ArrayList<>(policyIndex.get().getPolicies(ALL));
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     final ResolvedEntitySpec resolvedActorSpec =
@@ -163,12 +187,13 @@ public class DataHubAuthorizer implements Authorizer {
   public Set<DataHubPolicyInfo> getActorPolicies(@Nonnull Urn actorUrn) {
     // 1. Fetch all policies
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+        new ArrayList<>(policyIndex.get().getPolicies(ALL));
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     // 2. Actor identity
     final ResolvedEntitySpec resolvedActorSpec =
         entitySpecResolver.resolve(new EntitySpec(actorUrn.getEntityType(), actorUrn.toString()));
+    final PolicyEngine.PolicyEvaluationContext context = new PolicyEngine.PolicyEvaluationContext();
 
     return policiesToEvaluate.stream()
         .filter(policy -> PoliciesConfig.ACTIVE_POLICY_STATE.equals(policy.getState()))
@@ -180,7 +205,7 @@ public class DataHubAuthorizer implements Authorizer {
                         resolvedActorSpec,
                         policy.getActors(),
                         Optional.empty(),
-                        new PolicyEngine.PolicyEvaluationContext()))
+                        context))
         .collect(Collectors.toSet());
   }
 
@@ -215,7 +240,7 @@ public class DataHubAuthorizer implements Authorizer {
     boolean allGroups = false;
 
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = policyIndex.get().getPolicies(privilege);
 
     Optional<ResolvedEntitySpec> resolvedResourceSpec =
         resourceSpec.map(entitySpecResolver::resolve);
@@ -257,6 +282,27 @@ public class DataHubAuthorizer implements Authorizer {
     }
   }
 
+  /**
+   * Adds or replaces a single policy in the cache without re-fetching the others. Should be invoked
+   * when a policy is created or modified.
+   */
+  public void upsertPolicy(@Nonnull final Urn policyUrn, @Nonnull final DataHubPolicyInfo policy) {
+    policyIndex.updateAndGet(index -> index.withPolicy(policyUrn, policy));
+  }
+
+  /** Removes a single policy from the cache. Should be invoked when a policy is deleted. */
+  public void removePolicy(@Nonnull final Urn policyUrn) {
+    policyIndex.updateAndGet(index -> index.withoutPolicy(policyUrn));
+  }
+
+  /**
+   * Drops the cached actor and resource resolutions of an entity. Should be invoked when one of the
+   * {@link AuthorizationResolutionCache#INVALIDATING_ASPECTS} of the entity changes.
+   */
+  public void invalidateResolution(@Nonnull final Urn urn) {
+    resolutionCache.invalidate(urn);
+  }
+
   public AuthorizationMode mode() {
     return mode;
   }
@@ -274,34 +320,44 @@ public class DataHubAuthorizer implements Authorizer {
     return systemAuthentication.getActor().toUrnStr().equals(request.getActorUrn());
   }
 
+  /** Resolves the actor of the request, empty if the actor is not a valid urn. */
+  private Optional<ResolvedEntitySpec> resolveActor(final AuthorizationRequest request) {
+    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
+      return Optional.empty();
+    }
+    return getUrnFromRequestActor(request.getActorUrn())
+        .map(
+            actorUrn ->
+                entitySpecResolver.resolve(
+                    new EntitySpec(actorUrn.getEntityType(), request.getActorUrn())));
+  }
+
   /** Returns true if a policy grants the requested privilege for a given actor and resource. */
   private boolean isRequestGranted(
       final DataHubPolicyInfo policy,
       final AuthorizationRequest request,
+      final Optional<ResolvedEntitySpec> resolvedActorSpec,
       final Optional<ResolvedEntitySpec> resourceSpec,
-      final List<ResolvedEntitySpec> subResources) {
+      final List<ResolvedEntitySpec> subResources,
+      final PolicyEngine.PolicyEvaluationContext context) {
     if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
       return true;
     }
 
-    Optional<Urn> actorUrn = getUrnFromRequestActor(request.getActorUrn());
-    if (actorUrn.isEmpty()) {
+    if (resolvedActorSpec.isEmpty()) {
       return false;
     }
 
     try {
-      final ResolvedEntitySpec resolvedActorSpec =
-          entitySpecResolver.resolve(
-              new EntitySpec(actorUrn.get().getEntityType(), request.getActorUrn()));
-
       final PolicyEngine.PolicyEvaluationResult result =
           policyEngine.evaluatePolicy(
               systemOpContext,
               policy,
-              resolvedActorSpec,
+              resolvedActorSpec.get(),
               request.getPrivilege(),
               resourceSpec,
-              subResources);
+              subResources,
+              context);
       return result.isGranted();
     } catch (RuntimeException e) {
       log.error("Error evaluating policy {} for request {}", policy.getDisplayName(), request);
@@ -321,21 +377,12 @@ public class DataHubAuthorizer implements Authorizer {
     }
   }
 
-  private List<DataHubPolicyInfo> getOrDefault(String key, List<DataHubPolicyInfo> defaultValue) {
-    readLock.lock();
-    try {
-      return policyCache.getOrDefault(key, defaultValue);
-    } finally {
-      // To unlock the acquired read thread
-      readLock.unlock();
-    }
-  }
-
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
-   * <p>Currently, the refresh logic is not very smart. When the cache is invalidated, we simply
-   * re-fetch the entire cache using Policies stored in the backend.
+   * <p>The refresh re-fetches every policy stored in the backend and swaps in a new index. It
+   * reconciles the cache with the backend, individual policy changes are applied in between through
+   * {@link #upsertPolicy} and {@link #removePolicy}.
    */
   @VisibleForTesting
   @RequiredArgsConstructor
@@ -343,15 +390,14 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final OperationContext systemOpContext;
     private final PolicyFetcher policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> policyCache;
-    private final Lock writeLock;
+    private final AtomicReference<PolicyIndex> policyIndex;
     private final int count;
 
     @Override
     public void run() {
       try {
         // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        List<PolicyFetcher.Policy> policies = new ArrayList<>();
         Integer total = null;
         String scrollId = null;
 
@@ -360,7 +406,7 @@ public class DataHubAuthorizer implements Authorizer {
             final PolicyFetcher.PolicyFetchResult policyFetchResult =
                 policyFetcher.fetchPolicies(systemOpContext, count, scrollId, null);
 
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policies.addAll(policyFetchResult.getPolicies());
 
             total = policyFetchResult.getTotal();
             scrollId = policyFetchResult.getScrollId();
@@ -374,14 +420,7 @@ public class DataHubAuthorizer implements Authorizer {
           }
         }
 
-        writeLock.lock();
-        try {
-          policyCache.clear();
-          policyCache.putAll(newCache);
-        } finally {
-          // To unlock the acquired write thread
-          writeLock.unlock();
-        }
+        policyIndex.set(PolicyIndex.of(policies));
 
         log.debug("Successfully fetched {} policies.", total);
       } catch (Exception e) {
@@ -390,28 +429,5 @@ public class DataHubAuthorizer implements Authorizer {
             e);
       }
     }
-
-    private void addPoliciesToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
-
-    private void addPolicyToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies =
-            cache.containsKey(privilege)
-                ? new ArrayList<>(cache.get(privilege))
-                : new ArrayList<>();
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
-      }
-      List<DataHubPolicyInfo> existingPolicies =
-          cache.containsKey(ALL) ? new ArrayList<>(cache.get(ALL)) : new ArrayList<>();
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
-    }
   }
 }
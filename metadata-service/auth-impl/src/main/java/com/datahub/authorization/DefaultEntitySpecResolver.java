@@ -13,9 +13,17 @@ import javax.annotation.Nonnull;
 public class DefaultEntitySpecResolver implements EntitySpecResolver {
   private final List<EntityFieldResolverProvider> _entityFieldResolverProviders;
   private final OperationContext systemOperationContext;
+  private final AuthorizationResolutionCache resolutionCache;
 
   public DefaultEntitySpecResolver(
       @Nonnull OperationContext systemOperationContext, SystemEntityClient entityClient) {
+    this(systemOperationContext, entityClient, AuthorizationResolutionCache.DISABLED);
+  }
+
+  public DefaultEntitySpecResolver(
+      @Nonnull OperationContext systemOperationContext,
+      SystemEntityClient entityClient,
+      @Nonnull AuthorizationResolutionCache resolutionCache) {
     _entityFieldResolverProviders =
         ImmutableList.of(
             new EntityTypeFieldResolverProvider(),
@@ -27,6 +35,7 @@ public class DefaultEntitySpecResolver implements EntitySpecResolver {
             new TagFieldResolverProvider(entityClient),
             new ContainerFieldResolverProvider(entityClient));
     this.systemOperationContext = systemOperationContext;
+    this.resolutionCache = resolutionCache;
   }
 
   @Override
@@ -43,6 +52,11 @@ public class DefaultEntitySpecResolver implements EntitySpecResolver {
                 resolver.getFieldTypes().stream().map(fieldType -> Pair.of(fieldType, resolver)))
         .collect(
             Collectors.toMap(
-                Pair::getKey, pair -> pair.getValue().getFieldResolver(opContext, entitySpec)));
+                Pair::getKey,
+                pair ->
+                    resolutionCache.getFieldResolver(
+                        entitySpec,
+                        pair.getKey(),
+                        pair.getValue().getFieldResolver(opContext, entitySpec))));
   }
 }
@@ -4,13 +4,13 @@ import static com.linkedin.metadata.Constants.*;
 
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.Owner;
+import com.linkedin.common.OwnerArray;
 import com.linkedin.common.Ownership;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.entity.EntityResponse;
-import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.identity.GroupMembership;
@@ -28,6 +28,7 @@ import com.linkedin.policy.PolicyMatchFilter;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -40,16 +41,25 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.map.HashedMap;
 
 @Slf4j
-@RequiredArgsConstructor
 public class PolicyEngine {
 
   private final EntityClient _entityClient;
+  private final AuthorizationResolutionCache _resolutionCache;
+
+  public PolicyEngine(final EntityClient entityClient) {
+    this(entityClient, AuthorizationResolutionCache.DISABLED);
+  }
+
+  public PolicyEngine(
+      final EntityClient entityClient, final AuthorizationResolutionCache resolutionCache) {
+    _entityClient = entityClient;
+    _resolutionCache = resolutionCache;
+  }
 
   public PolicyEvaluationResult evaluatePolicy(
       @Nonnull OperationContext opContext,
@@ -58,8 +68,29 @@ public class PolicyEngine {
       final String privilege,
       final Optional<ResolvedEntitySpec> resource,
       final List<ResolvedEntitySpec> subResources) {
+    return evaluatePolicy(
+        opContext,
+        policy,
+        resolvedActorSpec,
+        privilege,
+        resource,
+        subResources,
+        new PolicyEvaluationContext());
+  }
+
+  /**
+   * Evaluates a policy reusing the actor groups, roles and resource ownership already resolved in
+   * the context, which may be shared by all the policies evaluated for a single request.
+   */
+  public PolicyEvaluationResult evaluatePolicy(
+      @Nonnull OperationContext opContext,
+      final DataHubPolicyInfo policy,
+      final ResolvedEntitySpec resolvedActorSpec,
+      final String privilege,
+      final Optional<ResolvedEntitySpec> resource,
+      final List<ResolvedEntitySpec> subResources,
+      final PolicyEvaluationContext context) {
 
-    final PolicyEvaluationContext context = new PolicyEvaluationContext();
     log.debug("Evaluating policy {}", policy.getDisplayName());
 
     // If the privilege is not in scope, deny the request.
@@ -384,29 +415,24 @@ public class PolicyEngine {
   private Set<String> getOwnersForType(
       @Nonnull OperationContext opContext,
       @Nonnull EntitySpec resourceSpec,
-      @Nonnull List<Urn> ownershipTypes) {
+      @Nonnull List<Urn> ownershipTypes,
+      PolicyEvaluationContext context) {
     if (resourceSpec.getEntity().isEmpty()) {
       return Set.of();
     } else {
-      Urn entityUrn = UrnUtils.getUrn(resourceSpec.getEntity());
-      EnvelopedAspect ownershipAspect;
-      try {
-        EntityResponse response =
-            _entityClient.getV2(
-                opContext,
-                entityUrn.getEntityType(),
-                entityUrn,
-                Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME));
-        if (response == null
-            || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      Ownership ownership = context.ownerships.get(resourceSpec.getEntity());
+      if (ownership == null) {
+        Urn entityUrn = UrnUtils.getUrn(resourceSpec.getEntity());
+        try {
+          ownership =
+              _resolutionCache.getOwnership(
+                  resourceSpec.getEntity(), () -> fetchOwnership(opContext, entityUrn));
+        } catch (Exception e) {
+          log.error("Error while retrieving ownership aspect for urn {}", entityUrn, e);
           return Collections.emptySet();
         }
-        ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
-      } catch (Exception e) {
-        log.error("Error while retrieving ownership aspect for urn {}", entityUrn, e);
-        return Collections.emptySet();
+        context.ownerships.put(resourceSpec.getEntity(), ownership);
       }
-      Ownership ownership = new Ownership(ownershipAspect.getValue().data());
       Stream<Owner> ownersStream = ownership.getOwners().stream();
       if (ownershipTypes != null) {
         ownersStream = ownersStream.filter(owner -> ownershipTypes.contains(owner.getTypeUrn()));
@@ -415,13 +441,29 @@ public class PolicyEngine {
     }
   }
 
+  private Ownership fetchOwnership(@Nonnull OperationContext opContext, @Nonnull Urn entityUrn)
+      throws Exception {
+    EntityResponse response =
+        _entityClient.getV2(
+            opContext,
+            entityUrn.getEntityType(),
+            entityUrn,
+            Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME));
+    if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      return new Ownership().setOwners(new OwnerArray());
+    }
+    return new Ownership(
+        response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME).getValue().data());
+  }
+
   private boolean isActorOwner(
       @Nonnull OperationContext opContext,
       final ResolvedEntitySpec resolvedActorSpec,
       ResolvedEntitySpec resourceSpec,
       List<Urn> ownershipTypes,
       PolicyEvaluationContext context) {
-    Set<String> owners = this.getOwnersForType(opContext, resourceSpec.getSpec(), ownershipTypes);
+    Set<String> owners =
+        this.getOwnersForType(opContext, resourceSpec.getSpec(), ownershipTypes, context);
     if (isUserOwner(resolvedActorSpec, owners)) {
       return true;
     }
@@ -462,30 +504,39 @@ public class PolicyEngine {
 
     String actor = resolvedActorSpec.getSpec().getEntity();
 
-    Set<Urn> roles = new HashSet<>();
-    final EnvelopedAspectMap aspectMap;
+    Set<Urn> roles;
     try {
-      Urn actorUrn = Urn.createFromString(actor);
-      final EntityResponse corpUser =
-          _entityClient
-              .batchGetV2(
-                  opContext,
-                  CORP_USER_ENTITY_NAME,
-                  Collections.singleton(actorUrn),
-                  ImmutableSet.of(
-                      ROLE_MEMBERSHIP_ASPECT_NAME,
-                      GROUP_MEMBERSHIP_ASPECT_NAME,
-                      NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME))
-              .get(actorUrn);
-      if (corpUser == null || !corpUser.hasAspects()) {
-        return roles;
-      }
-      aspectMap = corpUser.getAspects();
+      roles = _resolutionCache.getRoles(actor, () -> fetchRoles(opContext, actor));
     } catch (Exception e) {
       log.error(
           String.format("Failed to fetch %s for urn %s", ROLE_MEMBERSHIP_ASPECT_NAME, actor), e);
+      return new HashSet<>();
+    }
+
+    context.setRoles(roles);
+    return roles;
+  }
+
+  /** Fetches the roles of the actor and of its groups, failing if any of them can't be read. */
+  private Set<Urn> fetchRoles(@Nonnull OperationContext opContext, final String actor)
+      throws Exception {
+    Set<Urn> roles = new HashSet<>();
+    Urn actorUrn = Urn.createFromString(actor);
+    final EntityResponse corpUser =
+        _entityClient
+            .batchGetV2(
+                opContext,
+                CORP_USER_ENTITY_NAME,
+                Collections.singleton(actorUrn),
+                ImmutableSet.of(
+                    ROLE_MEMBERSHIP_ASPECT_NAME,
+                    GROUP_MEMBERSHIP_ASPECT_NAME,
+                    NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME))
+            .get(actorUrn);
+    if (corpUser == null || !corpUser.hasAspects()) {
       return roles;
     }
+    final EnvelopedAspectMap aspectMap = corpUser.getAspects();
 
     if (aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME)) {
       RoleMembership roleMembership =
@@ -513,44 +564,34 @@ public class PolicyEngine {
       roles.addAll(getRolesFromGroups(opContext, memberships));
     }
 
-    if (!roles.isEmpty()) {
-      context.setRoles(roles);
-    }
-
     return roles;
   }
 
   private Set<Urn> getRolesFromGroups(
-      @Nonnull OperationContext opContext, final GroupMembership groupMembership) {
+      @Nonnull OperationContext opContext, final GroupMembership groupMembership)
+      throws Exception {
 
     HashSet<Urn> groups = new HashSet<>(groupMembership.getGroups());
-    try {
-      Map<Urn, EntityResponse> responseMap =
-          _entityClient.batchGetV2(
-              opContext,
-              CORP_GROUP_ENTITY_NAME,
-              groups,
-              ImmutableSet.of(ROLE_MEMBERSHIP_ASPECT_NAME));
-
-      return responseMap.keySet().stream()
-          .filter(Objects::nonNull)
-          .filter(key -> responseMap.get(key) != null)
-          .filter(key -> responseMap.get(key).hasAspects())
-          .map(key -> responseMap.get(key).getAspects())
-          .filter(aspectMap -> aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME))
-          .map(
-              aspectMap ->
-                  new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data()))
-          .filter(RoleMembership::hasRoles)
-          .map(RoleMembership::getRoles)
-          .flatMap(List::stream)
-          .collect(Collectors.toSet());
-
-    } catch (Exception e) {
-      log.error(
-          String.format("Failed to fetch %s for urns %s", ROLE_MEMBERSHIP_ASPECT_NAME, groups), e);
-      return new HashSet<>();
-    }
+    Map<Urn, EntityResponse> responseMap =
+        _entityClient.batchGetV2(
+            opContext,
+            CORP_GROUP_ENTITY_NAME,
+            groups,
+            ImmutableSet.of(ROLE_MEMBERSHIP_ASPECT_NAME));
+
+    return responseMap.keySet().stream()
+        .filter(Objects::nonNull)
+        .filter(key -> responseMap.get(key) != null)
+        .filter(key -> responseMap.get(key).hasAspects())
+        .map(key -> responseMap.get(key).getAspects())
+        .filter(aspectMap -> aspectMap.containsKey(ROLE_MEMBERSHIP_ASPECT_NAME))
+        .map(
+            aspectMap ->
+                new RoleMembership(aspectMap.get(ROLE_MEMBERSHIP_ASPECT_NAME).getValue().data()))
+        .filter(RoleMembership::hasRoles)
+        .map(RoleMembership::getRoles)
+        .flatMap(List::stream)
+        .collect(Collectors.toSet());
   }
 
   private Set<String> resolveGroups(
@@ -565,10 +606,14 @@ public class PolicyEngine {
     return groups;
   }
 
-  /** Class used to store state across a single Policy evaluation. */
+  /**
+   * Class used to store state across the evaluation of the policies for a single request, it only
+   * holds values which depend on the actor and the requested resources.
+   */
   static class PolicyEvaluationContext {
     private Set<String> groups;
     private Set<Urn> roles;
+    private final Map<String, Ownership> ownerships = new HashMap<>();
 
     public void setGroups(Set<String> groups) {
       this.groups = groups;
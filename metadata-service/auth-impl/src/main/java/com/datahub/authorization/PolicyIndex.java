@@ -0,0 +1,147 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Immutable snapshot of the policies known to the {@link DataHubAuthorizer}, indexed by privilege
+ * and by the resource types a policy is restricted to.
+ *
+ * <p>Updates never modify an index in place, they return a new one which is swapped in atomically,
+ * so readers always see a complete policy set.
+ */
+public final class PolicyIndex {
+
+  public static final PolicyIndex EMPTY = new PolicyIndex(new LinkedHashMap<>());
+
+  private final Map<Urn, DataHubPolicyInfo> policies;
+
+  // Privilege, or ALL, to the policies granting it
+  private final Map<String, List<DataHubPolicyInfo>> byPrivilege = new HashMap<>();
+
+  // Privilege to the policies granting it which are not restricted to a resource type
+  private final Map<String, List<DataHubPolicyInfo>> untypedByPrivilege = new HashMap<>();
+
+  // Privilege to resource type to the policies granting it only on that resource type
+  private final Map<String, Map<String, List<DataHubPolicyInfo>>> typedByPrivilege =
+      new HashMap<>();
+
+  private PolicyIndex(@Nonnull LinkedHashMap<Urn, DataHubPolicyInfo> policies) {
+    this.policies = Collections.unmodifiableMap(policies);
+    policies.values().forEach(this::index);
+  }
+
+  public static PolicyIndex of(@Nonnull Collection<PolicyFetcher.Policy> policies) {
+    LinkedHashMap<Urn, DataHubPolicyInfo> policyMap = new LinkedHashMap<>();
+    policies.forEach(policy -> policyMap.put(policy.getUrn(), policy.getPolicyInfo()));
+    return new PolicyIndex(policyMap);
+  }
+
+  /** Returns a new index with the policy added or replaced. */
+  public PolicyIndex withPolicy(@Nonnull Urn policyUrn, @Nonnull DataHubPolicyInfo policyInfo) {
+    LinkedHashMap<Urn, DataHubPolicyInfo> policyMap = new LinkedHashMap<>(policies);
+    policyMap.put(policyUrn, policyInfo);
+    return new PolicyIndex(policyMap);
+  }
+
+  /** Returns a new index without the policy, or this index if it is unknown. */
+  public PolicyIndex withoutPolicy(@Nonnull Urn policyUrn) {
+    if (!policies.containsKey(policyUrn)) {
+      return this;
+    }
+    LinkedHashMap<Urn, DataHubPolicyInfo> policyMap = new LinkedHashMap<>(policies);
+    policyMap.remove(policyUrn);
+    return new PolicyIndex(policyMap);
+  }
+
+  public int size() {
+    return policies.size();
+  }
+
+  /** All policies granting the privilege, or all policies for {@link DataHubAuthorizer#ALL}. */
+  public List<DataHubPolicyInfo> getPolicies(@Nonnull String privilege) {
+    return byPrivilege.getOrDefault(privilege, Collections.emptyList());
+  }
+
+  /**
+   * Policies which may grant the privilege on a resource of the given type. Policies whose resource
+   * filter requires another type can never match and are left out.
+   *
+   * @param resourceType type of the requested resource, null if the request has no resource
+   */
+  public List<DataHubPolicyInfo> getCandidatePolicies(
+      @Nonnull String privilege, @Nullable String resourceType) {
+    List<DataHubPolicyInfo> untyped =
+        untypedByPrivilege.getOrDefault(privilege, Collections.emptyList());
+    List<DataHubPolicyInfo> typed =
+        resourceType == null
+            ? Collections.emptyList()
+            : typedByPrivilege
+                .getOrDefault(privilege, Collections.emptyMap())
+                .getOrDefault(resourceType, Collections.emptyList());
+    List<DataHubPolicyInfo> candidates = new ArrayList<>(untyped.size() + typed.size());
+    candidates.addAll(untyped);
+    candidates.addAll(typed);
+    return candidates;
+  }
+
+  private void index(DataHubPolicyInfo policy) {
+    final Set<String> resourceTypes = getResourceTypes(policy);
+    for (String privilege : policy.getPrivileges()) {
+      byPrivilege.computeIfAbsent(privilege, key -> new ArrayList<>()).add(policy);
+      if (resourceTypes == null) {
+        untypedByPrivilege.computeIfAbsent(privilege, key -> new ArrayList<>()).add(policy);
+      } else {
+        Map<String, List<DataHubPolicyInfo>> byType =
+            typedByPrivilege.computeIfAbsent(privilege, key -> new HashMap<>());
+        resourceTypes.forEach(
+            type -> byType.computeIfAbsent(type, key -> new ArrayList<>()).add(policy));
+      }
+    }
+    byPrivilege.computeIfAbsent(DataHubAuthorizer.ALL, key -> new ArrayList<>()).add(policy);
+  }
+
+  /**
+   * Resource types the policy is restricted to, mirroring the resource matching of the {@link
+   * PolicyEngine}: all filter criteria must match, so a single type criterion is enough to rule
+   * out every other type.
+   *
+   * @return the allowed types, null if the policy may apply to any resource (or none)
+   */
+  @Nullable
+  static Set<String> getResourceTypes(@Nonnull DataHubPolicyInfo policy) {
+    if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType()) || !policy.hasResources()) {
+      return null;
+    }
+    final DataHubResourceFilter resourceFilter = policy.getResources();
+    if (!resourceFilter.hasFilter()) {
+      return resourceFilter.hasType() ? Set.of(resourceFilter.getType()) : null;
+    }
+    for (PolicyMatchCriterion criterion : resourceFilter.getFilter().getCriteria()) {
+      if (isTypeField(criterion.getField())
+          && PolicyMatchCondition.EQUALS.equals(criterion.getCondition())) {
+        return Set.copyOf(criterion.getValues());
+      }
+    }
+    return null;
+  }
+
+  private static boolean isTypeField(String field) {
+    return EntityFieldType.TYPE.name().equalsIgnoreCase(field)
+        || EntityFieldType.RESOURCE_TYPE.name().equalsIgnoreCase(field);
+  }
+}
@@ -0,0 +1,132 @@
+package com.datahub.authorization;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+public class AuthorizationResolutionCacheTest {
+  private static final String USER = "urn:li:corpuser:user";
+  private static final Urn ADMIN = UrnUtils.getUrn("urn:li:dataHubRole:Admin");
+  private static final EntitySpec DATASET =
+      new EntitySpec("dataset", "urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)");
+
+  private static Callable<Set<Urn>> adminLoader(AtomicInteger loads) {
+    return () -> {
+      loads.incrementAndGet();
+      return Set.of(ADMIN);
+    };
+  }
+
+  @Test
+  public void testRolesAreMemoizedUntilInvalidated() throws Exception {
+    AuthorizationResolutionCache cache = new AuthorizationResolutionCache(60, 100, null);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(cache.getRoles(USER, adminLoader(loads)), Set.of(ADMIN));
+    }
+    assertEquals(loads.get(), 1);
+    assertEquals(cache.getHitCount(AuthorizationResolutionCache.ROLES), 2);
+    assertEquals(cache.getMissCount(AuthorizationResolutionCache.ROLES), 1);
+    assertEquals(cache.getHitRate(AuthorizationResolutionCache.ROLES), 2.0 / 3);
+
+    cache.invalidate(UrnUtils.getUrn(USER));
+    cache.getRoles(USER, adminLoader(loads));
+    assertEquals(loads.get(), 2);
+
+    // Group role changes may affect any member
+    cache.invalidate(UrnUtils.getUrn("urn:li:corpGroup:group"));
+    cache.getRoles(USER, adminLoader(loads));
+    assertEquals(loads.get(), 3);
+  }
+
+  @Test
+  public void testLoadRacingAnInvalidationIsNotCached() throws Exception {
+    AuthorizationResolutionCache cache = new AuthorizationResolutionCache(60, 100, null);
+    cache.getRoles(
+        USER,
+        () -> {
+          cache.invalidate(UrnUtils.getUrn(USER));
+          return Set.of();
+        });
+    AtomicInteger loads = new AtomicInteger();
+    cache.getRoles(USER, adminLoader(loads));
+    assertEquals(loads.get(), 1);
+  }
+
+  @Test
+  public void testInvalidationOfAnotherEntityKeepsTheLoad() throws Exception {
+    AuthorizationResolutionCache cache = new AuthorizationResolutionCache(60, 100, null);
+    // ingestion keeps invalidating other entities while the roles are loaded
+    cache.getRoles(
+        USER,
+        () -> {
+          cache.invalidate(UrnUtils.getUrn(DATASET.getEntity()));
+          return Set.of(ADMIN);
+        });
+    AtomicInteger loads = new AtomicInteger();
+    assertEquals(cache.getRoles(USER, adminLoader(loads)), Set.of(ADMIN));
+    assertEquals(loads.get(), 0);
+  }
+
+  @Test
+  public void testFieldValuesAreSharedAcrossResolutions() {
+    AuthorizationResolutionCache cache = new AuthorizationResolutionCache(60, 100, null);
+    AtomicInteger loads = new AtomicInteger();
+    FieldResolver.FieldValue owners =
+        FieldResolver.FieldValue.builder().values(Set.of(USER)).build();
+
+    for (int i = 0; i < 3; i++) {
+      FieldResolver resolver =
+          cache.getFieldResolver(
+              DATASET,
+              EntityFieldType.OWNER,
+              new FieldResolver(
+                  () -> {
+                    loads.incrementAndGet();
+                    return CompletableFuture.completedFuture(owners);
+                  }));
+      assertSame(resolver.getFieldValuesFuture().join(), owners);
+    }
+    assertEquals(loads.get(), 1);
+
+    // Failures are reported as the empty value, which is never cached
+    for (int i = 0; i < 2; i++) {
+      cache
+          .getFieldResolver(
+              DATASET,
+              EntityFieldType.DOMAIN,
+              new FieldResolver(
+                  () -> {
+                    loads.incrementAndGet();
+                    return CompletableFuture.completedFuture(FieldResolver.emptyFieldValue());
+                  }))
+          .getFieldValuesFuture()
+          .join();
+    }
+    assertEquals(loads.get(), 3);
+  }
+
+  @Test
+  public void testDisabledCacheAlwaysLoads() throws Exception {
+    AuthorizationResolutionCache cache = AuthorizationResolutionCache.DISABLED;
+    assertFalse(cache.isEnabled());
+    AtomicInteger loads = new AtomicInteger();
+    cache.getRoles(USER, adminLoader(loads));
+    cache.getRoles(USER, adminLoader(loads));
+    assertEquals(loads.get(), 2);
+
+    FieldResolver resolver = FieldResolver.getResolverFromValues(Set.of(USER));
+    assertSame(cache.getFieldResolver(DATASET, EntityFieldType.OWNER, resolver), resolver);
+    assertTrue(new AuthorizationResolutionCache(10, 10, null).isEnabled());
+  }
+}
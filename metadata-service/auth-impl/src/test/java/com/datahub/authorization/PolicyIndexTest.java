@@ -0,0 +1,165 @@
+package com.datahub.authorization;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.ACTIVE_POLICY_STATE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.METADATA_POLICY_TYPE;
+import static com.linkedin.metadata.authorization.PoliciesConfig.PLATFORM_POLICY_TYPE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import com.linkedin.policy.PolicyMatchCriterionArray;
+import com.linkedin.policy.PolicyMatchFilter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+public class PolicyIndexTest {
+  private static final String EDIT = "EDIT_ENTITY";
+  private static final String VIEW = "VIEW_ENTITY_PAGE";
+
+  private static DataHubPolicyInfo policy(
+      String name, String type, List<String> privileges, DataHubResourceFilter resources) {
+    DataHubPolicyInfo policy =
+        new DataHubPolicyInfo()
+            .setDisplayName(name)
+            .setType(type)
+            .setState(ACTIVE_POLICY_STATE)
+            .setPrivileges(new StringArray(privileges))
+            .setActors(new DataHubActorFilter().setAllUsers(true))
+            .setEditable(true);
+    if (resources != null) {
+      policy.setResources(resources);
+    }
+    return policy;
+  }
+
+  private static DataHubResourceFilter typeFilter(
+      String field, PolicyMatchCondition condition, String... types) {
+    return new DataHubResourceFilter()
+        .setFilter(
+            new PolicyMatchFilter()
+                .setCriteria(
+                    new PolicyMatchCriterionArray(
+                        List.of(
+                            new PolicyMatchCriterion()
+                                .setField(field)
+                                .setValues(new StringArray(List.of(types)))
+                                .setCondition(condition)))));
+  }
+
+  private static PolicyFetcher.Policy fetched(String id, DataHubPolicyInfo info) {
+    return new PolicyFetcher.Policy(UrnUtils.getUrn("urn:li:dataHubPolicy:" + id), info);
+  }
+
+  @Test
+  public void testCandidatePolicies() {
+    DataHubPolicyInfo platform = policy("platform", PLATFORM_POLICY_TYPE, List.of(EDIT), null);
+    DataHubPolicyInfo anyResource = policy("any", METADATA_POLICY_TYPE, List.of(EDIT), null);
+    DataHubPolicyInfo legacyDataset =
+        policy(
+            "legacy",
+            METADATA_POLICY_TYPE,
+            List.of(EDIT, VIEW),
+            new DataHubResourceFilter().setType("dataset").setAllResources(true));
+    DataHubPolicyInfo chartsAndDashboards =
+        policy(
+            "charts",
+            METADATA_POLICY_TYPE,
+            List.of(EDIT),
+            typeFilter("TYPE", PolicyMatchCondition.EQUALS, "chart", "dashboard"));
+    DataHubPolicyInfo notDataset =
+        policy(
+            "notDataset",
+            METADATA_POLICY_TYPE,
+            List.of(EDIT),
+            typeFilter("RESOURCE_TYPE", PolicyMatchCondition.NOT_EQUALS, "dataset"));
+
+    PolicyIndex index =
+        PolicyIndex.of(
+            List.of(
+                fetched("platform", platform),
+                fetched("any", anyResource),
+                fetched("legacy", legacyDataset),
+                fetched("charts", chartsAndDashboards),
+                fetched("notDataset", notDataset)));
+
+    assertEquals(index.getPolicies(EDIT).size(), 5);
+    assertEquals(index.getPolicies(VIEW), List.of(legacyDataset));
+    assertEquals(index.getPolicies(DataHubAuthorizer.ALL).size(), 5);
+
+    assertEquals(
+        Set.copyOf(index.getCandidatePolicies(EDIT, "dataset")),
+        Set.of(platform, anyResource, legacyDataset, notDataset));
+    assertEquals(
+        Set.copyOf(index.getCandidatePolicies(EDIT, "chart")),
+        Set.of(platform, anyResource, chartsAndDashboards, notDataset));
+    assertEquals(
+        Set.copyOf(index.getCandidatePolicies(EDIT, null)),
+        Set.of(platform, anyResource, notDataset));
+    assertTrue(index.getCandidatePolicies(VIEW, "chart").isEmpty());
+    assertTrue(index.getCandidatePolicies("UNKNOWN", "dataset").isEmpty());
+
+    assertNull(PolicyIndex.getResourceTypes(platform));
+    assertNull(PolicyIndex.getResourceTypes(notDataset));
+    assertEquals(PolicyIndex.getResourceTypes(legacyDataset), Set.of("dataset"));
+  }
+
+  @Test
+  public void testIncrementalUpdates() {
+    Urn urn = UrnUtils.getUrn("urn:li:dataHubPolicy:p");
+    DataHubPolicyInfo edit = policy("p", METADATA_POLICY_TYPE, List.of(EDIT), null);
+    DataHubPolicyInfo view = policy("p", METADATA_POLICY_TYPE, List.of(VIEW), null);
+
+    PolicyIndex index = PolicyIndex.EMPTY.withPolicy(urn, edit);
+    assertEquals(index.getCandidatePolicies(EDIT, "dataset"), List.of(edit));
+
+    PolicyIndex updated = index.withPolicy(urn, view);
+    assertEquals(updated.size(), 1);
+    assertTrue(updated.getCandidatePolicies(EDIT, "dataset").isEmpty());
+    assertEquals(updated.getCandidatePolicies(VIEW, "dataset"), List.of(view));
+    // previous snapshot is untouched
+    assertEquals(index.getCandidatePolicies(EDIT, "dataset"), List.of(edit));
+
+    assertEquals(updated.withoutPolicy(urn).size(), 0);
+    assertSame(updated.withoutPolicy(UrnUtils.getUrn("urn:li:dataHubPolicy:unknown")), updated);
+  }
+
+  /** With 5k policies spread over 50 resource types a lookup only returns the type's policies. */
+  @Test
+  public void testCandidateLookupWithManyPolicies() {
+    final int numPolicies = 5000;
+    final int numTypes = 50;
+    List<PolicyFetcher.Policy> policies = new ArrayList<>(numPolicies);
+    for (int i = 0; i < numPolicies; i++) {
+      policies.add(
+          fetched(
+              "p" + i,
+              policy(
+                  "p" + i,
+                  METADATA_POLICY_TYPE,
+                  List.of(EDIT, VIEW),
+                  typeFilter("TYPE", PolicyMatchCondition.EQUALS, "type" + (i % numTypes)))));
+    }
+    PolicyIndex index = PolicyIndex.of(policies);
+
+    for (int type = 0; type < numTypes; type++) {
+      List<DataHubPolicyInfo> candidates = index.getCandidatePolicies(EDIT, "type" + type);
+      assertEquals(candidates.size(), numPolicies / numTypes);
+      for (DataHubPolicyInfo candidate : candidates) {
+        int policyNumber = Integer.parseInt(candidate.getDisplayName().substring(1));
+        assertEquals(policyNumber % numTypes, type);
+      }
+    }
+    assertTrue(index.getCandidatePolicies(EDIT, "unknownType").isEmpty());
+  }
+}
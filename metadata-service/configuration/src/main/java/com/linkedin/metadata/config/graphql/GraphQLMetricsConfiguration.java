@@ -11,4 +11,6 @@ public class GraphQLMetricsConfiguration {
   private boolean fieldLevelPathEnabled;
   private String fieldLevelPaths;
   private boolean trivialDataFetchersEnabled;
+  private boolean dataLoaderStatsEnabled;
+  private boolean dataLoaderStatsExtensionEnabled;
 }
@@ -21,5 +21,7 @@ public class ConsumerConfiguration {
     private String autoOffsetReset;
     private boolean fineGrainedLoggingEnabled;
     private String aspectsToDrop;
+    // Deliver whole poll batches to the listener instead of single records
+    private boolean batchEnabled;
   }
 }
@@ -1,14 +1,19 @@
 package io.datahubproject.event;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.event.exception.UnsupportedTopicException;
 import io.datahubproject.event.kafka.KafkaConsumerPool;
+import io.datahubproject.event.kafka.TopicEventBuffer;
 import io.datahubproject.event.models.v1.ExternalEvent;
 import io.datahubproject.event.models.v1.ExternalEvents;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -44,6 +49,15 @@ public class ExternalEventsService {
       topicNames; // Mapping of standard topic name to customer-specific topic name.
   private final int defaultPollTimeoutSeconds;
   private final int defaultLimit;
+  private final int bufferMaxEventsPerPartition;
+  private final long bufferMaxBytesPerPartition;
+  private final long bufferIdleTimeoutMillis;
+  @Nullable private final MetricUtils metricUtils;
+
+  // Shared tailing reader per polled topic, keyed by the customer-specific topic name
+  private final Map<String, TopicEventBuffer> buffers = new ConcurrentHashMap<>();
+  private final AtomicLong bufferHits = new AtomicLong();
+  private final AtomicLong bufferMisses = new AtomicLong();
 
   public ExternalEventsService(
       @Nonnull final KafkaConsumerPool consumerPool,
@@ -51,11 +65,44 @@ public class ExternalEventsService {
       @Nonnull final Map<String, String> topicNames,
       final int defaultPollTimeoutSeconds,
       final int defaultLimit) {
+    this(
+        consumerPool,
+        objectMapper,
+        topicNames,
+        defaultPollTimeoutSeconds,
+        defaultLimit,
+        0,
+        0,
+        0,
+        null);
+  }
+
+  /**
+   * @param bufferMaxEventsPerPartition recent events of each partition kept in memory to serve the
+   *     polls from, 0 disables the buffers
+   * @param bufferMaxBytesPerPartition size of the events kept per partition
+   * @param bufferIdleTimeoutSeconds time without polls after which the buffer of a topic stops, 0
+   *     to keep it until shutdown
+   */
+  public ExternalEventsService(
+      @Nonnull final KafkaConsumerPool consumerPool,
+      @Nonnull final ObjectMapper objectMapper,
+      @Nonnull final Map<String, String> topicNames,
+      final int defaultPollTimeoutSeconds,
+      final int defaultLimit,
+      final int bufferMaxEventsPerPartition,
+      final long bufferMaxBytesPerPartition,
+      final long bufferIdleTimeoutSeconds,
+      @Nullable final MetricUtils metricUtils) {
     this.consumerPool = Objects.requireNonNull(consumerPool, "consumerPool must not be null");
     this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
     this.topicNames = Objects.requireNonNull(topicNames, "topicNames must not be null");
     this.defaultPollTimeoutSeconds = defaultPollTimeoutSeconds;
     this.defaultLimit = defaultLimit;
+    this.bufferMaxEventsPerPartition = bufferMaxEventsPerPartition;
+    this.bufferMaxBytesPerPartition = bufferMaxBytesPerPartition;
+    this.bufferIdleTimeoutMillis = bufferIdleTimeoutSeconds * 1000L;
+    this.metricUtils = metricUtils;
   }
 
   /**
@@ -83,11 +130,101 @@ public class ExternalEventsService {
 
     String finalTopic = remapExternalTopicName(topic);
 
-    KafkaConsumer<String, GenericRecord> consumer = consumerPool.borrowConsumer();
-    List<GenericRecord> messages = new ArrayList<>();
     long startTime = System.currentTimeMillis();
     long timeout =
         (pollTimeoutSeconds != null ? pollTimeoutSeconds : defaultPollTimeoutSeconds) * 1000L;
+    int finalLimit = limit != null ? limit : defaultLimit;
+
+    try {
+      // Look-backs in time are left to Kafka, they are not bound to the retained offsets
+      boolean lookback = offsetId == null && lookbackWindowDays != null && lookbackWindowDays > 0;
+      if (bufferMaxEventsPerPartition > 0 && !lookback) {
+        Optional<ExternalEvents> buffered =
+            pollBuffer(finalTopic, offsetId, finalLimit, startTime + timeout);
+        recordBufferRead(buffered.isPresent());
+        if (buffered.isPresent()) {
+          return buffered.get();
+        }
+      }
+      return pollKafka(finalTopic, offsetId, finalLimit, startTime, timeout, lookbackWindowDays);
+    } finally {
+      if (metricUtils != null) {
+        metricUtils.histogram(
+            this.getClass(), "poll_latencyMs", System.currentTimeMillis() - startTime);
+      }
+    }
+  }
+
+  /**
+   * Serves the poll from the buffer of the topic, waiting for new events until the deadline when
+   * fewer than limit are available.
+   *
+   * @return the events, or empty when the offsets are outside the retained window
+   */
+  private Optional<ExternalEvents> pollBuffer(
+      @Nonnull final String topic,
+      @Nullable final String offsetId,
+      final int limit,
+      final long deadline)
+      throws Exception {
+    // Buffers stopped while idle start over
+    TopicEventBuffer buffer =
+        buffers.compute(
+            topic,
+            (key, existing) ->
+                existing != null && existing.isRunning() ? existing : startBuffer(key));
+
+    Optional<Map<TopicPartition, Long>> startOffsets =
+        offsetId == null ? buffer.getTailOffsets() : Optional.of(decodeOffsetId(offsetId));
+    if (startOffsets.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Map<TopicPartition, Long> offsets = startOffsets.get();
+    List<String> events = new ArrayList<>();
+    while (true) {
+      long version = buffer.getAppendVersion();
+      Optional<TopicEventBuffer.Batch> batch = buffer.read(offsets, limit - events.size());
+      if (batch.isEmpty()) {
+        if (events.isEmpty()) {
+          return Optional.empty();
+        }
+        // The window moved past the offsets meanwhile, the next poll goes to Kafka
+        break;
+      }
+      events.addAll(batch.get().getEvents());
+      offsets = batch.get().getNextOffsets();
+      long remaining = deadline - System.currentTimeMillis();
+      if (events.size() >= limit || remaining <= 0) {
+        break;
+      }
+      buffer.awaitAppend(version, remaining);
+    }
+    return Optional.of(toExternalEvents(events, encodeOffsetId(offsets), events.size()));
+  }
+
+  private TopicEventBuffer startBuffer(@Nonnull final String topic) {
+    log.info("Starting the events buffer of topic {}", topic);
+    return new TopicEventBuffer(
+            topic,
+            consumerPool,
+            bufferMaxEventsPerPartition,
+            bufferMaxBytesPerPartition,
+            bufferIdleTimeoutMillis,
+            ExternalEventsService::encodeRecord)
+        .start();
+  }
+
+  private ExternalEvents pollKafka(
+      @Nonnull final String finalTopic,
+      @Nullable final String offsetId,
+      final int finalLimit,
+      final long startTime,
+      final long timeout,
+      @Nullable final Integer lookbackWindowDays)
+      throws Exception {
+    KafkaConsumer<String, GenericRecord> consumer = consumerPool.borrowConsumer();
+    List<GenericRecord> messages = new ArrayList<>();
 
     try {
       List<TopicPartition> partitions =
@@ -105,7 +242,6 @@ public class ExternalEventsService {
 
       Map<TopicPartition, Long> latestOffsets = new HashMap<>(partitionOffsets);
       int fetchedRecords = 0;
-      int finalLimit = limit != null ? limit : defaultLimit;
 
       while (fetchedRecords < finalLimit) {
         ConsumerRecords<String, GenericRecord> records = consumer.poll(Duration.ofMillis(1000));
@@ -271,22 +407,34 @@ public class ExternalEventsService {
    */
   private ExternalEvents convertToExternalEvents(
       final List<GenericRecord> messages, final String newOffsetId, long count) {
+    return toExternalEvents(
+        messages.stream().map(ExternalEventsService::encodeRecord).collect(Collectors.toList()),
+        newOffsetId,
+        count);
+  }
+
+  /**
+   * Wraps the events, already converted to JSON, into an ExternalEvents object.
+   *
+   * @param values the JSON values of the events
+   * @param newOffsetId the new offset ID after consuming the batch
+   * @param count the number of records fetched
+   * @return ExternalEvents object
+   */
+  private static ExternalEvents toExternalEvents(
+      final List<String> values, final String newOffsetId, long count) {
 
     ExternalEvents externalEvents = new ExternalEvents();
     externalEvents.setOffsetId(newOffsetId); // New encoded offset ID
     externalEvents.setCount(count);
 
     List<ExternalEvent> externalEventList =
-        messages.stream()
+        values.stream()
             .map(
-                message -> {
+                value -> {
                   ExternalEvent externalEvent = new ExternalEvent();
                   externalEvent.setContentType("application/json"); // Assuming JSON content type
-                  try {
-                    externalEvent.setValue(convertGenericRecordToJson(message));
-                  } catch (IOException e) {
-                    throw new RuntimeException("Failed to convert GenericRecord to JSON!", e);
-                  }
+                  externalEvent.setValue(value);
                   return externalEvent;
                 })
             .collect(Collectors.toList());
@@ -295,6 +443,14 @@ public class ExternalEventsService {
     return externalEvents;
   }
 
+  private static String encodeRecord(GenericRecord record) {
+    try {
+      return convertGenericRecordToJson(record);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to convert GenericRecord to JSON!", e);
+    }
+  }
+
   public static String convertGenericRecordToJson(GenericRecord record) throws IOException {
     // Create a byte output stream to capture the JSON output
     ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -315,10 +471,26 @@ public class ExternalEventsService {
   }
 
   public void shutdown() {
+    buffers.values().forEach(TopicEventBuffer::stop);
     // Shutdown the entire pool
     consumerPool.shutdownPool();
   }
 
+  /** Share of the polls served from the buffers. */
+  public double getBufferHitRate() {
+    long hits = bufferHits.get();
+    long total = hits + bufferMisses.get();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  private void recordBufferRead(boolean hit) {
+    (hit ? bufferHits : bufferMisses).incrementAndGet();
+    if (metricUtils != null) {
+      metricUtils.increment(this.getClass(), hit ? "poll_bufferHit" : "poll_bufferMiss", 1);
+      metricUtils.setGaugeValue(this.getClass(), "poll_bufferHitRate", getBufferHitRate());
+    }
+  }
+
   private String remapExternalTopicName(@Nonnull final String topicName) {
     if (this.topicNames.containsKey(topicName)) {
       return this.topicNames.get(topicName);
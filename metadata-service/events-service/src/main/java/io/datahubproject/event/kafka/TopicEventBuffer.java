@@ -0,0 +1,360 @@
+package io.datahubproject.event.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+
+/**
+ * Tails all the partitions of a topic with a dedicated consumer and keeps the most recent events of
+ * each partition, already encoded, in a ring indexed by offset and bounded both by event count and
+ * by size. Reads from offsets within the retained window are served from memory, any other read is
+ * left to the caller.
+ *
+ * <p>The tailer starts from the last events of each partition and only serves reads once it has
+ * caught up with the end of the log. It starts over should the consumer fail or the partitions of
+ * the topic change. It stops for good, closing its consumer and dropping the events, once nobody
+ * read from the buffer for the idle timeout.
+ */
+@Slf4j
+public class TopicEventBuffer {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofMillis(1000);
+  private static final long PARTITION_REFRESH_MILLIS = 60_000;
+  private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+  /** Events read from the buffer, with the offsets to read the following ones from. */
+  @Value
+  public static class Batch {
+    List<String> events;
+    Map<TopicPartition, Long> nextOffsets;
+  }
+
+  private final String topic;
+  private final KafkaConsumerPool consumerPool;
+  private final int maxEventsPerPartition;
+  private final long maxBytesPerPartition;
+  private final long idleTimeoutMillis;
+  private final Function<GenericRecord, String> encoder;
+
+  private final Map<TopicPartition, PartitionBuffer> partitions = new ConcurrentHashMap<>();
+  private final Thread tailer;
+  private volatile boolean ready;
+  private volatile boolean running = true;
+  private volatile long lastReadAt = System.currentTimeMillis();
+  private volatile KafkaConsumer<String, GenericRecord> consumer;
+
+  // Bumped after every appended batch, readers wait on it for new events
+  private final Object appendLock = new Object();
+  private long appendVersion;
+
+  /**
+   * @param maxBytesPerPartition size of the events retained per partition, approximated by the
+   *     characters of their JSON
+   * @param idleTimeoutMillis time without reads after which the buffer stops, 0 to never stop
+   */
+  public TopicEventBuffer(
+      @Nonnull String topic,
+      @Nonnull KafkaConsumerPool consumerPool,
+      int maxEventsPerPartition,
+      long maxBytesPerPartition,
+      long idleTimeoutMillis,
+      @Nonnull Function<GenericRecord, String> encoder) {
+    this.topic = topic;
+    this.consumerPool = consumerPool;
+    this.maxEventsPerPartition = maxEventsPerPartition;
+    this.maxBytesPerPartition = maxBytesPerPartition;
+    this.idleTimeoutMillis = idleTimeoutMillis;
+    this.encoder = encoder;
+    this.tailer = new Thread(this::tail, "events-buffer-" + topic);
+    this.tailer.setDaemon(true);
+  }
+
+  public TopicEventBuffer start() {
+    tailer.start();
+    return this;
+  }
+
+  /** Stops tailing, the consumer is closed by the tailer thread. */
+  public void stop() {
+    running = false;
+    KafkaConsumer<String, GenericRecord> current = consumer;
+    if (current != null) {
+      current.wakeup();
+    }
+    synchronized (appendLock) {
+      appendLock.notifyAll();
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /** False once stopped, either explicitly or after the idle timeout. */
+  public boolean isRunning() {
+    return running;
+  }
+
+  /** The offsets the tailer has reached, i.e. the latest events. */
+  public Optional<Map<TopicPartition, Long>> getTailOffsets() {
+    lastReadAt = System.currentTimeMillis();
+    if (!ready) {
+      return Optional.empty();
+    }
+    final Map<TopicPartition, Long> tailOffsets = new HashMap<>();
+    partitions.forEach((partition, buffer) -> tailOffsets.put(partition, buffer.getTail()));
+    return Optional.of(tailOffsets);
+  }
+
+  /**
+   * Reads up to limit events from the given offsets on, partition by partition.
+   *
+   * @return the events, or empty when any of the offsets is outside the retained window
+   */
+  public Optional<Batch> read(@Nonnull Map<TopicPartition, Long> fromOffsets, int limit) {
+    lastReadAt = System.currentTimeMillis();
+    if (!ready) {
+      return Optional.empty();
+    }
+    final List<String> events = new ArrayList<>();
+    final Map<TopicPartition, Long> nextOffsets = new LinkedHashMap<>();
+    final List<TopicPartition> ordered =
+        fromOffsets.keySet().stream()
+            .sorted(Comparator.comparingInt(TopicPartition::partition))
+            .collect(Collectors.toList());
+    for (TopicPartition partition : ordered) {
+      // Unknown, or cleared as the tailer starts over
+      PartitionBuffer buffer = partitions.get(partition);
+      if (buffer == null) {
+        return Optional.empty();
+      }
+      long next = buffer.read(fromOffsets.get(partition), limit - events.size(), events);
+      if (next < 0) {
+        return Optional.empty();
+      }
+      nextOffsets.put(partition, next);
+    }
+    return Optional.of(new Batch(events, nextOffsets));
+  }
+
+  public long getAppendVersion() {
+    synchronized (appendLock) {
+      return appendVersion;
+    }
+  }
+
+  /** Waits until events are appended after the given version, or the timeout elapses. */
+  public void awaitAppend(long version, long timeoutMillis) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + timeoutMillis;
+    synchronized (appendLock) {
+      long remaining = timeoutMillis;
+      while (appendVersion == version && remaining > 0 && running) {
+        appendLock.wait(remaining);
+        remaining = deadline - System.currentTimeMillis();
+      }
+    }
+  }
+
+  private void tail() {
+    while (running) {
+      if (isIdle()) {
+        log.info("Nobody read topic {} for {}ms, stopping its buffer", topic, idleTimeoutMillis);
+        running = false;
+        break;
+      }
+      try {
+        consumer = consumerPool.borrowConsumer();
+        tailUntilPartitionsChange();
+      } catch (WakeupException e) {
+        // Stopped
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.warn("Tailing topic {} failed, starting over", topic, e);
+        sleepQuietly();
+      } finally {
+        ready = false;
+        partitions.clear();
+        if (consumer != null) {
+          consumer.close();
+          consumer = null;
+        }
+      }
+    }
+    synchronized (appendLock) {
+      appendLock.notifyAll();
+    }
+  }
+
+  private boolean isIdle() {
+    return idleTimeoutMillis > 0 && System.currentTimeMillis() - lastReadAt > idleTimeoutMillis;
+  }
+
+  private void tailUntilPartitionsChange() {
+    final Set<TopicPartition> assigned = assign();
+    final Map<TopicPartition, Long> catchUpOffsets = consumer.endOffsets(assigned);
+    long partitionsCheckedAt = System.currentTimeMillis();
+
+    while (running && !isIdle()) {
+      final ConsumerRecords<String, GenericRecord> records = consumer.poll(POLL_TIMEOUT);
+      for (ConsumerRecord<String, GenericRecord> record : records) {
+        partitions
+            .get(new TopicPartition(record.topic(), record.partition()))
+            .append(record.offset(), encoder.apply(record.value()));
+      }
+      for (TopicPartition partition : assigned) {
+        partitions.get(partition).advanceTail(consumer.position(partition));
+      }
+      if (!ready) {
+        ready =
+            assigned.stream().allMatch(p -> partitions.get(p).getTail() >= catchUpOffsets.get(p));
+      }
+      if (!records.isEmpty()) {
+        synchronized (appendLock) {
+          appendVersion++;
+          appendLock.notifyAll();
+        }
+      }
+
+      if (System.currentTimeMillis() - partitionsCheckedAt > PARTITION_REFRESH_MILLIS) {
+        partitionsCheckedAt = System.currentTimeMillis();
+        if (!partitionsOf(consumer).equals(assigned)) {
+          log.info("Partitions of topic {} changed, starting over", topic);
+          return;
+        }
+      }
+    }
+  }
+
+  /** Assigns all the partitions, positioned to retain the last events of each. */
+  private Set<TopicPartition> assign() {
+    final Set<TopicPartition> assigned = partitionsOf(consumer);
+    consumer.assign(assigned);
+    final Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(assigned);
+    final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(assigned);
+    for (TopicPartition partition : assigned) {
+      long start =
+          Math.max(
+              beginningOffsets.get(partition), endOffsets.get(partition) - maxEventsPerPartition);
+      consumer.seek(partition, start);
+      partitions.put(
+          partition, new PartitionBuffer(maxEventsPerPartition, maxBytesPerPartition, start));
+    }
+    return assigned;
+  }
+
+  private Set<TopicPartition> partitionsOf(KafkaConsumer<String, GenericRecord> consumer) {
+    return consumer.partitionsFor(topic).stream()
+        .map(partitionInfo -> new TopicPartition(topic, partitionInfo.partition()))
+        .collect(Collectors.toSet());
+  }
+
+  private void sleepQuietly() {
+    try {
+      Thread.sleep(RETRY_BACKOFF_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  /**
+   * Ring of the last events of a partition. The window starts right after the last evicted event
+   * and ends at the position of the tailer, offsets in between without an event are gaps of the
+   * log, e.g. transaction markers. The oldest events are evicted once either the capacity or the
+   * size is exceeded, the last event is always kept.
+   */
+  static class PartitionBuffer {
+    private final long[] offsets;
+    private final String[] events;
+    private final long maxBytes;
+    private int head;
+    private int size;
+    private long bytes;
+    private long windowStart;
+    private long tail;
+
+    PartitionBuffer(int capacity, long maxBytes, long start) {
+      this.offsets = new long[capacity];
+      this.events = new String[capacity];
+      this.maxBytes = maxBytes;
+      this.windowStart = start;
+      this.tail = start;
+    }
+
+    synchronized void append(long offset, String event) {
+      while (size == offsets.length || (size > 0 && bytes + event.length() > maxBytes)) {
+        windowStart = offsets[head] + 1;
+        bytes -= events[head].length();
+        events[head] = null;
+        head = (head + 1) % offsets.length;
+        size--;
+      }
+      int index = (head + size) % offsets.length;
+      offsets[index] = offset;
+      events[index] = event;
+      size++;
+      bytes += event.length();
+      tail = Math.max(tail, offset + 1);
+    }
+
+    synchronized void advanceTail(long position) {
+      tail = Math.max(tail, position);
+    }
+
+    synchronized long getTail() {
+      return tail;
+    }
+
+    /**
+     * @return the offset following the events read, or -1 when the offset is out of the window
+     */
+    synchronized long read(long fromOffset, int limit, List<String> out) {
+      if (fromOffset < windowStart || fromOffset > tail) {
+        return -1;
+      }
+      int i = firstAtOrAfter(fromOffset);
+      long next = fromOffset;
+      for (int read = 0; i < size && read < limit; i++, read++) {
+        int index = (head + i) % offsets.length;
+        out.add(events[index]);
+        next = offsets[index] + 1;
+      }
+      // Nothing else is retained up to the tail
+      return i == size ? tail : next;
+    }
+
+    private int firstAtOrAfter(long offset) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (offsets[(head + mid) % offsets.length] < offset) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
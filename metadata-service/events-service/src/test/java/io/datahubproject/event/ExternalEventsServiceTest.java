@@ -9,6 +9,7 @@ import io.datahubproject.event.kafka.KafkaConsumerPool;
 import io.datahubproject.event.models.v1.ExternalEvents;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -142,6 +144,64 @@ public class ExternalEventsServiceTest {
     service.poll("InvalidTopic", null, 10, 5, null);
   }
 
+  @Test
+  public void testPollServedFromBufferWithinWindow() throws Exception {
+    String topicName = "CustomerSpecificTopicName";
+    TopicPartition topicPartition = new TopicPartition(topicName, 0);
+    ObjectMapper mapper = new ObjectMapper();
+    ExternalEventsService bufferedService =
+        new ExternalEventsService(
+            consumerPool, mapper, topicNames, 10, 100, 10, Long.MAX_VALUE, 0, null);
+
+    // The tailer of the buffer gets its own consumer, holding the same two events
+    ConsumerRecords<String, GenericRecord> records = kafkaConsumer.poll(Duration.ofMillis(1000));
+    KafkaConsumer<String, GenericRecord> bufferConsumer = mock(KafkaConsumer.class);
+    when(consumerPool.borrowConsumer())
+        .thenAnswer(
+            invocation ->
+                Thread.currentThread().getName().startsWith("events-buffer-")
+                    ? bufferConsumer
+                    : kafkaConsumer);
+    when(bufferConsumer.partitionsFor(topicName))
+        .thenReturn(List.of(new PartitionInfo(topicName, 0, null, null, null)));
+    when(bufferConsumer.beginningOffsets(anyCollection())).thenReturn(Map.of(topicPartition, 0L));
+    when(bufferConsumer.endOffsets(anyCollection())).thenReturn(Map.of(topicPartition, 2L));
+    when(bufferConsumer.position(topicPartition)).thenReturn(2L);
+    when(bufferConsumer.poll(any(Duration.class)))
+        .thenReturn(records)
+        .thenReturn(ConsumerRecords.empty());
+    when(kafkaConsumer.partitionsFor(anyString()))
+        .thenReturn(List.of(new PartitionInfo(topicName, 0, null, null, null)));
+
+    String fromStart = encodeOffsets(mapper, topicName + "-0", 0L);
+    try {
+      // Polls go to Kafka until the buffer caught up
+      ExternalEvents events = null;
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (bufferedService.getBufferHitRate() == 0 && System.currentTimeMillis() < deadline) {
+        events =
+            bufferedService.poll(
+                ExternalEventsService.PLATFORM_EVENT_TOPIC_NAME, fromStart, 2, 1, null);
+      }
+
+      assertTrue(bufferedService.getBufferHitRate() > 0);
+      assertEquals(events.getCount(), 2L);
+      assertTrue(events.getEvents().get(0).getValue().contains("John Doe"));
+      assertEquals(events.getOffsetId(), encodeOffsets(mapper, topicName + "-0", 2L));
+
+      // Offsets past the retained window fall back to Kafka
+      bufferedService.poll(
+          ExternalEventsService.PLATFORM_EVENT_TOPIC_NAME,
+          encodeOffsets(mapper, topicName + "-0", 5L),
+          2,
+          1,
+          null);
+      verify(kafkaConsumer).seek(topicPartition, 5L);
+    } finally {
+      bufferedService.shutdown();
+    }
+  }
+
   @Test
   public void testShutdown() {
     // Execute
@@ -150,4 +210,10 @@ public class ExternalEventsServiceTest {
     // Validate
     verify(consumerPool).shutdownPool();
   }
+
+  private static String encodeOffsets(ObjectMapper mapper, String partition, long offset)
+      throws Exception {
+    return Base64.getEncoder()
+        .encodeToString(mapper.writeValueAsString(Map.of(partition, offset)).getBytes());
+  }
 }
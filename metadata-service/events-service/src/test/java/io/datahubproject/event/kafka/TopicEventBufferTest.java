@@ -0,0 +1,149 @@
+package io.datahubproject.event.kafka;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TopicEventBufferTest {
+  private static final String TOPIC = "PlatformEvent_v1";
+  private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+  @Mock private KafkaConsumerPool consumerPool;
+  @Mock private KafkaConsumer<String, GenericRecord> kafkaConsumer;
+  @Mock private GenericRecord record;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    when(consumerPool.borrowConsumer()).thenReturn(kafkaConsumer);
+  }
+
+  @Test
+  public void testReadsWithinWindow() {
+    TopicEventBuffer.PartitionBuffer buffer =
+        new TopicEventBuffer.PartitionBuffer(3, Long.MAX_VALUE, 10);
+    buffer.append(10, "a");
+    buffer.append(11, "b");
+    // 12 is a gap of the log
+    buffer.append(13, "c");
+    buffer.advanceTail(15);
+
+    List<String> events = new ArrayList<>();
+    assertEquals(buffer.read(11, 1, events), 12);
+    assertEquals(events, List.of("b"));
+
+    events.clear();
+    assertEquals(buffer.read(12, 10, events), 15);
+    assertEquals(events, List.of("c"));
+
+    events.clear();
+    assertEquals(buffer.read(15, 10, events), 15);
+    assertTrue(events.isEmpty());
+  }
+
+  @Test
+  public void testEvictedOffsetsAreOutOfWindow() {
+    TopicEventBuffer.PartitionBuffer buffer =
+        new TopicEventBuffer.PartitionBuffer(2, Long.MAX_VALUE, 0);
+    buffer.append(0, "a");
+    buffer.append(1, "b");
+    buffer.append(2, "c");
+
+    List<String> events = new ArrayList<>();
+    assertEquals(buffer.read(0, 10, events), -1);
+    // Ahead of the tailer
+    assertEquals(buffer.read(4, 10, events), -1);
+    assertEquals(buffer.read(1, 10, events), 3);
+    assertEquals(events, List.of("b", "c"));
+  }
+
+  @Test
+  public void testEvictsBySize() {
+    TopicEventBuffer.PartitionBuffer buffer = new TopicEventBuffer.PartitionBuffer(10, 4, 0);
+    buffer.append(0, "ab");
+    buffer.append(1, "cd");
+    buffer.append(2, "ef");
+    // Larger than the bound on its own, still retained
+    buffer.append(3, "ghijk");
+
+    List<String> events = new ArrayList<>();
+    assertEquals(buffer.read(2, 10, events), -1);
+    assertEquals(buffer.read(3, 10, events), 4);
+    assertEquals(events, List.of("ghijk"));
+  }
+
+  @Test
+  public void testStopsWhenIdle() throws Exception {
+    mockPartition();
+    when(kafkaConsumer.poll(any(Duration.class))).thenReturn(ConsumerRecords.empty());
+
+    TopicEventBuffer buffer =
+        new TopicEventBuffer(TOPIC, consumerPool, 10, Long.MAX_VALUE, 100, value -> "{}").start();
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (buffer.isRunning() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    assertFalse(buffer.isRunning());
+    assertFalse(buffer.getTailOffsets().isPresent());
+    verify(kafkaConsumer, timeout(10_000)).close();
+  }
+
+  @Test
+  public void testServesTailedEvents() throws Exception {
+    mockPartition();
+    when(kafkaConsumer.poll(any(Duration.class)))
+        .thenReturn(
+            new ConsumerRecords<>(
+                Map.of(
+                    PARTITION,
+                    List.of(
+                        new ConsumerRecord<>(TOPIC, 0, 0, "key1", record),
+                        new ConsumerRecord<>(TOPIC, 0, 1, "key2", record)))))
+        .thenReturn(ConsumerRecords.empty());
+
+    TopicEventBuffer buffer =
+        new TopicEventBuffer(TOPIC, consumerPool, 10, Long.MAX_VALUE, 0, value -> "{}").start();
+    try {
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (!buffer.isReady() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertEquals(buffer.getTailOffsets(), Optional.of(Map.of(PARTITION, 2L)));
+      TopicEventBuffer.Batch batch = buffer.read(Map.of(PARTITION, 0L), 10).orElseThrow();
+      assertEquals(batch.getEvents(), List.of("{}", "{}"));
+      assertEquals(batch.getNextOffsets(), Map.of(PARTITION, 2L));
+      // Unknown partitions are left to the caller
+      assertFalse(buffer.read(Map.of(new TopicPartition(TOPIC, 1), 0L), 10).isPresent());
+      verify(kafkaConsumer).assign(Set.of(PARTITION));
+      verify(kafkaConsumer).seek(PARTITION, 0L);
+    } finally {
+      buffer.stop();
+    }
+  }
+
+  private void mockPartition() {
+    when(kafkaConsumer.partitionsFor(TOPIC))
+        .thenReturn(List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+    when(kafkaConsumer.beginningOffsets(anyCollection())).thenReturn(Map.of(PARTITION, 0L));
+    when(kafkaConsumer.endOffsets(anyCollection())).thenReturn(Map.of(PARTITION, 2L));
+    when(kafkaConsumer.position(PARTITION)).thenReturn(2L);
+  }
+}
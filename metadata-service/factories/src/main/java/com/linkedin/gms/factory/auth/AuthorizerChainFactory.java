@@ -2,6 +2,7 @@ package com.linkedin.gms.factory.auth;
 
 import com.datahub.authorization.AuthorizerChain;
 import com.datahub.authorization.AuthorizerContext;
+import com.datahub.authorization.AuthorizationResolutionCache;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.datahub.authorization.DefaultEntitySpecResolver;
 import com.datahub.authorization.EntitySpecResolver;
@@ -50,7 +51,10 @@ public class AuthorizerChainFactory {
   protected AuthorizerChain getInstance(
       final DataHubAuthorizer dataHubAuthorizer, final SystemEntityClient systemEntityClient) {
     final EntitySpecResolver resolver =
-        initResolver(dataHubAuthorizer.getSystemOpContext(), systemEntityClient);
+        initResolver(
+            dataHubAuthorizer.getSystemOpContext(),
+            systemEntityClient,
+            dataHubAuthorizer.getResolutionCache());
 
     // Extract + initialize customer authorizers from application configs.
     final List<Authorizer> authorizers = new ArrayList<>(initCustomAuthorizers(resolver));
@@ -66,8 +70,10 @@ public class AuthorizerChainFactory {
   }
 
   private EntitySpecResolver initResolver(
-      @Nonnull OperationContext systemOpContext, SystemEntityClient systemEntityClient) {
-    return new DefaultEntitySpecResolver(systemOpContext, systemEntityClient);
+      @Nonnull OperationContext systemOpContext,
+      SystemEntityClient systemEntityClient,
+      AuthorizationResolutionCache resolutionCache) {
+    return new DefaultEntitySpecResolver(systemOpContext, systemEntityClient, resolutionCache);
   }
 
   private List<Authorizer> initCustomAuthorizers(EntitySpecResolver resolver) {
@@ -1,5 +1,6 @@
 package com.linkedin.gms.factory.auth;
 
+import com.datahub.authorization.AuthorizationResolutionCache;
 import com.datahub.authorization.DataHubAuthorizer;
 import com.linkedin.entity.client.SystemEntityClient;
 import io.datahubproject.metadata.context.OperationContext;
@@ -22,6 +23,12 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
+  @Value("${authorization.defaultAuthorizer.resolutionCache.ttlSeconds:0}")
+  private Integer resolutionCacheTtlSeconds;
+
+  @Value("${authorization.defaultAuthorizer.resolutionCache.maxSize:10000}")
+  private Long resolutionCacheMaxSize;
+
   @Bean(name = "dataHubAuthorizer")
   @Scope("singleton")
   @Nonnull
@@ -40,6 +47,10 @@ public class DataHubAuthorizerFactory {
         10,
         policyCacheRefreshIntervalSeconds,
         mode,
-        policyCacheFetchSize);
+        policyCacheFetchSize,
+        new AuthorizationResolutionCache(
+            resolutionCacheTtlSeconds,
+            resolutionCacheMaxSize,
+            systemOpContext.getMetricUtils().orElse(null)));
   }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.gms.factory.common;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
@@ -8,6 +9,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.MergePolicyConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.ReplicatedMapConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
@@ -45,6 +47,18 @@ public class CacheConfig {
   @Value("${searchService.cache.hazelcast.resolve-not-ready-addresses:}")
   private String kubernetesResolveNotReadyAddresses;
 
+  @Value("${searchService.cache.hazelcast.nearCache.enabled:false}")
+  private boolean nearCacheEnabled;
+
+  @Value("${searchService.cache.hazelcast.nearCache.maxSize:1000}")
+  private int nearCacheMaxSize;
+
+  @Value("${searchService.cache.hazelcast.nearCache.ttlSeconds:60}")
+  private int nearCacheTtlSeconds;
+
+  @Value("${searchService.cache.hazelcast.nearCache.invalidationBatchFrequencySeconds:10}")
+  private int nearCacheInvalidationBatchFrequencySeconds;
+
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "caffeine")
   public CacheManager caffeineCacheManager() {
@@ -66,6 +80,14 @@ public class CacheConfig {
   public HazelcastInstance hazelcastInstance(
       List<MapConfig> hazelcastMapConfigs,
       List<ReplicatedMapConfig> hazelcastReplicatedMapConfigs) {
+    return Hazelcast.newHazelcastInstance(
+        hazelcastConfig(hazelcastMapConfigs, hazelcastReplicatedMapConfigs));
+  }
+
+  @VisibleForTesting
+  public Config hazelcastConfig(
+      List<MapConfig> hazelcastMapConfigs,
+      List<ReplicatedMapConfig> hazelcastReplicatedMapConfigs) {
     Config config = new Config();
 
     hazelcastMapConfigs.forEach(config::addMapConfig);
@@ -76,6 +98,13 @@ public class CacheConfig {
 
     config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
 
+    if (nearCacheEnabled) {
+      // Upper bound on how long a near cache entry may be served after the owning map changed
+      config.setProperty(
+          "hazelcast.map.invalidation.batch.frequency.seconds",
+          String.valueOf(nearCacheInvalidationBatchFrequencySeconds));
+    }
+
     var kubernetesConfig =
         config.getNetworkConfig().getJoin().getKubernetesConfig().setEnabled(true);
 
@@ -96,7 +125,7 @@ public class CacheConfig {
           "resolve-not-ready-addresses", kubernetesResolveNotReadyAddresses);
     }
 
-    return Hazelcast.newHazelcastInstance(config);
+    return config;
   }
 
   @Bean
@@ -118,9 +147,33 @@ public class CacheConfig {
             .setEvictionPolicy(EvictionPolicy.LFU);
     mapConfig.setEvictionConfig(evictionConfig);
     mapConfig.setName("default");
+    if (nearCacheEnabled) {
+      mapConfig.setNearCacheConfig(nearCacheConfig());
+    }
     return mapConfig;
   }
 
+  /**
+   * In-process tier in front of the distributed map. Entries are kept deserialized so a local hit
+   * skips both the network round-trip and deserialization. Hazelcast invalidates near cache entries
+   * on every member whenever the backing map entry changes, which includes evictions issued by the
+   * CacheEvictionService.
+   */
+  private NearCacheConfig nearCacheConfig() {
+    EvictionConfig evictionConfig =
+        new EvictionConfig()
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCacheMaxSize)
+            .setEvictionPolicy(EvictionPolicy.LRU);
+    return new NearCacheConfig()
+        .setName("default")
+        .setInMemoryFormat(InMemoryFormat.OBJECT)
+        .setInvalidateOnChange(true)
+        .setCacheLocalEntries(true)
+        .setTimeToLiveSeconds(Math.min(nearCacheTtlSeconds, cacheTtlSeconds))
+        .setEvictionConfig(evictionConfig);
+  }
+
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "hazelcast")
   public ReplicatedMapConfig distributedThrottleMapConfig() {
@@ -5,6 +5,7 @@ import com.linkedin.gms.factory.search.BaseElasticSearchComponentsFactory;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
 import com.linkedin.metadata.graph.elastic.ESGraphWriteDAO;
+import com.linkedin.metadata.graph.elastic.EdgeStatusIndex;
 import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.models.registry.LineageRegistry;
@@ -35,23 +36,48 @@ public class ElasticSearchGraphServiceFactory {
       final ConfigurationProvider configurationProvider,
       final EntityRegistry entityRegistry,
       @Value("${elasticsearch.idHashAlgo}") final String idHashAlgo,
+      @Value("${elasticsearch.search.graph.statusIndex.enabled:false}")
+          final boolean statusIndexEnabled,
+      @Value("${elasticsearch.search.graph.statusIndex.refreshSeconds:5}")
+          final long statusIndexRefreshSeconds,
+      @Value("${elasticsearch.search.graph.statusIndex.maxPending:10000}")
+          final int statusIndexMaxPending,
+      @Value("${elasticsearch.search.graph.statusIndex.reconcileIntervalSeconds:30}")
+          final long statusIndexReconcileIntervalSeconds,
+      @Value("${elasticsearch.search.graph.statusIndex.reconcileBatchSize:100}")
+          final int statusIndexReconcileBatchSize,
       MetricUtils metricUtils) {
     LineageRegistry lineageRegistry = new LineageRegistry(entityRegistry);
-    return new ElasticSearchGraphService(
-        lineageRegistry,
-        components.getBulkProcessor(),
-        components.getIndexConvention(),
-        new ESGraphWriteDAO(
-            components.getIndexConvention(),
+    ElasticSearchGraphService graphService =
+        new ElasticSearchGraphService(
+            lineageRegistry,
             components.getBulkProcessor(),
-            components.getConfig().getBulkProcessor().getNumRetries(),
-            configurationProvider.getElasticSearch().getSearch().getGraph()),
-        new ESGraphQueryDAO(
-            components.getSearchClient(),
-            configurationProvider.getGraphService(),
-            configurationProvider.getElasticSearch(),
-            metricUtils),
-        components.getIndexBuilder(),
-        idHashAlgo);
+            components.getIndexConvention(),
+            new ESGraphWriteDAO(
+                components.getIndexConvention(),
+                components.getBulkProcessor(),
+                components.getConfig().getBulkProcessor().getNumRetries(),
+                configurationProvider.getElasticSearch().getSearch().getGraph()),
+            new ESGraphQueryDAO(
+                components.getSearchClient(),
+                configurationProvider.getGraphService(),
+                configurationProvider.getElasticSearch(),
+                metricUtils),
+            components.getIndexBuilder(),
+            idHashAlgo);
+    if (statusIndexEnabled) {
+      graphService.setEdgeStatusIndex(
+          new EdgeStatusIndex(
+              components.getSearchClient(),
+              components.getBulkProcessor(),
+              components.getIndexConvention(),
+              idHashAlgo,
+              statusIndexRefreshSeconds,
+              statusIndexMaxPending,
+              statusIndexReconcileIntervalSeconds,
+              statusIndexReconcileBatchSize,
+              metricUtils));
+    }
+    return graphService;
   }
 }
@@ -27,6 +27,9 @@ public class Neo4jGraphServiceFactory {
   @Value("${neo4j.database}")
   private String neo4jDatabase;
 
+  @Value("${neo4j.writeBatchSize:1000}")
+  private int neo4jWriteBatchSize;
+
   @Bean(name = "graphService")
   @Nonnull
   protected GraphService getInstance(
@@ -36,6 +39,7 @@ public class Neo4jGraphServiceFactory {
         lineageRegistry,
         neo4jDriver,
         SessionConfig.forDatabase(neo4jDatabase),
-        configurationProvider.getGraphService());
+        configurationProvider.getGraphService(),
+        neo4jWriteBatchSize);
   }
 }
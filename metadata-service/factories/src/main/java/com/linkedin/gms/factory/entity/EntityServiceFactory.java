@@ -7,7 +7,9 @@ import com.linkedin.metadata.dao.throttle.ThrottleSensor;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.EntityServiceImpl;
+import com.linkedin.metadata.entity.LatestAspectCache;
 import com.linkedin.metadata.entity.ebean.batch.ChangeItemImpl;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.util.List;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,18 @@ public class EntityServiceFactory {
   @Value("${EBEAN_MAX_TRANSACTION_RETRY:#{null}}")
   private Integer _ebeanMaxTransactionRetry;
 
+  @Bean(name = "latestAspectCache")
+  @Nonnull
+  protected LatestAspectCache latestAspectCache(
+      @Value("${entityService.aspectCache.enabled:false}") final boolean enabled,
+      @Value("${entityService.aspectCache.maxWeightBytes:104857600}") final long maxWeightBytes,
+      @Value("${entityService.aspectCache.ttlSeconds:300}") final int ttlSeconds,
+      final MetricUtils metricUtils) {
+    return enabled
+        ? new LatestAspectCache(maxWeightBytes, ttlSeconds, metricUtils)
+        : LatestAspectCache.DISABLED;
+  }
+
   @Bean(name = "entityService")
   @DependsOn({"entityAspectDao", "kafkaEventProducer"})
   @Nonnull
@@ -32,6 +46,10 @@ public class EntityServiceFactory {
       @Qualifier("entityAspectDao") final AspectDao aspectDao,
       @Qualifier("configurationProvider") ConfigurationProvider configurationProvider,
       @Value("${featureFlags.showBrowseV2}") final boolean enableBrowsePathV2,
+      @Value("${entityService.ingest.parallelism:1}") final int ingestParallelism,
+      @Value("${entityService.ingest.urnLocks:true}") final boolean ingestUrnLocks,
+      @Value("${entityService.ingest.latestRowVersioning:false}") final boolean latestRowVersioning,
+      @Qualifier("latestAspectCache") final LatestAspectCache latestAspectCache,
       final List<ThrottleSensor> throttleSensors) {
 
     FeatureFlags featureFlags = configurationProvider.getFeatureFlags();
@@ -44,6 +62,9 @@ public class EntityServiceFactory {
             featureFlags.getPreProcessHooks(),
             _ebeanMaxTransactionRetry,
             enableBrowsePathV2);
+    entityService.setIngestConcurrency(ingestParallelism, ingestUrnLocks);
+    entityService.setLatestRowVersioning(latestRowVersioning);
+    entityService.setLatestAspectCache(latestAspectCache);
 
     if (throttleSensors != null
         && !throttleSensors.isEmpty()
@@ -12,12 +12,14 @@ import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.LineageSearchService;
 import com.linkedin.metadata.search.SearchService;
+import com.linkedin.metadata.search.cache.FacetSnapshotCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.service.RollbackService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import javax.inject.Singleton;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +29,16 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnProperty(name = "entityClient.impl", havingValue = "java", matchIfMissing = true)
 public class JavaEntityClientFactory {
 
+  // Pool loading the sub-batches of the batch gets
+  @Value("${entityClient.java.get.batchConcurrency:2}")
+  private int batchGetConcurrency;
+
+  @Value("${entityClient.java.get.batchQueueSize:500}")
+  private int batchGetQueueSize;
+
+  @Value("${entityClient.java.get.batchThreadKeepAlive:60}")
+  private int batchGetKeepAlive;
+
   @Bean("entityClient")
   @Singleton
   public EntityClient entityClient(
@@ -40,20 +52,24 @@ public class JavaEntityClientFactory {
       final @Qualifier("relationshipSearchService") LineageSearchService _lineageSearchService,
       final @Qualifier("kafkaEventProducer") EventProducer _eventProducer,
       final RollbackService rollbackService,
+      final @Qualifier("facetSnapshotCache") FacetSnapshotCache facetSnapshotCache,
       final EntityClientConfig entityClientConfig,
       final MetricUtils metricUtils) {
-    return new JavaEntityClient(
-        _entityService,
-        _deleteEntityService,
-        _entitySearchService,
-        _cachingEntitySearchService,
-        _searchService,
-        _lineageSearchService,
-        _timeseriesAspectService,
-        rollbackService,
-        _eventProducer,
-        entityClientConfig,
-        metricUtils);
+    JavaEntityClient entityClient =
+        new JavaEntityClient(
+            _entityService,
+            _deleteEntityService,
+            _entitySearchService,
+            _cachingEntitySearchService,
+            _searchService,
+            _lineageSearchService,
+            _timeseriesAspectService,
+            rollbackService,
+            _eventProducer,
+            javaEntityClientConfig(entityClientConfig),
+            metricUtils);
+    entityClient.setFacetSnapshotCache(facetSnapshotCache);
+    return entityClient;
   }
 
   @Bean("systemEntityClient")
@@ -69,21 +85,33 @@ public class JavaEntityClientFactory {
       final @Qualifier("relationshipSearchService") LineageSearchService _lineageSearchService,
       final @Qualifier("kafkaEventProducer") EventProducer _eventProducer,
       final RollbackService rollbackService,
+      final @Qualifier("facetSnapshotCache") FacetSnapshotCache facetSnapshotCache,
       final EntityClientCacheConfig entityClientCacheConfig,
       final EntityClientConfig entityClientConfig,
       final MetricUtils metricUtils) {
-    return new SystemJavaEntityClient(
-        _entityService,
-        _deleteEntityService,
-        _entitySearchService,
-        _cachingEntitySearchService,
-        _searchService,
-        _lineageSearchService,
-        _timeseriesAspectService,
-        rollbackService,
-        _eventProducer,
-        entityClientCacheConfig,
-        entityClientConfig,
-        metricUtils);
+    SystemJavaEntityClient entityClient =
+        new SystemJavaEntityClient(
+            _entityService,
+            _deleteEntityService,
+            _entitySearchService,
+            _cachingEntitySearchService,
+            _searchService,
+            _lineageSearchService,
+            _timeseriesAspectService,
+            rollbackService,
+            _eventProducer,
+            entityClientCacheConfig,
+            javaEntityClientConfig(entityClientConfig),
+            metricUtils);
+    entityClient.setFacetSnapshotCache(facetSnapshotCache);
+    return entityClient;
+  }
+
+  private EntityClientConfig javaEntityClientConfig(EntityClientConfig entityClientConfig) {
+    return entityClientConfig.toBuilder()
+        .batchGetV2Concurrency(batchGetConcurrency)
+        .batchGetV2QueueSize(batchGetQueueSize)
+        .batchGetV2KeepAlive(batchGetKeepAlive)
+        .build();
   }
 }
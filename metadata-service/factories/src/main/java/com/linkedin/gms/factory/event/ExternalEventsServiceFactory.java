@@ -5,6 +5,7 @@ import static io.datahubproject.event.ExternalEventsService.METADATA_CHANGE_LOG_
 import static io.datahubproject.event.ExternalEventsService.PLATFORM_EVENT_TOPIC_NAME;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.TopicConvention;
 import io.datahubproject.event.ExternalEventsService;
 import io.datahubproject.event.kafka.KafkaConsumerPool;
@@ -26,6 +27,18 @@ public class ExternalEventsServiceFactory {
   @Value("${eventsApi.defaultLimit:100}")
   private int defaultLimit;
 
+  @Value("${eventsApi.buffer.enabled:false}")
+  private boolean bufferEnabled;
+
+  @Value("${eventsApi.buffer.maxEventsPerPartition:10000}")
+  private int bufferMaxEventsPerPartition;
+
+  @Value("${eventsApi.buffer.maxBytesPerPartition:8388608}")
+  private long bufferMaxBytesPerPartition;
+
+  @Value("${eventsApi.buffer.idleTimeoutSeconds:600}")
+  private long bufferIdleTimeoutSeconds;
+
   @Autowired private TopicConvention topicConvention;
 
   @Autowired private KafkaConsumerPool consumerPool;
@@ -33,9 +46,17 @@ public class ExternalEventsServiceFactory {
   @Autowired private ObjectMapper objectMapper;
 
   @Bean
-  public ExternalEventsService externalEventsService() {
+  public ExternalEventsService externalEventsService(final MetricUtils metricUtils) {
     return new ExternalEventsService(
-        consumerPool, objectMapper, buildTopicNameMappings(), pollTimeout, defaultLimit);
+        consumerPool,
+        objectMapper,
+        buildTopicNameMappings(),
+        pollTimeout,
+        defaultLimit,
+        bufferEnabled ? bufferMaxEventsPerPartition : 0,
+        bufferMaxBytesPerPartition,
+        bufferIdleTimeoutSeconds,
+        metricUtils);
   }
 
   private Map<String, String> buildTopicNameMappings() {
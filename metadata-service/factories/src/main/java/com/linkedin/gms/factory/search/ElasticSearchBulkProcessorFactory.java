@@ -1,6 +1,9 @@
 package com.linkedin.gms.factory.search;
 
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
+import com.linkedin.metadata.dao.throttle.NoOpSensor;
+import com.linkedin.metadata.dao.throttle.ThrottleSensor;
+import com.linkedin.metadata.search.elasticsearch.update.BulkBackpressureSensor;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import javax.annotation.Nonnull;
@@ -43,17 +46,59 @@ public class ElasticSearchBulkProcessorFactory {
   @Value("${elasticsearch.bulkProcessor.refreshPolicy}")
   private String refreshPolicy;
 
-  @Bean(name = "elasticSearchBulkProcessor")
+  @Value("#{new Boolean('${elasticsearch.bulkProcessor.adaptive.enabled}')}")
+  private boolean adaptiveEnabled;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.sizeBytes}")
+  private Long adaptiveSizeBytes;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.minConcurrency}")
+  private int adaptiveMinConcurrency;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.maxConcurrency}")
+  private int adaptiveMaxConcurrency;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.targetLatencyMs}")
+  private long adaptiveTargetLatencyMs;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.throttleWaitMs}")
+  private long adaptiveThrottleWaitMs;
+
+  @Bean(name = "bulkProcessorThrottle")
   @Nonnull
-  protected ESBulkProcessor getInstance(MetricUtils metricUtils) {
-    return ESBulkProcessor.builder(searchClient, metricUtils)
-        .async(async)
-        .bulkFlushPeriod(bulkFlushPeriod)
-        .bulkRequestsLimit(bulkRequestsLimit)
-        .retryInterval(retryInterval)
-        .numRetries(numRetries)
-        .batchDelete(enableBatchDelete)
-        .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy))
+  protected ThrottleSensor bulkProcessorThrottle(MetricUtils metricUtils) {
+    if (!adaptiveEnabled) {
+      return new NoOpSensor();
+    }
+    return BulkBackpressureSensor.builder()
+        .minConcurrency(adaptiveMinConcurrency)
+        .maxConcurrency(adaptiveMaxConcurrency)
+        .targetLatencyMs(adaptiveTargetLatencyMs)
+        .throttleWaitMs(adaptiveThrottleWaitMs)
+        .metricUtils(metricUtils)
         .build();
   }
+
+  @Bean(name = "elasticSearchBulkProcessor")
+  @Nonnull
+  protected ESBulkProcessor getInstance(
+      MetricUtils metricUtils,
+      @Qualifier("bulkProcessorThrottle") ThrottleSensor bulkProcessorThrottle) {
+    ESBulkProcessor.ESBulkProcessorBuilder builder =
+        ESBulkProcessor.builder(searchClient, metricUtils)
+            .async(async)
+            .bulkFlushPeriod(bulkFlushPeriod)
+            .bulkRequestsLimit(bulkRequestsLimit)
+            .retryInterval(retryInterval)
+            .numRetries(numRetries)
+            .batchDelete(enableBatchDelete)
+            .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy));
+
+    if (bulkProcessorThrottle instanceof BulkBackpressureSensor backpressureSensor) {
+      log.info("Adaptive bulk processing enabled, bulk size: {} bytes", adaptiveSizeBytes);
+      builder.bulkSizeBytes(adaptiveSizeBytes).backpressureSensor(backpressureSensor);
+    }
+
+    return builder.build();
+  }
 }
@@ -5,11 +5,14 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
+import com.linkedin.metadata.search.cache.FacetSnapshotCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.search.ranker.SearchRanker;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -33,6 +36,27 @@ public class SearchServiceFactory {
   @Qualifier("searchRanker")
   private SearchRanker searchRanker;
 
+  @Bean(name = "facetSnapshotCache")
+  @Nonnull
+  protected FacetSnapshotCache facetSnapshotCache(
+      @Value("${searchService.facetCache.enabled:false}") final boolean enabled,
+      @Value("${searchService.facetCache.maxSize:1000}") final int maxSize,
+      @Value("${searchService.facetCache.refreshSeconds:60}") final int refreshSeconds,
+      @Value("${searchService.facetCache.maxStaleSeconds:600}") final int maxStaleSeconds,
+      @Value("${searchService.facetCache.changeThreshold:1000}") final long changeThreshold,
+      @Value("${searchService.facetCache.refreshConcurrency:2}") final int refreshConcurrency,
+      final MetricUtils metricUtils) {
+    return enabled
+        ? new FacetSnapshotCache(
+            maxSize,
+            refreshSeconds,
+            maxStaleSeconds,
+            changeThreshold,
+            refreshConcurrency,
+            metricUtils)
+        : FacetSnapshotCache.DISABLED;
+  }
+
   @Bean(name = "searchService")
   @Primary
   @Nonnull
@@ -38,7 +38,12 @@ public class CacheInstrumentationFactory {
       @Override
       public Cache getCache(@Nonnull String name) {
         Cache cache = delegate.getCache(name);
-        MicrometerMetricsRegistry.registerCacheMetrics(name, cache, meterRegistry);
+        if (cache != null) {
+          // Metrics binders operate on the native Caffeine cache or Hazelcast map, the latter
+          // including near cache hit/miss/eviction statistics when a near cache is configured
+          MicrometerMetricsRegistry.registerCacheMetrics(
+              name, cache.getNativeCache(), meterRegistry);
+        }
         return cache;
       }
 
@@ -4,8 +4,10 @@ import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeline.TimelineServiceImpl;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -17,7 +19,11 @@ public class TimelineServiceFactory {
   @DependsOn({"entityAspectDao", "entityService", "entityRegistry"})
   @Nonnull
   protected TimelineService timelineService(
-      @Qualifier("entityAspectDao") AspectDao aspectDao, EntityRegistry entityRegistry) {
-    return new TimelineServiceImpl(aspectDao, entityRegistry);
+      @Qualifier("entityAspectDao") AspectDao aspectDao,
+      EntityRegistry entityRegistry,
+      @Value("${timelineService.diffCache.maxSize:10000}") long diffCacheSize,
+      @Value("${timelineService.pageSize:100}") int pageSize,
+      MetricUtils metricUtils) {
+    return new TimelineServiceImpl(aspectDao, entityRegistry, diffCacheSize, pageSize, metricUtils);
   }
 }
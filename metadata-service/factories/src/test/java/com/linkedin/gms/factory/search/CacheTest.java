@@ -7,9 +7,14 @@ import static org.mockito.Mockito.mock;
 
 import com.google.common.collect.ImmutableList;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.jet.core.JetTestSupport;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.linkedin.gms.factory.common.CacheConfig;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.metadata.graph.EntityLineageResult;
 import com.linkedin.metadata.graph.LineageDirection;
@@ -31,12 +36,14 @@ import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchResultMetadata;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
 import com.linkedin.metadata.search.cache.CachedEntityLineageResult;
+import com.linkedin.metadata.search.cache.CachedSearchResult;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.util.List;
 import org.javatuples.Quintet;
 import org.javatuples.Sextet;
 import org.springframework.cache.Cache;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -189,4 +196,81 @@ public class CacheTest extends JetTestSupport {
     Assert.assertEquals(
         cache2.get(key, CachedEntityLineageResult.class).getEntityLineageResult(), lineageResult);
   }
+
+  @Test
+  public void testNearCacheConfig() {
+    CacheConfig cacheConfig = nearCachedConfig();
+
+    NearCacheConfig nearCacheConfig = cacheConfig.defaultMapConfig().getNearCacheConfig();
+    Assert.assertNotNull(nearCacheConfig);
+    Assert.assertEquals(nearCacheConfig.getInMemoryFormat(), InMemoryFormat.OBJECT);
+    Assert.assertTrue(nearCacheConfig.isInvalidateOnChange());
+    Assert.assertEquals(nearCacheConfig.getTimeToLiveSeconds(), 60);
+    Assert.assertEquals(
+        nearCacheConfig.getEvictionConfig().getMaxSizePolicy(), MaxSizePolicy.ENTRY_COUNT);
+    Assert.assertEquals(nearCacheConfig.getEvictionConfig().getSize(), 1000);
+    Assert.assertEquals(
+        nearCacheConfig.getEvictionConfig().getEvictionPolicy(), EvictionPolicy.LRU);
+    Assert.assertEquals(
+        cacheConfig
+            .hazelcastConfig(List.of(), List.of())
+            .getProperty("hazelcast.map.invalidation.batch.frequency.seconds"),
+        "1");
+
+    ReflectionTestUtils.setField(cacheConfig, "nearCacheEnabled", false);
+    Assert.assertNull(cacheConfig.defaultMapConfig().getNearCacheConfig());
+    Assert.assertNull(
+        cacheConfig
+            .hazelcastConfig(List.of(), List.of())
+            .getProperty("hazelcast.map.invalidation.batch.frequency.seconds"));
+  }
+
+  @Test
+  public void testNearCacheInvalidation() {
+    CacheConfig cacheConfig = nearCachedConfig();
+    Config config = cacheConfig.hazelcastConfig(List.of(cacheConfig.defaultMapConfig()), List.of());
+    // Members of the test factory join without Kubernetes discovery
+    config.getNetworkConfig().getJoin().getKubernetesConfig().setEnabled(false);
+    HazelcastInstance nearInstance1 = createHazelcastInstance(config);
+    HazelcastInstance nearInstance2 = createHazelcastInstance(config);
+    Cache cache1 = new HazelcastCacheManager(nearInstance1).getCache("nearCached");
+    Cache cache2 = new HazelcastCacheManager(nearInstance2).getCache("nearCached");
+
+    CorpuserUrn corpuserUrn = new CorpuserUrn("user");
+    SearchResult searchResult =
+        new SearchResult()
+            .setEntities(new SearchEntityArray(List.of(new SearchEntity().setEntity(corpuserUrn))))
+            .setNumEntities(1)
+            .setFrom(0)
+            .setPageSize(1)
+            .setMetadata(new SearchResultMetadata());
+    cache1.put("key", new CachedSearchResult(searchResult, System.currentTimeMillis()));
+
+    // First read populates the near cache, the second one is served from it
+    Assert.assertEquals(
+        cache2.get("key", CachedSearchResult.class).getSearchResult(), searchResult);
+    Assert.assertEquals(
+        cache2.get("key", CachedSearchResult.class).getSearchResult(), searchResult);
+    Assert.assertTrue(
+        nearInstance2.getMap("nearCached").getLocalMapStats().getNearCacheStats().getHits() > 0);
+
+    // Eviction on one member invalidates the near cache on the other
+    cache1.evict("key");
+    assertTrueEventually(() -> Assert.assertNull(cache2.get("key")));
+  }
+
+  private static CacheConfig nearCachedConfig() {
+    CacheConfig cacheConfig = new CacheConfig();
+    ReflectionTestUtils.setField(cacheConfig, "cacheTtlSeconds", 600);
+    ReflectionTestUtils.setField(cacheConfig, "cacheMaxSize", 10000);
+    ReflectionTestUtils.setField(cacheConfig, "hazelcastServiceName", "hazelcast-service");
+    ReflectionTestUtils.setField(cacheConfig, "kubernetesApiRetries", "");
+    ReflectionTestUtils.setField(cacheConfig, "kubernetesServiceDnsTimeout", "");
+    ReflectionTestUtils.setField(cacheConfig, "kubernetesResolveNotReadyAddresses", "");
+    ReflectionTestUtils.setField(cacheConfig, "nearCacheEnabled", true);
+    ReflectionTestUtils.setField(cacheConfig, "nearCacheMaxSize", 1000);
+    ReflectionTestUtils.setField(cacheConfig, "nearCacheTtlSeconds", 60);
+    ReflectionTestUtils.setField(cacheConfig, "nearCacheInvalidationBatchFrequencySeconds", 1);
+    return cacheConfig;
+  }
 }
@@ -103,6 +103,15 @@ public abstract class GenericEntitiesController<
   @Autowired
   protected OperationContext systemOperationContext;
 
+  /** A copy of the {@link #DEFAULT_SEARCH_FLAGS} a request can change. */
+  protected static SearchFlags defaultSearchFlags() {
+    try {
+      return DEFAULT_SEARCH_FLAGS.copy();
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Returns scroll result entities
    *
@@ -264,7 +273,7 @@ public abstract class GenericEntitiesController<
         searchService.scrollAcrossEntities(
             opContext.withSearchFlags(
                 flags ->
-                    DEFAULT_SEARCH_FLAGS
+                    defaultSearchFlags()
                         .setSkipCache(skipCache)
                         .setIncludeSoftDeleted(includeSoftDelete)
                         .setSliceOptions(
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
@@ -71,7 +72,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -86,12 +91,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
@@ -103,6 +114,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @RestController("EntityControllerV3")
 @RequiredArgsConstructor
@@ -113,9 +125,44 @@ public class EntityController
     extends GenericEntitiesController<
         GenericAspectV3, GenericEntityV3, GenericEntityScrollResultV3> {
 
+  private static final String EXPORT_STATUS_FIELD = "exportStatus";
+
   @Autowired private final EntityVersioningService entityVersioningService;
   @Autowired private final ConfigurationProvider configurationProvider;
 
+  @Value("${datahub.gms.async.export.timeout-ms:3600000}")
+  private long exportTimeoutMs;
+
+  @Value("${datahub.gms.async.export.concurrency:4}")
+  private int exportConcurrency;
+
+  // Exports stream from threads of their own, bounded by their own timeout rather than the one of
+  // the other async requests
+  private ExecutorService exportExecutor;
+  // Searches the next page of each running export, one at most per export
+  private ExecutorService exportPrefetchExecutor;
+
+  @PostConstruct
+  void startExportExecutors() {
+    exportExecutor =
+        Executors.newFixedThreadPool(
+            exportConcurrency,
+            new ThreadFactoryBuilder().setNameFormat("entity-export-%d").setDaemon(true).build());
+    exportPrefetchExecutor =
+        Executors.newFixedThreadPool(
+            exportConcurrency,
+            new ThreadFactoryBuilder()
+                .setNameFormat("entity-export-prefetch-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  @PreDestroy
+  void stopExportExecutors() {
+    exportExecutor.shutdownNow();
+    exportPrefetchExecutor.shutdownNow();
+  }
+
   @Tag(name = "Generic Entities")
   @PostMapping(value = "/{entityName}/batchGet", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a batch of entities")
@@ -236,7 +283,7 @@ public class EntityController
         searchService.scrollAcrossEntities(
             opContext.withSearchFlags(
                 flags ->
-                    DEFAULT_SEARCH_FLAGS
+                    defaultSearchFlags()
                         .setSkipCache(skipCache)
                         .setIncludeSoftDeleted(includeSoftDelete)
                         .setSliceOptions(
@@ -270,6 +317,195 @@ public class EntityController
             result.getNumEntities()));
   }
 
+  @Tag(name = "Generic Entities")
+  @PostMapping(value = "/scroll/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Export entities",
+      description =
+          "Streams all the matching entities as newline delimited JSON, one entity per line."
+              + " The last line holds the exportStatus, COMPLETE or FAILED with the error, and"
+              + " the number of entities exported. A response without it was cut short.")
+  public ResponseEntity<ResponseBodyEmitter> exportEntities(
+      HttpServletRequest request,
+      @RequestParam(value = "count", defaultValue = "1000") Integer count,
+      @RequestParam(value = "query", defaultValue = "*") String query,
+      @RequestParam(value = "systemMetadata", required = false, defaultValue = "false")
+          Boolean withSystemMetadata,
+      @RequestParam(value = "includeSoftDelete", required = false, defaultValue = "false")
+          Boolean includeSoftDelete,
+      @RequestParam(value = "sliceId", required = false) Integer sliceId,
+      @RequestParam(value = "sliceMax", required = false) Integer sliceMax,
+      @Parameter(
+              schema = @Schema(nullable = true),
+              description =
+                  "Point In Time keep alive, accepts a time based string like \"5m\" for five minutes.")
+          @RequestParam(value = "pitKeepAlive", required = false, defaultValue = "5m")
+          String pitKeepAlive,
+      @RequestBody @Nonnull GenericEntityAspectsBodyV3 entityAspectsBody) {
+
+    final Collection<String> resolvedEntityNames =
+        RequestInputUtil.resolveEntityNames(entityRegistry, entityAspectsBody.getEntities());
+    Authentication authentication = AuthenticationContext.getAuthentication();
+
+    OperationContext opContext =
+        OperationContext.asSession(
+            systemOperationContext,
+            RequestContext.builder()
+                .buildOpenapi(
+                    authentication.getActor().toUrnStr(),
+                    request,
+                    "exportEntities",
+                    resolvedEntityNames),
+            authorizationChain,
+            authentication,
+            true);
+
+    if (!AuthUtil.isAPIAuthorizedEntityType(opContext, READ, resolvedEntityNames)) {
+      throw new UnauthorizedException(
+          authentication.getActor().toUrnStr() + " is unauthorized to " + READ + "  entities.");
+    }
+
+    // A stable sort is required to resume each page after the last entity of the previous one
+    final List<SortCriterion> sortCriteria =
+        entityAspectsBody.getSortCriteria() != null
+            ? entityAspectsBody.getSortCriteria().stream()
+                .map(io.datahubproject.openapi.v3.models.SortCriterion::toRecordTemplate)
+                .toList()
+            : Collections.singletonList(SearchUtil.sortBy("urn", SortOrder.ASCENDING));
+    final OperationContext searchContext =
+        opContext.withSearchFlags(
+            flags ->
+                defaultSearchFlags()
+                    .setSkipCache(true)
+                    .setIncludeSoftDeleted(includeSoftDelete)
+                    .setSliceOptions(
+                        sliceId != null && sliceMax != null
+                            ? new SliceOptions().setId(sliceId).setMax(sliceMax)
+                            : null,
+                        SetMode.IGNORE_NULL));
+    final com.linkedin.metadata.query.filter.Filter filter =
+        Optional.ofNullable(entityAspectsBody.getFilter())
+            .map(Filter::toRecordTemplate)
+            .orElse(null);
+    final Function<String, ScrollResult> scrollPage =
+        scrollId ->
+            searchService.scrollAcrossEntities(
+                searchContext,
+                resolvedEntityNames,
+                query,
+                filter,
+                sortCriteria,
+                scrollId,
+                pitKeepAlive != null && pitKeepAlive.isEmpty() ? null : pitKeepAlive,
+                count);
+
+    final ResponseBodyEmitter emitter = new ResponseBodyEmitter(exportTimeoutMs);
+    final AtomicBoolean closed = new AtomicBoolean();
+    emitter.onTimeout(() -> closed.set(true));
+    emitter.onError(e -> closed.set(true));
+    exportExecutor.execute(
+        () -> {
+          long exported = 0;
+          try {
+            ScrollResult page = scrollPage.apply(null);
+            while (page != null && !closed.get()) {
+              if (!AuthUtil.isAPIAuthorizedResult(opContext, page)) {
+                throw new UnauthorizedException(
+                    authentication.getActor().toUrnStr()
+                        + " is unauthorized to "
+                        + READ
+                        + " entities.");
+              }
+              // The next page is searched while this one is hydrated and written, at most two
+              // pages are held at any time
+              final String nextScrollId = page.getScrollId();
+              final CompletableFuture<ScrollResult> nextPage =
+                  nextScrollId == null || page.getEntities().isEmpty()
+                      ? CompletableFuture.completedFuture(null)
+                      : CompletableFuture.supplyAsync(
+                          () -> scrollPage.apply(nextScrollId), exportPrefetchExecutor);
+              try {
+                exported +=
+                    writeExportPage(
+                        opContext,
+                        emitter,
+                        page.getEntities(),
+                        entityAspectsBody.getAspects(),
+                        withSystemMetadata);
+              } catch (IOException | RuntimeException e) {
+                nextPage.cancel(true);
+                throw e;
+              }
+              page = nextPage.join();
+            }
+            if (!closed.get()) {
+              writeExportStatus(emitter, exported, null);
+              emitter.complete();
+            }
+          } catch (IOException e) {
+            // The client went away, nothing can be written anymore
+            log.warn("Export aborted after {} entities: {}", exported, e.getMessage());
+            emitter.completeWithError(e);
+          } catch (RuntimeException e) {
+            log.error("Export failed after {} entities", exported, e);
+            if (!closed.get()) {
+              // The response is already committed, the status line tells the client it is partial
+              try {
+                writeExportStatus(emitter, exported, e);
+                emitter.complete();
+              } catch (IOException | RuntimeException writeError) {
+                emitter.completeWithError(writeError);
+              }
+            }
+          }
+        });
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+  }
+
+  /**
+   * @return the number of entities written
+   */
+  private int writeExportPage(
+      @Nonnull OperationContext opContext,
+      @Nonnull ResponseBodyEmitter emitter,
+      SearchEntityArray searchEntities,
+      @Nullable Set<String> aspectNames,
+      boolean withSystemMetadata)
+      throws IOException {
+    final List<GenericEntityV3> entities;
+    try {
+      entities =
+          toRecordTemplates(
+              opContext, searchEntities, aspectNames, withSystemMetadata, aspectNames != null);
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(e);
+    }
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (GenericEntityV3 entity : entities) {
+      out.write(objectMapper.writeValueAsBytes(entity));
+      out.write('\n');
+    }
+    emitter.send(out.toByteArray(), MediaType.APPLICATION_NDJSON);
+    return entities.size();
+  }
+
+  /** Ends the export with a line telling whether all the entities were written. */
+  private void writeExportStatus(
+      @Nonnull ResponseBodyEmitter emitter, long exported, @Nullable Exception failure)
+      throws IOException {
+    final Map<String, Object> status = new LinkedHashMap<>();
+    status.put(EXPORT_STATUS_FIELD, failure == null ? "COMPLETE" : "FAILED");
+    status.put("exported", exported);
+    if (failure != null) {
+      status.put("error", String.valueOf(failure.getMessage()));
+    }
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(objectMapper.writeValueAsBytes(status));
+    out.write('\n');
+    emitter.send(out.toByteArray(), MediaType.APPLICATION_NDJSON);
+  }
+
   @Tag(name = "EntityVersioning")
   @PostMapping(
       value = "/versioning/{versionSetUrn}/relationship/versionOf/{entityUrn}",
@@ -25,6 +25,7 @@ import com.datahub.authentication.AuthenticationContext;
 import com.datahub.authorization.AuthorizationResult;
 import com.datahub.authorization.AuthorizerChain;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.common.GlobalTags;
 import com.linkedin.common.Owner;
@@ -85,6 +86,7 @@ import io.datahubproject.openapi.exception.InvalidUrnException;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -104,6 +106,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testng.annotations.BeforeMethod;
@@ -431,6 +434,173 @@ public class EntityControllerTest extends AbstractTestNGSpringContextTests {
         .andExpect(MockMvcResultMatchers.jsonPath("$.value.messageId").value("testOld"));
   }
 
+  @Test
+  public void testExportEntities() throws Exception {
+    reset(mockSearchService, mockEntityService);
+    List<Urn> TEST_URNS =
+        List.of(
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,1,PROD)"),
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,2,PROD)"),
+            UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,3,PROD)"));
+
+    // Two pages, the second one is the last
+    when(mockSearchService.scrollAcrossEntities(
+            any(OperationContext.class),
+            anyCollection(),
+            anyString(),
+            nullable(Filter.class),
+            anyList(),
+            isNull(),
+            nullable(String.class),
+            anyInt()))
+        .thenReturn(
+            new ScrollResult()
+                .setNumEntities(3)
+                .setScrollId("page2")
+                .setEntities(
+                    new SearchEntityArray(
+                        List.of(
+                            new SearchEntity().setEntity(TEST_URNS.get(0)),
+                            new SearchEntity().setEntity(TEST_URNS.get(1))))));
+    when(mockSearchService.scrollAcrossEntities(
+            any(OperationContext.class),
+            anyCollection(),
+            anyString(),
+            nullable(Filter.class),
+            anyList(),
+            eq("page2"),
+            nullable(String.class),
+            anyInt()))
+        .thenReturn(
+            new ScrollResult()
+                .setNumEntities(3)
+                .setEntities(
+                    new SearchEntityArray(List.of(new SearchEntity().setEntity(TEST_URNS.get(2))))));
+    when(mockEntityService.getEnvelopedVersionedAspects(
+            any(OperationContext.class), anyMap(), eq(false)))
+        .thenAnswer(
+            invocation -> {
+              Map<Urn, Map<String, Long>> request = invocation.getArgument(1);
+              Map<Urn, List<EnvelopedAspect>> aspects = new HashMap<>();
+              request
+                  .keySet()
+                  .forEach(
+                      urn ->
+                          aspects.put(
+                              urn,
+                              List.of(
+                                  new EnvelopedAspect()
+                                      .setName("status")
+                                      .setValue(new Aspect(new Status().data())))));
+              return aspects;
+            });
+
+    MvcResult asyncResult =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/openapi/v3/entity/scroll/export")
+                    .content("{\"entities\":[\"dataset\"]}")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+    String[] lines =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+            .andExpect(status().is2xxSuccessful())
+            .andReturn()
+            .getResponse()
+            .getContentAsString()
+            .split("\n");
+
+    assertEquals(4, lines.length);
+    ObjectMapper objectMapper = new ObjectMapper();
+    for (int i = 0; i < TEST_URNS.size(); i++) {
+      assertEquals(TEST_URNS.get(i).toString(), objectMapper.readTree(lines[i]).get("urn").asText());
+    }
+    JsonNode exportStatus = objectMapper.readTree(lines[3]);
+    assertEquals("COMPLETE", exportStatus.get("exportStatus").asText());
+    assertEquals(3, exportStatus.get("exported").asInt());
+    verify(mockSearchService, times(2))
+        .scrollAcrossEntities(
+            any(OperationContext.class),
+            anyCollection(),
+            anyString(),
+            nullable(Filter.class),
+            anyList(),
+            nullable(String.class),
+            nullable(String.class),
+            anyInt());
+  }
+
+  @Test
+  public void testExportEntitiesReportsFailure() throws Exception {
+    reset(mockSearchService, mockEntityService);
+    Urn testUrn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:testPlatform,1,PROD)");
+
+    // The first page is written before the search of the second one fails
+    when(mockSearchService.scrollAcrossEntities(
+            any(OperationContext.class),
+            anyCollection(),
+            anyString(),
+            nullable(Filter.class),
+            anyList(),
+            isNull(),
+            nullable(String.class),
+            anyInt()))
+        .thenReturn(
+            new ScrollResult()
+                .setNumEntities(2)
+                .setScrollId("page2")
+                .setEntities(
+                    new SearchEntityArray(List.of(new SearchEntity().setEntity(testUrn)))));
+    when(mockSearchService.scrollAcrossEntities(
+            any(OperationContext.class),
+            anyCollection(),
+            anyString(),
+            nullable(Filter.class),
+            anyList(),
+            eq("page2"),
+            nullable(String.class),
+            anyInt()))
+        .thenThrow(new IllegalStateException("Scroll context expired"));
+    when(mockEntityService.getEnvelopedVersionedAspects(
+            any(OperationContext.class), anyMap(), eq(false)))
+        .thenReturn(
+            Map.of(
+                testUrn,
+                List.of(
+                    new EnvelopedAspect()
+                        .setName("status")
+                        .setValue(new Aspect(new Status().data())))));
+
+    MvcResult asyncResult =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/openapi/v3/entity/scroll/export")
+                    .content("{\"entities\":[\"dataset\"]}")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+    String[] lines =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+            .andExpect(status().is2xxSuccessful())
+            .andReturn()
+            .getResponse()
+            .getContentAsString()
+            .split("\n");
+
+    assertEquals(2, lines.length);
+    ObjectMapper objectMapper = new ObjectMapper();
+    assertEquals(testUrn.toString(), objectMapper.readTree(lines[0]).get("urn").asText());
+    JsonNode exportStatus = objectMapper.readTree(lines[1]);
+    assertEquals("FAILED", exportStatus.get("exportStatus").asText());
+    assertEquals(1, exportStatus.get("exported").asInt());
+    assertTrue(exportStatus.get("error").asText().contains("Scroll context expired"));
+  }
+
   @TestConfiguration
   public static class EntityControllerTestConfig {
     @MockBean public EntityServiceImpl entityService;
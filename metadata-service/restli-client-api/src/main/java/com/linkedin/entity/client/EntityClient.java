@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -110,6 +111,27 @@ public interface EntityClient {
       @Nullable Boolean alwaysIncludeKeyAspect)
       throws RemoteInvocationException, URISyntaxException;
 
+  /**
+   * Non-blocking variant of {@link #batchGetV2(OperationContext, String, Set, Set, Boolean)}, the
+   * default implementation runs the blocking call on the calling thread.
+   *
+   * @return the requested entity/aspects, failed with the exception of the blocking call
+   */
+  @Nonnull
+  default CompletableFuture<Map<Urn, EntityResponse>> batchGetV2Async(
+      @Nonnull OperationContext opContext,
+      @Nonnull String entityName,
+      @Nonnull final Set<Urn> urns,
+      @Nullable final Set<String> aspectNames,
+      @Nullable Boolean alwaysIncludeKeyAspect) {
+    try {
+      return CompletableFuture.completedFuture(
+          batchGetV2(opContext, entityName, urns, aspectNames, alwaysIncludeKeyAspect));
+    } catch (RemoteInvocationException | URISyntaxException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   @Nonnull
   Map<Urn, EntityResponse> batchGetVersionedV2(
       @Nonnull OperationContext opContext,
@@ -449,7 +449,8 @@ public class DeleteEntityService {
         RecordUtils.toRecordTemplate(aspectSpec.getDataTemplateClass(), aspect.data());
 
     final Map<RelationshipFieldSpec, List<Object>> extractFields =
-        FieldExtractor.extractFields(recordTemplate, aspectSpec.getRelationshipFieldSpecs());
+        FieldExtractor.extractFields(
+            recordTemplate, aspectSpec, RelationshipFieldSpec.class, false);
 
     // Is there is any instance of the relationship specs defined in the aspect's spec extracted
     // from the
@@ -429,6 +429,21 @@ public interface EntityService<U extends ChangeMCP> {
       @Nonnull RestoreIndicesArgs args,
       @Nonnull Consumer<String> logger);
 
+  /**
+   * Restore indices by streaming the aspect table, batches are processed by {@link
+   * RestoreIndicesArgs#numThreads} workers.
+   *
+   * @param checkpoint invoked in order with each completed batch, its last urn and aspect are safe
+   *     to resume from
+   * @throws RuntimeException on the first failed batch, once the batches before it were
+   *     checkpointed, the checkpoint never moves past a failed batch
+   */
+  List<RestoreIndicesResult> restoreIndices(
+      @Nonnull OperationContext opContext,
+      @Nonnull RestoreIndicesArgs args,
+      @Nonnull Consumer<String> logger,
+      @Nonnull Consumer<RestoreIndicesResult> checkpoint);
+
   // Restore indices from list using key lookups (no scans)
   List<RestoreIndicesResult> restoreIndices(
       @Nonnull OperationContext opContext,
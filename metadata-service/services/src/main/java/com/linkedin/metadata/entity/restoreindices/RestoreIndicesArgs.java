@@ -15,6 +15,7 @@ public class RestoreIndicesArgs implements Cloneable {
   public static final int DEFAULT_BATCH_DELAY_MS = 1000;
   public static final long DEFAULT_GE_PIT_EPOCH_MS = 0;
   public static final boolean DEFAULT_CREATE_DEFAULT_ASPECTS = false;
+  public static final int DEFAULT_NUM_SHARDS = 1;
 
   public int start = 0;
   public int batchSize = DEFAULT_BATCH_SIZE;
@@ -31,6 +32,9 @@ public class RestoreIndicesArgs implements Cloneable {
   public Boolean urnBasedPagination = false;
   public String lastUrn = "";
   public String lastAspect = "";
+  // only urns whose hash falls into shardIndex are restored, used to split a restore across jobs
+  public int numShards = DEFAULT_NUM_SHARDS;
+  public int shardIndex = 0;
 
   @Override
   public RestoreIndicesArgs clone() {
@@ -82,4 +86,19 @@ public class RestoreIndicesArgs implements Cloneable {
     this.createDefaultAspects = createDefaultAspects != null ? createDefaultAspects : false;
     return this;
   }
+
+  public RestoreIndicesArgs numShards(Integer numShards) {
+    this.numShards = numShards != null && numShards > 0 ? numShards : DEFAULT_NUM_SHARDS;
+    return this;
+  }
+
+  public RestoreIndicesArgs shardIndex(Integer shardIndex) {
+    this.shardIndex = shardIndex != null ? shardIndex : 0;
+    return this;
+  }
+
+  /** Whether the given urn belongs to the shard handled by this restore. */
+  public boolean inShard(String urn) {
+    return numShards <= 1 || Math.floorMod(urn.hashCode(), numShards) == shardIndex;
+  }
 }
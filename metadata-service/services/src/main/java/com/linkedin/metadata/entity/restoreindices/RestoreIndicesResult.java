@@ -6,6 +6,8 @@ import lombok.Data;
 public class RestoreIndicesResult {
   public int ignored = 0;
   public int rowsMigrated = 0;
+  // rows read but belonging to another shard
+  public int skipped = 0;
   public long timeSqlQueryMs = 0;
   public long timeGetRowMs = 0;
   public long timeUrnMs = 0;
@@ -11,6 +11,7 @@ import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +46,34 @@ public interface GraphService {
    */
   void removeEdge(final Edge edge);
 
+  /**
+   * Adds edges to the graph, see {@link #addEdge(Edge)}. Implementations may write them in batches
+   * rather than one by one.
+   *
+   * @param edges the edges to add
+   */
+  default void addEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::addEdge);
+  }
+
+  /**
+   * Adds or updates edges of the graph, see {@link #upsertEdge(Edge)}.
+   *
+   * @param edges the edges to add or update
+   */
+  default void upsertEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::upsertEdge);
+  }
+
+  /**
+   * Removes edges from the graph, see {@link #removeEdge(Edge)}.
+   *
+   * @param edges the edges to delete
+   */
+  default void removeEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::removeEdge);
+  }
+
   /**
    * Find related entities (nodes) connected to a source entity via edges of given relationship
    * types. Related entities can be filtered by source and destination type (use `null` for any
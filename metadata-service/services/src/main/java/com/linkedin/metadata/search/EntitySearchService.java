@@ -9,13 +9,16 @@ import com.linkedin.metadata.entity.IngestResult;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.utils.ConcurrencyUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -43,6 +46,23 @@ public interface EntitySearchService {
     return docCount(opContext, entityName, null);
   }
 
+  /**
+   * Get the number of documents of each of the entities
+   *
+   * @param entityNames names of the entities
+   * @param filter optional filter
+   * @return the number of documents keyed by entity name
+   */
+  default Map<String, Long> docCountPerEntity(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> entityNames,
+      @Nullable Filter filter) {
+    return ConcurrencyUtils.transformAndCollectAsync(
+        entityNames,
+        Function.identity(),
+        Collectors.toMap(Function.identity(), v -> docCount(opContext, v, filter)));
+  }
+
   /**
    * Updates or inserts the given search document.
    *